@@ -375,6 +375,30 @@ public abstract class Graphs
         }
     }
 
+    /**
+     * Returns an immutable copy of the specified graph which is optimized for memory usage and
+     * traversal speed. The copy keeps the vertex and edge objects, weights and iteration order of
+     * the specified graph, and does not reflect its later modifications. This is useful when a
+     * graph is built once and then used by read-only algorithms for a long time.
+     *
+     * @param g the graph to copy
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     *
+     * @return an immutable compact copy of the graph, or the graph itself if it is already such a
+     *         copy
+     *
+     * @throws IllegalArgumentException if the graph is mixed
+     * @see ImmutableCompactGraph
+     */
+    public static <V, E> Graph<V, E> freeze(Graph<V, E> g)
+    {
+        if (g instanceof ImmutableCompactGraph) {
+            return g;
+        }
+        return new ImmutableCompactGraph<>(g);
+    }
+
     /**
      * Tests whether an edge is incident to a vertex.
      *
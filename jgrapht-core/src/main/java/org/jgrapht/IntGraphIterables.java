@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht;
+
+import java.util.Arrays;
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Primitive access to graphs whose vertices and edges are integers.
+ *
+ * <p>
+ * Graph implementations which store their structure in primitive arrays may return an instance of
+ * this interface from {@link Graph#iterables()}. Algorithms test for it and, if present, traverse
+ * the graph without materializing edge sets and without boxing vertices or edges in their inner
+ * loops. Implementations must guarantee that the vertices of the graph are exactly the integers
+ * $0, 1, \ldots, n-1$ where $n$ is the {@link #vertexCount() vertex count}, so that algorithms can
+ * use vertices directly as array indices.
+ *
+ * <p>
+ * The semantics of the methods follow the corresponding methods of {@link Graph}. In undirected
+ * graphs the outgoing and the incoming edges of a vertex are all its touching edges, and the
+ * reported vertex is the opposite endpoint.
+ *
+ * @author Dimitrios Michail
+ */
+public interface IntGraphIterables
+    extends
+    GraphIterables<Integer, Integer>
+{
+    /**
+     * Consumer of an edge together with one of its endpoints.
+     */
+    @FunctionalInterface
+    interface IntEdgeConsumer
+    {
+        /**
+         * Accept an edge.
+         *
+         * @param edge the edge
+         * @param vertex the opposite endpoint of the edge
+         */
+        void accept(int edge, int vertex);
+    }
+
+    /**
+     * Perform an action on each outgoing edge of a vertex. The action receives the edge and its
+     * target, or its opposite endpoint in undirected graphs. Every edge of
+     * {@link Graph#outgoingEdgesOf(Object)} is reported exactly once.
+     *
+     * @param vertex the vertex
+     * @param action the action
+     * @throws IllegalArgumentException if the vertex does not exist
+     */
+    void forEachOutgoingEdge(int vertex, IntEdgeConsumer action);
+
+    /**
+     * Perform an action on each incoming edge of a vertex. The action receives the edge and its
+     * source, or its opposite endpoint in undirected graphs. Every edge of
+     * {@link Graph#incomingEdgesOf(Object)} is reported exactly once.
+     *
+     * @param vertex the vertex
+     * @param action the action
+     * @throws IllegalArgumentException if the vertex does not exist
+     * @throws UnsupportedOperationException if the graph does not support incoming edges
+     */
+    void forEachIncomingEdge(int vertex, IntEdgeConsumer action);
+
+    /**
+     * Perform an action on the target of each outgoing edge of a vertex. A vertex is reported once
+     * per edge, thus more than once in the presence of multiple edges.
+     *
+     * @param vertex the vertex
+     * @param action the action
+     * @throws IllegalArgumentException if the vertex does not exist
+     */
+    default void forEachSuccessor(int vertex, IntConsumer action)
+    {
+        forEachOutgoingEdge(vertex, (e, u) -> action.accept(u));
+    }
+
+    /**
+     * Perform an action on the source of each incoming edge of a vertex. A vertex is reported once
+     * per edge, thus more than once in the presence of multiple edges.
+     *
+     * @param vertex the vertex
+     * @param action the action
+     * @throws IllegalArgumentException if the vertex does not exist
+     * @throws UnsupportedOperationException if the graph does not support incoming edges
+     */
+    default void forEachPredecessor(int vertex, IntConsumer action)
+    {
+        forEachIncomingEdge(vertex, (e, u) -> action.accept(u));
+    }
+
+    /**
+     * Get the targets of the outgoing edges of a vertex as an array, in the order of
+     * {@link #forEachSuccessor(int, IntConsumer)}.
+     *
+     * @param vertex the vertex
+     * @return a new array with the successors of the vertex
+     * @throws IllegalArgumentException if the vertex does not exist
+     */
+    default int[] successors(int vertex)
+    {
+        int[] result = new int[getGraph().outDegreeOf(vertex)];
+        int[] size = new int[1];
+        forEachSuccessor(vertex, u -> result[size[0]++] = u);
+        return size[0] == result.length ? result : Arrays.copyOf(result, size[0]);
+    }
+
+    /**
+     * Get the sources of the incoming edges of a vertex as an array, in the order of
+     * {@link #forEachPredecessor(int, IntConsumer)}.
+     *
+     * @param vertex the vertex
+     * @return a new array with the predecessors of the vertex
+     * @throws IllegalArgumentException if the vertex does not exist
+     * @throws UnsupportedOperationException if the graph does not support incoming edges
+     */
+    default int[] predecessors(int vertex)
+    {
+        int[] result = new int[getGraph().inDegreeOf(vertex)];
+        int[] size = new int[1];
+        forEachPredecessor(vertex, u -> result[size[0]++] = u);
+        return size[0] == result.length ? result : Arrays.copyOf(result, size[0]);
+    }
+
+    /**
+     * Get an iterator over the targets of the outgoing edges of a vertex.
+     *
+     * @param vertex the vertex
+     * @return an iterator over the successors of the vertex
+     * @throws IllegalArgumentException if the vertex does not exist
+     */
+    default PrimitiveIterator.OfInt successorIterator(int vertex)
+    {
+        return IntStream.of(successors(vertex)).iterator();
+    }
+
+    /**
+     * Get the weight of an edge.
+     *
+     * @param edge the edge
+     * @return the edge weight
+     * @throws IllegalArgumentException if the edge does not exist
+     */
+    default double edgeWeight(int edge)
+    {
+        return getGraph().getEdgeWeight(edge);
+    }
+
+}
@@ -23,6 +23,7 @@ import org.jgrapht.graph.*;
 import org.jgrapht.traverse.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Allows obtaining various connectivity aspects of a graph. The <i>inspected graph</i> is specified
@@ -56,6 +57,8 @@ public class ConnectivityInspector<V, E>
     private List<Set<V>> connectedSets;
     private Map<V, Set<V>> vertexToConnectedSet;
     private Graph<V, E> graph;
+    private IntGraphIterables ints;
+    private boolean directed;
 
     /**
      * Creates a connectivity inspector for the specified graph.
@@ -66,8 +69,11 @@ public class ConnectivityInspector<V, E>
     {
         init();
         this.graph = Objects.requireNonNull(g);
-        if (g.getType().isDirected())
+        this.directed = g.getType().isDirected();
+        if (directed)
             this.graph = new AsUndirectedGraph<>(g);
+        if (g.iterables() instanceof IntGraphIterables)
+            this.ints = (IntGraphIterables) g.iterables();
     }
 
     /**
@@ -215,7 +221,9 @@ public class ConnectivityInspector<V, E>
 
             Set<V> vertexSet = graph.vertexSet();
 
-            if (!vertexSet.isEmpty()) {
+            if (ints != null) {
+                findConnectedSets();
+            } else if (!vertexSet.isEmpty()) {
                 BreadthFirstIterator<V, E> i = new BreadthFirstIterator<>(graph);
                 i.addTraversalListener(new MyTraversalListener());
 
@@ -228,6 +236,49 @@ public class ConnectivityInspector<V, E>
         return connectedSets;
     }
 
+    /**
+     * Breadth-first search over a graph with primitive integer access, following edges in both
+     * directions if the graph is directed. Vertices are visited in increasing order, thus
+     * components are reported in the same order as by a {@link BreadthFirstIterator}.
+     */
+    @SuppressWarnings("unchecked")
+    private void findConnectedSets()
+    {
+        int n = (int) ints.vertexCount();
+        boolean[] visited = new boolean[n];
+        int[] queue = new int[n];
+        int[] tail = new int[1];
+        IntConsumer visit = u -> {
+            if (!visited[u]) {
+                visited[u] = true;
+                queue[tail[0]++] = u;
+            }
+        };
+
+        for (int s = 0; s < n; s++) {
+            if (visited[s]) {
+                continue;
+            }
+            int start = tail[0];
+            visit.accept(s);
+            for (int head = start; head < tail[0]; head++) {
+                int v = queue[head];
+                ints.forEachSuccessor(v, visit);
+                if (directed) {
+                    ints.forEachPredecessor(v, visit);
+                }
+            }
+
+            Set<V> component = new HashSet<>();
+            for (int i = start; i < tail[0]; i++) {
+                V v = (V) Integer.valueOf(queue[i]);
+                component.add(v);
+                vertexToConnectedSet.put(v, component);
+            }
+            connectedSets.add(component);
+        }
+    }
+
     /**
      * A traversal listener that groups all vertices according to to their containing connected set.
      *
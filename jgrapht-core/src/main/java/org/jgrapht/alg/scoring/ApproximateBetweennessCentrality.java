@@ -0,0 +1,222 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.interfaces.VertexScoringAlgorithm;
+
+/**
+ * Approximate betweenness centrality based on shortest path sampling.
+ *
+ * <p>
+ * Computes an approximation of the betweenness centrality of each vertex of a graph, see
+ * {@link BetweennessCentrality} for the definition. The algorithm is described in the paper
+ * <ul>
+ * <li>Matteo Riondato and Evgenios M. Kornaropoulos. Fast approximation of betweenness centrality
+ * through sampling. Data Mining and Knowledge Discovery, 30(2):438–475, 2016.</li>
+ * </ul>
+ *
+ * <p>
+ * The algorithm repeatedly picks an ordered pair of distinct vertices $(s, t)$ uniformly at random,
+ * computes the shortest paths from $s$ until $t$ is reached and selects one of the shortest paths
+ * from $s$ to $t$ uniformly at random. The estimate for a vertex is the fraction of sampled paths
+ * in which the vertex is an internal vertex. The number of samples is $r = \lceil
+ * \frac{c}{\epsilon^2} (\lfloor \log_2 (VD - 2) \rfloor + 1 + \ln \frac{1}{\delta}) \rceil$ where
+ * $c = 0.5$ and $VD$ is an upper bound on the vertex diameter of the graph, the maximum number of
+ * vertices in a shortest path. With probability at least $1 - \delta$ the estimates of all vertices
+ * are simultaneously within $\epsilon$ of the betweenness centrality values normalized by $n(n-1)$.
+ * For unweighted undirected graphs the vertex diameter is bounded using a breadth-first search from
+ * one vertex of each connected component, while for all other graphs the number of vertices is
+ * used. The number of samples therefore depends only logarithmically on the size of the graph.
+ *
+ * <p>
+ * The reported scores are scaled to be directly comparable with the scores of
+ * {@link BetweennessCentrality}, i.e. the estimates are multiplied by $n(n-1)$ for directed graphs
+ * and by $n(n-1)/2$ for undirected graphs. When normalization is requested they are additionally
+ * divided by $(n-1) \cdot (n-2)$.
+ *
+ * <p>
+ * Each sample costs at most one single-source shortest path computation, which is $O(m)$ and $O(m
+ * + n \log n)$ for unweighted and weighted graphs respectively, but usually much less since the
+ * search stops as soon as the target vertex is reached. Negative edge weights are not allowed. An
+ * {@link ArithmeticException} is thrown if the number of shortest paths between two vertices does
+ * not fit in a long.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class ApproximateBetweennessCentrality<V, E>
+    implements
+    VertexScoringAlgorithm<V, Double>
+{
+    /**
+     * Default accuracy
+     */
+    public static final double DEFAULT_EPSILON = 0.01;
+
+    /**
+     * Default failure probability
+     */
+    public static final double DEFAULT_DELTA = 0.1;
+
+    private static final double SAMPLE_SIZE_CONSTANT = 0.5;
+
+    private final Graph<V, E> graph;
+    private final boolean normalize;
+    private final double epsilon;
+    private final double delta;
+    private final Random rng;
+    private Map<V, Double> scores;
+
+    /**
+     * Construct a new instance using the default accuracy and failure probability.
+     *
+     * @param graph the input graph
+     */
+    public ApproximateBetweennessCentrality(Graph<V, E> graph)
+    {
+        this(graph, false, DEFAULT_EPSILON, DEFAULT_DELTA, new Random());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param epsilon the accuracy, must be in $(0, 1)$
+     * @param delta the probability of failure, must be in $(0, 1)$
+     * @param seed seed for the random number generator
+     */
+    public ApproximateBetweennessCentrality(
+        Graph<V, E> graph, double epsilon, double delta, long seed)
+    {
+        this(graph, false, epsilon, delta, new Random(seed));
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the scores by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param epsilon the accuracy, must be in $(0, 1)$
+     * @param delta the probability of failure, must be in $(0, 1)$
+     * @param rng the random number generator
+     */
+    public ApproximateBetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, double epsilon, double delta, Random rng)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.normalize = normalize;
+        if (epsilon <= 0d || epsilon >= 1d) {
+            throw new IllegalArgumentException("Epsilon must be in (0, 1)");
+        }
+        this.epsilon = epsilon;
+        if (delta <= 0d || delta >= 1d) {
+            throw new IllegalArgumentException("Delta must be in (0, 1)");
+        }
+        this.delta = delta;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+        this.scores = null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Get the number of samples used for the given upper bound on the vertex diameter.
+     *
+     * @param vertexDiameter an upper bound on the maximum number of vertices in a shortest path
+     * @param epsilon the accuracy
+     * @param delta the probability of failure
+     * @return the number of samples
+     */
+    static long getSampleSize(int vertexDiameter, double epsilon, double delta)
+    {
+        if (vertexDiameter <= 2) {
+            // no shortest path has an internal vertex
+            return 0;
+        }
+        int log2 = 31 - Integer.numberOfLeadingZeros(vertexDiameter - 2);
+        return (long) Math
+            .ceil(SAMPLE_SIZE_CONSTANT / (epsilon * epsilon) * (log2 + 1 + Math.log(1d / delta)));
+    }
+
+    /**
+     * Compute the centrality index
+     */
+    private void compute()
+    {
+        IndexedBrandes<V, E> brandes = new IndexedBrandes<>(graph, false, true);
+        List<V> vertices = brandes.getVertices();
+        int n = vertices.size();
+
+        int vertexDiameter = brandes.vertexDiameterUpperBound(graph.getType().isUndirected());
+        long samples = getSampleSize(vertexDiameter, epsilon, delta);
+        double[] counts = brandes.sampleShortestPaths(samples, rng);
+
+        double factor = samples == 0 ? 0d : (double) n * (n - 1) / samples;
+        if (!graph.getType().isDirected()) {
+            factor /= 2;
+        }
+        if (normalize) {
+            double normalizationFactor = (double) (n - 1) * (n - 2);
+            if (normalizationFactor != 0d) {
+                factor /= normalizationFactor;
+            }
+        }
+
+        scores = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            scores.put(vertices.get(i), counts[i] * factor);
+        }
+    }
+
+}
@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Queue;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
@@ -59,7 +60,15 @@ import org.jheaps.tree.PairingHeap;
  * allows the user to adjust whether an exception is thrown in case overflow occurs. Default
  * behavior is to ignore overflow issues.
  *
- * 
+ * <p>
+ * When constructed with a {@link ThreadPoolExecutor} the computation switches to an index based
+ * engine. The vertices are mapped to integers once, the graph is stored in compressed sparse row
+ * form and the shortest path computations from different sources are distributed among the threads
+ * of the executor. Each thread reuses its primitive arrays across sources and accumulates into its
+ * own scores, which are merged at the end. It is the responsibility of the user of this class to
+ * handle the creation and termination of the provided executor. For utility methods to manage a
+ * {@code ThreadPoolExecutor} see {@link org.jgrapht.util.ConcurrencyUtil}.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -87,6 +96,11 @@ public class BetweennessCentrality<V, E>
      */
     private OverflowStrategy overflowStrategy;
 
+    /**
+     * Executor used by the index based engine, null for the sequential computation.
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * Strategy followed when counting paths.
      */
@@ -141,6 +155,29 @@ public class BetweennessCentrality<V, E>
         this.scores = null;
         this.normalize = normalize;
         this.overflowStrategy = overflowStrategy;
+        this.executor = null;
+    }
+
+    /**
+     * Construct a new instance which uses the index based engine and distributes the sources among
+     * the threads of the provided {@code executor}.
+     * 
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the closeness by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param overflowStrategy strategy to use if overflow is detected
+     * @param executor executor which will be used for parallelization
+     */
+    public BetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, OverflowStrategy overflowStrategy,
+        ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+
+        this.scores = null;
+        this.normalize = normalize;
+        this.overflowStrategy = overflowStrategy;
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
     }
 
     /**
@@ -177,10 +214,22 @@ public class BetweennessCentrality<V, E>
     {
         // initialize result container
         scores = new HashMap<>();
-        graph.vertexSet().forEach(v -> scores.put(v, 0.0));
 
-        // compute for each source
-        graph.vertexSet().forEach(this::compute);
+        if (executor == null) {
+            graph.vertexSet().forEach(v -> scores.put(v, 0.0));
+
+            // compute for each source
+            graph.vertexSet().forEach(this::compute);
+        } else {
+            IndexedBrandes<V, E> brandes = new IndexedBrandes<>(
+                graph, false,
+                overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW));
+            double[] indexedScores = brandes.compute(graph.vertexSet(), executor);
+            List<V> vertices = brandes.getVertices();
+            for (int i = 0; i < indexedScores.length; i++) {
+                scores.put(vertices.get(i), indexedScores[i]);
+            }
+        }
 
         // For undirected graph, divide scores by two as each shortest path
         // considered twice.
@@ -25,6 +25,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphTests;
@@ -52,6 +53,14 @@ import org.jheaps.tree.PairingHeap;
  * for any normalization necessary due to duplicate shortest paths that might occur in undirected
  * graphs.
  * 
+ * <p>
+ * When constructed with a {@link ThreadPoolExecutor} the computation switches to an index based
+ * engine which maps the vertices to integers once, stores the graph in compressed sparse row form
+ * and distributes the start vertices among the threads of the executor. It is the responsibility of
+ * the user of this class to handle the creation and termination of the provided executor. For
+ * utility methods to manage a {@code ThreadPoolExecutor} see
+ * {@link org.jgrapht.util.ConcurrencyUtil}.
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -66,6 +75,7 @@ public class EdgeBetweennessCentrality<V, E>
     private final boolean divideByTwo;
     private Map<E, Double> scores;
     private final OverflowStrategy overflowStrategy;
+    private final ThreadPoolExecutor executor;
 
     /**
      * Strategy followed when counting paths.
@@ -115,6 +125,25 @@ public class EdgeBetweennessCentrality<V, E>
      */
     public EdgeBetweennessCentrality(
         Graph<V, E> graph, OverflowStrategy overflowStrategy, Iterable<V> startVertices)
+    {
+        this(graph, overflowStrategy, startVertices, null);
+    }
+
+    /**
+     * Construct a new instance. If {@code executor} is not null, the index based engine is used and
+     * the start vertices are distributed among the threads of the executor.
+     * 
+     * @param graph the input graph
+     * @param overflowStrategy strategy to use if overflow is detected
+     * @param startVertices vertices from which to start shortest path computations. This parameter
+     *        allows the user to compute edge centrality contributions only from a subset of the
+     *        vertices of the graph. If null the whole graph vertex set is used.
+     * @param executor executor which will be used for parallelization, or null for the sequential
+     *        computation
+     */
+    public EdgeBetweennessCentrality(
+        Graph<V, E> graph, OverflowStrategy overflowStrategy, Iterable<V> startVertices,
+        ThreadPoolExecutor executor)
     {
         this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
         if (GraphTests.hasMultipleEdges(graph)) {
@@ -131,14 +160,14 @@ public class EdgeBetweennessCentrality<V, E>
             // the user is responsible for duplicate shortest paths
             this.divideByTwo = false;
         }
+        this.executor = executor;
     }
 
     @Override
     public Map<E, Double> getScores()
     {
         if (scores == null) {
-            scores = graph.getType().isWeighted() ? new WeightedAlgorithm().getScores()
-                : new Algorithm().getScores();
+            scores = computeScores();
         }
         return Collections.unmodifiableMap(scores);
     }
@@ -150,12 +179,30 @@ public class EdgeBetweennessCentrality<V, E>
             throw new IllegalArgumentException("Cannot return score of unknown edge");
         }
         if (scores == null) {
-            scores = graph.getType().isWeighted() ? new WeightedAlgorithm().getScores()
-                : new Algorithm().getScores();
+            scores = computeScores();
         }
         return scores.get(e);
     }
 
+    private Map<E, Double> computeScores()
+    {
+        if (executor == null) {
+            return graph.getType().isWeighted() ? new WeightedAlgorithm().getScores()
+                : new Algorithm().getScores();
+        }
+
+        IndexedBrandes<V, E> brandes = new IndexedBrandes<>(
+            graph, true, overflowStrategy.equals(OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW));
+        double[] indexedScores = brandes.compute(startVertices, executor);
+        List<E> edges = brandes.getEdges();
+        Map<E, Double> result = new HashMap<>();
+        for (int i = 0; i < indexedScores.length; i++) {
+            double score = indexedScores[i];
+            result.put(edges.get(i), divideByTwo ? score / 2d : score);
+        }
+        return result;
+    }
+
     /*
      * The basic algorithm
      */
@@ -0,0 +1,419 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+
+/**
+ * Incremental PageRank which repairs its scores after graph modifications.
+ *
+ * <p>
+ * Computes the same scores as {@link PageRank} but is also a {@link GraphListener}. If added as a
+ * listener to a {@link org.jgrapht.ListenableGraph} containing the scored graph, the algorithm
+ * keeps its internal state between calls and repairs the scores after vertex and edge additions,
+ * removals and edge weight updates instead of recomputing them from scratch.
+ * </p>
+ *
+ * <p>
+ * For each vertex the algorithm maintains a score and a residual, i.e. the change that one more
+ * power iteration would apply to that score. Scores are brought up to date lazily, on the next call
+ * to {@link #getScores()} or {@link #getVertexScore(Object)}, by repeatedly moving the residual of
+ * a vertex into its score and pushing it along its outgoing edges, until all residuals are less
+ * than the tolerance. The error of each score is bounded by the sum of the residuals divided by
+ * $1-d$, where $d$ is the damping factor.
+ * </p>
+ *
+ * <p>
+ * A graph modification only changes the residuals of the affected vertex and its out-neighbors,
+ * thus the repair work is proportional to the size of the change. The only exceptions are the
+ * changes of the number of vertices and of the total score of vertices without outgoing edges,
+ * which affect every vertex by the same amount. Such uniform changes are accumulated and applied to
+ * all vertices only once their magnitude reaches half the tolerance.
+ * </p>
+ *
+ * <p>
+ * If the graph is a weighted graph, a weighted variant is used where the probability of following
+ * an edge e out of node $v$ is equal to the weight of $e$ over the sum of weights of all outgoing
+ * edges of $v$. If the algorithm is added as listener to a graph other than the one it scores,
+ * results are undefined.
+ * </p>
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class IncrementalPageRank<V, E>
+    implements
+    VertexScoringAlgorithm<V, Double>,
+    GraphListener<V, E>
+{
+    /**
+     * Default value for the tolerance. The repair stops when the residuals of all vertices are
+     * less than this value.
+     */
+    public static final double TOLERANCE_DEFAULT = 1e-8;
+
+    /**
+     * Damping factor default value.
+     */
+    public static final double DAMPING_FACTOR_DEFAULT = PageRank.DAMPING_FACTOR_DEFAULT;
+
+    private final Graph<V, E> graph;
+    private final boolean isWeighted;
+    private final double dampingFactor;
+    private final double tolerance;
+
+    /*
+     * The scores, the local part of the residuals and the (weighted) out-degree of each vertex
+     * as last seen by the algorithm.
+     */
+    private final Map<V, Double> scores;
+    private final Map<V, Double> residual;
+    private final Map<V, Double> outWeight;
+
+    /*
+     * Part of the residual which is common to all vertices and has not been applied yet.
+     */
+    private double uniformResidual;
+
+    /*
+     * Total score of the vertices without outgoing edges.
+     */
+    private double danglingScore;
+
+    private final Deque<V> queue;
+    private final Set<V> inQueue;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     */
+    public IncrementalPageRank(Graph<V, E> graph)
+    {
+        this(graph, DAMPING_FACTOR_DEFAULT, TOLERANCE_DEFAULT);
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param dampingFactor the damping factor
+     * @param tolerance the repair stops when the residuals of all vertices are less than this
+     *        value
+     */
+    public IncrementalPageRank(Graph<V, E> graph, double dampingFactor, double tolerance)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.isWeighted = graph.getType().isWeighted();
+
+        if (dampingFactor < 0.0 || dampingFactor >= 1.0) {
+            throw new IllegalArgumentException("Damping factor not valid");
+        }
+        this.dampingFactor = dampingFactor;
+
+        if (tolerance <= 0.0) {
+            throw new IllegalArgumentException("Tolerance not valid, must be positive");
+        }
+        this.tolerance = tolerance;
+
+        this.scores = new HashMap<>();
+        this.residual = new HashMap<>();
+        this.outWeight = new HashMap<>();
+        this.queue = new ArrayDeque<>();
+        this.inQueue = new HashSet<>();
+        initialize();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned map is a live view which is updated by subsequent calls of this method.
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        repair();
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        repair();
+        return scores.get(v);
+    }
+
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        V v = e.getVertex();
+        if (scores.containsKey(v)) {
+            return;
+        }
+        int n = scores.size();
+        scores.put(v, 0d);
+        outWeight.put(v, 0d);
+        updateUniformResidual(n, danglingScore, n + 1, danglingScore);
+
+        // the residual of the new vertex is the common part only
+        double r = ((1d - dampingFactor) + dampingFactor * danglingScore) / (n + 1);
+        addResidual(v, r - uniformResidual);
+    }
+
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        V v = e.getVertex();
+        Double score = scores.remove(v);
+        if (score == null) {
+            return;
+        }
+        // all edges have already been removed, thus the vertex is dangling
+        int n = scores.size() + 1;
+        double oldDanglingScore = danglingScore;
+        danglingScore -= score;
+        outWeight.remove(v);
+        residual.remove(v);
+        if (inQueue.remove(v)) {
+            queue.remove(v);
+        }
+        updateUniformResidual(n, oldDanglingScore, n - 1, danglingScore);
+    }
+
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        E edge = e.getEdge();
+        V source = e.getEdgeSource();
+        V target = e.getEdgeTarget();
+        updateOutgoing(source, edge, 0d, null, 0d);
+        if (graph.getType().isUndirected() && !source.equals(target)) {
+            updateOutgoing(target, edge, 0d, null, 0d);
+        }
+    }
+
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        V source = e.getEdgeSource();
+        V target = e.getEdgeTarget();
+        double weight = isWeighted ? e.getEdgeWeight() : 1d;
+        updateOutgoing(source, null, 0d, target, weight);
+        if (graph.getType().isUndirected() && !source.equals(target)) {
+            updateOutgoing(target, null, 0d, source, weight);
+        }
+    }
+
+    @Override
+    public void edgeWeightUpdated(GraphEdgeChangeEvent<V, E> e)
+    {
+        if (!isWeighted) {
+            return;
+        }
+        E edge = e.getEdge();
+        V source = e.getEdgeSource();
+        V target = e.getEdgeTarget();
+        updateOutgoing(source, edge, Double.NaN, null, 0d);
+        if (graph.getType().isUndirected() && !source.equals(target)) {
+            updateOutgoing(target, edge, Double.NaN, null, 0d);
+        }
+    }
+
+    /**
+     * Start from the uniform distribution with the residuals of one power iteration.
+     */
+    private void initialize()
+    {
+        int n = graph.vertexSet().size();
+        if (n == 0) {
+            return;
+        }
+        double initScore = 1d / n;
+        for (V v : graph.vertexSet()) {
+            scores.put(v, initScore);
+            double w = computeOutWeight(v);
+            outWeight.put(v, w);
+            if (w == 0d) {
+                danglingScore += initScore;
+            }
+        }
+        double r = ((1d - dampingFactor) + dampingFactor * danglingScore) / n;
+        for (V v : graph.vertexSet()) {
+            residual.put(v, r - initScore);
+        }
+        for (V u : graph.vertexSet()) {
+            double w = outWeight.get(u);
+            if (w == 0d) {
+                continue;
+            }
+            for (E e : graph.outgoingEdgesOf(u)) {
+                V v = Graphs.getOppositeVertex(graph, e, u);
+                residual.merge(v, dampingFactor * initScore * edgeWeight(e) / w, Double::sum);
+            }
+        }
+        for (Map.Entry<V, Double> entry : residual.entrySet()) {
+            if (Math.abs(entry.getValue()) >= tolerance / 2 && inQueue.add(entry.getKey())) {
+                queue.add(entry.getKey());
+            }
+        }
+    }
+
+    /**
+     * Push residuals until all of them are less than the tolerance.
+     */
+    private void repair()
+    {
+        while (true) {
+            if (queue.isEmpty() || Math.abs(uniformResidual) >= tolerance / 2) {
+                flushUniformResidual();
+                if (queue.isEmpty()) {
+                    return;
+                }
+            }
+
+            V u = queue.poll();
+            inQueue.remove(u);
+            double delta = residual.put(u, 0d);
+            scores.merge(u, delta, Double::sum);
+
+            double w = outWeight.get(u);
+            if (w == 0d) {
+                danglingScore += delta;
+                uniformResidual += dampingFactor * delta / scores.size();
+                continue;
+            }
+            for (E e : graph.outgoingEdgesOf(u)) {
+                V v = Graphs.getOppositeVertex(graph, e, u);
+                addResidual(v, dampingFactor * delta * edgeWeight(e) / w);
+            }
+        }
+    }
+
+    /**
+     * Update the residuals after a change of the outgoing edges of a vertex.
+     *
+     * @param u the vertex
+     * @param changedEdge an added edge or an edge whose weight changed, null otherwise
+     * @param changedEdgeOldWeight the previous weight of the changed edge, NaN if it must be
+     *        derived from the previous out-degree
+     * @param removedTarget the target of a removed edge, null otherwise
+     * @param removedWeight the weight of the removed edge
+     */
+    private void updateOutgoing(
+        V u, E changedEdge, double changedEdgeOldWeight, V removedTarget, double removedWeight)
+    {
+        double oldWeight = outWeight.get(u);
+        double newWeight = computeOutWeight(u);
+        double score = scores.get(u);
+
+        if (changedEdge != null && Double.isNaN(changedEdgeOldWeight)) {
+            // all other weights are unchanged
+            changedEdgeOldWeight = oldWeight - newWeight + edgeWeight(changedEdge);
+        }
+
+        if (score != 0d) {
+            double mass = dampingFactor * score;
+            for (E e : graph.outgoingEdgesOf(u)) {
+                V v = Graphs.getOppositeVertex(graph, e, u);
+                double w = edgeWeight(e);
+                double prevW = e.equals(changedEdge) ? changedEdgeOldWeight : w;
+                double before = oldWeight == 0d ? 0d : prevW / oldWeight;
+                double after = newWeight == 0d ? 0d : w / newWeight;
+                if (before != after) {
+                    addResidual(v, mass * (after - before));
+                }
+            }
+            if (removedTarget != null && oldWeight != 0d) {
+                addResidual(removedTarget, -mass * removedWeight / oldWeight);
+            }
+        }
+
+        if ((oldWeight == 0d) != (newWeight == 0d)) {
+            int n = scores.size();
+            double oldDanglingScore = danglingScore;
+            danglingScore += newWeight == 0d ? score : -score;
+            updateUniformResidual(n, oldDanglingScore, n, danglingScore);
+        }
+        outWeight.put(u, newWeight);
+    }
+
+    /**
+     * Account for the change of the common part of the residuals when the number of vertices or
+     * the total score of dangling vertices changes.
+     */
+    private void updateUniformResidual(
+        int oldN, double oldDanglingScore, int newN, double newDanglingScore)
+    {
+        double before =
+            oldN == 0 ? 0d : ((1d - dampingFactor) + dampingFactor * oldDanglingScore) / oldN;
+        double after =
+            newN == 0 ? 0d : ((1d - dampingFactor) + dampingFactor * newDanglingScore) / newN;
+        uniformResidual += after - before;
+    }
+
+    private void flushUniformResidual()
+    {
+        if (uniformResidual == 0d) {
+            return;
+        }
+        double value = uniformResidual;
+        uniformResidual = 0d;
+        for (V v : scores.keySet()) {
+            addResidual(v, value);
+        }
+    }
+
+    private void addResidual(V v, double value)
+    {
+        double r = residual.merge(v, value, Double::sum);
+        if (Math.abs(r) >= tolerance / 2 && inQueue.add(v)) {
+            queue.add(v);
+        }
+    }
+
+    private double edgeWeight(E e)
+    {
+        return isWeighted ? graph.getEdgeWeight(e) : 1d;
+    }
+
+    private double computeOutWeight(V v)
+    {
+        if (!isWeighted) {
+            return graph.outDegreeOf(v);
+        }
+        double sum = 0d;
+        for (E e : graph.outgoingEdgesOf(v)) {
+            sum += graph.getEdgeWeight(e);
+        }
+        return sum;
+    }
+
+}
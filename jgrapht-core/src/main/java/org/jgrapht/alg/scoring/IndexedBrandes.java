@@ -0,0 +1,525 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jgrapht.Graph;
+import org.jgrapht.Graphs;
+import org.jgrapht.alg.util.IndexedBinaryHeap;
+import org.jgrapht.util.CollectionUtil;
+import org.jgrapht.util.VertexToIntegerMapping;
+
+/**
+ * Index based implementation of Brandes' algorithm which is shared by
+ * {@link BetweennessCentrality} and {@link EdgeBetweennessCentrality} when they are given an
+ * executor, as well as by {@link ApproximateBetweennessCentrality} for sampling shortest paths.
+ *
+ * <p>
+ * The vertices of the graph are mapped once to the integer range $[0, n)$ and the graph is stored
+ * in compressed sparse row (CSR) form. Each task submitted to the executor owns a workspace of
+ * primitive arrays (path counters, distances, dependencies and a predecessor CSR) which is reused
+ * for all sources processed by that task. Resetting a workspace costs time proportional to the
+ * number of vertices reached from the previous source. Every task accumulates into its own score
+ * array and these arrays are summed once all sources have been processed.
+ *
+ * <p>
+ * Sources are handed out to the tasks dynamically, thus the result is independent of the number of
+ * threads up to floating point rounding.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+class IndexedBrandes<V, E>
+{
+    private final boolean edgeScores;
+    private final boolean checkOverflow;
+
+    private final Map<V, Integer> vertexMap;
+    private final List<V> vertices;
+    private final List<E> edges;
+
+    private final int n;
+    private final int[] offsets;
+    private final int[] origins;
+    private final int[] targets;
+    private final int[] edgeIds;
+    private final double[] weights;
+    private final int[] predOffsets;
+
+    /**
+     * Create a new instance.
+     *
+     * @param graph the input graph
+     * @param edgeScores if true edge scores are computed and self-loops are ignored, otherwise
+     *        vertex scores are computed
+     * @param checkOverflow whether to throw an exception when path counters overflow
+     */
+    IndexedBrandes(Graph<V, E> graph, boolean edgeScores, boolean checkOverflow)
+    {
+        this.edgeScores = edgeScores;
+        this.checkOverflow = checkOverflow;
+
+        VertexToIntegerMapping<V> mapping = Graphs.getVertexToIntegerMapping(graph);
+        this.vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+
+        Map<E, Integer> edgeMap = null;
+        if (edgeScores) {
+            this.edges = new ArrayList<>(graph.edgeSet());
+            edgeMap = CollectionUtil.newHashMapWithExpectedSize(edges.size());
+            for (E e : edges) {
+                edgeMap.put(e, edgeMap.size());
+            }
+        } else {
+            this.edges = null;
+        }
+
+        // count entries
+        boolean weighted = graph.getType().isWeighted();
+        this.offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            int count = 0;
+            for (E e : graph.outgoingEdgesOf(v)) {
+                if (!edgeScores || !Graphs.getOppositeVertex(graph, e, v).equals(v)) {
+                    count++;
+                }
+            }
+            offsets[i + 1] = offsets[i] + count;
+        }
+
+        // fill entries
+        int m = offsets[n];
+        this.origins = new int[m];
+        this.targets = new int[m];
+        this.edgeIds = edgeScores ? new int[m] : null;
+        this.weights = weighted ? new double[m] : null;
+        int[] inDegree = new int[n];
+        int p = 0;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                V u = Graphs.getOppositeVertex(graph, e, v);
+                if (edgeScores && u.equals(v)) {
+                    // ignore self-loops
+                    continue;
+                }
+                if (weighted) {
+                    double w = graph.getEdgeWeight(e);
+                    if (w < 0d) {
+                        throw new IllegalArgumentException("Negative edge weights are not allowed");
+                    }
+                    weights[p] = w;
+                }
+                int j = vertexMap.get(u);
+                origins[p] = i;
+                targets[p] = j;
+                if (edgeScores) {
+                    edgeIds[p] = edgeMap.get(e);
+                }
+                inDegree[j]++;
+                p++;
+            }
+        }
+
+        // each entry pointing to a vertex can be used at most once as a predecessor
+        this.predOffsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            predOffsets[i + 1] = predOffsets[i] + inDegree[i];
+        }
+    }
+
+    /**
+     * Get the vertices in index order.
+     *
+     * @return the vertices in index order
+     */
+    List<V> getVertices()
+    {
+        return vertices;
+    }
+
+    /**
+     * Get the edges in index order. Only available when computing edge scores.
+     *
+     * @return the edges in index order
+     */
+    List<E> getEdges()
+    {
+        return edges;
+    }
+
+    /**
+     * Compute the (unnormalized) sum of dependencies from all given sources.
+     *
+     * @param sources the source vertices
+     * @param executor the executor used for parallelization
+     * @return the scores indexed by vertex index or by edge index when computing edge scores
+     */
+    double[] compute(Iterable<V> sources, ThreadPoolExecutor executor)
+    {
+        List<Integer> sourceList = new ArrayList<>();
+        for (V s : sources) {
+            Integer index = vertexMap.get(s);
+            if (index == null) {
+                throw new IllegalArgumentException("Unknown start vertex " + s);
+            }
+            sourceList.add(index);
+        }
+        int[] sourceIndices = sourceList.stream().mapToInt(Integer::intValue).toArray();
+
+        double[] result = new double[edgeScores ? edges.size() : n];
+        if (sourceIndices.length == 0) {
+            return result;
+        }
+
+        int numTasks = Math.min(executor.getMaximumPoolSize(), sourceIndices.length);
+        ExecutorCompletionService<double[]> completionService =
+            new ExecutorCompletionService<>(executor);
+        AtomicInteger nextSource = new AtomicInteger();
+        for (int t = 0; t < numTasks; t++) {
+            completionService.submit(() -> {
+                Workspace workspace = new Workspace(result.length);
+                int i;
+                while ((i = nextSource.getAndIncrement()) < sourceIndices.length) {
+                    workspace.singleVertexUpdate(sourceIndices[i]);
+                }
+                return workspace.scores;
+            });
+        }
+
+        RuntimeException failure = null;
+        for (int t = 0; t < numTasks; t++) {
+            try {
+                double[] partial = completionService.take().get();
+                for (int i = 0; i < result.length; i++) {
+                    result[i] += partial[i];
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                // stop handing out sources and remember the first failure
+                nextSource.set(sourceIndices.length);
+                if (failure == null) {
+                    Throwable cause = e.getCause();
+                    failure = cause instanceof RuntimeException ? (RuntimeException) cause
+                        : new RuntimeException(cause);
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+        return result;
+    }
+
+    /**
+     * Sample shortest paths between uniformly random ordered pairs of distinct vertices. For each
+     * pair a shortest path is selected uniformly at random among all shortest paths and the count
+     * of each of its internal vertices is increased by one.
+     *
+     * @param numSamples the number of pairs to sample
+     * @param rng the random number generator
+     * @return the number of sampled paths which contain each vertex as an internal vertex, indexed
+     *         by vertex index
+     */
+    double[] sampleShortestPaths(long numSamples, Random rng)
+    {
+        double[] result = new double[n];
+        if (n < 2) {
+            return result;
+        }
+        Workspace workspace = new Workspace(0);
+        for (long i = 0; i < numSamples; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n - 1);
+            if (t >= s) {
+                t++;
+            }
+            workspace.samplePath(s, t, rng, result);
+        }
+        return result;
+    }
+
+    /**
+     * Compute an upper bound on the vertex diameter of the graph, that is the maximum number of
+     * vertices in a shortest path. For unweighted undirected graphs the bound is $2e+1$ where $e$ is
+     * the eccentricity of an arbitrary vertex of each connected component. For all other graphs the
+     * number of vertices is returned.
+     *
+     * @param undirected whether the graph is undirected
+     * @return an upper bound on the vertex diameter
+     */
+    int vertexDiameterUpperBound(boolean undirected)
+    {
+        if (!undirected || weights != null) {
+            return n;
+        }
+        int bound = n > 0 ? 1 : 0;
+        boolean[] covered = new boolean[n];
+        Workspace workspace = new Workspace(0);
+        for (int s = 0; s < n; s++) {
+            if (covered[s]) {
+                continue;
+            }
+            workspace.dist[s] = 0d;
+            workspace.bfs(s, -1);
+            double eccentricity = 0d;
+            for (int i = 0; i < workspace.orderSize; i++) {
+                int w = workspace.order[i];
+                covered[w] = true;
+                eccentricity = Math.max(eccentricity, workspace.dist[w]);
+            }
+            bound = (int) Math.min(n, Math.max(bound, 2 * eccentricity + 1));
+            workspace.reset();
+        }
+        return bound;
+    }
+
+    /**
+     * Per task reusable state.
+     */
+    private class Workspace
+    {
+        private final long[] sigma;
+        private final double[] dist;
+        private final double[] delta;
+        private final int[] order;
+        private final int[] predCount;
+        private final int[] preds;
+        private final IndexedBinaryHeap heap;
+        private final double[] scores;
+        private int orderSize;
+
+        Workspace(int numScores)
+        {
+            this.sigma = new long[n];
+            this.dist = new double[n];
+            Arrays.fill(dist, Double.POSITIVE_INFINITY);
+            this.delta = new double[n];
+            this.order = new int[n];
+            this.predCount = new int[n];
+            this.preds = new int[predOffsets[n]];
+            this.heap = weights != null ? new IndexedBinaryHeap(n) : null;
+            this.scores = new double[numScores];
+        }
+
+        void singleVertexUpdate(int s)
+        {
+            sigma[s] = 1;
+            dist[s] = 0d;
+            if (heap == null) {
+                bfs(s, -1);
+            } else {
+                dijkstra(s, -1);
+            }
+            accumulate(s);
+            reset();
+        }
+
+        /*
+         * Search from s until t is settled and walk back from t along a uniformly random shortest
+         * path.
+         */
+        void samplePath(int s, int t, Random rng, double[] counts)
+        {
+            sigma[s] = 1;
+            dist[s] = 0d;
+            if (heap == null) {
+                bfs(s, t);
+            } else {
+                dijkstra(s, t);
+            }
+            if (dist[t] != Double.POSITIVE_INFINITY) {
+                int w = t;
+                // bound the walk in case of zero weight cycles
+                for (int steps = 0; steps < orderSize; steps++) {
+                    int start = predOffsets[w];
+                    int end = start + predCount[w];
+                    double r = rng.nextDouble() * sigma[w];
+                    int v = origins[preds[end - 1]];
+                    double sum = 0d;
+                    for (int k = start; k < end; k++) {
+                        int u = origins[preds[k]];
+                        sum += sigma[u];
+                        if (r < sum) {
+                            v = u;
+                            break;
+                        }
+                    }
+                    if (v == s) {
+                        break;
+                    }
+                    counts[v] += 1d;
+                    w = v;
+                }
+            }
+            reset();
+        }
+
+        /*
+         * Order vertices using breadth-first search. The order array doubles as the queue. The
+         * search stops once the target (if non-negative) is dequeued.
+         */
+        private void bfs(int s, int target)
+        {
+            order[0] = s;
+            orderSize = 1;
+            int head = 0;
+            while (head < orderSize) {
+                int v = order[head++];
+                if (v == target) {
+                    break;
+                }
+                double d = dist[v] + 1d;
+                for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                    int w = targets[p];
+                    if (dist[w] == Double.POSITIVE_INFINITY) {
+                        dist[w] = d;
+                        order[orderSize++] = w;
+                        if (!edgeScores) {
+                            sigma[w] = sigma[v];
+                            addPredecessor(w, p);
+                            continue;
+                        }
+                    }
+                    if (dist[w] == d) {
+                        sigma[w] = add(sigma[w], sigma[v]);
+                        addPredecessor(w, p);
+                    }
+                }
+            }
+        }
+
+        /*
+         * Order vertices using Dijkstra's algorithm. The search stops once the target (if
+         * non-negative) is settled.
+         */
+        private void dijkstra(int s, int target)
+        {
+            orderSize = 0;
+            heap.insert(s, 0d);
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin();
+                order[orderSize++] = v;
+                if (v == target) {
+                    break;
+                }
+                for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                    int w = targets[p];
+                    double d = dist[v] + weights[p];
+                    if (dist[w] == Double.POSITIVE_INFINITY && !heap.contains(w)) {
+                        // w found for the first time
+                        heap.insert(w, d);
+                        dist[w] = d;
+                        if (!edgeScores) {
+                            sigma[w] = sigma[v];
+                            addPredecessor(w, p);
+                            continue;
+                        }
+                    } else if (dist[w] > d) {
+                        // shorter path to w via v
+                        heap.decreaseKey(w, d);
+                        dist[w] = d;
+                        predCount[w] = 0;
+                        if (!edgeScores) {
+                            sigma[w] = sigma[v];
+                            addPredecessor(w, p);
+                            continue;
+                        }
+                        sigma[w] = 0;
+                    }
+                    if (dist[w] == d) {
+                        sigma[w] = add(sigma[w], sigma[v]);
+                        addPredecessor(w, p);
+                    }
+                }
+            }
+        }
+
+        /*
+         * Sum all pair dependencies, visiting vertices in order of non-increasing distance.
+         */
+        private void accumulate(int s)
+        {
+            for (int i = orderSize - 1; i >= 0; i--) {
+                int w = order[i];
+                double sigmaW = sigma[w];
+                int start = predOffsets[w];
+                int end = start + predCount[w];
+                for (int k = start; k < end; k++) {
+                    int p = preds[k];
+                    int v = origins[p];
+                    double c = (sigma[v] / sigmaW) * (1 + delta[w]);
+                    delta[v] += c;
+                    if (edgeScores) {
+                        scores[edgeIds[p]] += c;
+                    }
+                }
+                if (!edgeScores && w != s) {
+                    scores[w] += delta[w];
+                }
+            }
+        }
+
+        /*
+         * Restore the initial state, touching only the vertices reached from the last source.
+         */
+        private void reset()
+        {
+            while (heap != null && !heap.isEmpty()) {
+                order[orderSize++] = heap.deleteMin();
+            }
+            for (int i = 0; i < orderSize; i++) {
+                int w = order[i];
+                sigma[w] = 0;
+                dist[w] = Double.POSITIVE_INFINITY;
+                delta[w] = 0d;
+                predCount[w] = 0;
+            }
+            orderSize = 0;
+        }
+
+        private void addPredecessor(int w, int p)
+        {
+            preds[predOffsets[w] + predCount[w]++] = p;
+        }
+
+        private long add(long a, long b)
+        {
+            long sum = a + b;
+            if (checkOverflow && sum < 0) {
+                throw new ArithmeticException("long overflow");
+            }
+            return sum;
+        }
+    }
+}
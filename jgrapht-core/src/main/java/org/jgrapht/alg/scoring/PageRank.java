@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 /**
  * PageRank implementation.
@@ -52,6 +53,28 @@ import java.util.*;
  * edges of $v$.
  * </p>
  * 
+ * <p>
+ * The graph is copied once into a compressed sparse row representation of its incoming edges. When
+ * constructed with a {@link ThreadPoolExecutor}, the vertex range is partitioned into blocks of
+ * roughly equal work and each power iteration processes the blocks in parallel. It is the
+ * responsibility of the user of this class to handle the creation and termination of the provided
+ * executor. For utility methods to manage a {@code ThreadPoolExecutor} see
+ * {@link org.jgrapht.util.ConcurrencyUtil}.
+ * </p>
+ * 
+ * <p>
+ * Alternatively the {@link Method#DELTA} method can be used. It starts from the same uniform
+ * distribution and keeps, for each vertex, the residual, i.e. the change that one more power
+ * iteration would apply. It then repeatedly selects a vertex whose residual is at least the
+ * tolerance, adds the residual to its score and pushes it along the outgoing edges. Updates are
+ * immediately visible (Gauss-Seidel style) and only vertices whose residual changed are revisited,
+ * which usually requires considerably less work than full power iterations when large parts of the
+ * graph converge quickly. The computation stops when all residuals are less than the tolerance or
+ * after the equivalent of {@code maxIterations} times $n$ pushes. Since the error of the result is
+ * bounded by the sum of the residuals divided by $1 - d$, where $d$ is the damping factor, this
+ * method usually needs a smaller tolerance to reach the accuracy of power iteration.
+ * </p>
+ * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * 
@@ -77,6 +100,28 @@ public final class PageRank<V, E>
      */
     public static final double DAMPING_FACTOR_DEFAULT = 0.85d;
 
+    /**
+     * The method used to compute the stationary distribution.
+     */
+    public enum Method
+    {
+        /**
+         * Power iteration, where each iteration recomputes the score of every vertex from the scores
+         * of the previous iteration.
+         */
+        POWER_ITERATION,
+        /**
+         * Push based iteration which only propagates the residuals of vertices whose score is not
+         * yet within the tolerance.
+         */
+        DELTA,
+    }
+
+    /**
+     * Number of blocks per thread used when partitioning the vertices.
+     */
+    private static final int BLOCKS_PER_THREAD = 4;
+
     /**
      * The input graph
      */
@@ -98,6 +143,16 @@ public final class PageRank<V, E>
      */
     private final double tolerance;
 
+    /**
+     * The method used
+     */
+    private final Method method;
+
+    /**
+     * Executor used for parallel power iterations, null for the sequential computation
+     */
+    private final ThreadPoolExecutor executor;
+
     /**
      * The result
      */
@@ -146,8 +201,54 @@ public final class PageRank<V, E>
      *        iterations change less than this value
      */
     public PageRank(Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance)
+    {
+        this(graph, dampingFactor, maxIterations, tolerance, Method.POWER_ITERATION, null);
+    }
+
+    /**
+     * Create and execute an instance of PageRank using the given method.
+     * 
+     * @param graph the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param method the method used to compute the scores
+     */
+    public PageRank(
+        Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance,
+        Method method)
+    {
+        this(graph, dampingFactor, maxIterations, tolerance, method, null);
+    }
+
+    /**
+     * Create and execute an instance of PageRank which performs each power iteration in parallel
+     * using the provided {@code executor}.
+     * 
+     * @param graph the input graph
+     * @param dampingFactor the damping factor
+     * @param maxIterations the maximum number of iterations to perform
+     * @param tolerance the calculation will stop if the difference of PageRank values between
+     *        iterations change less than this value
+     * @param executor executor which will be used for parallelization
+     */
+    public PageRank(
+        Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance,
+        ThreadPoolExecutor executor)
+    {
+        this(
+            graph, dampingFactor, maxIterations, tolerance, Method.POWER_ITERATION,
+            Objects.requireNonNull(executor, "Executor cannot be null"));
+    }
+
+    private PageRank(
+        Graph<V, E> graph, double dampingFactor, int maxIterations, double tolerance,
+        Method method, ThreadPoolExecutor executor)
     {
         this.graph = graph;
+        this.method = Objects.requireNonNull(method, "Method cannot be null");
+        this.executor = executor;
 
         if (maxIterations <= 0) {
             throw new IllegalArgumentException("Maximum iterations must be positive");
@@ -214,8 +315,14 @@ public final class PageRank<V, E>
         private double[] curScore;
         private double[] nextScore;
         private int[] outDegree;
-        private ArrayList<int[]> adjList;
-        private ArrayList<double[]> weightsList;
+
+        /*
+         * Incoming edges in compressed sparse row form. The incoming edges of vertex i are stored
+         * in positions [inOffsets[i], inOffsets[i+1]).
+         */
+        private int[] inOffsets;
+        private int[] inSources;
+        private double[] inWeights;
 
         @SuppressWarnings("unchecked")
         public Algorithm()
@@ -231,59 +338,90 @@ public final class PageRank<V, E>
             this.vertexIndexMap = new HashMap<>();
             this.vertexMap = (V[]) new Object[totalVertices];
             this.outDegree = new int[totalVertices];
-            this.adjList = new ArrayList<>(totalVertices);
+            this.inOffsets = new int[totalVertices + 1];
 
             double initScore = 1.0d / totalVertices;
+            if (graph.iterables() instanceof IntGraphIterables) {
+                indexPrimitive((IntGraphIterables) graph.iterables(), initScore);
+                return;
+            }
+
             int i = 0;
             for (V v : graph.vertexSet()) {
                 vertexIndexMap.put(v, i);
                 vertexMap[i] = v;
                 outDegree[i] = graph.outDegreeOf(v);
                 curScore[i] = initScore;
+                inOffsets[i + 1] = inOffsets[i] + graph.incomingEdgesOf(v).size();
                 i++;
             }
 
+            this.inSources = new int[inOffsets[totalVertices]];
             if (isWeighted) {
                 this.weightSum = new double[totalVertices];
-                this.weightsList = new ArrayList<>(totalVertices);
-
-                for (i = 0; i < totalVertices; i++) {
-                    V v = vertexMap[i];
-                    int[] inNeighbors = new int[graph.inDegreeOf(v)];
-                    double[] edgeWeights = new double[graph.inDegreeOf(v)];
-
-                    int j = 0;
-                    for (E e : graph.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(graph, e, v);
-                        Integer mappedVertexId = vertexIndexMap.get(w);
-                        inNeighbors[j] = mappedVertexId;
+                this.inWeights = new double[inOffsets[totalVertices]];
+            }
+
+            int j = 0;
+            for (i = 0; i < totalVertices; i++) {
+                V v = vertexMap[i];
+                for (E e : graph.incomingEdgesOf(v)) {
+                    V w = Graphs.getOppositeVertex(graph, e, v);
+                    int mappedVertexId = vertexIndexMap.get(w);
+                    inSources[j] = mappedVertexId;
+                    if (isWeighted) {
                         double edgeWeight = graph.getEdgeWeight(e);
-                        edgeWeights[j] += edgeWeight;
+                        inWeights[j] = edgeWeight;
                         weightSum[mappedVertexId] += edgeWeight;
-                        j++;
                     }
-                    weightsList.add(edgeWeights);
-                    adjList.add(inNeighbors);
+                    j++;
                 }
-            } else {
-                for (i = 0; i < totalVertices; i++) {
-                    V v = vertexMap[i];
-                    int[] inNeighbors = new int[graph.inDegreeOf(v)];
-                    int j = 0;
-                    for (E e : graph.incomingEdgesOf(v)) {
-                        V w = Graphs.getOppositeVertex(graph, e, v);
-                        inNeighbors[j++] = vertexIndexMap.get(w);
+            }
+        }
+
+        /**
+         * Build the incoming edges in compressed sparse row form using the primitive access of the
+         * graph. Vertices are their own indices.
+         */
+        @SuppressWarnings("unchecked")
+        private void indexPrimitive(IntGraphIterables ints, double initScore)
+        {
+            for (int i = 0; i < totalVertices; i++) {
+                vertexMap[i] = (V) Integer.valueOf(i);
+                outDegree[i] = graph.outDegreeOf(vertexMap[i]);
+                curScore[i] = initScore;
+                int row = i + 1;
+                ints.forEachIncomingEdge(i, (e, w) -> inOffsets[row]++);
+                inOffsets[row] += inOffsets[i];
+            }
+
+            this.inSources = new int[inOffsets[totalVertices]];
+            if (isWeighted) {
+                this.weightSum = new double[totalVertices];
+                this.inWeights = new double[inOffsets[totalVertices]];
+            }
+
+            int[] j = new int[1];
+            for (int i = 0; i < totalVertices; i++) {
+                ints.forEachIncomingEdge(i, (e, w) -> {
+                    inSources[j[0]] = w;
+                    if (isWeighted) {
+                        double edgeWeight = ints.edgeWeight(e);
+                        inWeights[j[0]] = edgeWeight;
+                        weightSum[w] += edgeWeight;
                     }
-                    adjList.add(inNeighbors);
-                }
+                    j[0]++;
+                });
             }
         }
 
         public Map<V, Double> getScores()
         {
             // compute
-            if (isWeighted) {
-                runWeighted();
+            if (method == Method.DELTA) {
+                runDelta();
+            } else if (executor != null) {
+                runParallel();
             } else {
                 run();
             }
@@ -304,19 +442,7 @@ public final class PageRank<V, E>
 
             while (iterations > 0 && maxChange >= tolerance) {
                 double r = teleProp();
-
-                maxChange = 0d;
-                for (int i = 0; i < totalVertices; i++) {
-                    double contribution = 0d;
-                    for (int w : adjList.get(i)) {
-                        contribution += dampingFactor * curScore[w] / outDegree[w];
-                    }
-
-                    double vOldValue = curScore[i];
-                    double vNewValue = r + contribution;
-                    maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                    nextScore[i] = vNewValue;
-                }
+                maxChange = iterate(0, totalVertices, r);
 
                 // progress
                 swapScores();
@@ -324,30 +450,38 @@ public final class PageRank<V, E>
             }
         }
 
-        private void runWeighted()
+        private void runParallel()
         {
+            List<Callable<double[]>> tasks = new ArrayList<>();
+            int[] blocks = partition(executor.getMaximumPoolSize() * BLOCKS_PER_THREAD);
+            double[] teleport = new double[1];
+            for (int b = 0; b + 1 < blocks.length; b++) {
+                int blockStart = blocks[b];
+                int blockEnd = blocks[b + 1];
+                tasks.add(() -> {
+                    double maxChange = iterate(blockStart, blockEnd, teleport[0]);
+                    return new double[] { maxChange, teleProp(blockStart, blockEnd, nextScore) };
+                });
+            }
+            ExecutorCompletionService<double[]> completionService =
+                new ExecutorCompletionService<>(executor);
+
             double maxChange = tolerance;
             int iterations = maxIterations;
+            teleport[0] = teleProp();
 
             while (iterations > 0 && maxChange >= tolerance) {
-                double r = teleProp();
-
+                for (Callable<double[]> task : tasks) {
+                    completionService.submit(task);
+                }
                 maxChange = 0d;
-                for (int i = 0; i < totalVertices; i++) {
-                    double contribution = 0d;
-
-                    int[] neighbors = adjList.get(i);
-                    double[] weights = weightsList.get(i);
-                    for (int j = 0, getLength = neighbors.length; j < getLength; j++) {
-                        int w = neighbors[j];
-                        contribution += dampingFactor * curScore[w] * weights[j] / weightSum[w];
-                    }
-
-                    double vOldValue = curScore[i];
-                    double vNewValue = r + contribution;
-                    maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
-                    nextScore[i] = vNewValue;
+                double nextTeleport = 0d;
+                for (int t = 0; t < tasks.size(); t++) {
+                    double[] result = waitForTask(completionService);
+                    maxChange = Math.max(maxChange, result[0]);
+                    nextTeleport += result[1];
                 }
+                teleport[0] = nextTeleport / totalVertices;
 
                 // progress
                 swapScores();
@@ -355,20 +489,196 @@ public final class PageRank<V, E>
             }
         }
 
+        private void runDelta()
+        {
+            if (totalVertices == 0) {
+                return;
+            }
+
+            /*
+             * Residuals of the initial uniform distribution, i.e. the change of one power
+             * iteration. Since the scores sum to one we can use the equivalent system where the
+             * teleport term is constant and only the mass of dangling vertices is redistributed.
+             */
+            double[] residual = nextScore;
+            iterate(0, totalVertices, teleProp());
+            for (int i = 0; i < totalVertices; i++) {
+                residual[i] -= curScore[i];
+            }
+
+            // outgoing edges in compressed sparse row form
+            int[] outOffsets = new int[totalVertices + 1];
+            for (int p = 0; p < inSources.length; p++) {
+                outOffsets[inSources[p] + 1]++;
+            }
+            for (int i = 0; i < totalVertices; i++) {
+                outOffsets[i + 1] += outOffsets[i];
+            }
+            int[] outTargets = new int[inSources.length];
+            double[] outWeights = isWeighted ? new double[inSources.length] : null;
+            int[] pos = Arrays.copyOf(outOffsets, totalVertices);
+            for (int i = 0; i < totalVertices; i++) {
+                for (int p = inOffsets[i]; p < inOffsets[i + 1]; p++) {
+                    int q = pos[inSources[p]]++;
+                    outTargets[q] = i;
+                    if (isWeighted) {
+                        outWeights[q] = inWeights[p];
+                    }
+                }
+            }
+
+            // circular queue of vertices whose residual is at least the tolerance
+            int[] queue = new int[totalVertices];
+            boolean[] inQueue = new boolean[totalVertices];
+            int head = 0;
+            int size = 0;
+            for (int i = 0; i < totalVertices; i++) {
+                if (Math.abs(residual[i]) >= tolerance) {
+                    queue[size++] = i;
+                    inQueue[i] = true;
+                }
+            }
+
+            // residual added to all vertices, applied lazily
+            double uniform = 0d;
+            long pushes = (long) maxIterations * totalVertices;
+
+            while (pushes > 0) {
+                if (size == 0 || Math.abs(uniform) >= tolerance) {
+                    if (uniform != 0d) {
+                        for (int i = 0; i < totalVertices; i++) {
+                            residual[i] += uniform;
+                            if (!inQueue[i] && Math.abs(residual[i]) >= tolerance) {
+                                queue[(head + size++) % totalVertices] = i;
+                                inQueue[i] = true;
+                            }
+                        }
+                        uniform = 0d;
+                    }
+                    if (size == 0) {
+                        break;
+                    }
+                }
+
+                int u = queue[head];
+                head = (head + 1) % totalVertices;
+                size--;
+                inQueue[u] = false;
+
+                double delta = residual[u];
+                residual[u] = 0d;
+                curScore[u] += delta;
+                pushes--;
+
+                if (outDegree[u] == 0) {
+                    uniform += dampingFactor * delta / totalVertices;
+                    continue;
+                }
+                for (int p = outOffsets[u]; p < outOffsets[u + 1]; p++) {
+                    int v = outTargets[p];
+                    if (isWeighted) {
+                        residual[v] += dampingFactor * delta * outWeights[p] / weightSum[u];
+                    } else {
+                        residual[v] += dampingFactor * delta / outDegree[u];
+                    }
+                    if (!inQueue[v] && Math.abs(residual[v]) >= tolerance) {
+                        queue[(head + size++) % totalVertices] = v;
+                        inQueue[v] = true;
+                    }
+                }
+            }
+        }
+
+        /*
+         * Perform one power iteration for the vertices in [start, end) and return the maximum
+         * change.
+         */
+        private double iterate(int start, int end, double r)
+        {
+            double maxChange = 0d;
+            for (int i = start; i < end; i++) {
+                double contribution = 0d;
+                if (isWeighted) {
+                    for (int p = inOffsets[i]; p < inOffsets[i + 1]; p++) {
+                        int w = inSources[p];
+                        contribution += dampingFactor * curScore[w] * inWeights[p] / weightSum[w];
+                    }
+                } else {
+                    for (int p = inOffsets[i]; p < inOffsets[i + 1]; p++) {
+                        int w = inSources[p];
+                        contribution += dampingFactor * curScore[w] / outDegree[w];
+                    }
+                }
+
+                double vOldValue = curScore[i];
+                double vNewValue = r + contribution;
+                maxChange = Math.max(maxChange, Math.abs(vNewValue - vOldValue));
+                nextScore[i] = vNewValue;
+            }
+            return maxChange;
+        }
+
         private double teleProp()
+        {
+            return teleProp(0, totalVertices, curScore) / totalVertices;
+        }
+
+        /*
+         * Sum of the teleportation mass of the vertices in [start, end), not yet divided by the
+         * number of vertices.
+         */
+        private double teleProp(int start, int end, double[] score)
         {
             double r = 0d;
-            for (int i = 0; i < totalVertices; i++) {
+            for (int i = start; i < end; i++) {
                 if (outDegree[i] > 0) {
-                    r += (1d - dampingFactor) * curScore[i];
+                    r += (1d - dampingFactor) * score[i];
                 } else {
-                    r += curScore[i];
+                    r += score[i];
                 }
             }
-            r /= totalVertices;
             return r;
         }
 
+        /*
+         * Split the vertices into at most the given number of consecutive blocks with roughly
+         * equal number of vertices plus incoming edges.
+         */
+        private int[] partition(int numBlocks)
+        {
+            long totalWork = (long) totalVertices + inSources.length;
+            int[] blocks = new int[numBlocks + 1];
+            int count = 1;
+            int i = 0;
+            for (int b = 1; b < numBlocks; b++) {
+                long target = totalWork * b / numBlocks;
+                while (i < totalVertices && (long) i + inOffsets[i] < target) {
+                    i++;
+                }
+                if (i > blocks[count - 1]) {
+                    blocks[count++] = i;
+                }
+            }
+            if (totalVertices > blocks[count - 1]) {
+                blocks[count++] = totalVertices;
+            }
+            return Arrays.copyOf(blocks, count);
+        }
+
+        private double[] waitForTask(ExecutorCompletionService<double[]> completionService)
+        {
+            try {
+                return completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new RuntimeException(cause);
+            }
+        }
+
         private void swapScores()
         {
             double[] tmp = curScore;
@@ -63,6 +63,11 @@ public class BFSShortestPath<V, E>
             throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
         }
 
+        GraphIterables<V, E> iterables = graph.iterables();
+        if (iterables instanceof IntGraphIterables) {
+            return getPaths((IntGraphIterables) iterables, source);
+        }
+
         /*
          * Initialize distanceAndPredecessorMap
          */
@@ -95,6 +100,46 @@ public class BFSShortestPath<V, E>
 
     }
 
+    /**
+     * Breadth-first search on a graph with primitive integer access. The queue, the distances and
+     * the predecessors are kept in arrays indexed by vertex and no edge sets are created.
+     */
+    @SuppressWarnings("unchecked")
+    private SingleSourcePaths<V, E> getPaths(IntGraphIterables ints, V source)
+    {
+        int n = (int) ints.vertexCount();
+        int[] distance = new int[n];
+        Arrays.fill(distance, -1);
+        int[] predecessor = new int[n];
+        int[] queue = new int[n];
+        int[] tail = new int[1];
+
+        int s = (Integer) source;
+        distance[s] = 0;
+        queue[tail[0]++] = s;
+        for (int head = 0; head < tail[0]; head++) {
+            int v = queue[head];
+            int d = distance[v] + 1;
+            ints.forEachOutgoingEdge(v, (e, u) -> {
+                if (distance[u] < 0) {
+                    distance[u] = d;
+                    predecessor[u] = e;
+                    queue[tail[0]++] = u;
+                }
+            });
+        }
+
+        Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+        distanceAndPredecessorMap.put(source, Pair.of(0d, null));
+        for (int i = 1; i < tail[0]; i++) {
+            int v = queue[i];
+            distanceAndPredecessorMap.put(
+                (V) Integer.valueOf(v),
+                Pair.of((double) distance[v], (E) Integer.valueOf(predecessor[v])));
+        }
+        return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -38,6 +38,10 @@ import java.util.function.*;
  * <p>
  * This iterator can use a custom heap implementation, which can specified during the construction
  * time. Pairing heap is used by default
+ * <p>
+ * For answering many queries on a graph which does not change, see
+ * {@link IndexedBidirectionalDijkstraShortestPath} which reuses its auxiliary memory across
+ * queries.
  *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
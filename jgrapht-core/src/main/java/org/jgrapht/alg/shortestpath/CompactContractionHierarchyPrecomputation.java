@@ -0,0 +1,887 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+import org.jgrapht.alg.util.IndexedBinaryHeap;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
+import org.jgrapht.util.VertexToIntegerMapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Array based parallel implementation of the contraction hierarchy precomputation.
+ *
+ * <p>
+ * This class computes the same kind of hierarchy as {@link ContractionHierarchyPrecomputation},
+ * using the same vertex priorities (edge quotient, complexity quotient and hierarchical depth) and
+ * the same strategy of iteratively contracting independent sets of vertices. The difference lies
+ * in the representation used during the computation. Instead of a graph of
+ * {@link ContractionVertex} and {@link ContractionEdge} objects viewed through a mask, vertices
+ * are the integers $[0, n)$ and edges are indices into primitive arrays holding their endpoints,
+ * weights and bypassed edges. The remaining overlay graph is kept as primitive adjacency lists from
+ * which contracted vertices are physically removed. The hierarchy graph of objects is only
+ * materialized once at the end.
+ *
+ * <p>
+ * All steps of a round are performed in parallel, including the contraction itself. Since the
+ * vertices of an independent set have pairwise disjoint neighbourhoods, each neighbour is modified
+ * by exactly one contracted vertex, and thus the shortcuts of an entire independent set can be
+ * inserted concurrently without locking. The witness searches use per-task primitive Dijkstra
+ * buffers which are allocated once and reset in constant time.
+ *
+ * <p>
+ * If the original graph contains multiple edges between two vertices, only the one with the
+ * minimum weight is kept. Self loops are ignored. Each edge of an undirected graph is transformed
+ * into two directed edges. Negative edge weights are not allowed and result in an
+ * {@link IllegalArgumentException}.
+ *
+ * <p>
+ * For parallelization, this implementation relies on the {@link ThreadPoolExecutor} which is
+ * supplied to this algorithm from outside.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author Dimitrios Michail
+ * @see ContractionHierarchyPrecomputation
+ */
+public class CompactContractionHierarchyPrecomputation<V, E>
+{
+    private static final byte REMAINING = 0;
+    private static final byte INDEPENDENT = 1;
+    private static final byte CONTRACTED = 2;
+
+    private static final int BLOCKS_PER_THREAD = 4;
+
+    private final Graph<V, E> graph;
+    private final Supplier<Random> randomSupplier;
+    private final ThreadPoolExecutor executor;
+    private final int parallelism;
+
+    /*
+     * Vertex data
+     */
+    private int n;
+    private List<V> vertices;
+    private double[] priority;
+    private int[] depth;
+    private int[] random;
+    private int[] level;
+    private byte[] state;
+
+    /*
+     * Edges of the hierarchy. Edges with index smaller than the number of original edges are
+     * created from an edge of the graph. An edge is a shortcut iff its bypassed edges are not -1.
+     */
+    private int arcCount;
+    private int[] arcSource;
+    private int[] arcTarget;
+    private double[] arcWeight;
+    private int[] arcOriginalEdges;
+    private int[] arcFirst;
+    private int[] arcSecond;
+    private E[] originalEdge;
+
+    /*
+     * Adjacency lists of the overlay graph, given as edge indices.
+     */
+    private int[][] out;
+    private int[] outSize;
+    private int[][] in;
+    private int[] inSize;
+
+    /**
+     * Witness search buffers which are not used by any task.
+     */
+    private final List<Workspace> idleWorkspaces = new ArrayList<>();
+
+    /**
+     * Constructs a new instance of the algorithm for a given {@code graph} and {@code executor}.
+     * It is up to a user of this algorithm to handle the creation and termination of the provided
+     * {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param executor executor which will be used for parallelization
+     */
+    public CompactContractionHierarchyPrecomputation(Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, Random::new, executor);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given {@code graph}, {@code randomSupplier}
+     * and {@code executor}. Provided {@code randomSupplier} should return different random
+     * generators instances, because they are used by different threads. It is up to a user of this
+     * algorithm to handle the creation and termination of the provided {@code executor}.
+     *
+     * @param graph graph
+     * @param randomSupplier supplier for preferable instances of {@link Random}
+     * @param executor executor which will be used for parallelization
+     */
+    public CompactContractionHierarchyPrecomputation(
+        Graph<V, E> graph, Supplier<Random> randomSupplier, ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.randomSupplier =
+            Objects.requireNonNull(randomSupplier, "Random supplier cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.parallelism = executor.getMaximumPoolSize();
+    }
+
+    /**
+     * Computes contraction hierarchy for {@code graph}.
+     *
+     * @return contraction hierarchy and mapping of original to contracted vertices
+     */
+    public ContractionHierarchy<V, E> computeContractionHierarchy()
+    {
+        buildOverlayGraph();
+
+        // compute initial priorities in parallel, one random generator per block
+        List<Random> randoms = new ArrayList<>();
+        for (int i = 0; i < parallelism * BLOCKS_PER_THREAD; i++) {
+            randoms.add(randomSupplier.get());
+        }
+        int[] all = new int[n];
+        for (int v = 0; v < n; v++) {
+            all[v] = v;
+        }
+        forEachBlock(all, 0, n, (block, start, end, workspace) -> {
+            Random rng = randoms.get(block);
+            for (int i = start; i < end; i++) {
+                random[all[i]] = rng.nextInt();
+            }
+            for (int i = start; i < end; i++) {
+                priority[all[i]] = computePriority(all[i], workspace);
+            }
+        });
+
+        contractVertices(all);
+
+        return createContractionHierarchy();
+    }
+
+    /**
+     * Creates the initial overlay graph from {@code graph}.
+     */
+    @SuppressWarnings("unchecked")
+    private void buildOverlayGraph()
+    {
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+        this.priority = new double[n];
+        this.depth = new int[n];
+        this.random = new int[n];
+        this.level = new int[n];
+        this.state = new byte[n];
+
+        // bucket edges by their first endpoint, normalized for undirected graphs
+        boolean undirected = graph.getType().isUndirected();
+        int[] bucketStart = new int[n + 1];
+        List<E> edges = new ArrayList<>(graph.edgeSet());
+        int[] lo = new int[edges.size()];
+        int[] hi = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            E e = edges.get(i);
+            int s = vertexMap.get(graph.getEdgeSource(e));
+            int t = vertexMap.get(graph.getEdgeTarget(e));
+            if (graph.getEdgeWeight(e) < 0d) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+            if (undirected && t < s) {
+                int tmp = s;
+                s = t;
+                t = tmp;
+            }
+            lo[i] = s;
+            hi[i] = t;
+            bucketStart[s + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            bucketStart[v + 1] += bucketStart[v];
+        }
+        int[] bucket = new int[edges.size()];
+        int[] next = Arrays.copyOf(bucketStart, n);
+        for (int i = 0; i < edges.size(); i++) {
+            bucket[next[lo[i]]++] = i;
+        }
+
+        // keep the minimum weight edge between two vertices, ignore self loops
+        int[] best = new int[n];
+        int[] stamp = new int[n];
+        int[] kept = new int[edges.size()];
+        int keptCount = 0;
+        for (int s = 0; s < n; s++) {
+            for (int b = bucketStart[s]; b < bucketStart[s + 1]; b++) {
+                int i = bucket[b];
+                int t = hi[i];
+                if (t == s) {
+                    continue;
+                }
+                if (stamp[t] != s + 1) {
+                    stamp[t] = s + 1;
+                    best[t] = keptCount;
+                    kept[keptCount++] = i;
+                } else if (graph.getEdgeWeight(edges.get(i)) < graph
+                    .getEdgeWeight(edges.get(kept[best[t]])))
+                {
+                    kept[best[t]] = i;
+                }
+            }
+        }
+
+        int arcs = undirected ? 2 * keptCount : keptCount;
+        this.arcSource = new int[arcs];
+        this.arcTarget = new int[arcs];
+        this.arcWeight = new double[arcs];
+        this.arcOriginalEdges = new int[arcs];
+        this.arcFirst = new int[arcs];
+        this.arcSecond = new int[arcs];
+        this.originalEdge = (E[]) new Object[arcs];
+        this.arcCount = 0;
+        for (int k = 0; k < keptCount; k++) {
+            int i = kept[k];
+            addOriginalArc(lo[i], hi[i], edges.get(i));
+            if (undirected) {
+                addOriginalArc(hi[i], lo[i], edges.get(i));
+            }
+        }
+
+        this.outSize = new int[n];
+        this.inSize = new int[n];
+        for (int a = 0; a < arcCount; a++) {
+            outSize[arcSource[a]]++;
+            inSize[arcTarget[a]]++;
+        }
+        this.out = new int[n][];
+        this.in = new int[n][];
+        for (int v = 0; v < n; v++) {
+            out[v] = new int[outSize[v]];
+            in[v] = new int[inSize[v]];
+            outSize[v] = 0;
+            inSize[v] = 0;
+        }
+        for (int a = 0; a < arcCount; a++) {
+            int s = arcSource[a];
+            int t = arcTarget[a];
+            out[s][outSize[s]++] = a;
+            in[t][inSize[t]++] = a;
+        }
+    }
+
+    private void addOriginalArc(int s, int t, E e)
+    {
+        int a = arcCount++;
+        arcSource[a] = s;
+        arcTarget[a] = t;
+        arcWeight[a] = graph.getEdgeWeight(e);
+        arcOriginalEdges[a] = 1;
+        arcFirst[a] = -1;
+        arcSecond[a] = -1;
+        originalEdge[a] = e;
+    }
+
+    /**
+     * Performs contraction of vertices. The array contains the not yet contracted vertices in its
+     * prefix.
+     */
+    private void contractVertices(int[] remaining)
+    {
+        int levelCounter = 0;
+        int remainingEnd = n;
+
+        while (remainingEnd != 0) {
+            int end = remainingEnd;
+
+            // compute independent set in parallel
+            forEachBlock(remaining, 0, end, (block, start, blockEnd, workspace) -> {
+                for (int i = start; i < blockEnd; i++) {
+                    int v = remaining[i];
+                    state[v] = isIndependent(v) ? INDEPENDENT : REMAINING;
+                }
+            });
+            int independentStart = partitionIndependentSet(remaining, end);
+            int independentSize = end - independentStart;
+
+            // compute shortcuts of independent vertices in parallel
+            int[][] shortcuts = new int[independentSize][];
+            forEachBlock(remaining, independentStart, end, (block, start, blockEnd, workspace) -> {
+                for (int i = start; i < blockEnd; i++) {
+                    shortcuts[i - independentStart] = computeShortcuts(remaining[i], workspace);
+                }
+            });
+
+            // assign contraction levels and indices of new edges
+            int[] firstNewArc = new int[independentSize];
+            int newArcs = 0;
+            for (int k = 0; k < independentSize; k++) {
+                level[remaining[independentStart + k]] = levelCounter++;
+                firstNewArc[k] = arcCount + newArcs;
+                int[] list = shortcuts[k];
+                for (int j = 2; j < list.length; j += 3) {
+                    if (list[j] == -1) {
+                        newArcs++;
+                    }
+                }
+            }
+            ensureArcCapacity(arcCount + newArcs);
+            arcCount += newArcs;
+
+            // contract the independent set in parallel
+            forEachBlock(remaining, independentStart, end, (block, start, blockEnd, workspace) -> {
+                for (int i = start; i < blockEnd; i++) {
+                    int k = i - independentStart;
+                    contract(remaining[i], shortcuts[k], firstNewArc[k]);
+                    shortcuts[k] = null;
+                }
+            });
+
+            // update neighbours priorities in parallel
+            forEachBlock(remaining, independentStart, end, (block, start, blockEnd, workspace) -> {
+                for (int i = start; i < blockEnd; i++) {
+                    updateNeighbours(remaining[i], workspace);
+                }
+            });
+
+            remainingEnd = independentStart;
+        }
+    }
+
+    /**
+     * Determines if a vertex has smaller priority than all vertices in its 2-neighbourhood in the
+     * overlay graph.
+     */
+    private boolean isIndependent(int v)
+    {
+        for (int pass = 0; pass < 2; pass++) {
+            int[] list = pass == 0 ? out[v] : in[v];
+            int size = pass == 0 ? outSize[v] : inSize[v];
+            for (int p = 0; p < size; p++) {
+                int u = pass == 0 ? arcTarget[list[p]] : arcSource[list[p]];
+                if (isGreater(v, u)) {
+                    return false;
+                }
+                for (int pass2 = 0; pass2 < 2; pass2++) {
+                    int[] list2 = pass2 == 0 ? out[u] : in[u];
+                    int size2 = pass2 == 0 ? outSize[u] : inSize[u];
+                    for (int q = 0; q < size2; q++) {
+                        int w = pass2 == 0 ? arcTarget[list2[q]] : arcSource[list2[q]];
+                        if (w != v && isGreater(v, w)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Determines if priority of {@code v1} is greater than the priority of {@code v2}, breaking
+     * ties first by the random values and then by the vertex indices.
+     */
+    private boolean isGreater(int v1, int v2)
+    {
+        if (priority[v1] != priority[v2]) {
+            return priority[v1] > priority[v2];
+        }
+        if (random[v1] != random[v2]) {
+            return random[v1] > random[v2];
+        }
+        return v1 > v2;
+    }
+
+    /**
+     * Moves the independent vertices of $[0, end)$ to the end of the segment.
+     *
+     * @return position of the first independent vertex
+     */
+    private int partitionIndependentSet(int[] remaining, int end)
+    {
+        int left = 0;
+        int right = end - 1;
+        while (left <= right) {
+            while (left <= right && state[remaining[left]] != INDEPENDENT) {
+                ++left;
+            }
+            while (left <= right && state[remaining[right]] == INDEPENDENT) {
+                --right;
+            }
+            if (left < right) {
+                int tmp = remaining[left];
+                remaining[left] = remaining[right];
+                remaining[right] = tmp;
+            }
+        }
+        return left;
+    }
+
+    /**
+     * Computes the shortcuts required when contracting a vertex. The result contains triples of
+     * the incoming edge, the outgoing edge and the existing edge between their endpoints which
+     * needs to be replaced, or -1 if no such edge exists.
+     */
+    private int[] computeShortcuts(int v, Workspace workspace)
+    {
+        workspace.shortcutsSize = 0;
+        iterateShortcuts(v, workspace, true);
+        return Arrays.copyOf(workspace.shortcuts, workspace.shortcutsSize);
+    }
+
+    /**
+     * Computes the priority of a vertex by simulating its contraction.
+     */
+    private double computePriority(int v, Workspace workspace)
+    {
+        workspace.addedContractionEdges = 0;
+        workspace.addedOriginalEdges = 0;
+        iterateShortcuts(v, workspace, false);
+
+        int removedContractionEdges = outSize[v] + inSize[v];
+        int removedOriginalEdges = 0;
+        for (int p = 0; p < outSize[v]; p++) {
+            removedOriginalEdges += arcOriginalEdges[out[v][p]];
+        }
+        for (int p = 0; p < inSize[v]; p++) {
+            removedOriginalEdges += arcOriginalEdges[in[v][p]];
+        }
+
+        if (removedContractionEdges * removedOriginalEdges == 0) {
+            return depth[v];
+        }
+        return 4.0 * workspace.addedContractionEdges / removedContractionEdges
+            + 2.0 * workspace.addedOriginalEdges / removedOriginalEdges + 1.0 * depth[v];
+    }
+
+    /**
+     * Runs witness searches from every predecessor of {@code v} in the overlay graph to find the
+     * shortcuts of {@code v}. Vertices not in the overlay graph are ignored. The searches are
+     * limited by the weight of the incoming edge plus the maximum weight of the outgoing edges.
+     */
+    private void iterateShortcuts(int v, Workspace workspace, boolean collect)
+    {
+        double maxOutgoingWeight = 0d;
+        for (int p = 0; p < outSize[v]; p++) {
+            int a = out[v][p];
+            if (state[arcTarget[a]] == REMAINING) {
+                maxOutgoingWeight = Math.max(maxOutgoingWeight, arcWeight[a]);
+            }
+        }
+
+        for (int p = 0; p < inSize[v]; p++) {
+            int inArc = in[v][p];
+            int u = arcSource[inArc];
+            if (state[u] != REMAINING) {
+                continue;
+            }
+
+            // mark the successors to reach
+            workspace.resetTargets();
+            for (int q = 0; q < outSize[v]; q++) {
+                int w = arcTarget[out[v][q]];
+                if (w != u && state[w] == REMAINING) {
+                    workspace.markTarget(w);
+                }
+            }
+            if (workspace.getTargetCount() == 0) {
+                continue;
+            }
+
+            workspace.search(u, v, arcWeight[inArc] + maxOutgoingWeight);
+
+            for (int q = 0; q < outSize[v]; q++) {
+                int outArc = out[v][q];
+                int w = arcTarget[outArc];
+                if (w == u || state[w] != REMAINING) {
+                    continue;
+                }
+                double pathWeight = arcWeight[inArc] + arcWeight[outArc];
+                if (workspace.getDistance(w) > pathWeight) {
+                    if (collect) {
+                        workspace.addShortcut(inArc, outArc, findArc(u, w));
+                    } else {
+                        workspace.addedContractionEdges++;
+                        workspace.addedOriginalEdges +=
+                            arcOriginalEdges[inArc] + arcOriginalEdges[outArc];
+                    }
+                }
+            }
+        }
+    }
+
+    private int findArc(int u, int w)
+    {
+        for (int p = 0; p < outSize[u]; p++) {
+            int a = out[u][p];
+            if (arcTarget[a] == w) {
+                return a;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Contracts a vertex. Only modifies the adjacency lists of the neighbours of the vertex which
+     * are disjoint for the vertices of an independent set.
+     */
+    private void contract(int v, int[] shortcuts, int firstNewArc)
+    {
+        int nextArc = firstNewArc;
+        for (int j = 0; j < shortcuts.length; j += 3) {
+            int first = shortcuts[j];
+            int second = shortcuts[j + 1];
+            int a = shortcuts[j + 2];
+            if (a == -1) {
+                a = nextArc++;
+                int s = arcSource[first];
+                int t = arcTarget[second];
+                arcSource[a] = s;
+                arcTarget[a] = t;
+                out[s] = grow(out[s], outSize[s]);
+                out[s][outSize[s]++] = a;
+                in[t] = grow(in[t], inSize[t]);
+                in[t][inSize[t]++] = a;
+            }
+            arcWeight[a] = arcWeight[first] + arcWeight[second];
+            arcOriginalEdges[a] = arcOriginalEdges[first] + arcOriginalEdges[second];
+            arcFirst[a] = first;
+            arcSecond[a] = second;
+        }
+
+        // remove the vertex from the overlay graph
+        for (int p = 0; p < outSize[v]; p++) {
+            int a = out[v][p];
+            int w = arcTarget[a];
+            inSize[w] = remove(in[w], inSize[w], a);
+            depth[w] = Math.max(depth[w], depth[v] + 1);
+        }
+        for (int p = 0; p < inSize[v]; p++) {
+            int a = in[v][p];
+            int u = arcSource[a];
+            outSize[u] = remove(out[u], outSize[u], a);
+            depth[u] = Math.max(depth[u], depth[v] + 1);
+        }
+        state[v] = CONTRACTED;
+    }
+
+    /**
+     * Recomputes the priorities of the neighbours of a contracted vertex and releases its
+     * adjacency lists.
+     */
+    private void updateNeighbours(int v, Workspace workspace)
+    {
+        for (int p = 0; p < outSize[v]; p++) {
+            int w = arcTarget[out[v][p]];
+            priority[w] = computePriority(w, workspace);
+        }
+        for (int p = 0; p < inSize[v]; p++) {
+            int u = arcSource[in[v][p]];
+            priority[u] = computePriority(u, workspace);
+        }
+        out[v] = null;
+        in[v] = null;
+        outSize[v] = 0;
+        inSize[v] = 0;
+    }
+
+    private void ensureArcCapacity(int capacity)
+    {
+        if (capacity <= arcSource.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, arcSource.length + (arcSource.length >> 1));
+        arcSource = Arrays.copyOf(arcSource, newCapacity);
+        arcTarget = Arrays.copyOf(arcTarget, newCapacity);
+        arcWeight = Arrays.copyOf(arcWeight, newCapacity);
+        arcOriginalEdges = Arrays.copyOf(arcOriginalEdges, newCapacity);
+        arcFirst = Arrays.copyOf(arcFirst, newCapacity);
+        arcSecond = Arrays.copyOf(arcSecond, newCapacity);
+    }
+
+    private static int[] grow(int[] list, int size)
+    {
+        if (size < list.length) {
+            return list;
+        }
+        return Arrays.copyOf(list, Math.max(4, size + (size >> 1)));
+    }
+
+    private static int remove(int[] list, int size, int value)
+    {
+        for (int p = 0; p < size; p++) {
+            if (list[p] == value) {
+                list[p] = list[size - 1];
+                return size - 1;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Materializes the computed hierarchy as a graph.
+     */
+    private ContractionHierarchy<V, E> createContractionHierarchy()
+    {
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+            .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+            .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = new HashMap<>();
+
+        List<ContractionVertex<V>> contractionVertices = new ArrayList<>(n);
+        for (int v = 0; v < n; v++) {
+            ContractionVertex<V> vertex = new ContractionVertex<>(vertices.get(v), v);
+            vertex.contractionLevel = level[v];
+            contractionVertices.add(vertex);
+            contractionGraph.addVertex(vertex);
+            contractionMapping.put(vertex.vertex, vertex);
+        }
+
+        List<ContractionEdge<E>> contractionEdges = new ArrayList<>(arcCount);
+        for (int a = 0; a < arcCount; a++) {
+            contractionEdges
+                .add(new ContractionEdge<>(arcFirst[a] == -1 ? originalEdge[a] : null));
+        }
+        for (int a = 0; a < arcCount; a++) {
+            ContractionEdge<E> edge = contractionEdges.get(a);
+            if (arcFirst[a] != -1) {
+                edge.bypassedEdges = Pair
+                    .of(contractionEdges.get(arcFirst[a]), contractionEdges.get(arcSecond[a]));
+            }
+            edge.originalEdges = arcOriginalEdges[a];
+            edge.isUpward = level[arcSource[a]] < level[arcTarget[a]];
+            contractionGraph
+                .addEdge(
+                    contractionVertices.get(arcSource[a]), contractionVertices.get(arcTarget[a]),
+                    edge);
+            contractionGraph.setEdgeWeight(edge, arcWeight[a]);
+        }
+
+        return new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+    }
+
+    /**
+     * Action performed on a block of vertices.
+     *
+     * @param <W> the workspace type
+     */
+    private interface BlockAction<W>
+    {
+        void accept(int block, int start, int end, W workspace);
+    }
+
+    /**
+     * Splits the segment $[start, end)$ of {@code vertices} into blocks and processes them in
+     * parallel. Each task owns a workspace and repeatedly takes the next unprocessed block.
+     */
+    private void forEachBlock(int[] vertices, int start, int end, BlockAction<Workspace> action)
+    {
+        if (start >= end) {
+            return;
+        }
+        int numBlocks = Math.min(parallelism * BLOCKS_PER_THREAD, end - start);
+        AtomicInteger nextBlock = new AtomicInteger();
+        ExecutorCompletionService<Void> completionService =
+            new ExecutorCompletionService<>(executor);
+        int numTasks = Math.min(parallelism, numBlocks);
+        for (int t = 0; t < numTasks; t++) {
+            completionService.submit(() -> {
+                Workspace workspace = acquireWorkspace();
+                try {
+                    int block;
+                    while ((block = nextBlock.getAndIncrement()) < numBlocks) {
+                        int blockStart = start + (int) ((long) (end - start) * block / numBlocks);
+                        int blockEnd =
+                            start + (int) ((long) (end - start) * (block + 1) / numBlocks);
+                        action.accept(block, blockStart, blockEnd, workspace);
+                    }
+                } finally {
+                    releaseWorkspace(workspace);
+                }
+                return null;
+            });
+        }
+        for (int t = 0; t < numTasks; t++) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new RuntimeException(cause);
+            }
+        }
+    }
+
+    private Workspace acquireWorkspace()
+    {
+        synchronized (idleWorkspaces) {
+            if (!idleWorkspaces.isEmpty()) {
+                return idleWorkspaces.remove(idleWorkspaces.size() - 1);
+            }
+        }
+        return new Workspace(n);
+    }
+
+    private void releaseWorkspace(Workspace workspace)
+    {
+        synchronized (idleWorkspaces) {
+            idleWorkspaces.add(workspace);
+        }
+    }
+
+    /**
+     * Per task buffers of the witness searches. Vertices are reached or marked as targets iff their
+     * stamp equals the current generation, so that buffers are reset in constant time.
+     */
+    private class Workspace
+    {
+        private final double[] dist;
+        private final int[] reached;
+        private final int[] target;
+        private final IndexedBinaryHeap heap;
+        private int searchGeneration;
+        private int targetGeneration;
+        private int targetCount;
+
+        private int[] shortcuts;
+        private int shortcutsSize;
+        private int addedContractionEdges;
+        private int addedOriginalEdges;
+
+        Workspace(int n)
+        {
+            this.dist = new double[n];
+            this.reached = new int[n];
+            this.target = new int[n];
+            this.heap = new IndexedBinaryHeap(n);
+            this.shortcuts = new int[12];
+        }
+
+        /**
+         * Unmarks all targets.
+         */
+        void resetTargets()
+        {
+            if (++targetGeneration == Integer.MAX_VALUE) {
+                Arrays.fill(target, 0);
+                targetGeneration = 1;
+            }
+            targetCount = 0;
+        }
+
+        /**
+         * Marks a vertex as a target of the next search, unless it is already marked.
+         */
+        void markTarget(int w)
+        {
+            if (target[w] != targetGeneration) {
+                target[w] = targetGeneration;
+                targetCount++;
+            }
+        }
+
+        /**
+         * Returns the number of distinct targets marked since the last reset.
+         */
+        int getTargetCount()
+        {
+            return targetCount;
+        }
+
+        double getDistance(int w)
+        {
+            return reached[w] == searchGeneration ? dist[w] : Double.POSITIVE_INFINITY;
+        }
+
+        /**
+         * Dijkstra search from {@code source} in the overlay graph ignoring {@code ignore}, until
+         * all marked targets are settled or the radius is exceeded.
+         */
+        void search(int source, int ignore, double radius)
+        {
+            int targets = targetCount;
+            heap.clear();
+            if (++searchGeneration == Integer.MAX_VALUE) {
+                Arrays.fill(reached, 0);
+                searchGeneration = 1;
+            }
+            reached[source] = searchGeneration;
+            dist[source] = 0d;
+            heap.insert(source, 0d);
+
+            while (!heap.isEmpty()) {
+                int x = heap.deleteMin();
+                double d = dist[x];
+                if (d > radius) {
+                    break;
+                }
+                if (target[x] == targetGeneration && --targets == 0) {
+                    break;
+                }
+                for (int p = 0; p < outSize[x]; p++) {
+                    int a = out[x][p];
+                    int y = arcTarget[a];
+                    if (y == ignore || state[y] != REMAINING) {
+                        continue;
+                    }
+                    double yDist = d + arcWeight[a];
+                    if (reached[y] != searchGeneration) {
+                        reached[y] = searchGeneration;
+                        dist[y] = yDist;
+                        heap.insert(y, yDist);
+                    } else if (yDist < dist[y]) {
+                        dist[y] = yDist;
+                        heap.decreaseKey(y, yDist);
+                    }
+                }
+            }
+        }
+
+        void addShortcut(int first, int second, int existing)
+        {
+            if (shortcutsSize + 3 > shortcuts.length) {
+                shortcuts = Arrays.copyOf(shortcuts, 2 * shortcuts.length);
+            }
+            shortcuts[shortcutsSize++] = first;
+            shortcuts[shortcutsSize++] = second;
+            shortcuts[shortcutsSize++] = existing;
+        }
+    }
+
+}
@@ -85,6 +85,12 @@ import java.util.function.Supplier;
  * For parallelization, this implementation relies on the {@link ThreadPoolExecutor}
  * which is supplied to this algorithm from outside.
  *
+ * <p>
+ * For large graphs see {@link CompactContractionHierarchyPrecomputation} which computes the same
+ * kind of hierarchy using primitive arrays and also contracts each independent set in parallel.
+ * If the edge weights change frequently see {@link CustomizableContractionHierarchyPrecomputation}
+ * which only repeats a fast customization phase for new weights.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author Semen Chudakov
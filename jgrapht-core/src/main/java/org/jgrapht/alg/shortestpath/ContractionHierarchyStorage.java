@@ -0,0 +1,1036 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphPath;
+import org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.BaseManyToManyShortestPathsImpl;
+import org.jgrapht.alg.interfaces.ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.AbstractSet;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.AccessVertex;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.AccessVertices;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.LocalityFilter;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.TransitNodeRouting;
+import static org.jgrapht.alg.shortestpath.TransitNodeRoutingPrecomputation.VoronoiDiagram;
+
+/**
+ * Binary storage for precomputed contraction hierarchies and transit node routing data.
+ *
+ * <p>
+ * The precomputation of {@link ContractionHierarchyPrecomputation} and of
+ * {@link TransitNodeRoutingShortestPath} is expensive, while the graph it is computed for usually
+ * changes rarely. This class writes the result of the precomputation to a file and loads it back
+ * for the same graph without repeating any of the work. Files are read by mapping them into memory
+ * using {@link FileChannel#map(FileChannel.MapMode, long, long)}. Since a single mapping is limited
+ * to 2 GB, files are mapped as a sequence of chunks and may be larger than that.
+ *
+ * <p>
+ * Vertices and edges are not serialized. Instead they are identified by their position in the
+ * iteration order of {@link Graph#vertexSet()} and {@link Graph#edgeSet()}. A file can therefore
+ * only be loaded for a graph with exactly the same vertices and edges, iterated in the same order,
+ * as the graph the file was written for. The vertex and edge counts and the endpoints of all
+ * edges referenced by the hierarchy are verified during loading.
+ *
+ * <p>
+ * A file starts with a header consisting of a magic number, the format version, the kind of the
+ * file, the number of vertices $n$, the number of edges $m$ of the graph and the number of arcs
+ * of the hierarchy. The header is followed by the vertex id and contraction level of every vertex
+ * and by fixed size arc records containing the source, target, weight, bypassed arcs or original
+ * edge and flags of every arc. The arcs are ordered such that the arcs bypassed by a shortcut are
+ * stored before the shortcut. Files of transit node routing data additionally contain the transit
+ * vertices, the table of their pairwise distances, the Voronoi cells, the access vertices together
+ * with their distances and the visited Voronoi cells of the locality filter, all stored in
+ * compressed sparse row form. All values are stored in big-endian byte order.
+ *
+ * <p>
+ * The contraction graph is reconstructed in time linear in the size of the file. The distance
+ * table, the access vertices and the locality filter of transit node routing are accessed directly
+ * in the mapped file. Paths which are not stored in the file, i.e. the paths between transit
+ * vertices and the paths to access vertices, are unpacked on demand using the contraction
+ * hierarchy when a query requests the edges of a path.
+ *
+ * @author Dimitrios Michail
+ * @see ContractionHierarchyBidirectionalDijkstra
+ * @see TransitNodeRoutingShortestPath
+ */
+public final class ContractionHierarchyStorage
+{
+    private static final int MAGIC = 0x4A474348;
+    private static final int VERSION = 1;
+
+    private static final int CONTRACTION_HIERARCHY = 0;
+    private static final int TRANSIT_NODE_ROUTING = 1;
+
+    private static final int ARC_BYTES = 32;
+    private static final int CHUNK_BITS = 30;
+    private static final int UPWARD = 1;
+    private static final int IN_CONTRACTION_GRAPH = 2;
+
+    private static final String GRAPH_MISMATCH = "File was not written for the given graph";
+
+    private ContractionHierarchyStorage()
+    {
+    }
+
+    /**
+     * Writes a contraction hierarchy to a file.
+     *
+     * @param hierarchy the contraction hierarchy
+     * @param file the file to write
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void writeContractionHierarchy(
+        ContractionHierarchy<V, E> hierarchy, Path file)
+        throws IOException
+    {
+        try (DataOutputStream out = newOutputStream(file)) {
+            writeHierarchy(hierarchy, CONTRACTION_HIERARCHY, out);
+        }
+    }
+
+    /**
+     * Loads a contraction hierarchy of a graph from a file written by
+     * {@link #writeContractionHierarchy(ContractionHierarchy, Path)}.
+     *
+     * @param graph the graph the hierarchy was computed for
+     * @param file the file to load
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the contraction hierarchy
+     * @throws IOException in case of an I/O error or if the file is not a valid contraction
+     *         hierarchy file
+     * @throws IllegalArgumentException if the file was not written for the given graph
+     */
+    public static <V, E> ContractionHierarchy<V, E> readContractionHierarchy(
+        Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        return readContractionHierarchy(graph, file, CHUNK_BITS);
+    }
+
+    /**
+     * Loads a contraction hierarchy, mapping the file in chunks of $2^{chunkBits}$ bytes.
+     */
+    static <V, E> ContractionHierarchy<V, E> readContractionHierarchy(
+        Graph<V, E> graph, Path file, int chunkBits)
+        throws IOException
+    {
+        MappedInput input = new MappedInput(file, chunkBits);
+        try {
+            return readHierarchy(
+                graph, new ArrayList<>(graph.vertexSet()), CONTRACTION_HIERARCHY, input);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated contraction hierarchy file", e);
+        }
+    }
+
+    /**
+     * Writes the transit node routing data of an algorithm to a file. If the precomputation of the
+     * algorithm has not been performed yet, it is performed first.
+     *
+     * @param algorithm the transit node routing algorithm
+     * @param file the file to write
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     */
+    public static <V, E> void writeTransitNodeRouting(
+        TransitNodeRoutingShortestPath<V, E> algorithm, Path file)
+        throws IOException
+    {
+        TransitNodeRouting<V, E> routing = algorithm.getTransitNodeRouting();
+        ContractionHierarchy<V, E> hierarchy = routing.getContractionHierarchy();
+        try (DataOutputStream out = newOutputStream(file)) {
+            Map<V, Integer> vertexIndex = writeHierarchy(hierarchy, TRANSIT_NODE_ROUTING, out);
+            int n = vertexIndex.size();
+
+            List<ContractionVertex<V>> contractionVertices =
+                new ArrayList<>(Collections.nCopies(n, null));
+            for (ContractionVertex<V> vertex : hierarchy.getContractionMapping().values()) {
+                contractionVertices.set(vertex.vertexId, vertex);
+            }
+
+            // transit vertices and the table of their distances
+            List<V> transitVertices = new ArrayList<>();
+            for (ContractionVertex<V> vertex : routing.getTransitVertices()) {
+                transitVertices.add(vertex.vertex);
+            }
+            transitVertices.sort((a, b) -> Integer.compare(vertexIndex.get(a), vertexIndex.get(b)));
+            ManyToManyShortestPaths<V, E> transitPaths = routing.getTransitVerticesPaths();
+            out.writeInt(transitVertices.size());
+            for (V v : transitVertices) {
+                out.writeInt(vertexIndex.get(v));
+            }
+            for (V source : transitVertices) {
+                for (V target : transitVertices) {
+                    out.writeDouble(transitPaths.getWeight(source, target));
+                }
+            }
+
+            VoronoiDiagram<V> voronoiDiagram = routing.getVoronoiDiagram();
+            for (ContractionVertex<V> vertex : contractionVertices) {
+                out.writeInt(voronoiDiagram.getVoronoiCellId(vertex));
+            }
+
+            AccessVertices<V, E> accessVertices = routing.getAccessVertices();
+            writeAccessVertices(
+                contractionVertices, accessVertices::getForwardAccessVertices, vertexIndex, out);
+            writeAccessVertices(
+                contractionVertices, accessVertices::getBackwardAccessVertices, vertexIndex, out);
+
+            LocalityFilter<V> localityFilter = routing.getLocalityFilter();
+            writeVoronoiCells(
+                contractionVertices, localityFilter::getVisitedForwardVoronoiCells, out);
+            writeVoronoiCells(
+                contractionVertices, localityFilter::getVisitedBackwardVoronoiCells, out);
+        }
+    }
+
+    /**
+     * Loads the transit node routing data of a graph from a file written by
+     * {@link #writeTransitNodeRouting(TransitNodeRoutingShortestPath, Path)} and returns an
+     * algorithm which answers queries using the loaded data. The returned algorithm keeps
+     * referencing the mapped file.
+     *
+     * @param graph the graph the data was computed for
+     * @param file the file to load
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the transit node routing algorithm
+     * @throws IOException in case of an I/O error or if the file is not a valid transit node
+     *         routing file
+     * @throws IllegalArgumentException if the file was not written for the given graph
+     */
+    public static <V, E> TransitNodeRoutingShortestPath<V, E> readTransitNodeRouting(
+        Graph<V, E> graph, Path file)
+        throws IOException
+    {
+        return readTransitNodeRouting(graph, file, CHUNK_BITS);
+    }
+
+    /**
+     * Loads transit node routing data, mapping the file in chunks of $2^{chunkBits}$ bytes.
+     */
+    static <V, E> TransitNodeRoutingShortestPath<V, E> readTransitNodeRouting(
+        Graph<V, E> graph, Path file, int chunkBits)
+        throws IOException
+    {
+        MappedInput input = new MappedInput(file, chunkBits);
+        try {
+            return readRouting(graph, input);
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated transit node routing file", e);
+        }
+    }
+
+    private static <V, E> TransitNodeRoutingShortestPath<V, E> readRouting(
+        Graph<V, E> graph, MappedInput input)
+        throws IOException
+    {
+        List<V> vertices = new ArrayList<>(graph.vertexSet());
+        int n = vertices.size();
+        ContractionHierarchy<V, E> hierarchy =
+            readHierarchy(graph, vertices, TRANSIT_NODE_ROUTING, input);
+        Map<V, ContractionVertex<V>> contractionMapping = hierarchy.getContractionMapping();
+        List<V> verticesById = new ArrayList<>(Collections.nCopies(n, null));
+        for (ContractionVertex<V> vertex : contractionMapping.values()) {
+            verticesById.set(vertex.vertexId, vertex.vertex);
+        }
+        ShortestPathAlgorithm<V, E> unpacking =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+
+        // transit vertices and the table of their distances
+        int numTransitVertices = input.getInt();
+        MappedInts transitIndices = ints(input, numTransitVertices);
+        Set<ContractionVertex<V>> transitVertices = new HashSet<>();
+        Map<V, Integer> transitPosition = new HashMap<>();
+        for (int i = 0; i < numTransitVertices; i++) {
+            V v = vertices.get(checkIndex(transitIndices.get(i), n));
+            transitVertices.add(contractionMapping.get(v));
+            transitPosition.put(v, i);
+        }
+        MappedDoubles distances = doubles(input, (long) numTransitVertices * numTransitVertices);
+        ManyToManyShortestPaths<V, E> transitPaths =
+            new MappedManyToManyShortestPaths<>(transitPosition, distances, unpacking);
+
+        int[] voronoiCells = new int[n];
+        MappedInts voronoiCellIds = ints(input, n);
+        for (int i = 0; i < n; i++) {
+            voronoiCells[i] = voronoiCellIds.get(i);
+        }
+
+        List<List<AccessVertex<V, E>>> forwardAccessVertices =
+            new MappedAccessVertices<>(input, vertices, verticesById, unpacking, true);
+        List<List<AccessVertex<V, E>>> backwardAccessVertices =
+            new MappedAccessVertices<>(input, vertices, verticesById, unpacking, false);
+        List<Set<Integer>> forwardVoronoiCells = new MappedVoronoiCells(input, n);
+        List<Set<Integer>> backwardVoronoiCells = new MappedVoronoiCells(input, n);
+
+        TransitNodeRouting<V, E> routing = new TransitNodeRouting<>(
+            hierarchy, transitVertices, transitPaths, new VoronoiDiagram<>(voronoiCells),
+            new AccessVertices<>(forwardAccessVertices, backwardAccessVertices),
+            new LocalityFilter<>(contractionMapping, forwardVoronoiCells, backwardVoronoiCells));
+        return new TransitNodeRoutingShortestPath<>(routing);
+    }
+
+    /**
+     * Writes the header, the vertices and the arcs of a contraction hierarchy.
+     *
+     * @return the index of each vertex of the graph
+     */
+    private static <V, E> Map<V, Integer> writeHierarchy(
+        ContractionHierarchy<V, E> hierarchy, int kind, DataOutputStream out)
+        throws IOException
+    {
+        Graph<V, E> graph = hierarchy.getGraph();
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph =
+            hierarchy.getContractionGraph();
+        Map<V, Integer> vertexIndex = indexOf(graph.vertexSet());
+        Map<E, Integer> edgeIndex = indexOf(graph.edgeSet());
+
+        // order the arcs such that bypassed arcs precede the shortcuts bypassing them
+        Map<ContractionEdge<E>, Integer> arcIndex = new HashMap<>();
+        List<ContractionEdge<E>> arcs = new ArrayList<>();
+        Deque<ContractionEdge<E>> stack = new ArrayDeque<>();
+        for (ContractionEdge<E> edge : contractionGraph.edgeSet()) {
+            stack.push(edge);
+            while (!stack.isEmpty()) {
+                ContractionEdge<E> top = stack.peek();
+                if (arcIndex.containsKey(top)) {
+                    stack.pop();
+                    continue;
+                }
+                if (top.bypassedEdges != null) {
+                    boolean ready = true;
+                    if (!arcIndex.containsKey(top.bypassedEdges.getSecond())) {
+                        stack.push(top.bypassedEdges.getSecond());
+                        ready = false;
+                    }
+                    if (!arcIndex.containsKey(top.bypassedEdges.getFirst())) {
+                        stack.push(top.bypassedEdges.getFirst());
+                        ready = false;
+                    }
+                    if (!ready) {
+                        continue;
+                    }
+                }
+                stack.pop();
+                arcIndex.put(top, arcs.size());
+                arcs.add(top);
+            }
+        }
+
+        int arcCount = arcs.size();
+        int[] source = new int[arcCount];
+        int[] target = new int[arcCount];
+        double[] weight = new double[arcCount];
+        for (int a = 0; a < arcCount; a++) {
+            ContractionEdge<E> arc = arcs.get(a);
+            if (contractionGraph.containsEdge(arc)) {
+                source[a] = vertexIndex.get(contractionGraph.getEdgeSource(arc).vertex);
+                target[a] = vertexIndex.get(contractionGraph.getEdgeTarget(arc).vertex);
+                weight[a] = contractionGraph.getEdgeWeight(arc);
+            } else if (arc.bypassedEdges != null) {
+                int first = arcIndex.get(arc.bypassedEdges.getFirst());
+                int second = arcIndex.get(arc.bypassedEdges.getSecond());
+                source[a] = source[first];
+                target[a] = target[second];
+                weight[a] = weight[first] + weight[second];
+            } else {
+                throw new IllegalArgumentException(
+                    "Contraction hierarchy references an edge which is not in its graph");
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(kind);
+        out.writeInt(vertexIndex.size());
+        out.writeInt(edgeIndex.size());
+        out.writeInt(arcCount);
+
+        Map<V, ContractionVertex<V>> contractionMapping = hierarchy.getContractionMapping();
+        for (V v : graph.vertexSet()) {
+            ContractionVertex<V> vertex = contractionMapping.get(v);
+            out.writeInt(vertex.vertexId);
+            out.writeInt(vertex.contractionLevel);
+        }
+
+        for (int a = 0; a < arcCount; a++) {
+            ContractionEdge<E> arc = arcs.get(a);
+            out.writeInt(source[a]);
+            out.writeInt(target[a]);
+            out.writeDouble(weight[a]);
+            if (arc.bypassedEdges != null) {
+                out.writeInt(arcIndex.get(arc.bypassedEdges.getFirst()));
+                out.writeInt(arcIndex.get(arc.bypassedEdges.getSecond()));
+                out.writeInt(-1);
+            } else {
+                out.writeInt(-1);
+                out.writeInt(-1);
+                out.writeInt(edgeIndex.get(arc.edge));
+            }
+            int flags = 0;
+            if (arc.isUpward) {
+                flags |= UPWARD;
+            }
+            if (contractionGraph.containsEdge(arc)) {
+                flags |= IN_CONTRACTION_GRAPH;
+            }
+            out.writeInt(flags);
+        }
+        return vertexIndex;
+    }
+
+    /**
+     * Reads the header, the vertices and the arcs of a contraction hierarchy. On return the
+     * position of the input is the end of the arcs.
+     */
+    private static <V, E> ContractionHierarchy<V, E> readHierarchy(
+        Graph<V, E> graph, List<V> vertices, int kind, MappedInput input)
+        throws IOException
+    {
+        if (input.remaining() < 4 || input.getInt() != MAGIC) {
+            throw new IOException("Not a contraction hierarchy file");
+        }
+        int version = input.getInt();
+        if (version != VERSION) {
+            throw new IOException("Unsupported file format version " + version);
+        }
+        if (input.getInt() != kind) {
+            throw new IOException(
+                kind == CONTRACTION_HIERARCHY ? "Not a contraction hierarchy file"
+                    : "Not a transit node routing file");
+        }
+        int n = input.getInt();
+        int m = input.getInt();
+        int arcCount = input.getInt();
+        if (n != vertices.size() || m != graph.edgeSet().size()) {
+            throw new IllegalArgumentException(GRAPH_MISMATCH);
+        }
+        if (arcCount < 0) {
+            throw new IOException("Corrupted contraction hierarchy file");
+        }
+        List<E> edges = new ArrayList<>(graph.edgeSet());
+        boolean directed = graph.getType().isDirected();
+
+        Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+            .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+            .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+        Map<V, ContractionVertex<V>> contractionMapping = new HashMap<>();
+        List<ContractionVertex<V>> contractionVertices = new ArrayList<>(n);
+        boolean[] usedIds = new boolean[n];
+        for (V v : vertices) {
+            int vertexId = checkIndex(input.getInt(), n);
+            if (usedIds[vertexId]) {
+                throw new IOException("Corrupted contraction hierarchy file");
+            }
+            usedIds[vertexId] = true;
+            ContractionVertex<V> vertex = new ContractionVertex<>(v, vertexId);
+            vertex.contractionLevel = input.getInt();
+            contractionVertices.add(vertex);
+            contractionGraph.addVertex(vertex);
+            contractionMapping.put(v, vertex);
+        }
+
+        long arcsStart = input.position();
+        input.skip((long) arcCount * ARC_BYTES);
+        List<ContractionEdge<E>> contractionEdges = new ArrayList<>(arcCount);
+        for (int a = 0; a < arcCount; a++) {
+            long p = arcsStart + (long) a * ARC_BYTES;
+            int source = checkIndex(input.getInt(p), n);
+            int target = checkIndex(input.getInt(p + 4), n);
+            double weight = input.getDouble(p + 8);
+            int first = input.getInt(p + 16);
+            int second = input.getInt(p + 20);
+            int flags = input.getInt(p + 28);
+
+            ContractionEdge<E> arc;
+            if (first == -1) {
+                E edge = edges.get(checkIndex(input.getInt(p + 24), m));
+                V edgeSource = graph.getEdgeSource(edge);
+                V edgeTarget = graph.getEdgeTarget(edge);
+                V u = vertices.get(source);
+                V v = vertices.get(target);
+                if (!(edgeSource.equals(u) && edgeTarget.equals(v))
+                    && (directed || !(edgeSource.equals(v) && edgeTarget.equals(u))))
+                {
+                    throw new IllegalArgumentException(GRAPH_MISMATCH);
+                }
+                arc = new ContractionEdge<>(edge);
+            } else {
+                arc = new ContractionEdge<>(
+                    Pair.of(
+                        contractionEdges.get(checkIndex(first, a)),
+                        contractionEdges.get(checkIndex(second, a))));
+            }
+            arc.isUpward = (flags & UPWARD) != 0;
+            contractionEdges.add(arc);
+
+            if ((flags & IN_CONTRACTION_GRAPH) != 0) {
+                contractionGraph
+                    .addEdge(
+                        contractionVertices.get(source), contractionVertices.get(target), arc);
+                contractionGraph.setEdgeWeight(arc, weight);
+            }
+        }
+
+        return new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+    }
+
+    private static <V, E> void writeAccessVertices(
+        List<ContractionVertex<V>> contractionVertices,
+        Function<ContractionVertex<V>, List<AccessVertex<V, E>>> accessVertices,
+        Map<V, Integer> vertexIndex, DataOutputStream out)
+        throws IOException
+    {
+        int offset = 0;
+        out.writeInt(offset);
+        for (ContractionVertex<V> vertex : contractionVertices) {
+            offset += accessVertices.apply(vertex).size();
+            out.writeInt(offset);
+        }
+        for (ContractionVertex<V> vertex : contractionVertices) {
+            for (AccessVertex<V, E> accessVertex : accessVertices.apply(vertex)) {
+                out.writeInt(vertexIndex.get(accessVertex.getVertex()));
+            }
+        }
+        for (ContractionVertex<V> vertex : contractionVertices) {
+            for (AccessVertex<V, E> accessVertex : accessVertices.apply(vertex)) {
+                out.writeDouble(accessVertex.getPath().getWeight());
+            }
+        }
+    }
+
+    private static <V> void writeVoronoiCells(
+        List<ContractionVertex<V>> contractionVertices,
+        Function<ContractionVertex<V>, Set<Integer>> voronoiCells, DataOutputStream out)
+        throws IOException
+    {
+        int offset = 0;
+        out.writeInt(offset);
+        for (ContractionVertex<V> vertex : contractionVertices) {
+            offset += voronoiCells.apply(vertex).size();
+            out.writeInt(offset);
+        }
+        for (ContractionVertex<V> vertex : contractionVertices) {
+            int[] cells = voronoiCells.apply(vertex).stream().mapToInt(Integer::intValue).toArray();
+            Arrays.sort(cells);
+            for (int cell : cells) {
+                out.writeInt(cell);
+            }
+        }
+    }
+
+    private static <T> Map<T, Integer> indexOf(Set<T> elements)
+    {
+        Map<T, Integer> index = new HashMap<>();
+        for (T element : elements) {
+            index.put(element, index.size());
+        }
+        return index;
+    }
+
+    private static DataOutputStream newOutputStream(Path file)
+        throws IOException
+    {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file), 1 << 16));
+    }
+
+    private static int checkIndex(int index, int bound)
+        throws IOException
+    {
+        if (index < 0 || index >= bound) {
+            throw new IOException("Corrupted file, index out of range: " + index);
+        }
+        return index;
+    }
+
+    /**
+     * Returns a view of the next {@code count} integers of the input and advances its position.
+     */
+    private static MappedInts ints(MappedInput input, long count)
+        throws IOException
+    {
+        long start = input.position();
+        input.skip(count * Integer.BYTES);
+        return new MappedInts(input, start, (int) count);
+    }
+
+    /**
+     * Returns a view of the next {@code count} doubles of the input and advances its position.
+     */
+    private static MappedDoubles doubles(MappedInput input, long count)
+        throws IOException
+    {
+        long start = input.position();
+        input.skip(count * Double.BYTES);
+        return new MappedDoubles(input, start, count);
+    }
+
+    /**
+     * Reads a table of offsets and checks that it is non-decreasing and starts at zero.
+     */
+    private static MappedInts offsets(MappedInput input, int n)
+        throws IOException
+    {
+        MappedInts offsets = ints(input, (long) n + 1);
+        if (offsets.get(0) != 0) {
+            throw new IOException("Corrupted transit node routing file");
+        }
+        for (int i = 0; i < n; i++) {
+            if (offsets.get(i + 1) < offsets.get(i)) {
+                throw new IOException("Corrupted transit node routing file");
+            }
+        }
+        return offsets;
+    }
+
+    /**
+     * A read-only memory mapping of a whole file, addressable with long positions. A single
+     * {@link ByteBuffer} is limited to $2^{31}-1$ bytes, so the file is mapped as a sequence of
+     * chunks. Consecutive chunks overlap by eight bytes, so that any int or double lies entirely
+     * inside the chunk containing its first byte, whatever its alignment.
+     */
+    private static final class MappedInput
+    {
+        private static final int OVERLAP = Long.BYTES;
+
+        private final ByteBuffer[] chunks;
+        private final int chunkBits;
+        private final long chunkMask;
+        private final long size;
+        private long position;
+
+        MappedInput(Path file, int chunkBits)
+            throws IOException
+        {
+            this.chunkBits = chunkBits;
+            this.chunkMask = (1L << chunkBits) - 1;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                this.size = channel.size();
+                int count = (int) ((size + chunkMask) >>> chunkBits);
+                this.chunks = new ByteBuffer[count];
+                for (int i = 0; i < count; i++) {
+                    long start = (long) i << chunkBits;
+                    long length = Math.min(chunkMask + 1 + OVERLAP, size - start);
+                    chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+                }
+            }
+        }
+
+        long position()
+        {
+            return position;
+        }
+
+        long remaining()
+        {
+            return size - position;
+        }
+
+        void skip(long bytes)
+            throws IOException
+        {
+            if (bytes < 0 || bytes > remaining()) {
+                throw new IOException("Truncated file");
+            }
+            position += bytes;
+        }
+
+        int getInt()
+        {
+            int value = getInt(position);
+            position += Integer.BYTES;
+            return value;
+        }
+
+        int getInt(long pos)
+        {
+            if (pos < 0 || pos > size - Integer.BYTES) {
+                throw new IndexOutOfBoundsException();
+            }
+            return chunks[(int) (pos >>> chunkBits)].getInt((int) (pos & chunkMask));
+        }
+
+        double getDouble(long pos)
+        {
+            if (pos < 0 || pos > size - Double.BYTES) {
+                throw new IndexOutOfBoundsException();
+            }
+            return chunks[(int) (pos >>> chunkBits)].getDouble((int) (pos & chunkMask));
+        }
+    }
+
+    /**
+     * A view of consecutive integers of a mapped file.
+     */
+    private static final class MappedInts
+    {
+        private final MappedInput input;
+        private final long start;
+        private final int size;
+
+        MappedInts(MappedInput input, long start, int size)
+        {
+            this.input = input;
+            this.start = start;
+            this.size = size;
+        }
+
+        int get(int index)
+        {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            return input.getInt(start + (long) index * Integer.BYTES);
+        }
+
+        int size()
+        {
+            return size;
+        }
+    }
+
+    /**
+     * A view of consecutive doubles of a mapped file.
+     */
+    private static final class MappedDoubles
+    {
+        private final MappedInput input;
+        private final long start;
+        private final long size;
+
+        MappedDoubles(MappedInput input, long start, long size)
+        {
+            this.input = input;
+            this.start = start;
+            this.size = size;
+        }
+
+        double get(long index)
+        {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException();
+            }
+            return input.getDouble(start + index * Double.BYTES);
+        }
+    }
+
+    /**
+     * Distances between transit vertices read from a mapped table. Paths are unpacked on demand.
+     */
+    private static class MappedManyToManyShortestPaths<V, E>
+        extends
+        BaseManyToManyShortestPathsImpl<V, E>
+    {
+        private final Map<V, Integer> position;
+        private final MappedDoubles distances;
+        private final ShortestPathAlgorithm<V, E> unpacking;
+
+        MappedManyToManyShortestPaths(
+            Map<V, Integer> position, MappedDoubles distances,
+            ShortestPathAlgorithm<V, E> unpacking)
+        {
+            super(position.keySet(), position.keySet());
+            this.position = position;
+            this.distances = distances;
+            this.unpacking = unpacking;
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V source, V target)
+        {
+            if (getWeight(source, target) == Double.POSITIVE_INFINITY) {
+                return null;
+            }
+            return unpacking.getPath(source, target);
+        }
+
+        @Override
+        public double getWeight(V source, V target)
+        {
+            assertCorrectSourceAndTarget(source, target);
+            return distances
+                .get((long) position.get(source) * position.size() + position.get(target));
+        }
+    }
+
+    /**
+     * The access vertices of all vertices, read from the mapped file and indexed by vertex id.
+     */
+    private static class MappedAccessVertices<V, E>
+        extends
+        AbstractList<List<AccessVertex<V, E>>>
+    {
+        private final MappedInts offsets;
+        private final MappedInts accessVertices;
+        private final MappedDoubles weights;
+        private final List<V> vertices;
+        private final List<V> verticesById;
+        private final ShortestPathAlgorithm<V, E> unpacking;
+        private final boolean forward;
+
+        MappedAccessVertices(
+            MappedInput input, List<V> vertices, List<V> verticesById,
+            ShortestPathAlgorithm<V, E> unpacking, boolean forward)
+            throws IOException
+        {
+            int n = vertices.size();
+            this.offsets = offsets(input, n);
+            this.accessVertices = ints(input, offsets.get(n));
+            this.weights = doubles(input, offsets.get(n));
+            for (int i = 0; i < offsets.get(n); i++) {
+                checkIndex(accessVertices.get(i), n);
+            }
+            this.vertices = vertices;
+            this.verticesById = verticesById;
+            this.unpacking = unpacking;
+            this.forward = forward;
+        }
+
+        @Override
+        public List<AccessVertex<V, E>> get(int vertexId)
+        {
+            int start = offsets.get(vertexId);
+            int end = offsets.get(vertexId + 1);
+            V vertex = verticesById.get(vertexId);
+            return new AbstractList<AccessVertex<V, E>>()
+            {
+                @Override
+                public AccessVertex<V, E> get(int index)
+                {
+                    if (index < 0 || index >= end - start) {
+                        throw new IndexOutOfBoundsException();
+                    }
+                    V accessVertex = vertices.get(accessVertices.get(start + index));
+                    double weight = weights.get(start + index);
+                    GraphPath<V, E> path = forward
+                        ? new UnpackedOnDemandPath<>(vertex, accessVertex, weight, unpacking)
+                        : new UnpackedOnDemandPath<>(accessVertex, vertex, weight, unpacking);
+                    return new AccessVertex<>(accessVertex, path);
+                }
+
+                @Override
+                public int size()
+                {
+                    return end - start;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return offsets.size() - 1;
+        }
+    }
+
+    /**
+     * The visited Voronoi cells of all vertices, read from the mapped file and indexed by vertex
+     * id. Each set is a sorted range of the file.
+     */
+    private static class MappedVoronoiCells
+        extends
+        AbstractList<Set<Integer>>
+    {
+        private final MappedInts offsets;
+        private final MappedInts cells;
+
+        MappedVoronoiCells(MappedInput input, int n)
+            throws IOException
+        {
+            this.offsets = offsets(input, n);
+            this.cells = ints(input, offsets.get(n));
+        }
+
+        @Override
+        public Set<Integer> get(int vertexId)
+        {
+            int start = offsets.get(vertexId);
+            int end = offsets.get(vertexId + 1);
+            return new AbstractSet<Integer>()
+            {
+                @Override
+                public boolean contains(Object o)
+                {
+                    if (!(o instanceof Integer)) {
+                        return false;
+                    }
+                    int cell = (Integer) o;
+                    int low = start;
+                    int high = end - 1;
+                    while (low <= high) {
+                        int mid = (low + high) >>> 1;
+                        int value = cells.get(mid);
+                        if (value < cell) {
+                            low = mid + 1;
+                        } else if (value > cell) {
+                            high = mid - 1;
+                        } else {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+
+                @Override
+                public Iterator<Integer> iterator()
+                {
+                    return new Iterator<Integer>()
+                    {
+                        private int next = start;
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return next < end;
+                        }
+
+                        @Override
+                        public Integer next()
+                        {
+                            if (next >= end) {
+                                throw new NoSuchElementException();
+                            }
+                            return cells.get(next++);
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return end - start;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return offsets.size() - 1;
+        }
+    }
+
+    /**
+     * A path whose weight is known and whose vertices and edges are computed when first requested.
+     */
+    private static class UnpackedOnDemandPath<V, E>
+        implements
+        GraphPath<V, E>
+    {
+        private final V startVertex;
+        private final V endVertex;
+        private final double weight;
+        private final ShortestPathAlgorithm<V, E> unpacking;
+        private GraphPath<V, E> path;
+
+        UnpackedOnDemandPath(
+            V startVertex, V endVertex, double weight, ShortestPathAlgorithm<V, E> unpacking)
+        {
+            this.startVertex = startVertex;
+            this.endVertex = endVertex;
+            this.weight = weight;
+            this.unpacking = unpacking;
+        }
+
+        private GraphPath<V, E> unpack()
+        {
+            if (path == null) {
+                path = unpacking.getPath(startVertex, endVertex);
+            }
+            return path;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return unpack().getGraph();
+        }
+
+        @Override
+        public V getStartVertex()
+        {
+            return startVertex;
+        }
+
+        @Override
+        public V getEndVertex()
+        {
+            return endVertex;
+        }
+
+        @Override
+        public List<E> getEdgeList()
+        {
+            return unpack().getEdgeList();
+        }
+
+        @Override
+        public List<V> getVertexList()
+        {
+            return unpack().getVertexList();
+        }
+
+        @Override
+        public double getWeight()
+        {
+            return weight;
+        }
+
+        @Override
+        public int getLength()
+        {
+            return unpack().getLength();
+        }
+    }
+
+}
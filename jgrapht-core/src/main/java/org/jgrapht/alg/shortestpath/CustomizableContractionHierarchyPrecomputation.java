@@ -0,0 +1,708 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionEdge;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionHierarchy;
+import org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.ContractionVertex;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
+import org.jgrapht.util.VertexToIntegerMapping;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Customizable contraction hierarchy precomputation.
+ *
+ * <p>
+ * A customizable contraction hierarchy splits the precomputation of a contraction hierarchy into a
+ * metric independent and a metric dependent phase, as described in: Julian Dibbelt, Ben Strasser,
+ * Dorothea Wagner. Customizable Contraction Hierarchies. ACM Journal of Experimental Algorithmics,
+ * 21(1), 2016.
+ *
+ * <p>
+ * The metric independent phase is performed once during construction. It computes an ordering of
+ * the vertices and contracts them in this order ignoring edge directions and weights, i.e. when a
+ * vertex is contracted all its remaining neighbours are connected pairwise. The result is a
+ * chordal supergraph of the undirected skeleton of the graph. Unless an ordering is provided, the
+ * vertices are ordered using the minimum degree heuristic on the graph of remaining vertices.
+ *
+ * <p>
+ * The metric dependent phase, the customization, takes a weight function and assigns weights to
+ * both directions of every edge of the supergraph. It starts from the weights of the original
+ * edges and processes the lower triangles of every edge, bottom up. Vertices are grouped into
+ * levels such that the lower neighbours of a vertex belong to lower levels. The edges whose lower
+ * endpoint belongs to the same level are customized in parallel, since they only read the weights
+ * of edges with a lower endpoint in a lower level. A customization costs time linear in the number
+ * of triangles of the supergraph and does not perform any shortest path search, which makes it
+ * much faster than a new contraction from scratch.
+ *
+ * <p>
+ * The result of each customization is a {@link ContractionHierarchy} which can be used by
+ * {@link ContractionHierarchyBidirectionalDijkstra} and {@link CHManyToManyShortestPaths}. The
+ * contraction level of a vertex is its position in the ordering and shortcuts unpack to original
+ * edges as usual. Edges of the supergraph whose weight is infinite in some direction are omitted in
+ * that direction. Weights of the returned paths are computed using the weight function of the
+ * customization. Negative weights are not allowed and result in an
+ * {@link IllegalArgumentException}. Self loops are ignored.
+ *
+ * <p>
+ * The metric independent phase reads the graph once. Subsequent changes of the vertices or edges
+ * of the graph are not reflected and require a new instance, while changes of the edge weights
+ * only require a new customization. For parallelization, this implementation relies on the
+ * {@link ThreadPoolExecutor} which is supplied to this algorithm from outside. An instance should
+ * not be customized concurrently by multiple threads.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ * @author Dimitrios Michail
+ * @see ContractionHierarchyPrecomputation
+ */
+public class CustomizableContractionHierarchyPrecomputation<V, E>
+{
+    private static final int BLOCKS_PER_THREAD = 4;
+    private static final int MIN_PARALLEL_LEVEL_SIZE = 64;
+
+    private static final byte UPWARD = 1;
+    private static final byte DOWNWARD = 2;
+
+    private final Graph<V, E> graph;
+    private final ThreadPoolExecutor executor;
+    private final int parallelism;
+
+    private final int n;
+    private final List<V> vertices;
+    private final List<E> edges;
+
+    /*
+     * Vertices are stored by rank. Vertex with rank r is the vertex with index rankToVertex[r] in
+     * the vertex mapping.
+     */
+    private int[] rankToVertex;
+
+    /*
+     * Edges of the supergraph grouped by their lower endpoint. The edges of the vertex with rank r
+     * have indices [upFirst[r], upFirst[r+1]) and are sorted by the rank of their upper endpoint.
+     */
+    private int[] upFirst;
+    private int[] upTarget;
+
+    /*
+     * Edges of the supergraph grouped by their upper endpoint, given as the rank of their lower
+     * endpoint and their index.
+     */
+    private int[] downFirst;
+    private int[] downSource;
+    private int[] downArc;
+
+    /*
+     * Vertex ranks grouped by level.
+     */
+    private int[] levelFirst;
+    private int[] levelRanks;
+
+    /*
+     * Supergraph edge of each original edge, -1 for self loops, and the directions in which the
+     * original edge can be traversed.
+     */
+    private int[] edgeArc;
+    private byte[] edgeDirection;
+
+    /**
+     * Markers which are not used by any task.
+     */
+    private final List<int[]> idleMarkers = new ArrayList<>();
+
+    /**
+     * Constructs a new instance for the given {@code graph} and {@code executor} and performs the
+     * metric independent phase, ordering the vertices using the minimum degree heuristic. It is up
+     * to a user of this algorithm to handle the creation and termination of the provided
+     * {@code executor}. For utility methods to manage a {@code ThreadPoolExecutor} see
+     * {@link ConcurrencyUtil}.
+     *
+     * @param graph graph
+     * @param executor executor which will be used for parallelization
+     */
+    public CustomizableContractionHierarchyPrecomputation(
+        Graph<V, E> graph, ThreadPoolExecutor executor)
+    {
+        this(graph, null, executor);
+    }
+
+    /**
+     * Constructs a new instance for the given {@code graph}, contraction {@code order} and
+     * {@code executor} and performs the metric independent phase. The order should be computed by
+     * a nested dissection of the graph in order to obtain small supergraphs. It is up to a user of
+     * this algorithm to handle the creation and termination of the provided {@code executor}.
+     *
+     * @param graph graph
+     * @param order the vertices of the graph in the order in which they should be contracted, or
+     *        null to use the minimum degree heuristic
+     * @param executor executor which will be used for parallelization
+     * @throws IllegalArgumentException if the order is not a permutation of the vertices of the
+     *         graph
+     */
+    public CustomizableContractionHierarchyPrecomputation(
+        Graph<V, E> graph, List<V> order, ThreadPoolExecutor executor)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.parallelism = executor.getMaximumPoolSize();
+
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.vertices = mapping.getIndexList();
+        this.n = vertices.size();
+        this.edges = new ArrayList<>(graph.edgeSet());
+
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        int[] edgeSource = new int[edges.size()];
+        int[] edgeTarget = new int[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            E e = edges.get(i);
+            edgeSource[i] = vertexMap.get(graph.getEdgeSource(e));
+            edgeTarget[i] = vertexMap.get(graph.getEdgeTarget(e));
+        }
+
+        int[] givenOrder = null;
+        if (order != null) {
+            if (order.size() != n) {
+                throw new IllegalArgumentException("Order must contain every vertex exactly once");
+            }
+            givenOrder = new int[n];
+            boolean[] seen = new boolean[n];
+            for (int r = 0; r < n; r++) {
+                Integer v = vertexMap.get(order.get(r));
+                if (v == null || seen[v]) {
+                    throw new IllegalArgumentException(
+                        "Order must contain every vertex exactly once");
+                }
+                seen[v] = true;
+                givenOrder[r] = v;
+            }
+        }
+
+        contract(edgeSource, edgeTarget, givenOrder);
+        computeLevels();
+        mapOriginalEdges(edgeSource, edgeTarget);
+    }
+
+    /**
+     * Customizes the hierarchy using the current edge weights of the graph.
+     *
+     * @return the customized contraction hierarchy
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public ContractionHierarchy<V, E> customize()
+    {
+        return customize(graph::getEdgeWeight);
+    }
+
+    /**
+     * Customizes the hierarchy using the given weight function.
+     *
+     * @param weightFunction function assigning a weight to every edge of the graph
+     * @return the customized contraction hierarchy
+     * @throws IllegalArgumentException if the weight function returns a negative weight
+     */
+    public ContractionHierarchy<V, E> customize(ToDoubleFunction<E> weightFunction)
+    {
+        Objects.requireNonNull(weightFunction, "Weight function cannot be null");
+        Customization customization = new Customization(upTarget.length);
+        customization.initialize(weightFunction);
+        for (int l = 0; l + 1 < levelFirst.length; l++) {
+            customization.customizeLevel(levelFirst[l], levelFirst[l + 1]);
+        }
+        return customization.createContractionHierarchy();
+    }
+
+    /**
+     * Contracts the vertices of the undirected skeleton of the graph in the given order or, if no
+     * order is given, in the order of the minimum degree heuristic.
+     */
+    private void contract(int[] edgeSource, int[] edgeTarget, int[] givenOrder)
+    {
+        // adjacency lists without duplicates and self loops
+        int[] degree = new int[n];
+        for (int i = 0; i < edgeSource.length; i++) {
+            if (edgeSource[i] != edgeTarget[i]) {
+                degree[edgeSource[i]]++;
+                degree[edgeTarget[i]]++;
+            }
+        }
+        int[][] adj = new int[n][];
+        int[] adjSize = new int[n];
+        for (int v = 0; v < n; v++) {
+            adj[v] = new int[Math.max(4, degree[v])];
+        }
+        int[] stamp = new int[n];
+        Arrays.fill(stamp, -1);
+        int[][] raw = new int[n][];
+        for (int v = 0; v < n; v++) {
+            raw[v] = new int[degree[v]];
+        }
+        Arrays.fill(degree, 0);
+        for (int i = 0; i < edgeSource.length; i++) {
+            int s = edgeSource[i];
+            int t = edgeTarget[i];
+            if (s != t) {
+                raw[s][degree[s]++] = t;
+                raw[t][degree[t]++] = s;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            for (int u : raw[v]) {
+                if (stamp[u] != v) {
+                    stamp[u] = v;
+                    adj[v][adjSize[v]++] = u;
+                }
+            }
+            raw[v] = null;
+        }
+
+        PriorityQueue<Long> queue = null;
+        if (givenOrder == null) {
+            queue = new PriorityQueue<>(Math.max(1, n));
+            for (int v = 0; v < n; v++) {
+                queue.add(((long) adjSize[v] << 32) | v);
+            }
+        }
+
+        int[] rank = new int[n];
+        Arrays.fill(rank, -1);
+        rankToVertex = new int[n];
+        int[][] upper = new int[n][];
+        Arrays.fill(stamp, -1);
+        for (int r = 0; r < n; r++) {
+            int v;
+            if (givenOrder != null) {
+                v = givenOrder[r];
+            } else {
+                while (true) {
+                    long entry = queue.poll();
+                    int u = (int) entry;
+                    if (rank[u] == -1 && (int) (entry >>> 32) == adjSize[u]) {
+                        v = u;
+                        break;
+                    }
+                }
+            }
+            rank[v] = r;
+            rankToVertex[r] = v;
+
+            // all remaining neighbours have a higher rank
+            int[] neighbours = Arrays.copyOf(adj[v], adjSize[v]);
+            upper[v] = neighbours;
+            adj[v] = null;
+            for (int u : neighbours) {
+                adjSize[u] = remove(adj[u], adjSize[u], v);
+            }
+
+            // connect the neighbours pairwise, a stale stamp equal to u still denotes a neighbour
+            // of u since only contracted vertices are ever removed from adjacency lists
+            for (int u : neighbours) {
+                for (int p = 0; p < adjSize[u]; p++) {
+                    stamp[adj[u][p]] = u;
+                }
+                for (int w : neighbours) {
+                    if (w != u && stamp[w] != u) {
+                        if (adjSize[u] == adj[u].length) {
+                            adj[u] = Arrays.copyOf(adj[u], adj[u].length * 2);
+                        }
+                        adj[u][adjSize[u]++] = w;
+                    }
+                }
+                if (queue != null) {
+                    queue.add(((long) adjSize[u] << 32) | u);
+                }
+            }
+        }
+
+        // upward edges grouped by the rank of their lower endpoint
+        upFirst = new int[n + 1];
+        for (int r = 0; r < n; r++) {
+            upFirst[r + 1] = upFirst[r] + upper[rankToVertex[r]].length;
+        }
+        upTarget = new int[upFirst[n]];
+        for (int r = 0; r < n; r++) {
+            int[] neighbours = upper[rankToVertex[r]];
+            for (int i = 0; i < neighbours.length; i++) {
+                upTarget[upFirst[r] + i] = rank[neighbours[i]];
+            }
+            Arrays.sort(upTarget, upFirst[r], upFirst[r + 1]);
+            upper[rankToVertex[r]] = null;
+        }
+
+        // the same edges grouped by the rank of their upper endpoint
+        downFirst = new int[n + 1];
+        for (int a = 0; a < upTarget.length; a++) {
+            downFirst[upTarget[a] + 1]++;
+        }
+        for (int r = 0; r < n; r++) {
+            downFirst[r + 1] += downFirst[r];
+        }
+        downSource = new int[upTarget.length];
+        downArc = new int[upTarget.length];
+        int[] next = Arrays.copyOf(downFirst, n);
+        for (int r = 0; r < n; r++) {
+            for (int a = upFirst[r]; a < upFirst[r + 1]; a++) {
+                int p = next[upTarget[a]]++;
+                downSource[p] = r;
+                downArc[p] = a;
+            }
+        }
+    }
+
+    private static int remove(int[] list, int size, int value)
+    {
+        for (int p = 0; p < size; p++) {
+            if (list[p] == value) {
+                list[p] = list[size - 1];
+                return size - 1;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Groups the vertices into levels such that the lower neighbours of a vertex are in lower
+     * levels.
+     */
+    private void computeLevels()
+    {
+        int[] level = new int[n];
+        int numLevels = 0;
+        for (int r = 0; r < n; r++) {
+            for (int p = downFirst[r]; p < downFirst[r + 1]; p++) {
+                level[r] = Math.max(level[r], level[downSource[p]] + 1);
+            }
+            numLevels = Math.max(numLevels, level[r] + 1);
+        }
+        levelFirst = new int[numLevels + 1];
+        for (int r = 0; r < n; r++) {
+            levelFirst[level[r] + 1]++;
+        }
+        for (int l = 0; l < numLevels; l++) {
+            levelFirst[l + 1] += levelFirst[l];
+        }
+        levelRanks = new int[n];
+        int[] next = Arrays.copyOf(levelFirst, numLevels);
+        for (int r = 0; r < n; r++) {
+            levelRanks[next[level[r]]++] = r;
+        }
+    }
+
+    /**
+     * Finds the supergraph edge of each original edge.
+     */
+    private void mapOriginalEdges(int[] edgeSource, int[] edgeTarget)
+    {
+        int[] rank = new int[n];
+        for (int r = 0; r < n; r++) {
+            rank[rankToVertex[r]] = r;
+        }
+        boolean undirected = graph.getType().isUndirected();
+        edgeArc = new int[edges.size()];
+        edgeDirection = new byte[edges.size()];
+        for (int i = 0; i < edges.size(); i++) {
+            int s = rank[edgeSource[i]];
+            int t = rank[edgeTarget[i]];
+            if (s == t) {
+                edgeArc[i] = -1;
+                continue;
+            }
+            int low = Math.min(s, t);
+            int high = Math.max(s, t);
+            edgeArc[i] = Arrays.binarySearch(upTarget, upFirst[low], upFirst[low + 1], high);
+            if (undirected) {
+                edgeDirection[i] = UPWARD | DOWNWARD;
+            } else {
+                edgeDirection[i] = s < t ? UPWARD : DOWNWARD;
+            }
+        }
+    }
+
+    /**
+     * Action performed on a block of vertices.
+     */
+    private interface BlockAction
+    {
+        void accept(int start, int end, int[] marker);
+    }
+
+    /**
+     * Splits the segment $[start, end)$ into blocks and processes them in parallel. Each task owns
+     * a marker array and repeatedly takes the next unprocessed block. Small segments are processed
+     * by the calling thread.
+     */
+    private void forEachBlock(int start, int end, BlockAction action)
+    {
+        if (start >= end) {
+            return;
+        }
+        if (end - start < MIN_PARALLEL_LEVEL_SIZE || parallelism == 1) {
+            int[] marker = acquireMarker();
+            try {
+                action.accept(start, end, marker);
+            } finally {
+                releaseMarker(marker);
+            }
+            return;
+        }
+        int numBlocks = Math.min(parallelism * BLOCKS_PER_THREAD, end - start);
+        AtomicInteger nextBlock = new AtomicInteger();
+        ExecutorCompletionService<Void> completionService =
+            new ExecutorCompletionService<>(executor);
+        int numTasks = Math.min(parallelism, numBlocks);
+        for (int t = 0; t < numTasks; t++) {
+            completionService.submit(() -> {
+                int[] marker = acquireMarker();
+                try {
+                    int block;
+                    while ((block = nextBlock.getAndIncrement()) < numBlocks) {
+                        int blockStart = start + (int) ((long) (end - start) * block / numBlocks);
+                        int blockEnd =
+                            start + (int) ((long) (end - start) * (block + 1) / numBlocks);
+                        action.accept(blockStart, blockEnd, marker);
+                    }
+                } finally {
+                    releaseMarker(marker);
+                }
+                return null;
+            });
+        }
+        for (int t = 0; t < numTasks; t++) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new RuntimeException(cause);
+            }
+        }
+    }
+
+    private int[] acquireMarker()
+    {
+        synchronized (idleMarkers) {
+            if (!idleMarkers.isEmpty()) {
+                return idleMarkers.remove(idleMarkers.size() - 1);
+            }
+        }
+        int[] marker = new int[n];
+        Arrays.fill(marker, -1);
+        return marker;
+    }
+
+    private void releaseMarker(int[] marker)
+    {
+        synchronized (idleMarkers) {
+            idleMarkers.add(marker);
+        }
+    }
+
+    /**
+     * The weights of one customization. For every edge of the supergraph the upward direction goes
+     * from the lower to the upper endpoint. A direction is either an original edge, or a shortcut
+     * through the lower endpoint of one of its lower triangles, given by the edges to this
+     * endpoint.
+     */
+    private class Customization
+    {
+        private final double[] upWeight;
+        private final double[] downWeight;
+        private final int[] upOriginal;
+        private final int[] downOriginal;
+        private final int[] upFirstHalf;
+        private final int[] upSecondHalf;
+        private final int[] downFirstHalf;
+        private final int[] downSecondHalf;
+
+        Customization(int arcCount)
+        {
+            this.upWeight = new double[arcCount];
+            this.downWeight = new double[arcCount];
+            this.upOriginal = new int[arcCount];
+            this.downOriginal = new int[arcCount];
+            this.upFirstHalf = new int[arcCount];
+            this.upSecondHalf = new int[arcCount];
+            this.downFirstHalf = new int[arcCount];
+            this.downSecondHalf = new int[arcCount];
+        }
+
+        void initialize(ToDoubleFunction<E> weightFunction)
+        {
+            Arrays.fill(upWeight, Double.POSITIVE_INFINITY);
+            Arrays.fill(downWeight, Double.POSITIVE_INFINITY);
+            Arrays.fill(upOriginal, -1);
+            Arrays.fill(downOriginal, -1);
+            Arrays.fill(upFirstHalf, -1);
+            Arrays.fill(downFirstHalf, -1);
+            for (int i = 0; i < edges.size(); i++) {
+                double weight = weightFunction.applyAsDouble(edges.get(i));
+                if (weight < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                int a = edgeArc[i];
+                if (a == -1) {
+                    continue;
+                }
+                if ((edgeDirection[i] & UPWARD) != 0 && weight < upWeight[a]) {
+                    upWeight[a] = weight;
+                    upOriginal[a] = i;
+                }
+                if ((edgeDirection[i] & DOWNWARD) != 0 && weight < downWeight[a]) {
+                    downWeight[a] = weight;
+                    downOriginal[a] = i;
+                }
+            }
+        }
+
+        /**
+         * Customizes the edges of the vertices in the segment $[start, end)$ of
+         * {@code levelRanks}, which all belong to the same level.
+         */
+        void customizeLevel(int start, int end)
+        {
+            forEachBlock(start, end, (blockStart, blockEnd, marker) -> {
+                for (int i = blockStart; i < blockEnd; i++) {
+                    customizeVertex(levelRanks[i], marker);
+                }
+            });
+        }
+
+        /**
+         * Customizes the upward edges of vertex {@code x} by enumerating their lower triangles.
+         * Every lower neighbour v of x which is adjacent to an upper neighbour y of x forms the
+         * triangle (v, x, y) with the edges vx, vy and xy.
+         */
+        private void customizeVertex(int x, int[] marker)
+        {
+            for (int a = upFirst[x]; a < upFirst[x + 1]; a++) {
+                marker[upTarget[a]] = a;
+            }
+            for (int p = downFirst[x]; p < downFirst[x + 1]; p++) {
+                int v = downSource[p];
+                int vx = downArc[p];
+                for (int vy = upFirst[v]; vy < upFirst[v + 1]; vy++) {
+                    int xy = marker[upTarget[vy]];
+                    if (xy == -1) {
+                        continue;
+                    }
+                    // x -> v -> y
+                    double up = downWeight[vx] + upWeight[vy];
+                    if (up < upWeight[xy]) {
+                        upWeight[xy] = up;
+                        upOriginal[xy] = -1;
+                        upFirstHalf[xy] = vx;
+                        upSecondHalf[xy] = vy;
+                    }
+                    // y -> v -> x
+                    double down = downWeight[vy] + upWeight[vx];
+                    if (down < downWeight[xy]) {
+                        downWeight[xy] = down;
+                        downOriginal[xy] = -1;
+                        downFirstHalf[xy] = vy;
+                        downSecondHalf[xy] = vx;
+                    }
+                }
+            }
+            for (int a = upFirst[x]; a < upFirst[x + 1]; a++) {
+                marker[upTarget[a]] = -1;
+            }
+        }
+
+        /**
+         * Materializes the customized hierarchy as a graph. The halves of a shortcut have a lower
+         * endpoint with a smaller rank and thus a smaller index, so that they are created before
+         * the shortcut.
+         */
+        ContractionHierarchy<V, E> createContractionHierarchy()
+        {
+            Graph<ContractionVertex<V>, ContractionEdge<E>> contractionGraph = GraphTypeBuilder
+                .<ContractionVertex<V>, ContractionEdge<E>> directed().weighted(true)
+                .allowingMultipleEdges(false).allowingSelfLoops(false).buildGraph();
+            Map<V, ContractionVertex<V>> contractionMapping = new HashMap<>();
+
+            List<ContractionVertex<V>> contractionVertices = new ArrayList<>(n);
+            for (int r = 0; r < n; r++) {
+                int v = rankToVertex[r];
+                ContractionVertex<V> vertex = new ContractionVertex<>(vertices.get(v), v);
+                vertex.contractionLevel = r;
+                contractionVertices.add(vertex);
+                contractionGraph.addVertex(vertex);
+                contractionMapping.put(vertex.vertex, vertex);
+            }
+
+            int arcCount = upTarget.length;
+            List<ContractionEdge<E>> upEdges = new ArrayList<>(arcCount);
+            List<ContractionEdge<E>> downEdges = new ArrayList<>(arcCount);
+            for (int x = 0; x < n; x++) {
+                ContractionVertex<V> lower = contractionVertices.get(x);
+                for (int a = upFirst[x]; a < upFirst[x + 1]; a++) {
+                    ContractionVertex<V> upper = contractionVertices.get(upTarget[a]);
+
+                    ContractionEdge<E> up = null;
+                    if (upWeight[a] != Double.POSITIVE_INFINITY) {
+                        up = upOriginal[a] != -1 ? new ContractionEdge<>(edges.get(upOriginal[a]))
+                            : new ContractionEdge<>(
+                                Pair.of(
+                                    downEdges.get(upFirstHalf[a]),
+                                    upEdges.get(upSecondHalf[a])));
+                        up.isUpward = true;
+                        contractionGraph.addEdge(lower, upper, up);
+                        contractionGraph.setEdgeWeight(up, upWeight[a]);
+                    }
+                    upEdges.add(up);
+
+                    ContractionEdge<E> down = null;
+                    if (downWeight[a] != Double.POSITIVE_INFINITY) {
+                        down = downOriginal[a] != -1
+                            ? new ContractionEdge<>(edges.get(downOriginal[a]))
+                            : new ContractionEdge<>(
+                                Pair.of(
+                                    downEdges.get(downFirstHalf[a]),
+                                    upEdges.get(downSecondHalf[a])));
+                        down.isUpward = false;
+                        contractionGraph.addEdge(upper, lower, down);
+                        contractionGraph.setEdgeWeight(down, downWeight[a]);
+                    }
+                    downEdges.add(down);
+                }
+            }
+
+            return new ContractionHierarchy<>(graph, contractionGraph, contractionMapping);
+        }
+    }
+
+}
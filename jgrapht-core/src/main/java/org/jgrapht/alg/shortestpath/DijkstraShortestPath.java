@@ -29,6 +29,11 @@ import java.util.function.*;
  * shortest path algorithm</a> using a pairing heap by default. A custom heap implementation can by
  * specified during the construction time.
  *
+ * <p>
+ * Each query creates a new {@link DijkstraClosestFirstIterator} which works directly on the graph.
+ * For answering many queries on a graph which does not change, {@link IndexedDijkstraShortestPath}
+ * is usually considerably faster since it reuses its auxiliary memory across queries.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  * @author John V. Sichi
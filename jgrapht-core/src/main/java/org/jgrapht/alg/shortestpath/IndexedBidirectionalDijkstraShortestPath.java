@@ -0,0 +1,254 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A bidirectional version of Dijkstra's algorithm which works on a compact integer snapshot of any
+ * graph.
+ *
+ * <p>
+ * This is the index based counterpart of {@link BidirectionalDijkstraShortestPath} intended for
+ * answering many single pair queries on a graph which does not change. During construction the
+ * vertices are mapped to the integers $[0, n)$ and both the outgoing and the incoming edges are
+ * copied into arrays in compressed sparse row form. The forward and backward searches alternate
+ * and stop as soon as the sum of the minimum keys of the two frontiers is not smaller than the
+ * best path found so far.
+ *
+ * <p>
+ * Each query runs on a pooled workspace consisting of the state of the two searches, which is
+ * reset in constant time using generation counters. In the steady state a query therefore does not
+ * allocate apart from the returned path, and {@link #getPathWeight(int, int)} does not allocate at
+ * all.
+ *
+ * <p>
+ * The graph is read only once during construction. Subsequent modifications of the graph are not
+ * reflected in the results and a new instance must be created. Negative edge weights are not
+ * allowed and result in an {@link IllegalArgumentException} during construction. After
+ * construction instances of this class are thread-safe; concurrent queries use different
+ * workspaces.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ * @see IndexedDijkstraShortestPath
+ */
+public final class IndexedBidirectionalDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final IndexedGraph<V, E> snapshot;
+    private final WorkspacePool<Workspace> workspaces;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public IndexedBidirectionalDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, Graphs.getVertexToIntegerMapping(graph));
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph and an existing mapping of its
+     * vertices to the integers $[0, n)$.
+     *
+     * @param graph the graph
+     * @param mapping mapping of the vertices of the graph to the integers $[0, n)$
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight or if
+     *         the mapping does not match the vertex set of the graph
+     */
+    public IndexedBidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, VertexToIntegerMapping<V> mapping)
+    {
+        super(graph);
+        this.snapshot = new IndexedGraph<>(graph, mapping, true);
+        this.workspaces = new WorkspacePool<>(() -> new Workspace(snapshot.n));
+    }
+
+    /**
+     * Get the mapping of the graph vertices to the integers used by the integer versions of the
+     * queries.
+     *
+     * @return the vertex to integer mapping
+     */
+    public VertexToIntegerMapping<V> getVertexToIntegerMapping()
+    {
+        return snapshot.mapping;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = snapshot.indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = snapshot.indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        if (s == t) {
+            return createEmptyPath(source, sink);
+        }
+
+        Workspace workspace = workspaces.acquire();
+        try {
+            int common = workspace.run(s, t);
+            if (common == -1) {
+                return createEmptyPath(source, sink);
+            }
+            return workspace.buildPath(s, common, t);
+        } finally {
+            workspaces.release(workspace);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        return getPathWeight(
+            snapshot.indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX),
+            snapshot.indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX));
+    }
+
+    /**
+     * Get the weight of the shortest path between two vertices given by their integer indices in
+     * the vertex mapping.
+     *
+     * @param source the index of the source vertex
+     * @param sink the index of the sink vertex
+     * @return the weight of the shortest path or {@link Double#POSITIVE_INFINITY} if no path exists
+     * @throws IllegalArgumentException if an index is not in $[0, n)$
+     */
+    public double getPathWeight(int source, int sink)
+    {
+        if (source < 0 || source >= snapshot.n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (sink < 0 || sink >= snapshot.n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        if (source == sink) {
+            return 0d;
+        }
+
+        Workspace workspace = workspaces.acquire();
+        try {
+            workspace.run(source, sink);
+            return workspace.bestPath;
+        } finally {
+            workspaces.release(workspace);
+        }
+    }
+
+    /**
+     * The state of a query, confined to one thread at a time.
+     */
+    private class Workspace
+    {
+        private final IndexedDijkstraSearch forward;
+        private final IndexedDijkstraSearch backward;
+        private double bestPath;
+
+        Workspace(int n)
+        {
+            this.forward = new IndexedDijkstraSearch(n);
+            this.backward = new IndexedDijkstraSearch(n);
+        }
+
+        /**
+         * Run the search and return the vertex where the two searches meet on a shortest path, or
+         * -1 if the sink is not reachable from the source.
+         */
+        int run(int s, int t)
+        {
+            forward.start(s);
+            backward.start(t);
+            bestPath = Double.POSITIVE_INFINITY;
+            int common = -1;
+
+            IndexedDijkstraSearch frontier = forward;
+            IndexedDijkstraSearch otherFrontier = backward;
+            while (!frontier.heap.isEmpty() && !otherFrontier.heap.isEmpty()
+                && frontier.heap.getKey(frontier.heap.findMin())
+                    + otherFrontier.heap.getKey(otherFrontier.heap.findMin()) < bestPath)
+            {
+                int v = frontier.heap.deleteMin();
+                double vDist = frontier.dist[v];
+
+                if (frontier == forward) {
+                    for (int p = snapshot.offsets[v]; p < snapshot.offsets[v + 1]; p++) {
+                        int u = snapshot.targets[p];
+                        double uDist = vDist + snapshot.weights[p];
+                        frontier.relax(u, uDist, v, p);
+                        double pathDistance = uDist + otherFrontier.getDistance(u);
+                        if (pathDistance < bestPath) {
+                            bestPath = pathDistance;
+                            common = u;
+                        }
+                    }
+                } else {
+                    for (int r = snapshot.reverseOffsets[v]; r < snapshot.reverseOffsets[v + 1];
+                        r++)
+                    {
+                        int u = snapshot.reverseTargets[r];
+                        int p = snapshot.forwardPosition(r);
+                        double uDist = vDist + snapshot.weights[p];
+                        frontier.relax(u, uDist, v, p);
+                        double pathDistance = uDist + otherFrontier.getDistance(u);
+                        if (pathDistance < bestPath) {
+                            bestPath = pathDistance;
+                            common = u;
+                        }
+                    }
+                }
+
+                // swap frontiers
+                IndexedDijkstraSearch tmpFrontier = frontier;
+                frontier = otherFrontier;
+                otherFrontier = tmpFrontier;
+            }
+            return common;
+        }
+
+        GraphPath<V, E> buildPath(int s, int common, int t)
+        {
+            List<E> edgeList = new ArrayList<>();
+            for (int v = common; v != s; v = forward.predVertex[v]) {
+                edgeList.add(snapshot.edges[forward.predPosition[v]]);
+            }
+            Collections.reverse(edgeList);
+            for (int v = common; v != t; v = backward.predVertex[v]) {
+                edgeList.add(snapshot.edges[backward.predPosition[v]]);
+            }
+            return new GraphWalk<>(
+                graph, snapshot.indexList.get(s), snapshot.indexList.get(t), null, edgeList,
+                bestPath);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+
+/**
+ * Reusable state of a single direction of Dijkstra's algorithm over the integers $[0, n)$.
+ *
+ * <p>
+ * A vertex is reached by the current search iff its stamp equals the current generation. Starting
+ * a new search only increments the generation, so that the arrays never need to be cleared and
+ * their stale contents are simply ignored. Instances are confined to a single thread at a time.
+ *
+ * @author Dimitrios Michail
+ */
+final class IndexedDijkstraSearch
+{
+    final double[] dist;
+    final int[] predVertex;
+    final int[] predPosition;
+    final IndexedBinaryHeap heap;
+    private final int[] stamp;
+    private int generation;
+    private int source;
+
+    /**
+     * Create a new search state.
+     *
+     * @param n the number of vertices
+     */
+    IndexedDijkstraSearch(int n)
+    {
+        this.dist = new double[n];
+        this.predVertex = new int[n];
+        this.predPosition = new int[n];
+        this.heap = new IndexedBinaryHeap(n);
+        this.stamp = new int[n];
+        this.generation = 1;
+        this.source = -1;
+    }
+
+    /**
+     * Get the source vertex of the current search.
+     *
+     * @return the source vertex or -1 if no search has been started
+     */
+    int getSource()
+    {
+        return source;
+    }
+
+    /**
+     * Discard the current search and start a new one from a source vertex.
+     *
+     * @param s the source vertex
+     */
+    void start(int s)
+    {
+        heap.clear();
+        if (++generation == Integer.MAX_VALUE) {
+            Arrays.fill(stamp, 0);
+            generation = 1;
+        }
+        source = s;
+        stamp[s] = generation;
+        dist[s] = 0d;
+        predVertex[s] = -1;
+        predPosition[s] = -1;
+        heap.insert(s, 0d);
+    }
+
+    /**
+     * Check whether a vertex has been reached by the current search.
+     *
+     * @param v the vertex
+     * @return true if reached, false otherwise
+     */
+    boolean isReached(int v)
+    {
+        return stamp[v] == generation;
+    }
+
+    /**
+     * Check whether the distance of a vertex is final.
+     *
+     * @param v the vertex
+     * @return true if settled, false otherwise
+     */
+    boolean isSettled(int v)
+    {
+        return stamp[v] == generation && !heap.contains(v);
+    }
+
+    /**
+     * Get the tentative distance of a vertex.
+     *
+     * @param v the vertex
+     * @return the tentative distance or {@link Double#POSITIVE_INFINITY} if not reached
+     */
+    double getDistance(int v)
+    {
+        return stamp[v] == generation ? dist[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Try to improve the tentative distance of a vertex.
+     *
+     * @param u the vertex
+     * @param d the new distance
+     * @param v the predecessor vertex
+     * @param p the position of the edge from the predecessor in the forward arrays
+     * @return true if the distance was improved
+     */
+    boolean relax(int u, double d, int v, int p)
+    {
+        if (stamp[u] != generation) {
+            stamp[u] = generation;
+            heap.insert(u, d);
+        } else if (d < dist[u]) {
+            heap.decreaseKey(u, d);
+        } else {
+            return false;
+        }
+        dist[u] = d;
+        predVertex[u] = v;
+        predPosition[u] = p;
+        return true;
+    }
+
+}
@@ -0,0 +1,233 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Dijkstra Shortest Path implementation which works on a compact integer snapshot of any graph.
+ *
+ * <p>
+ * During construction the vertices are mapped to the integers $[0, n)$ using a
+ * {@link VertexToIntegerMapping} and the outgoing edges with their weights are copied into arrays
+ * in compressed sparse row form. Queries run entirely on these arrays using an
+ * {@link IndexedBinaryHeap}, without hash tables or boxing.
+ *
+ * <p>
+ * Each query runs on a workspace holding the distance and predecessor arrays and the heap. The
+ * workspaces are allocated once and kept in a pool, and a workspace is reset in constant time by
+ * incrementing a generation counter instead of clearing its arrays. Therefore, in the steady state
+ * queries do not allocate apart from the returned paths, and the integer version
+ * {@link #getPathWeight(int, int)} does not allocate at all. Consecutive queries from the same
+ * source vertex which happen to use the same workspace continue the previous search instead of
+ * starting from scratch, so it is beneficial to group queries by source vertex.
+ *
+ * <p>
+ * The graph is read only once during construction. Subsequent modifications of the graph are not
+ * reflected in the results and a new instance must be created. Negative edge weights are not
+ * allowed and result in an {@link IllegalArgumentException} during construction. After
+ * construction instances of this class are thread-safe; concurrent queries use different
+ * workspaces.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ * @see IndexedBidirectionalDijkstraShortestPath
+ */
+public final class IndexedDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final IndexedGraph<V, E> snapshot;
+    private final WorkspacePool<IndexedDijkstraSearch> workspaces;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, Graphs.getVertexToIntegerMapping(graph));
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph and an existing mapping of its
+     * vertices to the integers $[0, n)$. This allows sharing the mapping with other index based
+     * algorithms.
+     *
+     * @param graph the graph
+     * @param mapping mapping of the vertices of the graph to the integers $[0, n)$
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight or if
+     *         the mapping does not match the vertex set of the graph
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph, VertexToIntegerMapping<V> mapping)
+    {
+        super(graph);
+        this.snapshot = new IndexedGraph<>(graph, mapping, false);
+        this.workspaces = new WorkspacePool<>(() -> new IndexedDijkstraSearch(snapshot.n));
+    }
+
+    /**
+     * Get the mapping of the graph vertices to the integers used by the integer versions of the
+     * queries.
+     *
+     * @return the vertex to integer mapping
+     */
+    public VertexToIntegerMapping<V> getVertexToIntegerMapping()
+    {
+        return snapshot.mapping;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        int s = snapshot.indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        int t = snapshot.indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        IndexedDijkstraSearch search = workspaces.acquire();
+        try {
+            if (!run(search, s, t)) {
+                return createEmptyPath(source, sink);
+            }
+            return buildPath(search, s, t);
+        } finally {
+            workspaces.release(search);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        return getPathWeight(
+            snapshot.indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX),
+            snapshot.indexOf(sink, GRAPH_MUST_CONTAIN_THE_SINK_VERTEX));
+    }
+
+    /**
+     * Get the weight of the shortest path between two vertices given by their integer indices in
+     * the vertex mapping.
+     *
+     * @param source the index of the source vertex
+     * @param sink the index of the sink vertex
+     * @return the weight of the shortest path or {@link Double#POSITIVE_INFINITY} if no path exists
+     * @throws IllegalArgumentException if an index is not in $[0, n)$
+     */
+    public double getPathWeight(int source, int sink)
+    {
+        if (source < 0 || source >= snapshot.n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (sink < 0 || sink >= snapshot.n) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        IndexedDijkstraSearch search = workspaces.acquire();
+        try {
+            run(search, source, sink);
+            return search.getDistance(sink);
+        } finally {
+            workspaces.release(search);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        int s = snapshot.indexOf(source, GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        IndexedDijkstraSearch search = workspaces.acquire();
+        try {
+            run(search, s, -1);
+
+            Map<V, Pair<Double, E>> distanceAndPredecessorMap = new HashMap<>();
+            for (int v = 0; v < snapshot.n; v++) {
+                if (search.isReached(v)) {
+                    E e = v == s ? null : snapshot.edges[search.predPosition[v]];
+                    distanceAndPredecessorMap
+                        .put(snapshot.indexList.get(v), Pair.of(search.dist[v], e));
+                }
+            }
+            return new TreeSingleSourcePathsImpl<>(graph, source, distanceAndPredecessorMap);
+        } finally {
+            workspaces.release(search);
+        }
+    }
+
+    /**
+     * Run or continue the search from a source until the sink is settled, or until all reachable
+     * vertices are settled if the sink is negative.
+     *
+     * @return true if the sink is reachable from the source
+     */
+    private boolean run(IndexedDijkstraSearch search, int s, int t)
+    {
+        if (search.getSource() != s) {
+            search.start(s);
+        }
+        if (t >= 0 && search.isSettled(t)) {
+            // already settled by a previous query
+            return true;
+        }
+
+        int[] offsets = snapshot.offsets;
+        int[] targets = snapshot.targets;
+        double[] weights = snapshot.weights;
+        IndexedBinaryHeap heap = search.heap;
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            double vDist = search.dist[v];
+            for (int p = offsets[v]; p < offsets[v + 1]; p++) {
+                search.relax(targets[p], vDist + weights[p], v, p);
+            }
+            if (v == t) {
+                return true;
+            }
+        }
+        return t >= 0 && search.isReached(t);
+    }
+
+    private GraphPath<V, E> buildPath(IndexedDijkstraSearch search, int s, int t)
+    {
+        V sourceVertex = snapshot.indexList.get(s);
+        if (s == t) {
+            return GraphWalk.singletonWalk(graph, sourceVertex, 0d);
+        }
+        List<E> edgeList = new ArrayList<>();
+        for (int v = t; v != s; v = search.predVertex[v]) {
+            edgeList.add(snapshot.edges[search.predPosition[v]]);
+        }
+        Collections.reverse(edgeList);
+        return new GraphWalk<>(
+            graph, sourceVertex, snapshot.indexList.get(t), null, edgeList, search.dist[t]);
+    }
+
+}
@@ -0,0 +1,161 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * Immutable snapshot of a graph with non-negative edge weights in compressed sparse row form, used
+ * by the index based shortest path algorithms.
+ *
+ * <p>
+ * The outgoing edges of vertex $i$ are stored in positions $[offsets[i], offsets[i+1])$ of the
+ * forward arrays. The incoming edges are stored in the same way in the reverse arrays, where each
+ * position refers back to the position of the same edge in the forward arrays. For undirected
+ * graphs the reverse arrays are the forward arrays. Since all arrays are final and never modified
+ * after construction, a snapshot can be shared by multiple threads.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+final class IndexedGraph<V, E>
+{
+    final VertexToIntegerMapping<V> mapping;
+    final Map<V, Integer> vertexMap;
+    final List<V> indexList;
+    final int n;
+
+    final int[] offsets;
+    final int[] targets;
+    final double[] weights;
+    final E[] edges;
+
+    final int[] reverseOffsets;
+    final int[] reverseTargets;
+    final int[] reversePositions;
+
+    /**
+     * Create a snapshot.
+     *
+     * @param graph the graph
+     * @param mapping mapping of the vertices of the graph to the integers $[0, n)$
+     * @param withReverse whether to also create the incoming edges for directed graphs
+     * @throws IllegalArgumentException if the graph contains an edge with negative weight or if
+     *         the mapping does not match the vertex set of the graph
+     */
+    @SuppressWarnings("unchecked")
+    IndexedGraph(Graph<V, E> graph, VertexToIntegerMapping<V> mapping, boolean withReverse)
+    {
+        this.mapping = Objects.requireNonNull(mapping, "Mapping cannot be null");
+        this.vertexMap = mapping.getVertexMap();
+        this.indexList = mapping.getIndexList();
+        this.n = indexList.size();
+
+        if (n != graph.vertexSet().size()) {
+            throw new IllegalArgumentException("Mapping does not match the graph vertices");
+        }
+
+        this.offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            V v = indexList.get(i);
+            if (!graph.containsVertex(v)) {
+                throw new IllegalArgumentException("Mapping does not match the graph vertices");
+            }
+            offsets[i + 1] = offsets[i] + graph.outgoingEdgesOf(v).size();
+        }
+
+        int m = offsets[n];
+        this.targets = new int[m];
+        this.weights = new double[m];
+        this.edges = (E[]) new Object[m];
+        int p = 0;
+        for (int i = 0; i < n; i++) {
+            V v = indexList.get(i);
+            for (E e : graph.outgoingEdgesOf(v)) {
+                double w = graph.getEdgeWeight(e);
+                if (w < 0d) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                targets[p] = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+                weights[p] = w;
+                edges[p] = e;
+                p++;
+            }
+        }
+
+        if (!withReverse || !graph.getType().isDirected()) {
+            this.reverseOffsets = offsets;
+            this.reverseTargets = targets;
+            this.reversePositions = null;
+            return;
+        }
+
+        this.reverseOffsets = new int[n + 1];
+        for (int q = 0; q < m; q++) {
+            reverseOffsets[targets[q] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            reverseOffsets[i + 1] += reverseOffsets[i];
+        }
+        this.reverseTargets = new int[m];
+        this.reversePositions = new int[m];
+        int[] next = Arrays.copyOf(reverseOffsets, n);
+        for (int i = 0; i < n; i++) {
+            for (int q = offsets[i]; q < offsets[i + 1]; q++) {
+                int r = next[targets[q]]++;
+                reverseTargets[r] = i;
+                reversePositions[r] = q;
+            }
+        }
+    }
+
+    /**
+     * Get the position in the forward arrays of the edge stored in a position of the reverse
+     * arrays.
+     *
+     * @param r the position in the reverse arrays
+     * @return the position in the forward arrays
+     */
+    int forwardPosition(int r)
+    {
+        return reversePositions == null ? r : reversePositions[r];
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex
+     * @param message the message of the exception if the vertex is unknown
+     * @return the index of the vertex
+     * @throws IllegalArgumentException if the vertex is not in the snapshot
+     */
+    int indexOf(V v, String message)
+    {
+        Integer index = vertexMap.get(v);
+        if (index == null) {
+            throw new IllegalArgumentException(message);
+        }
+        return index;
+    }
+
+}
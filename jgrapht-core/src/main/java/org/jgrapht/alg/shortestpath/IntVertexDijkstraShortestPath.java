@@ -140,6 +140,7 @@ public final class IntVertexDijkstraShortestPath<E>
         private double[] dist;
         private E[] pred;
         private IdentifierMap idMap;
+        private IntGraphIterables ints;
 
         @SuppressWarnings("unchecked")
         public Algorithm()
@@ -173,6 +174,8 @@ public final class IntVertexDijkstraShortestPath<E>
                 for (Integer v : graph.vertexSet()) {
                     idMap.put(v, i++);
                 }
+            } else if (graph.iterables() instanceof IntGraphIterables) {
+                ints = (IntGraphIterables) graph.iterables();
             }
         }
 
@@ -201,6 +204,11 @@ public final class IntVertexDijkstraShortestPath<E>
                     break;
                 }
 
+                if (ints != null) {
+                    relaxPrimitive(v, vDistance);
+                    continue;
+                }
+
                 for (E e : graph.outgoingEdgesOf(v)) {
                     Integer u = Graphs.getOppositeVertex(graph, e, v);
                     double eWeight = graph.getEdgeWeight(e);
@@ -222,6 +230,30 @@ public final class IntVertexDijkstraShortestPath<E>
             return new ArrayBasedSingleSourcePathsImpl(source, dist, pred, idMap);
         }
 
+        /**
+         * Relax the outgoing edges of a vertex using the primitive access of the graph, without
+         * creating the edge set.
+         */
+        @SuppressWarnings("unchecked")
+        private void relaxPrimitive(int v, double vDistance)
+        {
+            ints.forEachOutgoingEdge(v, (e, u) -> {
+                double eWeight = ints.edgeWeight(e);
+                if (eWeight < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+                AddressableHeap.Handle<Double, Integer> uNode = nodes[u];
+                double uDist = vDistance + eWeight;
+                if (uNode == null) {
+                    nodes[u] = heap.insert(uDist, u);
+                    pred[u] = (E) Integer.valueOf(e);
+                } else if (uDist < uNode.getKey()) {
+                    uNode.decreaseKey(uDist);
+                    pred[u] = (E) Integer.valueOf(e);
+                }
+            });
+        }
+
         public SingleSourcePaths<Integer, E> getPathsWithIdMap(Integer source, Integer target)
         {
             dist[idMap.get(source)] = 0d;
@@ -937,6 +937,26 @@ class TransitNodeRoutingPrecomputation<V, E> {
             this.visitedBackwardVoronoiCells = visitedBackwardVoronoiCells;
         }
 
+        /**
+         * Returns the ids of the Voronoi cells visited during the forward search from {@code vertex}.
+         *
+         * @param vertex vertex in the contraction graph
+         * @return ids of visited Voronoi cells
+         */
+        Set<Integer> getVisitedForwardVoronoiCells(ContractionVertex<V> vertex) {
+            return visitedForwardVoronoiCells.get(vertex.vertexId);
+        }
+
+        /**
+         * Returns the ids of the Voronoi cells visited during the backward search from {@code vertex}.
+         *
+         * @param vertex vertex in the contraction graph
+         * @return ids of visited Voronoi cells
+         */
+        Set<Integer> getVisitedBackwardVoronoiCells(ContractionVertex<V> vertex) {
+            return visitedBackwardVoronoiCells.get(vertex.vertexId);
+        }
+
         /**
          * Returns $true$ when no shortest paths between {@code source} and {@code sink}
          * contains a transit vertex.
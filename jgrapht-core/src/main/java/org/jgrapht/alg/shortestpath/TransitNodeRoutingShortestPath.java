@@ -104,6 +104,10 @@ public class TransitNodeRoutingShortestPath<V, E> extends BaseShortestPathAlgori
      * are local to each other or not.
      */
     private LocalityFilter<V> localityFilter;
+    /**
+     * Result of the precomputation stage.
+     */
+    private TransitNodeRouting<V, E> transitNodeRouting;
 
     /**
      * Constructs a new instance for the given {@code graph} and {@code executor}.
@@ -145,6 +149,16 @@ public class TransitNodeRoutingShortestPath<V, E> extends BaseShortestPathAlgori
         initialize(routing);
     }
 
+    /**
+     * Returns the result of the precomputation stage, performing the precomputation if needed.
+     *
+     * @return transit node routing
+     */
+    TransitNodeRouting<V, E> getTransitNodeRouting() {
+        performPrecomputation();
+        return transitNodeRouting;
+    }
+
     /**
      * Initializes fields {@code contractionHierarchy}, {@code localityFilter},
      * {@code accessVertices}, {@code manyToManyShortestPaths} and {@code localQueriesAlgorithm}.
@@ -152,6 +166,7 @@ public class TransitNodeRoutingShortestPath<V, E> extends BaseShortestPathAlgori
      * @param transitNodeRouting transit node routing.
      */
     private void initialize(TransitNodeRouting<V, E> transitNodeRouting) {
+        this.transitNodeRouting = transitNodeRouting;
         this.contractionHierarchy = transitNodeRouting.getContractionHierarchy();
         this.localityFilter = transitNodeRouting.getLocalityFilter();
         this.accessVertices = transitNodeRouting.getAccessVertices();
@@ -0,0 +1,96 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * A bounded lock-free pool of query workspaces.
+ *
+ * <p>
+ * A thread acquires a workspace before a query, has exclusive access to it during the query and
+ * releases it afterwards. New workspaces are created only when all pooled ones are in use, and
+ * workspaces released when the pool is full are left to the garbage collector. Acquiring and
+ * releasing does not allocate, so that in the steady state queries reuse the same workspaces.
+ *
+ * @param <W> the workspace type
+ *
+ * @author Dimitrios Michail
+ */
+final class WorkspacePool<W>
+{
+    private final Supplier<W> supplier;
+    private final AtomicReferenceArray<W> slots;
+
+    /**
+     * Create a pool with one slot per available processor.
+     *
+     * @param supplier supplier of new workspaces
+     */
+    WorkspacePool(Supplier<W> supplier)
+    {
+        this(supplier, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Create a pool.
+     *
+     * @param supplier supplier of new workspaces
+     * @param capacity maximum number of idle workspaces kept
+     */
+    WorkspacePool(Supplier<W> supplier, int capacity)
+    {
+        this.supplier = Objects.requireNonNull(supplier);
+        this.slots = new AtomicReferenceArray<>(Math.max(1, capacity));
+    }
+
+    /**
+     * Acquire a workspace for exclusive use.
+     *
+     * @return a workspace
+     */
+    W acquire()
+    {
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) != null) {
+                W w = slots.getAndSet(i, null);
+                if (w != null) {
+                    return w;
+                }
+            }
+        }
+        return supplier.get();
+    }
+
+    /**
+     * Return a workspace to the pool.
+     *
+     * @param w the workspace
+     */
+    void release(W w)
+    {
+        for (int i = 0; i < slots.length(); i++) {
+            if (slots.get(i) == null && slots.compareAndSet(i, null, w)) {
+                return;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * Primitive binary min-heap over the integers $[0, n)$ with double keys, supporting decrease key.
+ * The heap does not allocate after construction which makes it suitable for algorithms which
+ * repeatedly run on int indexed data, such as shortest path searches on a
+ * {@link org.jgrapht.util.VertexToIntegerMapping}.
+ *
+ * @author Dimitrios Michail
+ */
+public final class IndexedBinaryHeap
+{
+    /* Elements in heap order */
+    private final int[] heap;
+    /* Position of each element in the heap array or -1 if not in the heap */
+    private final int[] position;
+    /* Key of each element */
+    private final double[] keys;
+    /* Number of elements in the heap */
+    private int size;
+
+    /**
+     * Create a heap for the elements $[0, n)$.
+     *
+     * @param capacity the number of elements $n$
+     */
+    public IndexedBinaryHeap(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        Arrays.fill(position, -1);
+        this.keys = new double[capacity];
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the number of elements in the heap.
+     *
+     * @return the number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if an element is in the heap.
+     *
+     * @param v the element
+     * @return true if the element is in the heap, false otherwise
+     */
+    public boolean contains(int v)
+    {
+        return position[v] != -1;
+    }
+
+    /**
+     * Get the key of an element. The result is only meaningful if the element is in the heap.
+     *
+     * @param v the element
+     * @return the key of the element
+     */
+    public double getKey(int v)
+    {
+        return keys[v];
+    }
+
+    /**
+     * Insert an element which is not in the heap.
+     *
+     * @param v the element
+     * @param key the key
+     */
+    public void insert(int v, double key)
+    {
+        keys[v] = key;
+        heap[size] = v;
+        position[v] = size;
+        siftUp(size++);
+    }
+
+    /**
+     * Decrease the key of an element in the heap.
+     *
+     * @param v the element
+     * @param key the new key which must not be larger than the current key
+     */
+    public void decreaseKey(int v, double key)
+    {
+        keys[v] = key;
+        siftUp(position[v]);
+    }
+
+    /**
+     * Get the element with the minimum key without removing it.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int findMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        return heap[0];
+    }
+
+    /**
+     * Remove and return the element with the minimum key.
+     *
+     * @return the element with the minimum key
+     * @throws NoSuchElementException if the heap is empty
+     */
+    public int deleteMin()
+    {
+        if (size == 0) {
+            throw new NoSuchElementException();
+        }
+        int min = heap[0];
+        position[min] = -1;
+        if (--size > 0) {
+            heap[0] = heap[size];
+            position[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Remove all elements. Runs in time proportional to the number of elements in the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i)
+    {
+        int v = heap[i];
+        double key = keys[v];
+        while (i > 0) {
+            int parent = (i - 1) >>> 1;
+            int u = heap[parent];
+            if (keys[u] <= key) {
+                break;
+            }
+            heap[i] = u;
+            position[u] = i;
+            i = parent;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+
+    private void siftDown(int i)
+    {
+        int v = heap[i];
+        double key = keys[v];
+        int half = size >>> 1;
+        while (i < half) {
+            int child = 2 * i + 1;
+            int right = child + 1;
+            if (right < size && keys[heap[right]] < keys[heap[child]]) {
+                child = right;
+            }
+            int u = heap[child];
+            if (key <= keys[u]) {
+                break;
+            }
+            heap[i] = u;
+            position[u] = i;
+            i = child;
+        }
+        heap[i] = v;
+        position[v] = i;
+    }
+}
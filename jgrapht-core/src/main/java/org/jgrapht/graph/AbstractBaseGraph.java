@@ -18,11 +18,13 @@
 package org.jgrapht.graph;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.specifics.*;
 import org.jgrapht.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -325,6 +327,125 @@ public abstract class AbstractBaseGraph<V, E>
         }
     }
 
+    /**
+     * Add a batch of vertices and edges to the graph. This has the same effect as calling
+     * {@link #addVertex(Object)} for each vertex and then
+     * {@link #addEdge(Object, Object, Object)} for each edge, in order, but avoids most of the
+     * per-element overhead. Vertices and edges which are already contained in the graph, as well
+     * as edges which would violate the absence of multiple edges, are skipped.
+     *
+     * <p>
+     * The edges are validated as a whole: if some endpoint is not contained in the graph or some
+     * edge is a self-loop which the graph does not allow, an exception is thrown and no edge of
+     * the batch is added. The vertices of the batch are added in any case.
+     *
+     * <p>
+     * Duplicate detection requires additional work only for graphs which do not allow multiple
+     * edges. For the default graph specifics, the adjacency structures of the vertices are sized
+     * once according to their number of new edges and, if an executor is provided, they are
+     * looked up and filled in parallel.
+     *
+     * @param vertices the vertices to add
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param edges the edges to add
+     * @param executor executor used to parallelize the work, can be null
+     * @throws NullPointerException if some vertex or edge is null
+     * @throws IllegalArgumentException if the lists of sources, targets and edges have different
+     *         sizes, if some endpoint is not contained in the graph, or if some edge is a self-loop
+     *         and the graph does not allow self-loops
+     */
+    public void bulkLoad(
+        Collection<? extends V> vertices, List<? extends V> sources, List<? extends V> targets,
+        List<? extends E> edges, ThreadPoolExecutor executor)
+    {
+        int m = edges.size();
+        if (sources.size() != m || targets.size() != m) {
+            throw new IllegalArgumentException(
+                "Sources, targets and edges must have the same size");
+        }
+        for (V v : vertices) {
+            specifics.addVertex(Objects.requireNonNull(v));
+        }
+
+        List<V> batchSources = new ArrayList<>(m);
+        List<V> batchTargets = new ArrayList<>(m);
+        List<E> batchEdges = new ArrayList<>(m);
+        Iterator<? extends V> sourceIt = sources.iterator();
+        Iterator<? extends V> targetIt = targets.iterator();
+        for (E e : edges) {
+            V s = Objects.requireNonNull(sourceIt.next());
+            V t = Objects.requireNonNull(targetIt.next());
+            if (!type.isAllowingSelfLoops() && s.equals(t)) {
+                throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+            }
+            batchSources.add(s);
+            batchTargets.add(t);
+            batchEdges.add(Objects.requireNonNull(e));
+        }
+
+        Set<Object> pairs = null;
+        boolean checkExisting = false;
+        if (!type.isAllowingMultipleEdges()) {
+            pairs = CollectionUtil.newHashSetWithExpectedSize(m);
+            checkExisting = !intrusiveEdgesSpecifics.getEdgeSet().isEmpty();
+        }
+        int added = 0;
+        for (int i = 0; i < m; i++) {
+            V s = batchSources.get(i);
+            V t = batchTargets.get(i);
+            E e = batchEdges.get(i);
+            if (pairs != null) {
+                if (intrusiveEdgesSpecifics.containsEdge(e)) {
+                    continue;
+                }
+                Object pair = type.isDirected() ? Pair.of(s, t) : UnorderedPair.of(s, t);
+                if (!pairs.add(pair) || checkExisting && specifics.getEdge(s, t) != null) {
+                    continue;
+                }
+            }
+            if (!intrusiveEdgesSpecifics.add(e, s, t)) {
+                continue;
+            }
+            batchSources.set(added, s);
+            batchTargets.set(added, t);
+            batchEdges.set(added, e);
+            added++;
+        }
+        batchSources.subList(added, m).clear();
+        batchTargets.subList(added, m).clear();
+        batchEdges.subList(added, m).clear();
+
+        try {
+            specifics.addEdgesToTouchingVertices(batchSources, batchTargets, batchEdges, executor);
+        } catch (RuntimeException ex) {
+            for (E e : batchEdges) {
+                intrusiveEdgesSpecifics.remove(e);
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Add a batch of vertices and edges to the graph using the calling thread.
+     *
+     * @param vertices the vertices to add
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param edges the edges to add
+     * @throws NullPointerException if some vertex or edge is null
+     * @throws IllegalArgumentException if the lists of sources, targets and edges have different
+     *         sizes, if some endpoint is not contained in the graph, or if some edge is a self-loop
+     *         and the graph does not allow self-loops
+     * @see #bulkLoad(Collection, List, List, List, ThreadPoolExecutor)
+     */
+    public void bulkLoad(
+        Collection<? extends V> vertices, List<? extends V> sources, List<? extends V> targets,
+        List<? extends E> edges)
+    {
+        bulkLoad(vertices, sources, targets, edges, null);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -36,15 +36,21 @@ import java.util.function.*;
  * network, one would simply create two weighted views of the same underlying graph.
  *
  * <p>
- * This class offers two ways to associate a weight with an edge:
+ * This class offers three ways to associate a weight with an edge:
  * <ol>
  * <li>Explicitly through a map which contains a mapping from an edge to a weight</li>
  * <li>Implicitly through a function which computes a weight for a given edge</li>
+ * <li>Implicitly through a {@link ToDoubleFunction} which computes a primitive weight for a given
+ * edge</li>
  * </ol>
  * In the first way, the map is used to lookup edge weights. In the second way, a function is
  * provided to calculate the weight of an edge. If the map does not contain a particular edge, or
  * the function does not provide a weight for a particular edge, the @link{getEdgeWeight} call is
- * propagated to the backing graph.
+ * propagated to the backing graph. The third way avoids boxing every weight, and always uses the
+ * weight computed by the function. When its weights are cached and the edges of the graph are
+ * integers numbered densely from zero, such as in the sparse graphs of the jgrapht-opt module, the
+ * weights are computed once and stored in an array indexed by edge. The view then costs as little
+ * as a graph with native weights.
  *
  * Finally, the view provides a @link{setEdgeWeight} method. This method behaves differently
  * depending on how the view is constructed. See @link{setEdgeWeight} for details.
@@ -62,7 +68,10 @@ public class AsWeightedGraph<V, E>
 
     private static final long serialVersionUID = -6838132233557L;
     private final Function<E, Double> weightFunction;
+    private final ToDoubleFunction<E> primitiveWeightFunction;
     private final Map<E, Double> weights;
+    private final double[] weightArray;
+    private final BitSet weightArrayPresent;
     private final boolean writeWeightsThrough;
     private final boolean cacheWeights;
 
@@ -97,6 +106,9 @@ public class AsWeightedGraph<V, E>
         super(graph);
         this.weights = Objects.requireNonNull(weights);
         this.weightFunction = null;
+        this.primitiveWeightFunction = null;
+        this.weightArray = null;
+        this.weightArrayPresent = null;
         this.cacheWeights = false;
         this.writeWeightsThrough = writeWeightsThrough;
 
@@ -132,14 +144,108 @@ public class AsWeightedGraph<V, E>
     {
         super(graph);
         this.weightFunction = Objects.requireNonNull(weightFunction);
+        this.primitiveWeightFunction = null;
         this.cacheWeights = cacheWeights;
         this.writeWeightsThrough = writeWeightsThrough;
         this.weights = new HashMap<>();
+        this.weightArray = null;
+        this.weightArrayPresent = null;
 
         if (this.writeWeightsThrough)
             GraphTests.requireWeighted(graph);
     }
 
+    /**
+     * Constructor for AsWeightedGraph which uses a primitive weight function to compute edge
+     * weights. The weight function is invoked whenever the weight of an edge is queried, without
+     * boxing the weight.
+     *
+     * @param graph the backing graph over which an weighted view is to be created
+     * @param weightFunction function which maps an edge to a weight
+     * @throws NullPointerException if the graph or the weight function is null
+     */
+    public AsWeightedGraph(Graph<V, E> graph, ToDoubleFunction<E> weightFunction)
+    {
+        this(graph, weightFunction, false);
+    }
+
+    /**
+     * Constructor for AsWeightedGraph which uses a primitive weight function to compute edge
+     * weights. If <code>cacheWeights</code> is set to <code>false</code>, the weight function is
+     * invoked whenever the weight of an edge is queried, without boxing the weight.
+     *
+     * <p>
+     * If <code>cacheWeights</code> is set to <code>true</code> and all edges of the graph are
+     * non-negative integers, whose largest value is less than twice the number of edges, the
+     * weights of all edges are computed by this constructor and stored in an array indexed by
+     * edge. Otherwise, or for edges added to the backing graph later on, the weight of an edge is
+     * cached after the first invocation of the weight function, in the array if the edge falls
+     * within its range and in a map otherwise. Cached weights can be changed
+     * using @link{setEdgeWeight}.
+     *
+     * <p>
+     * A cached weight is discarded when its edge is removed through this view, so that an edge
+     * which is later added again, or an integer edge id which is reused by the backing graph,
+     * gets its weight recomputed. Edges removed directly from the backing graph are not observed
+     * by this view; their cached weights remain and are returned for reused ids.
+     *
+     * @param graph the backing graph over which an weighted view is to be created
+     * @param weightFunction function which maps an edge to a weight
+     * @param cacheWeights if set to <code>true</code>, weights are cached once computed by the
+     *        weight function
+     * @throws NullPointerException if the graph or the weight function is null
+     */
+    public AsWeightedGraph(
+        Graph<V, E> graph, ToDoubleFunction<E> weightFunction, boolean cacheWeights)
+    {
+        super(graph);
+        this.weightFunction = null;
+        this.primitiveWeightFunction = Objects.requireNonNull(weightFunction);
+        this.cacheWeights = cacheWeights;
+        this.writeWeightsThrough = false;
+        this.weights = new HashMap<>();
+        this.weightArray = cacheWeights ? computeWeightArray(graph, weightFunction) : null;
+        this.weightArrayPresent = weightArray != null ? new BitSet(weightArray.length) : null;
+        if (weightArrayPresent != null) {
+            for (E e : graph.edgeSet()) {
+                weightArrayPresent.set((Integer) e);
+            }
+        }
+    }
+
+    /**
+     * Compute the weights of all edges of a graph whose edges are densely numbered integers.
+     * Positions which do not correspond to an edge are left at zero.
+     *
+     * @return the weights indexed by edge, or null if the graph has no edges or its edges are not
+     *         densely numbered integers
+     */
+    private static <V, E> double[] computeWeightArray(
+        Graph<V, E> graph, ToDoubleFunction<E> weightFunction)
+    {
+        Set<E> edges = graph.edgeSet();
+        long limit = Math.max(16L, 2L * edges.size());
+        int max = -1;
+        for (E e : edges) {
+            if (!(e instanceof Integer)) {
+                return null;
+            }
+            int index = (Integer) e;
+            if (index < 0 || index >= limit) {
+                return null;
+            }
+            max = Math.max(max, index);
+        }
+        if (max < 0) {
+            return null;
+        }
+        double[] result = new double[max + 1];
+        for (E e : edges) {
+            result[(Integer) e] = weightFunction.applyAsDouble(e);
+        }
+        return result;
+    }
+
     /**
      * Returns the weight assigned to a given edge. If weights are provided through a map, first a
      * map lookup is performed. If the edge is not found, the @link{getEdgeWeight} method of the
@@ -148,6 +254,8 @@ public class AsWeightedGraph<V, E>
      * is, if <code>cacheWeights</code> is set to <code>true</code> in the constructor). If caching
      * was disabled, or the edge could not be found in the cache, the weight function is invoked. If
      * the function does not provide a weight for a given edge, the call is again propagated to the
+     * underlying graph. Weights provided through a primitive weight function are looked up in the
+     * same way, first in the cache array and then in the cache, but are never propagated to the
      * underlying graph.
      *
      * @param e edge of interest
@@ -157,6 +265,21 @@ public class AsWeightedGraph<V, E>
     @Override
     public double getEdgeWeight(E e)
     {
+        if (primitiveWeightFunction != null) {
+            if (!cacheWeights) {
+                return primitiveWeightFunction.applyAsDouble(e);
+            }
+            int index = arrayIndexOf(e);
+            if (index >= 0) {
+                if (!weightArrayPresent.get(index)) {
+                    weightArray[index] = primitiveWeightFunction.applyAsDouble(e);
+                    weightArrayPresent.set(index);
+                }
+                return weightArray[index];
+            }
+            return weights.computeIfAbsent(e, primitiveWeightFunction::applyAsDouble);
+        }
+
         Double weight;
         if (weightFunction != null) {
             if (cacheWeights) // If weights are cached, check map first before invoking the weight
@@ -190,21 +313,117 @@ public class AsWeightedGraph<V, E>
     {
         assert e != null;
 
-        if (weightFunction != null && !cacheWeights) {
+        if ((weightFunction != null || primitiveWeightFunction != null) && !cacheWeights) {
             throw new UnsupportedOperationException(
                 "Cannot set an edge weight when a weight function is used and caching is disabled");
         }
 
+        int index = arrayIndexOf(e);
+        if (index >= 0) {
+            weightArray[index] = weight;
+            weightArrayPresent.set(index);
+            return;
+        }
+
         this.weights.put(e, weight);
 
         if (this.writeWeightsThrough)
             this.getDelegate().setEdgeWeight(e, weight);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the weights are computed by a {@link ToDoubleFunction} and cached, the cached weight of
+     * the edge is discarded.
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        boolean removed = super.removeEdge(e);
+        if (removed) {
+            invalidateCachedWeight(e);
+        }
+        return removed;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the weights are computed by a {@link ToDoubleFunction} and cached, the cached weight of
+     * the removed edge is discarded.
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        E e = super.removeEdge(sourceVertex, targetVertex);
+        if (e != null) {
+            invalidateCachedWeight(e);
+        }
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * If the weights are computed by a {@link ToDoubleFunction} and cached, the cached weights of
+     * the edges touching the vertex are discarded.
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        if (!isCachingPrimitiveFunction() || !containsVertex(v)) {
+            return super.removeVertex(v);
+        }
+        List<E> touching = new ArrayList<>(edgesOf(v));
+        boolean removed = super.removeVertex(v);
+        for (E e : touching) {
+            invalidateCachedWeight(e);
+        }
+        return removed;
+    }
+
     @Override
     public GraphType getType()
     {
         return super.getType().asWeighted();
     }
 
+    private boolean isCachingPrimitiveFunction()
+    {
+        return cacheWeights && primitiveWeightFunction != null;
+    }
+
+    /**
+     * Discard the cached weight of an edge computed by the {@link ToDoubleFunction}. Weights
+     * provided through a map or cached from a {@link Function} are left untouched.
+     */
+    private void invalidateCachedWeight(E e)
+    {
+        if (!isCachingPrimitiveFunction()) {
+            return;
+        }
+        int index = arrayIndexOf(e);
+        if (index >= 0) {
+            weightArrayPresent.clear(index);
+        } else {
+            weights.remove(e);
+        }
+    }
+
+    /**
+     * Returns the position of an edge in the weight array, or -1 if the edge is not covered by it.
+     */
+    private int arrayIndexOf(E e)
+    {
+        if (weightArray == null || !(e instanceof Integer)) {
+            return -1;
+        }
+        int index = (Integer) e;
+        return index >= 0 && index < weightArray.length ? index : -1;
+    }
+
 }
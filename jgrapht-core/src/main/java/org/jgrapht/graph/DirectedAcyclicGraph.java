@@ -23,6 +23,7 @@ import org.jgrapht.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -320,6 +321,35 @@ public class DirectedAcyclicGraph<V, E>
         return result;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * Since every edge needs to be checked for cycles and placed in the topological order, this
+     * implementation adds the vertices and edges one at a time and ignores the executor. Edges
+     * preceding an edge which fails are kept in the graph.
+     *
+     * @throws IllegalArgumentException if some edge would induce a cycle in the graph
+     */
+    @Override
+    public void bulkLoad(
+        Collection<? extends V> vertices, List<? extends V> sources, List<? extends V> targets,
+        List<? extends E> edges, ThreadPoolExecutor executor)
+    {
+        if (sources.size() != edges.size() || targets.size() != edges.size()) {
+            throw new IllegalArgumentException(
+                "Sources, targets and edges must have the same size");
+        }
+        for (V v : vertices) {
+            addVertex(v);
+        }
+        Iterator<? extends V> sourceIt = sources.iterator();
+        Iterator<? extends V> targetIt = targets.iterator();
+        for (E e : edges) {
+            addEdge(sourceIt.next(), targetIt.next(), e);
+        }
+    }
+
     /**
      * Get the ancestors of a vertex.
      *
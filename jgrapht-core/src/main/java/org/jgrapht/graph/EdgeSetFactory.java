@@ -42,4 +42,16 @@ public interface EdgeSetFactory<V, E>
      * @return new set
      */
     Set<E> createEdgeSet(V vertex);
+
+    /**
+     * Prepare an edge set created by this factory for the addition of a number of edges. This is
+     * a hint used by bulk operations in order to avoid repeated resizing. The default
+     * implementation does nothing.
+     *
+     * @param edgeSet an edge set created by this factory
+     * @param additionalEdges the number of edges which are about to be added
+     */
+    default void ensureCapacity(Set<E> edgeSet, int additionalEdges)
+    {
+    }
 }
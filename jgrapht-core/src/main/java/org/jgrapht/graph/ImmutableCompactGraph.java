@@ -0,0 +1,760 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * An immutable copy of a graph which is optimized for memory usage and traversal speed.
+ *
+ * <p>
+ * The graph keeps the vertex and edge objects of the original graph, but assigns them dense
+ * integer identifiers. Vertices and edges are found by their identifier using open-addressing
+ * hash tables which store only integers, and the adjacency structure is stored in compressed
+ * sparse row (CSR) format. Compared to {@link DefaultDirectedWeightedGraph}, which allocates an
+ * edge container with two hash sets per vertex and an intrusive edge object and hash map entry
+ * per edge, this representation uses a few primitive array slots per edge. The returned edge
+ * sets are views over a range of these arrays, so that creating them and iterating over them
+ * allocates no per-edge objects. Edges are numbered so that the outgoing edges of each vertex
+ * are consecutive, and traversals read the per-edge arrays sequentially. Note that edges which
+ * extend {@link DefaultEdge} store their endpoints and weight inside the edge object in the
+ * original graph, so that for them the lookups of this graph are not faster, although it still
+ * uses much less memory.
+ *
+ * <p>
+ * The graph has the same type as the original graph, turned unmodifiable, and all modification
+ * methods throw {@link UnsupportedOperationException}. The iteration order of the vertex set,
+ * the edge set and all incidence sets is the same as the order of the corresponding sets of the
+ * original graph at the time of the copy. The copy does not reflect later modifications of the
+ * original graph. Finding an edge between two vertices requires a scan of the incident edges of
+ * one of them. Mixed graphs are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ * @see Graphs#freeze(Graph)
+ */
+public class ImmutableCompactGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = 5862470188413541530L;
+
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+
+    /*
+     * Edges are numbered in the order of the outgoing edges of each vertex, so that traversals
+     * access the per-edge arrays sequentially. The hash tables are rebuilt after
+     * deserialization, since hash codes may change.
+     */
+    private final Object[] vertices;
+    private transient IndexTable vertexIndex;
+    private final Object[] edges;
+    private transient IndexTable edgeIndex;
+    private final int[] edgeOrder;
+
+    private final int[] sources;
+    private final int[] targets;
+    private final double[] weights;
+
+    /*
+     * Outgoing and incoming edges of each vertex in CSR format. In directed graphs the outgoing
+     * edges of a vertex are a range of edge numbers and need no array. In undirected graphs the
+     * incoming edges are the outgoing edges, and each self-loop is stored once.
+     */
+    private final int[] outOffsets;
+    private final int[] outEdges;
+    private final int[] inOffsets;
+    private final int[] inEdges;
+
+    /*
+     * Number of self-loops of each vertex, or null if the graph contains no self-loops.
+     */
+    private final int[] loops;
+
+    /**
+     * Create an immutable copy of a graph.
+     *
+     * @param graph the graph to copy
+     * @throws IllegalArgumentException if the graph is mixed
+     */
+    public ImmutableCompactGraph(Graph<V, E> graph)
+    {
+        GraphType graphType = Objects.requireNonNull(graph).getType();
+        if (graphType.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        this.type = graphType.asUnmodifiable();
+        this.vertexSupplier = graph.getVertexSupplier();
+        this.edgeSupplier = graph.getEdgeSupplier();
+        boolean directed = type.isDirected();
+
+        this.vertices = graph.vertexSet().toArray();
+        this.vertexIndex = new IndexTable(vertices);
+        int n = vertices.length;
+
+        /*
+         * Number the edges by the first vertex which reports them, remembering the position of
+         * each edge in the edge set.
+         */
+        Object[] edgeSetArray = graph.edgeSet().toArray();
+        IndexTable edgeSetIndex = new IndexTable(edgeSetArray);
+        int m = edgeSetArray.length;
+        this.edgeOrder = new int[m];
+        Arrays.fill(edgeOrder, -1);
+        this.outOffsets = new int[n + 1];
+        int[] incidence = null;
+        if (!directed) {
+            int total = 0;
+            for (int v = 0; v < n; v++) {
+                total += graph.edgesOf(TypeUtil.<V> uncheckedCast(vertices[v])).size();
+            }
+            incidence = new int[total];
+        }
+        int next = 0;
+        int pos = 0;
+        for (int v = 0; v < n; v++) {
+            V vertex = TypeUtil.uncheckedCast(vertices[v]);
+            for (E e : directed ? graph.outgoingEdgesOf(vertex) : graph.edgesOf(vertex)) {
+                int j = edgeSetIndex.indexOf(e);
+                if (edgeOrder[j] == -1) {
+                    edgeOrder[j] = next++;
+                }
+                if (!directed) {
+                    incidence[pos++] = edgeOrder[j];
+                }
+            }
+            outOffsets[v + 1] = directed ? next : pos;
+        }
+        this.edges = new Object[m];
+        for (int j = 0; j < m; j++) {
+            edges[edgeOrder[j]] = edgeSetArray[j];
+        }
+        this.edgeIndex = edgeSetIndex.renumber(edgeOrder, edges);
+
+        this.sources = new int[m];
+        this.targets = new int[m];
+        this.weights = type.isWeighted() ? new double[m] : null;
+        int[] loopCounts = null;
+        for (int e = 0; e < m; e++) {
+            E edge = edge(e);
+            int s = vertexIndex.indexOf(graph.getEdgeSource(edge));
+            int t = vertexIndex.indexOf(graph.getEdgeTarget(edge));
+            sources[e] = s;
+            targets[e] = t;
+            if (weights != null) {
+                weights[e] = graph.getEdgeWeight(edge);
+            }
+            if (s == t) {
+                if (loopCounts == null) {
+                    loopCounts = new int[n];
+                }
+                loopCounts[s]++;
+            }
+        }
+        this.loops = loopCounts;
+
+        if (directed) {
+            this.outEdges = null;
+            this.inOffsets = new int[n + 1];
+            this.inEdges = new int[m];
+            for (int v = 0; v < n; v++) {
+                int p = inOffsets[v];
+                for (E e : graph.incomingEdgesOf(TypeUtil.<V> uncheckedCast(vertices[v]))) {
+                    inEdges[p++] = edgeIndex.indexOf(e);
+                }
+                inOffsets[v + 1] = p;
+            }
+        } else {
+            this.outEdges = incidence;
+            this.inOffsets = outOffsets;
+            this.inEdges = outEdges;
+        }
+    }
+
+    private void readObject(ObjectInputStream in)
+        throws IOException, ClassNotFoundException
+    {
+        in.defaultReadObject();
+        this.vertexIndex = new IndexTable(vertices);
+        this.edgeIndex = new IndexTable(edges);
+    }
+
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        int s = vertexIndex.indexOf(sourceVertex);
+        int t = vertexIndex.indexOf(targetVertex);
+        if (s == -1 || t == -1) {
+            return null;
+        }
+        Set<E> result = new ArrayUnenforcedSet<>();
+        if (type.isDirected()) {
+            if (outOffsets[s + 1] - outOffsets[s] <= inOffsets[t + 1] - inOffsets[t]) {
+                for (int e = outOffsets[s]; e < outOffsets[s + 1]; e++) {
+                    if (targets[e] == t) {
+                        result.add(edge(e));
+                    }
+                }
+            } else {
+                for (int i = inOffsets[t]; i < inOffsets[t + 1]; i++) {
+                    if (sources[inEdges[i]] == s) {
+                        result.add(edge(inEdges[i]));
+                    }
+                }
+            }
+        } else {
+            int v = outOffsets[s + 1] - outOffsets[s] <= outOffsets[t + 1] - outOffsets[t] ? s : t;
+            for (int i = outOffsets[v]; i < outOffsets[v + 1]; i++) {
+                if (connects(outEdges[i], s, t)) {
+                    result.add(edge(outEdges[i]));
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        int s = vertexIndex.indexOf(sourceVertex);
+        int t = vertexIndex.indexOf(targetVertex);
+        if (s == -1 || t == -1) {
+            return null;
+        }
+        if (type.isDirected()) {
+            if (outOffsets[s + 1] - outOffsets[s] <= inOffsets[t + 1] - inOffsets[t]) {
+                for (int e = outOffsets[s]; e < outOffsets[s + 1]; e++) {
+                    if (targets[e] == t) {
+                        return edge(e);
+                    }
+                }
+            } else {
+                for (int i = inOffsets[t]; i < inOffsets[t + 1]; i++) {
+                    if (sources[inEdges[i]] == s) {
+                        return edge(inEdges[i]);
+                    }
+                }
+            }
+        } else {
+            int v = outOffsets[s + 1] - outOffsets[s] <= outOffsets[t + 1] - outOffsets[t] ? s : t;
+            for (int i = outOffsets[v]; i < outOffsets[v + 1]; i++) {
+                if (connects(outEdges[i], s, t)) {
+                    return edge(outEdges[i]);
+                }
+            }
+        }
+        return null;
+    }
+
+    private boolean connects(int e, int s, int t)
+    {
+        return (sources[e] == s && targets[e] == t) || (sources[e] == t && targets[e] == s);
+    }
+
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public V addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return edgeIndex.indexOf(e) != -1;
+    }
+
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return vertexIndex.indexOf(v) != -1;
+    }
+
+    @Override
+    public Set<E> edgeSet()
+    {
+        return new ElementSet<>(edges, edgeOrder, edgeIndex);
+    }
+
+    @Override
+    public int degreeOf(V vertex)
+    {
+        int v = assertVertexIndex(vertex);
+        if (type.isDirected()) {
+            return outOffsets[v + 1] - outOffsets[v] + inOffsets[v + 1] - inOffsets[v];
+        }
+        return outOffsets[v + 1] - outOffsets[v] + loopsOf(v);
+    }
+
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        return new IncidentEdgeSet(assertVertexIndex(vertex), true, true);
+    }
+
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        if (type.isUndirected()) {
+            return degreeOf(vertex);
+        }
+        int v = assertVertexIndex(vertex);
+        return inOffsets[v + 1] - inOffsets[v];
+    }
+
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return new IncidentEdgeSet(assertVertexIndex(vertex), type.isUndirected(), true);
+    }
+
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        if (type.isUndirected()) {
+            return degreeOf(vertex);
+        }
+        int v = assertVertexIndex(vertex);
+        return outOffsets[v + 1] - outOffsets[v];
+    }
+
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return new IncidentEdgeSet(assertVertexIndex(vertex), true, type.isUndirected());
+    }
+
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(E e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(V v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<V> vertexSet()
+    {
+        return new ElementSet<>(vertices, null, vertexIndex);
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return TypeUtil.uncheckedCast(vertices[sources[assertEdgeIndex(e)]]);
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return TypeUtil.uncheckedCast(vertices[targets[assertEdgeIndex(e)]]);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        int index = assertEdgeIndex(e);
+        return weights == null ? Graph.DEFAULT_EDGE_WEIGHT : weights[index];
+    }
+
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    private E edge(int e)
+    {
+        return TypeUtil.uncheckedCast(edges[e]);
+    }
+
+    private int loopsOf(int v)
+    {
+        return loops == null ? 0 : loops[v];
+    }
+
+    private int assertVertexIndex(V v)
+    {
+        int index = vertexIndex.indexOf(v);
+        if (index == -1) {
+            assertVertexExist(v);
+        }
+        return index;
+    }
+
+    private int assertEdgeIndex(E e)
+    {
+        int index = edgeIndex.indexOf(e);
+        if (index == -1) {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return index;
+    }
+
+    /**
+     * The edges of a vertex. In directed graphs the view includes the incoming and/or the
+     * outgoing edges, and a self-loop appears only once when both are included.
+     */
+    private class IncidentEdgeSet
+        extends
+        AbstractSet<E>
+    {
+        private final int vertex;
+        private final boolean outgoing;
+        private final boolean incoming;
+
+        IncidentEdgeSet(int vertex, boolean outgoing, boolean incoming)
+        {
+            this.vertex = vertex;
+            this.outgoing = outgoing;
+            this.incoming = incoming;
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            if (type.isUndirected() || !incoming) {
+                return new EdgeIterator(outEdges, outOffsets[vertex], outOffsets[vertex + 1]);
+            }
+            if (!outgoing) {
+                return new EdgeIterator(inEdges, inOffsets[vertex], inOffsets[vertex + 1]);
+            }
+            return new EdgeIterator(inEdges, inOffsets[vertex], inOffsets[vertex + 1])
+            {
+                private boolean outPhase;
+
+                @Override
+                public boolean hasNext()
+                {
+                    while (true) {
+                        if (super.hasNext()) {
+                            if (!outPhase || targets[current()] != vertex) {
+                                return true;
+                            }
+                            next++;
+                        } else if (!outPhase) {
+                            outPhase = true;
+                            array = outEdges;
+                            next = outOffsets[vertex];
+                            end = outOffsets[vertex + 1];
+                        } else {
+                            return false;
+                        }
+                    }
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            if (type.isUndirected()) {
+                return outOffsets[vertex + 1] - outOffsets[vertex];
+            }
+            int size = 0;
+            if (outgoing) {
+                size += outOffsets[vertex + 1] - outOffsets[vertex];
+            }
+            if (incoming) {
+                size += inOffsets[vertex + 1] - inOffsets[vertex];
+            }
+            if (outgoing && incoming) {
+                size -= loopsOf(vertex);
+            }
+            return size;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            int e = edgeIndex.indexOf(o);
+            if (e == -1) {
+                return false;
+            }
+            if (type.isUndirected()) {
+                return sources[e] == vertex || targets[e] == vertex;
+            }
+            return (outgoing && sources[e] == vertex) || (incoming && targets[e] == vertex);
+        }
+    }
+
+    /**
+     * Iterator over a range of an array of edge numbers, or over a range of edge numbers if the
+     * array is null.
+     */
+    private class EdgeIterator
+        implements
+        Iterator<E>
+    {
+        protected int[] array;
+        protected int next;
+        protected int end;
+
+        EdgeIterator(int[] array, int from, int to)
+        {
+            this.array = array;
+            this.next = from;
+            this.end = to;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next < end;
+        }
+
+        @Override
+        public E next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            E e = edge(current());
+            next++;
+            return e;
+        }
+
+        protected int current()
+        {
+            return array == null ? next : array[next];
+        }
+    }
+
+    /**
+     * An unmodifiable set of all vertices or all edges, iterated in the given order of positions
+     * or in the array order if the order is null.
+     */
+    private static class ElementSet<T>
+        extends
+        AbstractSet<T>
+    {
+        private final Object[] elements;
+        private final int[] order;
+        private final IndexTable index;
+
+        ElementSet(Object[] elements, int[] order, IndexTable index)
+        {
+            this.elements = elements;
+            this.order = order;
+            this.index = index;
+        }
+
+        @Override
+        public Iterator<T> iterator()
+        {
+            return new Iterator<>()
+            {
+                private int next;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < elements.length;
+                }
+
+                @Override
+                public T next()
+                {
+                    if (next >= elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    int i = next++;
+                    return TypeUtil.uncheckedCast(elements[order == null ? i : order[i]]);
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            return index.indexOf(o) != -1;
+        }
+    }
+
+    /**
+     * An open-addressing hash table which maps the elements of an array to their position. Each
+     * slot stores the hash code and the position of an element, so that keys are compared using
+     * the array only when their hash codes are equal.
+     */
+    private static class IndexTable
+    {
+        private static final int MAX_ELEMENTS = 1 << 29;
+
+        private final Object[] keys;
+        private final long[] table;
+        private final int shift;
+
+        IndexTable(Object[] keys)
+        {
+            if (keys.length > MAX_ELEMENTS) {
+                throw new IllegalArgumentException("Too many elements: " + keys.length);
+            }
+            this.keys = keys;
+            int bits = 1;
+            while ((1 << bits) < 2 * keys.length) {
+                bits++;
+            }
+            this.table = new long[1 << bits];
+            this.shift = 32 - bits;
+            int mask = table.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int hash = keys[i].hashCode();
+                int slot = slot(hash);
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = entry(hash, i);
+            }
+        }
+
+        private IndexTable(Object[] keys, long[] table, int shift)
+        {
+            this.keys = keys;
+            this.table = table;
+            this.shift = shift;
+        }
+
+        private int slot(int hash)
+        {
+            return (hash * 0x9E3779B9) >>> shift;
+        }
+
+        private static long entry(int hash, int position)
+        {
+            return ((long) hash << 32) | (position + 1);
+        }
+
+        /**
+         * Get the position of an element.
+         *
+         * @param key the element
+         * @return the position of the element, or -1 if the element does not exist
+         */
+        int indexOf(Object key)
+        {
+            if (key == null) {
+                return -1;
+            }
+            int hash = key.hashCode();
+            int mask = table.length - 1;
+            int slot = slot(hash);
+            long entry;
+            while ((entry = table[slot]) != 0) {
+                if ((int) (entry >>> 32) == hash) {
+                    int position = (int) entry - 1;
+                    Object other = keys[position];
+                    if (other == key || key.equals(other)) {
+                        return position;
+                    }
+                }
+                slot = (slot + 1) & mask;
+            }
+            return -1;
+        }
+
+        /**
+         * Create a table for a permutation of the elements without rehashing them.
+         *
+         * @param positions the new position of each element
+         * @param permuted the permuted elements
+         * @return the new table
+         */
+        IndexTable renumber(int[] positions, Object[] permuted)
+        {
+            long[] renumbered = new long[table.length];
+            for (int slot = 0; slot < table.length; slot++) {
+                long entry = table[slot];
+                if (entry != 0) {
+                    renumbered[slot] =
+                        entry((int) (entry >>> 32), positions[(int) entry - 1]);
+                }
+            }
+            return new IndexTable(permuted, renumbered, shift);
+        }
+    }
+
+}
@@ -0,0 +1,631 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph which supports concurrent structural modifications.
+ *
+ * <p>
+ * Contrary to {@link AsSynchronizedGraph}, which serializes all writers using a single
+ * read-write lock, this implementation keeps vertices, edges and adjacency sets in concurrent
+ * hash maps and protects each modification only with a small number of <em>striped</em> locks.
+ * Adding a vertex is lock-free. Adding or removing an edge acquires the stripes of its two
+ * endpoints, and removing a vertex acquires the stripe of the vertex. Threads which modify
+ * disjoint parts of the graph therefore rarely contend, and the throughput of parallel
+ * {@link #addVertex(Object)} and {@link #addEdge(Object, Object)} calls scales with the number
+ * of available cores. Read operations never acquire a lock.
+ *
+ * <p>
+ * All sets returned by this graph are unmodifiable. The sets returned by {@link #vertexSet()},
+ * {@link #edgeSet()}, {@link #outgoingEdgesOf(Object)} and {@link #incomingEdgesOf(Object)} are
+ * live views whose iterators are <em>weakly consistent</em>: they never throw
+ * {@link ConcurrentModificationException}, traverse each element at most once, and may or may
+ * not reflect modifications performed after their creation. Methods such as
+ * {@link #getAllEdges(Object, Object)} return a new set. Consequently, an edge returned by an
+ * iterator may already have been removed by another thread, and a vertex might be observed by a
+ * reader before all of its incident edges are removed. As with {@link AsSynchronizedGraph}, the
+ * main concurrent read/write use case is add-only.
+ *
+ * <p>
+ * The graph supports directed and undirected graphs, weighted or unweighted, with or without
+ * self-loops and multiple edges. Mixed graphs are not supported. When multiple edges are not
+ * allowed, adding an edge requires a scan of the adjacency set of its source vertex.
+ *
+ * <p>
+ * Users need to make sure that the vertex and edge suppliers are thread-safe, if they call the
+ * {@link #addVertex()} or {@link #addEdge(Object, Object)} methods concurrently. The suppliers
+ * in {@link org.jgrapht.util.SupplierUtil} which are backed by a counter are not.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class ConcurrentGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = 3619282415412098562L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+    private static final String THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER =
+        "The graph contains no vertex supplier";
+    private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
+        "The graph contains no edge supplier";
+    private static final String INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL =
+        "Invalid vertex supplier (does not return unique vertices on each call).";
+
+    private final GraphType type;
+    private final boolean directed;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+
+    private final ConcurrentHashMap<V, VertexEntry<V, E>> vertices;
+    private final ConcurrentHashMap<E, EdgeEntry<V, E>> edges;
+    private final ReentrantLock[] stripes;
+
+    /**
+     * Construct a new graph using a number of lock stripes proportional to the number of
+     * available processors.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public ConcurrentGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this(vertexSupplier, edgeSupplier, type, 4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construct a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @param concurrencyLevel the estimated number of concurrently modifying threads, rounded up
+     *        to a power of two in order to determine the number of lock stripes
+     * @throws IllegalArgumentException if the graph type is mixed or the concurrency level is not
+     *         positive
+     */
+    public ConcurrentGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type,
+        int concurrencyLevel)
+    {
+        Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+        this.type = type;
+        this.directed = type.isDirected();
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.vertices = new ConcurrentHashMap<>();
+        this.edges = new ConcurrentHashMap<>();
+
+        int numStripes = Integer.highestOneBit(Math.min(concurrencyLevel, 1 << 16));
+        if (numStripes < concurrencyLevel) {
+            numStripes <<= 1;
+        }
+        this.stripes = new ReentrantLock[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        VertexEntry<V, E> source = vertices.get(sourceVertex);
+        if (source == null) {
+            return null;
+        }
+        Set<E> result = new LinkedHashSet<>();
+        for (E e : source.outgoing) {
+            EdgeEntry<V, E> entry = edges.get(e);
+            if (entry != null && connects(entry, sourceVertex, targetVertex)) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        VertexEntry<V, E> source = vertices.get(sourceVertex);
+        if (source == null) {
+            return null;
+        }
+        return findEdge(source, sourceVertex, targetVertex);
+    }
+
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The edge supplier must be thread-safe if this method is called concurrently.
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+
+        E e = edgeSupplier.get();
+        if (addEdge(sourceVertex, targetVertex, e)) {
+            return e;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        int first = stripeOf(sourceVertex);
+        int second = stripeOf(targetVertex);
+        lock(first, second);
+        try {
+            /*
+             * Vertices are removed only while holding their stripe, so the endpoints cannot
+             * disappear until we are done.
+             */
+            VertexEntry<V, E> source = vertices.get(sourceVertex);
+            VertexEntry<V, E> target = vertices.get(targetVertex);
+            assertVertexExist(source, sourceVertex);
+            assertVertexExist(target, targetVertex);
+
+            if (edges.containsKey(e)) {
+                return false;
+            }
+            if (!type.isAllowingMultipleEdges()
+                && findEdge(source, sourceVertex, targetVertex) != null)
+            {
+                return false;
+            }
+            if (edges.putIfAbsent(e, new EdgeEntry<>(source, target)) != null) {
+                return false;
+            }
+
+            source.outgoing.add(e);
+            target.incoming.add(e);
+            if (!directed && source == target) {
+                source.loops.incrementAndGet();
+            }
+            return true;
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The vertex supplier must be thread-safe if this method is called concurrently.
+     */
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER);
+        }
+
+        V v = vertexSupplier.get();
+        if (!addVertex(v)) {
+            throw new IllegalArgumentException(
+                INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL);
+        }
+        return v;
+    }
+
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        if (vertices.containsKey(v)) {
+            return false;
+        }
+        return vertices.putIfAbsent(v, new VertexEntry<>(v, directed)) == null;
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getEdgeEntry(e).source.vertex;
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getEdgeEntry(e).target.vertex;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        EdgeEntry<V, E> entry = getEdgeEntry(e);
+        return type.isWeighted() ? entry.weight : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        getEdgeEntry(e).weight = weight;
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return e != null && edges.containsKey(e);
+    }
+
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return v != null && vertices.containsKey(v);
+    }
+
+    @Override
+    public Set<E> edgeSet()
+    {
+        return Collections.unmodifiableSet(edges.keySet());
+    }
+
+    @Override
+    public int degreeOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(vertex);
+        if (directed) {
+            return entry.incoming.size() + entry.outgoing.size();
+        }
+        return entry.outgoing.size() + entry.loops.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * For directed graphs the returned set is a new set containing both incoming and outgoing
+     * edges. For undirected graphs it is a weakly consistent live view.
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        VertexEntry<V, E> entry = getVertexEntry(vertex);
+        if (!directed) {
+            return Collections.unmodifiableSet(entry.outgoing);
+        }
+        Set<E> result = new LinkedHashSet<>(entry.outgoing);
+        result.addAll(entry.incoming);
+        return Collections.unmodifiableSet(result);
+    }
+
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        if (!directed) {
+            return degreeOf(vertex);
+        }
+        return getVertexEntry(vertex).incoming.size();
+    }
+
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return Collections.unmodifiableSet(getVertexEntry(vertex).incoming);
+    }
+
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        if (!directed) {
+            return degreeOf(vertex);
+        }
+        return getVertexEntry(vertex).outgoing.size();
+    }
+
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return Collections.unmodifiableSet(getVertexEntry(vertex).outgoing);
+    }
+
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int first = stripeOf(sourceVertex);
+        int second = stripeOf(targetVertex);
+        lock(first, second);
+        try {
+            VertexEntry<V, E> source = vertices.get(sourceVertex);
+            if (source == null || !vertices.containsKey(targetVertex)) {
+                return null;
+            }
+            E e = findEdge(source, sourceVertex, targetVertex);
+            if (e != null) {
+                unlink(e, edges.remove(e));
+            }
+            return e;
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    @Override
+    public boolean removeEdge(E e)
+    {
+        if (e == null) {
+            return false;
+        }
+        EdgeEntry<V, E> entry = edges.get(e);
+        if (entry == null) {
+            return false;
+        }
+        int first = stripeOf(entry.source.vertex);
+        int second = stripeOf(entry.target.vertex);
+        lock(first, second);
+        try {
+            if (!edges.remove(e, entry)) {
+                return false;
+            }
+            unlink(e, entry);
+            return true;
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The vertex is removed first, which prevents any new edge from being attached to it, and its
+     * incident edges are removed afterwards. Readers may therefore briefly observe edges whose
+     * endpoint is no longer contained in the graph.
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        if (v == null) {
+            return false;
+        }
+        VertexEntry<V, E> entry;
+        ReentrantLock lock = stripes[stripeOf(v)];
+        lock.lock();
+        try {
+            entry = vertices.remove(v);
+        } finally {
+            lock.unlock();
+        }
+        if (entry == null) {
+            return false;
+        }
+        for (E e : entry.outgoing) {
+            removeEdge(e);
+        }
+        if (directed) {
+            for (E e : entry.incoming) {
+                removeEdge(e);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Set<V> vertexSet()
+    {
+        return Collections.unmodifiableSet(vertices.keySet());
+    }
+
+    private boolean connects(EdgeEntry<V, E> entry, V sourceVertex, V targetVertex)
+    {
+        if (entry.target.vertex.equals(targetVertex) && entry.source.vertex.equals(sourceVertex)) {
+            return true;
+        }
+        return !directed && entry.source.vertex.equals(targetVertex)
+            && entry.target.vertex.equals(sourceVertex);
+    }
+
+    private E findEdge(VertexEntry<V, E> source, V sourceVertex, V targetVertex)
+    {
+        for (E e : source.outgoing) {
+            EdgeEntry<V, E> entry = edges.get(e);
+            if (entry != null && connects(entry, sourceVertex, targetVertex)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Remove an edge, which has already been removed from the edge map, from the adjacency sets
+     * of its endpoints. Must be called while holding the stripes of both endpoints.
+     */
+    private void unlink(E e, EdgeEntry<V, E> entry)
+    {
+        entry.source.outgoing.remove(e);
+        entry.target.incoming.remove(e);
+        if (!directed && entry.source == entry.target) {
+            entry.source.loops.decrementAndGet();
+        }
+    }
+
+    private EdgeEntry<V, E> getEdgeEntry(E e)
+    {
+        EdgeEntry<V, E> entry = edges.get(Objects.requireNonNull(e));
+        if (entry == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return entry;
+    }
+
+    private VertexEntry<V, E> getVertexEntry(V v)
+    {
+        VertexEntry<V, E> entry = vertices.get(Objects.requireNonNull(v));
+        assertVertexExist(entry, v);
+        return entry;
+    }
+
+    private void assertVertexExist(VertexEntry<V, E> entry, V v)
+    {
+        if (entry == null) {
+            if (v == null) {
+                throw new NullPointerException();
+            }
+            throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+        }
+    }
+
+    private int stripeOf(V v)
+    {
+        int h = v.hashCode();
+        h ^= (h >>> 16);
+        return h & (stripes.length - 1);
+    }
+
+    /**
+     * Acquire the stripes of two vertices in increasing index order in order to avoid deadlocks.
+     */
+    private void lock(int first, int second)
+    {
+        stripes[Math.min(first, second)].lock();
+        if (first != second) {
+            stripes[Math.max(first, second)].lock();
+        }
+    }
+
+    private void unlock(int first, int second)
+    {
+        if (first != second) {
+            stripes[Math.max(first, second)].unlock();
+        }
+        stripes[Math.min(first, second)].unlock();
+    }
+
+    /**
+     * The adjacency of a vertex. In undirected graphs the incoming and outgoing sets are the same
+     * set and self-loops, which are stored only once, are counted separately.
+     */
+    private static class VertexEntry<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -5421893146478025153L;
+
+        final V vertex;
+        final Set<E> outgoing;
+        final Set<E> incoming;
+        final AtomicInteger loops;
+
+        VertexEntry(V vertex, boolean directed)
+        {
+            this.vertex = vertex;
+            this.outgoing = ConcurrentHashMap.newKeySet();
+            this.incoming = directed ? ConcurrentHashMap.newKeySet() : outgoing;
+            this.loops = new AtomicInteger();
+        }
+    }
+
+    /**
+     * An edge, referencing the entries of its endpoints so that removal always unlinks it from
+     * the adjacency sets it was added to.
+     */
+    private static class EdgeEntry<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 8170455318735246121L;
+
+        final VertexEntry<V, E> source;
+        final VertexEntry<V, E> target;
+        volatile double weight;
+
+        EdgeEntry(VertexEntry<V, E> source, VertexEntry<V, E> target)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+    }
+
+}
@@ -0,0 +1,517 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An immutable hash map with structural sharing, implemented as a hash array mapped trie.
+ *
+ * <p>
+ * Updates never modify an existing map. Instead they return a new map which shares all unchanged
+ * trie nodes with the original, copying only the $O(\log_{32} n)$ nodes on the path to the
+ * modified key. Old versions therefore remain valid, can be read concurrently without any
+ * synchronization, and are reclaimed by the garbage collector once no longer referenced.
+ *
+ * <p>
+ * Keys and values must not be null.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ *
+ * @author Dimitrios Michail
+ */
+final class PersistentHashMap<K, V>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 6310571243897718427L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    @SuppressWarnings("rawtypes")
+    private static final PersistentHashMap EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Get the empty map.
+     *
+     * @return the empty map
+     * @param <K> the key type
+     * @param <V> the value type
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> PersistentHashMap<K, V> empty()
+    {
+        return EMPTY;
+    }
+
+    /**
+     * Get the number of mappings.
+     *
+     * @return the number of mappings
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check whether the map is empty.
+     *
+     * @return true if the map is empty
+     */
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Get the value mapped to a key.
+     *
+     * @param key the key
+     * @return the value, or null if the key is not mapped
+     */
+    @SuppressWarnings("unchecked")
+    V get(Object key)
+    {
+        if (root == null || key == null) {
+            return null;
+        }
+        return (V) root.find(0, hash(key), key);
+    }
+
+    /**
+     * Check whether a key is mapped.
+     *
+     * @param key the key
+     * @return true if the key is mapped
+     */
+    boolean containsKey(Object key)
+    {
+        return get(key) != null;
+    }
+
+    /**
+     * Return a map which additionally maps a key to a value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the new map, or this map if the key is already mapped to the same value
+     */
+    PersistentHashMap<K, V> put(K key, V value)
+    {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        boolean[] added = new boolean[1];
+        Node start = root == null ? BitmapNode.EMPTY : root;
+        Node newRoot = start.put(0, hash(key), key, value, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Return a map without the mapping of a key.
+     *
+     * @param key the key
+     * @return the new map, or this map if the key is not mapped
+     */
+    PersistentHashMap<K, V> remove(Object key)
+    {
+        if (root == null || key == null) {
+            return this;
+        }
+        Node newRoot = root.remove(0, hash(key), key);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Get an iterator over the keys of the map.
+     *
+     * @return an iterator over the keys
+     */
+    Iterator<K> keyIterator()
+    {
+        return new TrieIterator<K>(root)
+        {
+            @Override
+            @SuppressWarnings("unchecked")
+            K element(Object[] array, int index)
+            {
+                return (K) array[index];
+            }
+        };
+    }
+
+    /**
+     * Get an iterator over the values of the map.
+     *
+     * @return an iterator over the values
+     */
+    Iterator<V> valueIterator()
+    {
+        return new TrieIterator<V>(root)
+        {
+            @Override
+            @SuppressWarnings("unchecked")
+            V element(Object[] array, int index)
+            {
+                return (V) array[index + 1];
+            }
+        };
+    }
+
+    /**
+     * Get an unmodifiable set view of the keys of the map.
+     *
+     * @return a set view of the keys
+     */
+    Set<K> keySet()
+    {
+        return new AbstractSet<K>()
+        {
+            @Override
+            public Iterator<K> iterator()
+            {
+                return keyIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return containsKey(o);
+            }
+        };
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int shift, int hash)
+    {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    private static Object[] copyAndSet(Object[] array, int index, Object value)
+    {
+        Object[] copy = array.clone();
+        copy[index] = value;
+        return copy;
+    }
+
+    private static Node createNode(
+        int shift, Object key1, Object value1, int hash2, Object key2, Object value2)
+    {
+        int hash1 = hash(key1);
+        if (hash1 == hash2) {
+            return new CollisionNode(hash1, new Object[] { key1, value1, key2, value2 });
+        }
+        boolean[] added = new boolean[1];
+        return BitmapNode.EMPTY
+            .put(shift, hash1, key1, value1, added).put(shift, hash2, key2, value2, added);
+    }
+
+    /**
+     * A trie node. The array stores key-value pairs in consecutive slots. In bitmap nodes a null
+     * key denotes that the value slot contains a child node.
+     */
+    private abstract static class Node
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -2410958431587325563L;
+
+        final Object[] array;
+
+        Node(Object[] array)
+        {
+            this.array = array;
+        }
+
+        abstract Object find(int shift, int hash, Object key);
+
+        abstract Node put(int shift, int hash, Object key, Object value, boolean[] added);
+
+        abstract Node remove(int shift, int hash, Object key);
+    }
+
+    private static final class BitmapNode
+        extends
+        Node
+    {
+        private static final long serialVersionUID = 2587210437164957329L;
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array)
+        {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        private int index(int bit)
+        {
+            return 2 * Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key)
+        {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            int idx = index(bit);
+            Object k = array[idx];
+            if (k == null) {
+                return ((Node) array[idx + 1]).find(shift + BITS, hash, key);
+            }
+            return key.equals(k) ? array[idx + 1] : null;
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            int bit = bit(shift, hash);
+            int idx = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, idx);
+                newArray[idx] = key;
+                newArray[idx + 1] = value;
+                System.arraycopy(array, idx, newArray, idx + 2, array.length - idx);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            Object k = array[idx];
+            Object v = array[idx + 1];
+            if (k == null) {
+                Node child = ((Node) v).put(shift + BITS, hash, key, value, added);
+                if (child == v) {
+                    return this;
+                }
+                return new BitmapNode(bitmap, copyAndSet(array, idx + 1, child));
+            }
+            if (key.equals(k)) {
+                if (value == v) {
+                    return this;
+                }
+                return new BitmapNode(bitmap, copyAndSet(array, idx + 1, value));
+            }
+            added[0] = true;
+            Object[] newArray = copyAndSet(array, idx, null);
+            newArray[idx + 1] = createNode(shift + BITS, k, v, hash, key, value);
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key)
+        {
+            int bit = bit(shift, hash);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int idx = index(bit);
+            Object k = array[idx];
+            Object v = array[idx + 1];
+            if (k == null) {
+                Node child = ((Node) v).remove(shift + BITS, hash, key);
+                if (child == v) {
+                    return this;
+                }
+                if (child != null) {
+                    return new BitmapNode(bitmap, copyAndSet(array, idx + 1, child));
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            return new BitmapNode(bitmap ^ bit, newArray);
+        }
+    }
+
+    private static final class CollisionNode
+        extends
+        Node
+    {
+        private static final long serialVersionUID = -7406291437805918236L;
+
+        final int hash;
+
+        CollisionNode(int hash, Object[] array)
+        {
+            super(array);
+            this.hash = hash;
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object find(int shift, int hash, Object key)
+        {
+            int idx = indexOf(key);
+            return idx < 0 ? null : array[idx + 1];
+        }
+
+        @Override
+        Node put(int shift, int hash, Object key, Object value, boolean[] added)
+        {
+            if (hash != this.hash) {
+                // nest this node below a bitmap node which distinguishes the two hashes
+                return new BitmapNode(bit(shift, this.hash), new Object[] { null, this })
+                    .put(shift, hash, key, value, added);
+            }
+            int idx = indexOf(key);
+            if (idx >= 0) {
+                if (array[idx + 1] == value) {
+                    return this;
+                }
+                return new CollisionNode(hash, copyAndSet(array, idx + 1, value));
+            }
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        Node remove(int shift, int hash, Object key)
+        {
+            int idx = indexOf(key);
+            if (idx < 0) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            Object[] newArray = new Object[array.length - 2];
+            System.arraycopy(array, 0, newArray, 0, idx);
+            System.arraycopy(array, idx + 2, newArray, idx, array.length - idx - 2);
+            return new CollisionNode(hash, newArray);
+        }
+    }
+
+    /**
+     * Depth-first traversal of the trie.
+     */
+    private abstract static class TrieIterator<T>
+        implements
+        Iterator<T>
+    {
+        private final Deque<Object[]> arrays;
+        private final Deque<Integer> positions;
+        private Object[] current;
+        private int position;
+
+        TrieIterator(Node root)
+        {
+            this.arrays = new ArrayDeque<>();
+            this.positions = new ArrayDeque<>();
+            this.current = root == null ? new Object[0] : root.array;
+            this.position = 0;
+            advance();
+        }
+
+        abstract T element(Object[] array, int index);
+
+        /**
+         * Move to the next key-value pair, descending into child nodes as necessary.
+         */
+        private void advance()
+        {
+            while (true) {
+                if (position >= current.length) {
+                    if (arrays.isEmpty()) {
+                        return;
+                    }
+                    current = arrays.pop();
+                    position = positions.pop();
+                    continue;
+                }
+                if (current[position] != null) {
+                    return;
+                }
+                Node child = (Node) current[position + 1];
+                arrays.push(current);
+                positions.push(position + 2);
+                current = child.array;
+                position = 0;
+            }
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return position < current.length;
+        }
+
+        @Override
+        public T next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result = element(current, position);
+            position += 2;
+            advance();
+            return result;
+        }
+    }
+
+}
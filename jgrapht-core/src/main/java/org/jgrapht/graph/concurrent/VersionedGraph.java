@@ -0,0 +1,952 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph which provides readers with immutable point-in-time snapshots using
+ * multi-version concurrency control.
+ *
+ * <p>
+ * The whole graph is stored in persistent (immutable) hash tries which share structure between
+ * versions. Every modification creates a new version by copying only the few trie nodes which
+ * changed, and atomically publishes it. Calling {@link #snapshot()} is therefore an $O(1)$
+ * operation which returns an unmodifiable {@link Graph} view of the current version. A snapshot
+ * never changes, and it can be read concurrently by any number of threads without locking, while
+ * writers continue to modify this graph. This makes it possible to run long-running algorithms
+ * on a consistent view of the graph without blocking writers or copying the graph, contrary to
+ * {@link AsSynchronizedGraph}. Old versions are reclaimed by the garbage collector once all
+ * snapshots referencing them become unreachable.
+ *
+ * <p>
+ * Writers are serialized using a single lock, and each modification costs $O(\log n)$
+ * additional allocations compared to a plain {@link AbstractBaseGraph}. Read methods of this
+ * graph never block and always operate on the latest published version. The sets returned by
+ * {@link #vertexSet()} and {@link #edgeSet()} are live unmodifiable views, whose iterators
+ * traverse the version which was current when the iterator was created and never throw
+ * {@link ConcurrentModificationException}. All other returned sets belong to the current version
+ * and do not reflect later modifications.
+ *
+ * <p>
+ * The graph supports directed and undirected graphs, weighted or unweighted, with or without
+ * self-loops and multiple edges. Mixed graphs are not supported. When multiple edges are not
+ * allowed, adding an edge requires a scan of the outgoing edges of its source vertex.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class VersionedGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = -4786521945206613407L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+    private static final String THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER =
+        "The graph contains no vertex supplier";
+    private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
+        "The graph contains no edge supplier";
+    private static final String INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL =
+        "Invalid vertex supplier (does not return unique vertices on each call).";
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+    private final ReentrantLock writeLock;
+    private volatile State<V, E> state;
+
+    /**
+     * Construct a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public VersionedGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        this.type = type;
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.writeLock = new ReentrantLock();
+        this.state = new State<>(
+            type.isDirected(), PersistentHashMap.empty(), PersistentHashMap.empty(), 0L);
+    }
+
+    /**
+     * Get an immutable snapshot of the current version of the graph. The snapshot is not
+     * affected by any subsequent modification of this graph, and all its modification methods
+     * throw {@link UnsupportedOperationException}. This operation takes constant time.
+     *
+     * @return an immutable snapshot of the graph
+     */
+    public Graph<V, E> snapshot()
+    {
+        return new Snapshot<>(state, type, vertexSupplier, edgeSupplier);
+    }
+
+    /**
+     * Get the current version of the graph. The version starts from zero and is incremented by
+     * every modification which changes the graph.
+     *
+     * @return the current version
+     */
+    public long getVersion()
+    {
+        return state.version;
+    }
+
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        return state.getAllEdges(sourceVertex, targetVertex);
+    }
+
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        return state.getEdge(sourceVertex, targetVertex);
+    }
+
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+
+        E e = edgeSupplier.get();
+        if (addEdge(sourceVertex, targetVertex, e)) {
+            return e;
+        }
+        return null;
+    }
+
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        writeLock.lock();
+        try {
+            return publish(
+                state.addEdge(sourceVertex, targetVertex, e, type.isAllowingMultipleEdges()));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER);
+        }
+
+        V v = vertexSupplier.get();
+        if (!addVertex(v)) {
+            throw new IllegalArgumentException(
+                INVALID_VERTEX_SUPPLIER_DOES_NOT_RETURN_UNIQUE_VERTICES_ON_EACH_CALL);
+        }
+        return v;
+    }
+
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        writeLock.lock();
+        try {
+            return publish(state.addVertex(v));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return state.edgeEntry(e).source;
+    }
+
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return state.edgeEntry(e).target;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        EdgeEntry<V> entry = state.edgeEntry(e);
+        return type.isWeighted() ? entry.weight : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        writeLock.lock();
+        try {
+            publish(state.setEdgeWeight(e, weight));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return state.edges.containsKey(e);
+    }
+
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return state.vertices.containsKey(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned set is a live view. Each iterator traverses the version of the graph which
+     * was current when the iterator was created.
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return new AbstractSet<E>()
+        {
+            @Override
+            public Iterator<E> iterator()
+            {
+                return state.edges.keyIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return state.edges.size();
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return state.edges.containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public int degreeOf(V vertex)
+    {
+        return state.degreeOf(vertex);
+    }
+
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        return state.edgesOf(vertex);
+    }
+
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        return state.inDegreeOf(vertex);
+    }
+
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return state.adjacency(vertex).incoming.keySet();
+    }
+
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        return state.outDegreeOf(vertex);
+    }
+
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return state.adjacency(vertex).outgoing.keySet();
+    }
+
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        writeLock.lock();
+        try {
+            E e = state.getEdge(sourceVertex, targetVertex);
+            if (e != null) {
+                publish(state.removeEdge(e));
+            }
+            return e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeEdge(E e)
+    {
+        writeLock.lock();
+        try {
+            return publish(state.removeEdge(e));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean removeVertex(V v)
+    {
+        writeLock.lock();
+        try {
+            return publish(state.removeVertex(v));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The returned set is a live view. Each iterator traverses the version of the graph which
+     * was current when the iterator was created.
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return new AbstractSet<V>()
+        {
+            @Override
+            public Iterator<V> iterator()
+            {
+                return state.vertices.keyIterator();
+            }
+
+            @Override
+            public int size()
+            {
+                return state.vertices.size();
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return state.vertices.containsKey(o);
+            }
+        };
+    }
+
+    /**
+     * Publish a new version. Must be called while holding the write lock.
+     *
+     * @param next the new version
+     * @return true if the new version differs from the current one
+     */
+    private boolean publish(State<V, E> next)
+    {
+        if (next == state) {
+            return false;
+        }
+        state = next;
+        return true;
+    }
+
+    /**
+     * An immutable version of the graph.
+     */
+    private static final class State<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 1528702647397245410L;
+
+        final boolean directed;
+        final PersistentHashMap<V, Adjacency<E>> vertices;
+        final PersistentHashMap<E, EdgeEntry<V>> edges;
+        final long version;
+
+        State(
+            boolean directed, PersistentHashMap<V, Adjacency<E>> vertices,
+            PersistentHashMap<E, EdgeEntry<V>> edges, long version)
+        {
+            this.directed = directed;
+            this.vertices = vertices;
+            this.edges = edges;
+            this.version = version;
+        }
+
+        Adjacency<E> adjacency(V v)
+        {
+            Adjacency<E> adjacency = vertices.get(Objects.requireNonNull(v));
+            if (adjacency == null) {
+                throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+            }
+            return adjacency;
+        }
+
+        EdgeEntry<V> edgeEntry(E e)
+        {
+            EdgeEntry<V> entry = edges.get(Objects.requireNonNull(e));
+            if (entry == null) {
+                throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+            }
+            return entry;
+        }
+
+        boolean connects(EdgeEntry<V> entry, V sourceVertex, V targetVertex)
+        {
+            if (entry.source.equals(sourceVertex) && entry.target.equals(targetVertex)) {
+                return true;
+            }
+            return !directed && entry.source.equals(targetVertex)
+                && entry.target.equals(sourceVertex);
+        }
+
+        Set<E> getAllEdges(V sourceVertex, V targetVertex)
+        {
+            Adjacency<E> source = vertices.get(sourceVertex);
+            if (source == null || !vertices.containsKey(targetVertex)) {
+                return null;
+            }
+            Set<E> result = new LinkedHashSet<>();
+            Iterator<E> it = source.outgoing.keyIterator();
+            while (it.hasNext()) {
+                E e = it.next();
+                if (connects(edges.get(e), sourceVertex, targetVertex)) {
+                    result.add(e);
+                }
+            }
+            return result;
+        }
+
+        E getEdge(V sourceVertex, V targetVertex)
+        {
+            Adjacency<E> source = vertices.get(sourceVertex);
+            if (source == null || !vertices.containsKey(targetVertex)) {
+                return null;
+            }
+            Iterator<E> it = source.outgoing.keyIterator();
+            while (it.hasNext()) {
+                E e = it.next();
+                if (connects(edges.get(e), sourceVertex, targetVertex)) {
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        int degreeOf(V v)
+        {
+            Adjacency<E> adjacency = adjacency(v);
+            if (directed) {
+                return adjacency.outgoing.size() + adjacency.incoming.size();
+            }
+            return adjacency.outgoing.size() + adjacency.loops;
+        }
+
+        int inDegreeOf(V v)
+        {
+            return directed ? adjacency(v).incoming.size() : degreeOf(v);
+        }
+
+        int outDegreeOf(V v)
+        {
+            return directed ? adjacency(v).outgoing.size() : degreeOf(v);
+        }
+
+        Set<E> edgesOf(V v)
+        {
+            Adjacency<E> adjacency = adjacency(v);
+            if (!directed) {
+                return adjacency.outgoing.keySet();
+            }
+            return new AbstractSet<E>()
+            {
+                @Override
+                public Iterator<E> iterator()
+                {
+                    Iterator<E> out = adjacency.outgoing.keyIterator();
+                    Iterator<E> in = adjacency.incoming.keyIterator();
+                    return new Iterator<E>()
+                    {
+                        private E next = advance();
+
+                        private E advance()
+                        {
+                            if (out.hasNext()) {
+                                return out.next();
+                            }
+                            while (in.hasNext()) {
+                                E e = in.next();
+                                // self-loops have already been reported as outgoing
+                                if (!adjacency.outgoing.containsKey(e)) {
+                                    return e;
+                                }
+                            }
+                            return null;
+                        }
+
+                        @Override
+                        public boolean hasNext()
+                        {
+                            return next != null;
+                        }
+
+                        @Override
+                        public E next()
+                        {
+                            if (next == null) {
+                                throw new NoSuchElementException();
+                            }
+                            E result = next;
+                            next = advance();
+                            return result;
+                        }
+                    };
+                }
+
+                @Override
+                public int size()
+                {
+                    return adjacency.outgoing.size() + adjacency.incoming.size()
+                        - adjacency.loops;
+                }
+
+                @Override
+                public boolean contains(Object o)
+                {
+                    return adjacency.outgoing.containsKey(o) || adjacency.incoming.containsKey(o);
+                }
+            };
+        }
+
+        State<V, E> addVertex(V v)
+        {
+            if (vertices.containsKey(v)) {
+                return this;
+            }
+            return new State<>(directed, vertices.put(v, Adjacency.empty()), edges, version + 1);
+        }
+
+        State<V, E> addEdge(V sourceVertex, V targetVertex, E e, boolean allowMultipleEdges)
+        {
+            Adjacency<E> source = adjacency(sourceVertex);
+            Adjacency<E> target = adjacency(targetVertex);
+            if (edges.containsKey(e)) {
+                return this;
+            }
+            if (!allowMultipleEdges && getEdge(sourceVertex, targetVertex) != null) {
+                return this;
+            }
+
+            PersistentHashMap<V, Adjacency<E>> newVertices;
+            if (sourceVertex.equals(targetVertex)) {
+                newVertices = vertices.put(sourceVertex, source.link(e, true, true, directed));
+            } else {
+                newVertices = vertices
+                    .put(sourceVertex, source.link(e, true, false, directed))
+                    .put(targetVertex, target.link(e, false, true, directed));
+            }
+            EdgeEntry<V> entry =
+                new EdgeEntry<>(sourceVertex, targetVertex, Graph.DEFAULT_EDGE_WEIGHT);
+            return new State<>(directed, newVertices, edges.put(e, entry), version + 1);
+        }
+
+        State<V, E> setEdgeWeight(E e, double weight)
+        {
+            EdgeEntry<V> entry = edgeEntry(e);
+            return new State<>(
+                directed, vertices,
+                edges.put(e, new EdgeEntry<>(entry.source, entry.target, weight)), version + 1);
+        }
+
+        State<V, E> removeEdge(E e)
+        {
+            EdgeEntry<V> entry = edges.get(e);
+            if (entry == null) {
+                return this;
+            }
+            return new State<>(directed, unlink(vertices, e, entry), edges.remove(e), version + 1);
+        }
+
+        State<V, E> removeVertex(V v)
+        {
+            Adjacency<E> adjacency = vertices.get(v);
+            if (adjacency == null) {
+                return this;
+            }
+            PersistentHashMap<V, Adjacency<E>> newVertices = vertices;
+            PersistentHashMap<E, EdgeEntry<V>> newEdges = edges;
+            List<Iterator<E>> incident = new ArrayList<>(2);
+            incident.add(adjacency.outgoing.keyIterator());
+            if (directed) {
+                incident.add(adjacency.incoming.keyIterator());
+            }
+            for (Iterator<E> it : incident) {
+                while (it.hasNext()) {
+                    E e = it.next();
+                    EdgeEntry<V> entry = newEdges.get(e);
+                    if (entry != null) {
+                        newVertices = unlink(newVertices, e, entry);
+                        newEdges = newEdges.remove(e);
+                    }
+                }
+            }
+            return new State<>(directed, newVertices.remove(v), newEdges, version + 1);
+        }
+
+        private PersistentHashMap<V, Adjacency<E>> unlink(
+            PersistentHashMap<V, Adjacency<E>> vertices, E e, EdgeEntry<V> entry)
+        {
+            if (entry.source.equals(entry.target)) {
+                return vertices.put(
+                    entry.source, vertices.get(entry.source).unlink(e, true, true, directed));
+            }
+            return vertices
+                .put(entry.source, vertices.get(entry.source).unlink(e, true, false, directed))
+                .put(entry.target, vertices.get(entry.target).unlink(e, false, true, directed));
+        }
+    }
+
+    /**
+     * The immutable adjacency of a vertex. In undirected graphs the incoming and outgoing edges
+     * are the same map, and self-loops, which are stored only once, are counted separately.
+     */
+    private static final class Adjacency<E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 4108712853659127405L;
+
+        @SuppressWarnings("rawtypes")
+        private static final Adjacency EMPTY =
+            new Adjacency<>(PersistentHashMap.empty(), PersistentHashMap.empty(), 0);
+
+        final PersistentHashMap<E, Boolean> outgoing;
+        final PersistentHashMap<E, Boolean> incoming;
+        final int loops;
+
+        Adjacency(
+            PersistentHashMap<E, Boolean> outgoing, PersistentHashMap<E, Boolean> incoming,
+            int loops)
+        {
+            this.outgoing = outgoing;
+            this.incoming = incoming;
+            this.loops = loops;
+        }
+
+        /**
+         * Get an empty adjacency. Since the empty map is shared, it is valid for both directed
+         * and undirected graphs.
+         */
+        @SuppressWarnings("unchecked")
+        static <E> Adjacency<E> empty()
+        {
+            return EMPTY;
+        }
+
+        Adjacency<E> link(E e, boolean out, boolean in, boolean directed)
+        {
+            int newLoops = out && in ? loops + 1 : loops;
+            if (!directed) {
+                PersistentHashMap<E, Boolean> touching = outgoing.put(e, Boolean.TRUE);
+                return new Adjacency<>(touching, touching, newLoops);
+            }
+            return new Adjacency<>(
+                out ? outgoing.put(e, Boolean.TRUE) : outgoing,
+                in ? incoming.put(e, Boolean.TRUE) : incoming, newLoops);
+        }
+
+        Adjacency<E> unlink(E e, boolean out, boolean in, boolean directed)
+        {
+            int newLoops = out && in ? loops - 1 : loops;
+            if (!directed) {
+                PersistentHashMap<E, Boolean> touching = outgoing.remove(e);
+                return new Adjacency<>(touching, touching, newLoops);
+            }
+            return new Adjacency<>(
+                out ? outgoing.remove(e) : outgoing, in ? incoming.remove(e) : incoming,
+                newLoops);
+        }
+    }
+
+    /**
+     * An immutable edge.
+     */
+    private static final class EdgeEntry<V>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -6631875304619752048L;
+
+        final V source;
+        final V target;
+        final double weight;
+
+        EdgeEntry(V source, V target, double weight)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * An unmodifiable graph backed by a single version.
+     */
+    private static final class Snapshot<V, E>
+        extends
+        AbstractGraph<V, E>
+        implements
+        Graph<V, E>,
+        Serializable
+    {
+        private static final long serialVersionUID = 2250913468725067431L;
+
+        private final State<V, E> state;
+        private final GraphType type;
+        private final Supplier<V> vertexSupplier;
+        private final Supplier<E> edgeSupplier;
+
+        Snapshot(
+            State<V, E> state, GraphType type, Supplier<V> vertexSupplier,
+            Supplier<E> edgeSupplier)
+        {
+            this.state = state;
+            this.type = type.asUnmodifiable();
+            this.vertexSupplier = vertexSupplier;
+            this.edgeSupplier = edgeSupplier;
+        }
+
+        @Override
+        public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+        {
+            return state.getAllEdges(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public E getEdge(V sourceVertex, V targetVertex)
+        {
+            return state.getEdge(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public Supplier<V> getVertexSupplier()
+        {
+            return vertexSupplier;
+        }
+
+        @Override
+        public Supplier<E> getEdgeSupplier()
+        {
+            return edgeSupplier;
+        }
+
+        @Override
+        public E addEdge(V sourceVertex, V targetVertex)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean addEdge(V sourceVertex, V targetVertex, E e)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public V addVertex()
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean addVertex(V v)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public V getEdgeSource(E e)
+        {
+            return state.edgeEntry(e).source;
+        }
+
+        @Override
+        public V getEdgeTarget(E e)
+        {
+            return state.edgeEntry(e).target;
+        }
+
+        @Override
+        public GraphType getType()
+        {
+            return type;
+        }
+
+        @Override
+        public double getEdgeWeight(E e)
+        {
+            EdgeEntry<V> entry = state.edgeEntry(e);
+            return type.isWeighted() ? entry.weight : Graph.DEFAULT_EDGE_WEIGHT;
+        }
+
+        @Override
+        public void setEdgeWeight(E e, double weight)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean containsEdge(E e)
+        {
+            return state.edges.containsKey(e);
+        }
+
+        @Override
+        public boolean containsVertex(V v)
+        {
+            return state.vertices.containsKey(v);
+        }
+
+        @Override
+        public Set<E> edgeSet()
+        {
+            return state.edges.keySet();
+        }
+
+        @Override
+        public int degreeOf(V vertex)
+        {
+            return state.degreeOf(vertex);
+        }
+
+        @Override
+        public Set<E> edgesOf(V vertex)
+        {
+            return state.edgesOf(vertex);
+        }
+
+        @Override
+        public int inDegreeOf(V vertex)
+        {
+            return state.inDegreeOf(vertex);
+        }
+
+        @Override
+        public Set<E> incomingEdgesOf(V vertex)
+        {
+            return state.adjacency(vertex).incoming.keySet();
+        }
+
+        @Override
+        public int outDegreeOf(V vertex)
+        {
+            return state.outDegreeOf(vertex);
+        }
+
+        @Override
+        public Set<E> outgoingEdgesOf(V vertex)
+        {
+            return state.adjacency(vertex).outgoing.keySet();
+        }
+
+        @Override
+        public E removeEdge(V sourceVertex, V targetVertex)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeEdge(E e)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeVertex(V v)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public Set<V> vertexSet()
+        {
+            return state.vertices.keySet();
+        }
+    }
+
+}
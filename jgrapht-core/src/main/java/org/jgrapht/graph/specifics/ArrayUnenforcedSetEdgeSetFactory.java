@@ -50,4 +50,15 @@ public class ArrayUnenforcedSetEdgeSetFactory<V, E>
         return new ArrayUnenforcedSet<>(1);
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void ensureCapacity(Set<E> edgeSet, int additionalEdges)
+    {
+        if (edgeSet instanceof ArrayUnenforcedSet) {
+            ((ArrayUnenforcedSet<E>) edgeSet).ensureCapacity(edgeSet.size() + additionalEdges);
+        }
+    }
+
 }
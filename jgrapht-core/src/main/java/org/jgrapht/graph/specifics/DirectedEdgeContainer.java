@@ -44,6 +44,10 @@ public class DirectedEdgeContainer<V, E>
     private transient Set<E> unmodifiableIncoming = null;
     private transient Set<E> unmodifiableOutgoing = null;
 
+    // number of incoming and outgoing edges about to be added by a bulk operation
+    transient int pendingIncoming;
+    transient int pendingOutgoing;
+
     DirectedEdgeContainer(EdgeSetFactory<V, E> edgeSetFactory, V vertex)
     {
         incoming = edgeSetFactory.createEdgeSet(vertex);
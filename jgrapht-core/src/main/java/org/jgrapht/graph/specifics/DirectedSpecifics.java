@@ -23,6 +23,7 @@ import org.jgrapht.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -258,6 +259,58 @@ public class DirectedSpecifics<V, E>
         getEdgeContainer(targetVertex).removeIncomingEdge(e);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The edge containers of all endpoints are first looked up, in parallel if an executor is
+     * given. Then each container is sized according to the number of its new edges and filled.
+     * When running in parallel, each container is filled by a single worker, which adds its edges
+     * in the order of the batch.
+     */
+    @Override
+    public void addEdgesToTouchingVertices(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges,
+        ThreadPoolExecutor executor)
+    {
+        int m = edges.size();
+        DirectedEdgeContainer<V, E>[] out = TypeUtil.uncheckedCast(new DirectedEdgeContainer[m]);
+        DirectedEdgeContainer<V, E>[] in = TypeUtil.uncheckedCast(new DirectedEdgeContainer[m]);
+        ParallelBlocks.forEachBlock(executor, m, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                out[i] = getExistingEdgeContainer(sources.get(i));
+                in[i] = getExistingEdgeContainer(targets.get(i));
+            }
+        });
+
+        // slot 2i is the outgoing and slot 2i+1 the incoming side of edge i
+        ParallelBlocks.forEachOwnedSlot(
+            executor, 2 * m, slot -> (slot & 1) == 0 ? out[slot >> 1] : in[slot >> 1], slot -> {
+                if ((slot & 1) == 0) {
+                    out[slot >> 1].pendingOutgoing++;
+                } else {
+                    in[slot >> 1].pendingIncoming++;
+                }
+            }, slot -> {
+                E e = edges.get(slot >> 1);
+                if ((slot & 1) == 0) {
+                    DirectedEdgeContainer<V, E> ec = out[slot >> 1];
+                    if (ec.pendingOutgoing > 0) {
+                        edgeSetFactory.ensureCapacity(ec.outgoing, ec.pendingOutgoing);
+                        ec.pendingOutgoing = 0;
+                    }
+                    ec.addOutgoingEdge(e);
+                } else {
+                    DirectedEdgeContainer<V, E> ec = in[slot >> 1];
+                    if (ec.pendingIncoming > 0) {
+                        edgeSetFactory.ensureCapacity(ec.incoming, ec.pendingIncoming);
+                        ec.pendingIncoming = 0;
+                    }
+                    ec.addIncomingEdge(e);
+                }
+            });
+    }
+
     /**
      * Get the edge container for specified vertex.
      *
@@ -277,4 +330,13 @@ public class DirectedSpecifics<V, E>
         return ec;
     }
 
+    private DirectedEdgeContainer<V, E> getExistingEdgeContainer(V vertex)
+    {
+        DirectedEdgeContainer<V, E> ec = vertexMap.get(vertex);
+        if (ec == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + vertex.toString());
+        }
+        return ec;
+    }
+
 }
@@ -22,6 +22,7 @@ import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -103,6 +104,17 @@ public class FastLookupDirectedSpecifics<V, E>
         return true;
     }
 
+    @Override
+    public void addEdgesToTouchingVertices(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges,
+        ThreadPoolExecutor executor)
+    {
+        super.addEdgesToTouchingVertices(sources, targets, edges, executor);
+        for (int i = 0; i < edges.size(); i++) {
+            addToIndex(sources.get(i), targets.get(i), edges.get(i));
+        }
+    }
+
     @Override
     public boolean addEdgeToTouchingVerticesIfAbsent(V sourceVertex, V targetVertex, E e)
     {
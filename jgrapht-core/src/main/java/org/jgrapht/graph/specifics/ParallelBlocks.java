@@ -0,0 +1,220 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.specifics;
+
+import java.util.concurrent.*;
+
+/**
+ * Helper for executing work over ranges of a batch in parallel.
+ *
+ * @author Dimitrios Michail
+ */
+final class ParallelBlocks
+{
+    /**
+     * Batches smaller than this are always processed by the calling thread.
+     */
+    static final int MIN_PARALLEL_SIZE = 1 << 14;
+
+    private ParallelBlocks()
+    {
+    }
+
+    /**
+     * An action over a range $[from, to)$ of a batch.
+     */
+    interface BlockAction
+    {
+        void run(int from, int to);
+    }
+
+    /**
+     * An action executed once by each of a number of workers.
+     */
+    private interface WorkerAction
+    {
+        void run(int worker);
+    }
+
+    /**
+     * Maps each slot of a batch to the object which owns it, or to null if the slot is empty.
+     */
+    interface OwnerFunction
+    {
+        Object ownerOf(int slot);
+    }
+
+    /**
+     * An action over a single slot of a batch.
+     */
+    interface SlotAction
+    {
+        void run(int slot);
+    }
+
+    /**
+     * Split $[0, size)$ into blocks and execute an action on each block.
+     *
+     * @param executor the executor, or null to run in the calling thread
+     * @param size the size of the batch
+     * @param action the action
+     */
+    static void forEachBlock(ThreadPoolExecutor executor, int size, BlockAction action)
+    {
+        int workers = workers(executor, size);
+        if (workers == 1) {
+            action.run(0, size);
+            return;
+        }
+        int blockSize = (size + workers - 1) / workers;
+        submitWorkers(executor, workers, worker -> {
+            int from = worker * blockSize;
+            action.run(from, Math.min(size, from + blockSize));
+        });
+    }
+
+    /**
+     * Execute a sequence of passes over the non-empty slots of a batch, such that all slots with
+     * the same owner are processed by the same worker, in increasing slot order, and a worker
+     * finishes a pass over its slots before starting the next one.
+     *
+     * <p>
+     * When running in parallel, the slots are first partitioned by owner. Each block of the batch
+     * counts the slots of each worker, the counts are prefix summed and each block then scatters
+     * its slots into the slice of their worker. Thus each worker touches only its own slots.
+     * Owners are assigned to workers by their identity hash code.
+     *
+     * @param executor the executor, or null to run in the calling thread
+     * @param size the size of the batch
+     * @param owners the owner of each slot
+     * @param passes the passes to execute
+     */
+    static void forEachOwnedSlot(
+        ThreadPoolExecutor executor, int size, OwnerFunction owners, SlotAction... passes)
+    {
+        int workers = workers(executor, size);
+        if (workers == 1) {
+            for (SlotAction pass : passes) {
+                for (int slot = 0; slot < size; slot++) {
+                    if (owners.ownerOf(slot) != null) {
+                        pass.run(slot);
+                    }
+                }
+            }
+            return;
+        }
+
+        // count the slots of each worker per block
+        int blockSize = (size + workers - 1) / workers;
+        int[][] counts = new int[workers][workers];
+        submitWorkers(executor, workers, block -> {
+            int[] blockCounts = counts[block];
+            int to = Math.min(size, (block + 1) * blockSize);
+            for (int slot = block * blockSize; slot < to; slot++) {
+                Object owner = owners.ownerOf(slot);
+                if (owner != null) {
+                    blockCounts[workerOf(owner, workers)]++;
+                }
+            }
+        });
+
+        // prefix sum, slices ordered by worker and then by block
+        int[] sliceStart = new int[workers + 1];
+        int total = 0;
+        for (int worker = 0; worker < workers; worker++) {
+            sliceStart[worker] = total;
+            for (int block = 0; block < workers; block++) {
+                int count = counts[block][worker];
+                counts[block][worker] = total;
+                total += count;
+            }
+        }
+        sliceStart[workers] = total;
+
+        // scatter, reusing the counts as insertion positions
+        int[] slots = new int[total];
+        submitWorkers(executor, workers, block -> {
+            int[] next = counts[block];
+            int to = Math.min(size, (block + 1) * blockSize);
+            for (int slot = block * blockSize; slot < to; slot++) {
+                Object owner = owners.ownerOf(slot);
+                if (owner != null) {
+                    slots[next[workerOf(owner, workers)]++] = slot;
+                }
+            }
+        });
+
+        submitWorkers(executor, workers, worker -> {
+            for (SlotAction pass : passes) {
+                for (int k = sliceStart[worker]; k < sliceStart[worker + 1]; k++) {
+                    pass.run(slots[k]);
+                }
+            }
+        });
+    }
+
+    private static int workerOf(Object owner, int workers)
+    {
+        return (System.identityHashCode(owner) & Integer.MAX_VALUE) % workers;
+    }
+
+    /**
+     * Get the number of workers for a batch. Each worker gets at least
+     * {@link #MIN_PARALLEL_SIZE} slots and there are no more workers than available processors,
+     * since the maximum pool size of an unbounded executor is {@link Integer#MAX_VALUE} and
+     * {@link #forEachOwnedSlot} needs space quadratic in the number of workers.
+     */
+    private static int workers(ThreadPoolExecutor executor, int size)
+    {
+        if (executor == null || size < MIN_PARALLEL_SIZE) {
+            return 1;
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        int workers = Math.min(executor.getMaximumPoolSize(), size / MIN_PARALLEL_SIZE);
+        return Math.max(1, Math.min(workers, processors));
+    }
+
+    private static void submitWorkers(
+        ExecutorService executor, int workers, WorkerAction action)
+    {
+        ExecutorCompletionService<Void> completionService =
+            new ExecutorCompletionService<>(executor);
+        for (int w = 0; w < workers; w++) {
+            int worker = w;
+            completionService.submit(() -> {
+                action.run(worker);
+                return null;
+            });
+        }
+        try {
+            for (int w = 0; w < workers; w++) {
+                completionService.take().get();
+            }
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+        }
+    }
+
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.graph.specifics;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -171,4 +172,38 @@ public interface Specifics<V, E>
      */
     void removeEdgeFromTouchingVertices(V sourceVertex, V targetVertex, E e);
 
+    /**
+     * Adds a batch of edges to the edge containers of their source and target vertices. This is
+     * equivalent to calling {@link #addEdgeToTouchingVertices(Object, Object, Object)} for each
+     * edge in order, but implementations may size their containers upfront and fill them in
+     * parallel.
+     *
+     * <p>
+     * The caller must ensure that the edges are distinct, not already contained in the graph, and
+     * compatible with the graph type. All endpoints are checked before any edge is added, so that
+     * the specifics are left unchanged if an endpoint is missing.
+     *
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param edges the edges
+     * @param executor executor used to parallelize the work, can be null
+     * @throws IllegalArgumentException if some endpoint is not contained in the graph
+     */
+    default void addEdgesToTouchingVertices(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges,
+        ThreadPoolExecutor executor)
+    {
+        Set<V> vertices = getVertexSet();
+        for (List<? extends V> endpoints : Arrays.asList(sources, targets)) {
+            for (V v : endpoints) {
+                if (!vertices.contains(v)) {
+                    throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+                }
+            }
+        }
+        for (int i = 0; i < edges.size(); i++) {
+            addEdgeToTouchingVertices(sources.get(i), targets.get(i), edges.get(i));
+        }
+    }
+
 }
@@ -43,6 +43,9 @@ public class UndirectedEdgeContainer<V, E>
     Set<E> vertexEdges;
     private transient Set<E> unmodifiableVertexEdges = null;
 
+    // number of edges about to be added by a bulk operation
+    transient int pendingEdges;
+
     UndirectedEdgeContainer(EdgeSetFactory<V, E> edgeSetFactory, V vertex)
     {
         vertexEdges = edgeSetFactory.createEdgeSet(vertex);
@@ -23,6 +23,7 @@ import org.jgrapht.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 /**
@@ -166,7 +167,9 @@ public class UndirectedSpecifics<V, E>
 
         // add
         ec.addEdge(e);
-        getEdgeContainer(targetVertex).addEdge(e);
+        if (!sourceVertex.equals(targetVertex)) {
+            getEdgeContainer(targetVertex).addEdge(e);
+        }
         return true;
     }
 
@@ -185,7 +188,9 @@ public class UndirectedSpecifics<V, E>
         // create and add
         E e = edgeSupplier.get();
         ec.addEdge(e);
-        getEdgeContainer(targetVertex).addEdge(e);
+        if (!sourceVertex.equals(targetVertex)) {
+            getEdgeContainer(targetVertex).addEdge(e);
+        }
 
         return e;
     }
@@ -275,6 +280,49 @@ public class UndirectedSpecifics<V, E>
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The edge containers of all endpoints are first looked up, in parallel if an executor is
+     * given. Then each container is sized according to the number of its new edges and filled.
+     * When running in parallel, each container is filled by a single worker, which adds its edges
+     * in the order of the batch.
+     */
+    @Override
+    public void addEdgesToTouchingVertices(
+        List<? extends V> sources, List<? extends V> targets, List<? extends E> edges,
+        ThreadPoolExecutor executor)
+    {
+        int m = edges.size();
+        UndirectedEdgeContainer<V, E>[] first =
+            TypeUtil.uncheckedCast(new UndirectedEdgeContainer[m]);
+        UndirectedEdgeContainer<V, E>[] second =
+            TypeUtil.uncheckedCast(new UndirectedEdgeContainer[m]);
+        ParallelBlocks.forEachBlock(executor, m, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                first[i] = getExistingEdgeContainer(sources.get(i));
+                // self-loops are stored only once
+                UndirectedEdgeContainer<V, E> ec = getExistingEdgeContainer(targets.get(i));
+                second[i] = ec == first[i] ? null : ec;
+            }
+        });
+
+        // slot 2i is the first and slot 2i+1 the second endpoint of edge i
+        ParallelBlocks.forEachOwnedSlot(
+            executor, 2 * m, slot -> (slot & 1) == 0 ? first[slot >> 1] : second[slot >> 1],
+            slot -> ((slot & 1) == 0 ? first[slot >> 1] : second[slot >> 1]).pendingEdges++,
+            slot -> {
+                UndirectedEdgeContainer<V, E> ec =
+                    (slot & 1) == 0 ? first[slot >> 1] : second[slot >> 1];
+                if (ec.pendingEdges > 0) {
+                    edgeSetFactory.ensureCapacity(ec.vertexEdges, ec.pendingEdges);
+                    ec.pendingEdges = 0;
+                }
+                ec.addEdge(edges.get(slot >> 1));
+            });
+    }
+
     /**
      * Get the edge container for a specified vertex.
      *
@@ -294,4 +342,13 @@ public class UndirectedSpecifics<V, E>
         return ec;
     }
 
+    private UndirectedEdgeContainer<V, E> getExistingEdgeContainer(V vertex)
+    {
+        UndirectedEdgeContainer<V, E> ec = vertexMap.get(vertex);
+        if (ec == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + vertex.toString());
+        }
+        return ec;
+    }
+
 }
@@ -0,0 +1,141 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Map;
+import java.util.Random;
+
+import org.jgrapht.Graph;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
+import org.jgrapht.generate.StarGraphGenerator;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultGraphType;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.SimpleGraph;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.SupplierUtil;
+import org.junit.Test;
+
+/**
+ * Unit tests for {@link ApproximateBetweennessCentrality}
+ * 
+ * @author Dimitrios Michail
+ */
+public class ApproximateBetweennessCentralityTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        assertTrue(new ApproximateBetweennessCentrality<>(g).getScores().isEmpty());
+    }
+
+    @Test
+    public void testSingletonGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        assertEquals(
+            0d, new ApproximateBetweennessCentrality<>(g).getVertexScore(0), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEpsilon()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new ApproximateBetweennessCentrality<>(g, 0d, 0.1, 17);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidDelta()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new ApproximateBetweennessCentrality<>(g, 0.1, 1d, 17);
+    }
+
+    @Test
+    public void testSampleSize()
+    {
+        assertEquals(0, ApproximateBetweennessCentrality.getSampleSize(2, 0.1, 0.1));
+        // 50 * (floor(log2(8)) + 1 + ln(10))
+        assertEquals(316, ApproximateBetweennessCentrality.getSampleSize(10, 0.1, 0.1));
+    }
+
+    @Test
+    public void testStar()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new StarGraphGenerator<Integer, DefaultEdge>(20).generateGraph(g);
+
+        Map<Integer, Double> scores =
+            new ApproximateBetweennessCentrality<>(g, 0.05, 0.1, 7).getScores();
+
+        // every path between two leaves passes through the center
+        for (Integer v : g.vertexSet()) {
+            if (g.degreeOf(v) == 1) {
+                assertEquals(0d, scores.get(v), 0d);
+            } else {
+                assertEquals(19 * 18 / 2, scores.get(v), 0.05 * 20 * 19);
+            }
+        }
+    }
+
+    @Test
+    public void testRandomGraphsWithinGuarantee()
+    {
+        Random rng = new Random(11);
+        double epsilon = 0.02;
+        for (boolean directed : new boolean[] { true, false }) {
+            for (boolean weighted : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedSimple() : DefaultGraphType.simple())
+                    .weighted(weighted).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.createDefaultWeightedEdgeSupplier()).buildGraph();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 200, rng, false, false)
+                    .generateGraph(g);
+                if (weighted) {
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, 1 + rng.nextInt(4));
+                    }
+                }
+
+                Map<Integer, Double> exact = new BetweennessCentrality<>(g, true).getScores();
+                Map<Integer, Double> approx =
+                    new ApproximateBetweennessCentrality<>(g, true, epsilon, 0.01, rng)
+                        .getScores();
+
+                // guarantee holds for scores normalized by n(n-1)
+                int n = g.vertexSet().size();
+                double scale = (double) (n - 1) * (n - 2) / ((double) n * (n - 1));
+                if (!directed) {
+                    scale *= 2;
+                }
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(exact.get(v) * scale, approx.get(v) * scale, epsilon);
+                }
+            }
+        }
+    }
+
+}
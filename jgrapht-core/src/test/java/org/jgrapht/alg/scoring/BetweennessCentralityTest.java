@@ -22,17 +22,33 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.scoring.BetweennessCentrality.OverflowStrategy;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 import org.junit.experimental.categories.Category;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
 public class BetweennessCentralityTest
 {
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
 
     @Test(expected = NullPointerException.class)
     public void testNullGraph()
@@ -581,5 +597,79 @@ public class BetweennessCentralityTest
         assertEquals(scores.get(3290), 0d, 1e-9);
     }
 
+    @Test
+    public void testParallelUnweighted1()
+    {
+        Graph<Integer, DefaultEdge> g = createUnweighted1();
+        VertexScoringAlgorithm<Integer, Double> bc = new BetweennessCentrality<>(
+            g, false, OverflowStrategy.IGNORE_OVERFLOW, executor);
+        assertGraph1(bc.getScores());
+    }
+
+    @Test
+    public void testParallelWeighted5()
+    {
+        Graph<String, DefaultWeightedEdge> g = createWeighted5();
+        VertexScoringAlgorithm<String, Double> bc = new BetweennessCentrality<>(
+            g, false, OverflowStrategy.IGNORE_OVERFLOW, executor);
+        assertGraph5(bc.getScores());
+    }
+
+    @Test
+    public void testParallelNormalization()
+    {
+        Graph<Integer, DefaultEdge> g = new AsWeightedGraph<>(createUnweighted1(), new HashMap<>());
+        VertexScoringAlgorithm<Integer, Double> bc = new BetweennessCentrality<>(
+            g, true, OverflowStrategy.IGNORE_OVERFLOW, executor);
+        Map<Integer, Double> scores = new HashMap<>(bc.getScores());
+        int n = g.vertexSet().size();
+        scores.forEach((v, score) -> scores.put(v, score * ((n - 1) * (n - 2))));
+        assertGraph1(scores);
+    }
+
+    @Test
+    public void testParallelRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (boolean weighted : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedPseudograph()
+                            : DefaultGraphType.pseudograph())
+                    .weighted(weighted).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.createDefaultWeightedEdgeSupplier()).buildGraph();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 400, rng, true, true)
+                    .generateGraph(g);
+                if (weighted) {
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, 1 + rng.nextInt(5));
+                    }
+                }
+
+                Map<Integer, Double> expected = new BetweennessCentrality<>(g, true).getScores();
+                Map<Integer, Double> actual = new BetweennessCentrality<>(
+                    g, true, OverflowStrategy.IGNORE_OVERFLOW, executor).getScores();
+                assertEquals(expected.size(), actual.size());
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.get(v), actual.get(v), 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test(expected = ArithmeticException.class)
+    public void testParallelOverflow()
+    {
+        final Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        for (int i = 0; i < 3300; i++)
+            g.addVertex(i);
+        for (int i = 0; i < 3290; i++)
+            for (int j = 0; j < 10; j++)
+                g.addEdge(i, i - i % 10 + 10 + j);
+        VertexScoringAlgorithm<Integer, Double> bc = new BetweennessCentrality<>(
+            g, false, OverflowStrategy.THROW_EXCEPTION_ON_OVERFLOW, executor);
+        bc.getScores();
+    }
 
 }
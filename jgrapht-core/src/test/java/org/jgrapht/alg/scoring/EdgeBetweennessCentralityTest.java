@@ -20,12 +20,21 @@ package org.jgrapht.alg.scoring;
 import static org.junit.Assert.assertEquals;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ThreadPoolExecutor;
 
 import org.jgrapht.Graph;
 import org.jgrapht.alg.scoring.EdgeBetweennessCentrality.OverflowStrategy;
+import org.jgrapht.generate.GnmRandomGraphGenerator;
 import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.DefaultGraphType;
+import org.jgrapht.graph.DefaultWeightedEdge;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
 import org.jgrapht.util.SupplierUtil;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
 /**
@@ -35,6 +44,21 @@ import org.junit.Test;
  */
 public class EdgeBetweennessCentralityTest
 {
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
     @Test
     public void testUndirectedGraph1()
     {
@@ -236,4 +260,45 @@ public class EdgeBetweennessCentralityTest
         assertEquals(5.0, ebc.getEdgeScore(e_F_G), 1e-9);
     }
 
+    @Test
+    public void testParallelRandomGraphs()
+    {
+        Random rng = new Random(33);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (boolean weighted : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedSimple() : DefaultGraphType.simple())
+                    .allowingSelfLoops(true).weighted(weighted)
+                    .vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.createDefaultWeightedEdgeSupplier()).buildGraph();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(80, 300, rng, true, false)
+                    .generateGraph(g);
+                if (weighted) {
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, 1 + rng.nextInt(5));
+                    }
+                }
+
+                Map<DefaultWeightedEdge, Double> expected =
+                    new EdgeBetweennessCentrality<>(g).getScores();
+                Map<DefaultWeightedEdge, Double> actual = new EdgeBetweennessCentrality<>(
+                    g, OverflowStrategy.IGNORE_OVERFLOW, null, executor).getScores();
+                assertEquals(expected.size(), actual.size());
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    assertEquals(expected.get(e), actual.get(e), 1e-9);
+                }
+
+                List<Integer> subset = List.of(0, 5, 17, 42);
+                expected = new EdgeBetweennessCentrality<>(
+                    g, OverflowStrategy.IGNORE_OVERFLOW, subset).getScores();
+                actual = new EdgeBetweennessCentrality<>(
+                    g, OverflowStrategy.IGNORE_OVERFLOW, subset, executor).getScores();
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    assertEquals(expected.get(e), actual.get(e), 1e-9);
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,145 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link IncrementalPageRank}
+ * 
+ * @author Dimitrios Michail
+ */
+public class IncrementalPageRankTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        assertTrue(new IncrementalPageRank<>(g).getScores().isEmpty());
+    }
+
+    @Test
+    public void testGrowFromEmpty()
+    {
+        ListenableGraph<String, DefaultEdge> g =
+            new DefaultListenableGraph<>(new DirectedPseudograph<>(DefaultEdge.class));
+        IncrementalPageRank<String, DefaultEdge> pr = new IncrementalPageRank<>(g);
+        g.addGraphListener(pr);
+
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addVertex("3");
+        g.addEdge("1", "2");
+        g.addEdge("2", "3");
+        g.addEdge("3", "1");
+
+        assertEquals(1d / 3, pr.getVertexScore("1"), 1e-6);
+        assertEquals(1d / 3, pr.getVertexScore("2"), 1e-6);
+        assertEquals(1d / 3, pr.getVertexScore("3"), 1e-6);
+    }
+
+    @Test
+    public void testRandomUpdates()
+    {
+        Random rng = new Random(3);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (boolean weighted : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> base = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedPseudograph()
+                            : DefaultGraphType.pseudograph())
+                    .weighted(weighted).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.createDefaultWeightedEdgeSupplier()).buildGraph();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    100, 300, rng, false, true).generateGraph(base);
+                ListenableGraph<Integer, DefaultWeightedEdge> g =
+                    new DefaultListenableGraph<>(base);
+
+                IncrementalPageRank<Integer, DefaultWeightedEdge> pr =
+                    new IncrementalPageRank<>(g, 0.85, 1e-12);
+                g.addGraphListener(pr);
+                assertScores(g, pr);
+
+                int nextVertex = 100;
+                for (int round = 0; round < 10; round++) {
+                    for (int i = 0; i < 10; i++) {
+                        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+                        List<DefaultWeightedEdge> edges = new ArrayList<>(g.edgeSet());
+                        switch (rng.nextInt(5)) {
+                        case 0:
+                            g.addVertex(nextVertex++);
+                            break;
+                        case 1:
+                            g.removeVertex(vertices.get(rng.nextInt(vertices.size())));
+                            break;
+                        case 2:
+                            if (!edges.isEmpty()) {
+                                g.removeEdge(edges.get(rng.nextInt(edges.size())));
+                            }
+                            break;
+                        case 3:
+                            if (weighted && !edges.isEmpty()) {
+                                g.setEdgeWeight(
+                                    edges.get(rng.nextInt(edges.size())), 1 + rng.nextInt(5));
+                            }
+                            break;
+                        default:
+                            DefaultWeightedEdge e = g
+                                .addEdge(
+                                    vertices.get(rng.nextInt(vertices.size())),
+                                    vertices.get(rng.nextInt(vertices.size())));
+                            if (weighted) {
+                                g.setEdgeWeight(e, 1 + rng.nextInt(5));
+                            }
+                        }
+                    }
+                    assertScores(g, pr);
+                }
+            }
+        }
+    }
+
+    private void assertScores(
+        Graph<Integer, DefaultWeightedEdge> g, IncrementalPageRank<Integer, DefaultWeightedEdge> pr)
+    {
+        Map<Integer, Double> expected = new PageRank<>(g, 0.85, 1000, 1e-13).getScores();
+        Map<Integer, Double> actual = pr.getScores();
+        assertEquals(expected.size(), actual.size());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(expected.get(v), actual.get(v), 1e-8);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadTolerance()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        new IncrementalPageRank<>(g, 0.85, 0d);
+    }
+
+}
@@ -17,10 +17,17 @@
  */
 package org.jgrapht.alg.scoring;
 
+import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
+import java.util.concurrent.*;
+
 import static org.junit.Assert.*;
 
 /**
@@ -301,4 +308,77 @@ public class PageRankTest
 
     }
 
+    @Test
+    public void testParallelAndDeltaGraphWikipedia()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of("A", "B", "C", "D", "E", "F", "1", "2", "3", "4", "5"));
+        String[][] edges = { { "B", "C" }, { "C", "B" }, { "D", "A" }, { "D", "B" }, { "E", "D" },
+            { "E", "B" }, { "E", "F" }, { "F", "B" }, { "F", "E" }, { "1", "B" }, { "1", "E" },
+            { "2", "B" }, { "2", "E" }, { "3", "B" }, { "3", "E" }, { "4", "E" }, { "5", "E" } };
+        for (String[] e : edges) {
+            g.addEdge(e[0], e[1]);
+        }
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(3);
+        try {
+            List<VertexScoringAlgorithm<String, Double>> algs = List
+                .of(
+                    new PageRank<>(g, 0.85, 100, 0.0001, executor),
+                    new PageRank<>(g, 0.85, 100, 0.000001, PageRank.Method.DELTA));
+            for (VertexScoringAlgorithm<String, Double> pr : algs) {
+                assertEquals(pr.getVertexScore("A"), 0.03278, 0.0001);
+                assertEquals(pr.getVertexScore("B"), 0.38435, 0.0001);
+                assertEquals(pr.getVertexScore("C"), 0.34295, 0.0001);
+                assertEquals(pr.getVertexScore("D"), 0.03908, 0.0001);
+                assertEquals(pr.getVertexScore("E"), 0.08088, 0.0001);
+                assertEquals(pr.getVertexScore("F"), 0.03908, 0.0001);
+                assertEquals(pr.getVertexScore("1"), 0.01616, 0.0001);
+                assertEquals(pr.getVertexScore("5"), 0.01616, 0.0001);
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testParallelAndDeltaRandomGraphs()
+    {
+        Random rng = new Random(7);
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (boolean weighted : new boolean[] { true, false }) {
+                    Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                        .<Integer, DefaultWeightedEdge> forGraphType(
+                            directed ? DefaultGraphType.directedPseudograph()
+                                : DefaultGraphType.pseudograph())
+                        .weighted(weighted).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                        .edgeSupplier(SupplierUtil.createDefaultWeightedEdgeSupplier())
+                        .buildGraph();
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                        200, 600, rng, false, true).generateGraph(g);
+                    if (weighted) {
+                        for (DefaultWeightedEdge e : g.edgeSet()) {
+                            g.setEdgeWeight(e, 1 + rng.nextInt(10));
+                        }
+                    }
+
+                    Map<Integer, Double> expected =
+                        new PageRank<>(g, 0.85, 1000, 1e-10).getScores();
+                    Map<Integer, Double> parallel =
+                        new PageRank<>(g, 0.85, 1000, 1e-10, executor).getScores();
+                    Map<Integer, Double> delta =
+                        new PageRank<>(g, 0.85, 1000, 1e-10, PageRank.Method.DELTA).getScores();
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(expected.get(v), parallel.get(v), 1e-9);
+                        assertEquals(expected.get(v), delta.get(v), 1e-6);
+                    }
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
 }
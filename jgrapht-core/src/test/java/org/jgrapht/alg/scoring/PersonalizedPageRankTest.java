@@ -0,0 +1,133 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Unit tests for {@link PersonalizedPageRank}
+ * 
+ * @author Dimitrios Michail
+ */
+public class PersonalizedPageRankTest
+{
+
+    @Test
+    public void testPath()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of("a", "b", "c", "d"));
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+
+        VertexScoringAlgorithm<String, Double> ppr =
+            new PersonalizedPageRank<>(g, Set.of("a"), 0.5, 1e-12);
+
+        // walk a -> b -> c -> back to a, restart with probability 1/2 at each step
+        double pa = 1d / (1d + 0.5 + 0.25);
+        assertEquals(pa, ppr.getVertexScore("a"), 1e-9);
+        assertEquals(pa * 0.5, ppr.getVertexScore("b"), 1e-9);
+        assertEquals(pa * 0.25, ppr.getVertexScore("c"), 1e-9);
+        assertEquals(0d, ppr.getVertexScore("d"), 0d);
+        assertFalse(ppr.getScores().containsKey("d"));
+    }
+
+    @Test
+    public void testLocality()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new LinearGraphGenerator<Integer, DefaultEdge>(10000).generateGraph(g);
+
+        PersonalizedPageRank<Integer, DefaultEdge> ppr =
+            new PersonalizedPageRank<>(g, Set.of(0), 0.85, 1e-4);
+        Map<Integer, Double> scores = ppr.getScores();
+        assertTrue(scores.size() < 500);
+        assertTrue(scores.get(1) > scores.get(5));
+    }
+
+    @Test
+    public void testUniformSeedsMatchPageRank()
+    {
+        Random rng = new Random(5);
+        for (boolean weighted : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                .<Integer, DefaultWeightedEdge> directed().allowingMultipleEdges(true)
+                .allowingSelfLoops(false).weighted(weighted)
+                .vertexSupplier(SupplierUtil.createIntegerSupplier())
+                .edgeSupplier(SupplierUtil.createDefaultWeightedEdgeSupplier()).buildGraph();
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 250, rng, false, true)
+                .generateGraph(g);
+            if (weighted) {
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, 1 + rng.nextInt(5));
+                }
+            }
+
+            Map<Integer, Double> expected = new PageRank<>(g, 0.85, 1000, 1e-12).getScores();
+            Map<Integer, Double> actual =
+                new PersonalizedPageRank<>(g, g.vertexSet(), 0.85, 1e-10).getScores();
+            for (Integer v : g.vertexSet()) {
+                assertEquals(expected.get(v), actual.getOrDefault(v, 0d), 1e-7);
+            }
+        }
+    }
+
+    @Test
+    public void testWeightedPersonalization()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, List.of("a", "b"));
+
+        Map<String, Double> personalization = new HashMap<>();
+        personalization.put("a", 3d);
+        personalization.put("b", 1d);
+        VertexScoringAlgorithm<String, Double> ppr =
+            new PersonalizedPageRank<>(g, personalization, 0.85, 1e-12);
+
+        assertEquals(0.75, ppr.getVertexScore("a"), 1e-9);
+        assertEquals(0.25, ppr.getVertexScore("b"), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSeed()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new PersonalizedPageRank<>(g, "b");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBadEpsilon()
+    {
+        DirectedPseudograph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new PersonalizedPageRank<>(g, Set.of("a"), 0.85, 0d);
+    }
+
+}
@@ -0,0 +1,195 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link CompactContractionHierarchyPrecomputation}.
+ *
+ * @author Dimitrios Michail
+ */
+public class CompactContractionHierarchyPrecomputationTest
+{
+    private static final long SEED = 19L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new CompactContractionHierarchyPrecomputation<>(graph, executor)
+                .computeContractionHierarchy();
+        assertTrue(hierarchy.getContractionGraph().vertexSet().isEmpty());
+        assertTrue(hierarchy.getContractionMapping().isEmpty());
+    }
+
+    @Test
+    public void testShortcut()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1.0);
+        Graphs.addEdgeWithVertices(graph, 2, 3, 1.0);
+        Graphs.addEdgeWithVertices(graph, 1, 3, 5.0);
+        Graphs.addEdgeWithVertices(graph, 1, 3, 4.0);
+        Graphs.addEdgeWithVertices(graph, 3, 3, 1.0);
+
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new CompactContractionHierarchyPrecomputation<>(
+                graph, () -> new Random(SEED), executor).computeContractionHierarchy();
+        Graph<ContractionVertex<Integer>, ContractionEdge<DefaultWeightedEdge>> contractionGraph =
+            hierarchy.getContractionGraph();
+        Map<Integer, ContractionVertex<Integer>> mapping = hierarchy.getContractionMapping();
+
+        assertEquals(3, contractionGraph.edgeSet().size());
+        Set<Integer> levels = new HashSet<>();
+        for (ContractionVertex<Integer> v : contractionGraph.vertexSet()) {
+            levels.add(v.contractionLevel);
+        }
+        assertEquals(Set.of(0, 1, 2), levels);
+
+        ContractionEdge<DefaultWeightedEdge> e13 =
+            contractionGraph.getEdge(mapping.get(1), mapping.get(3));
+        if (mapping.get(2).contractionLevel == 0) {
+            // contracting vertex 2 replaces the heavier direct edge by a shortcut
+            assertNotNull(e13.bypassedEdges);
+            assertEquals(2.0, contractionGraph.getEdgeWeight(e13), 1e-9);
+            assertEquals(2, e13.originalEdges);
+        } else {
+            assertEquals(4.0, contractionGraph.getEdgeWeight(e13), 1e-9);
+        }
+        for (ContractionEdge<DefaultWeightedEdge> e : contractionGraph.edgeSet()) {
+            assertEquals(
+                contractionGraph.getEdgeSource(e).contractionLevel < contractionGraph
+                    .getEdgeTarget(e).contractionLevel,
+                e.isUpward);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, -1.0);
+        new CompactContractionHierarchyPrecomputation<>(graph, executor)
+            .computeContractionHierarchy();
+    }
+
+    @Test
+    public void testOnRandomGraphs()
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultWeightedEdge> graph = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedPseudograph()
+                            : DefaultGraphType.pseudograph())
+                    .weighted(true).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    100, 400, rng, true, true).generateGraph(graph);
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    graph.setEdgeWeight(e, 1 + rng.nextInt(20));
+                }
+
+                ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                    new CompactContractionHierarchyPrecomputation<>(
+                        graph, () -> new Random(rng.nextLong()), executor)
+                            .computeContractionHierarchy();
+
+                Map<Integer, ContractionVertex<Integer>> mapping =
+                    hierarchy.getContractionMapping();
+                assertEquals(graph.vertexSet(), mapping.keySet());
+                Set<Integer> ids = new HashSet<>();
+                for (ContractionVertex<Integer> v : mapping.values()) {
+                    ids.add(v.vertexId);
+                }
+                assertEquals(graph.vertexSet().size(), ids.size());
+
+                ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+                    new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+                ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+                    new DijkstraShortestPath<>(graph);
+                for (int s = 0; s < 100; s += 3) {
+                    for (int t = 0; t < 100; t += 7) {
+                        GraphPath<Integer, DefaultWeightedEdge> expected =
+                            dijkstra.getPath(s, t);
+                        GraphPath<Integer, DefaultWeightedEdge> actual = ch.getPath(s, t);
+                        if (expected == null) {
+                            assertNull(actual);
+                        } else {
+                            assertEquals(expected.getWeight(), actual.getWeight(), 1e-9);
+                            assertEquals(s, actual.getStartVertex().intValue());
+                            assertEquals(t, actual.getEndVertex().intValue());
+                            double sum = 0d;
+                            for (DefaultWeightedEdge e : actual.getEdgeList()) {
+                                sum += graph.getEdgeWeight(e);
+                            }
+                            assertEquals(expected.getWeight(), sum, 1e-9);
+                        }
+                    }
+                }
+
+                ManyToManyShortestPathsAlgorithm<Integer, DefaultWeightedEdge> manyToMany =
+                    new CHManyToManyShortestPaths<>(hierarchy);
+                Set<Integer> sources = Set.of(0, 10, 20);
+                Set<Integer> targets = Set.of(5, 15, 25, 35);
+                ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+                    DefaultWeightedEdge> paths = manyToMany.getManyToManyPaths(sources, targets);
+                for (Integer s : sources) {
+                    for (Integer t : targets) {
+                        assertEquals(
+                            dijkstra.getPathWeight(s, t), paths.getWeight(s, t), 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,257 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ContractionHierarchyStorage}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ContractionHierarchyStorageTest
+{
+    private static final long SEED = 23L;
+
+    private static ThreadPoolExecutor executor;
+
+    private Path file;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Before
+    public void createFile()
+        throws IOException
+    {
+        file = Files.createTempFile("jgrapht", ".ch");
+    }
+
+    @After
+    public void deleteFile()
+        throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testContractionHierarchy()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> graph = createRandomGraph(directed, 150, 600, rng);
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                new ContractionHierarchyPrecomputation<>(
+                    graph, () -> new Random(SEED), executor).computeContractionHierarchy();
+
+            ContractionHierarchyStorage.writeContractionHierarchy(hierarchy, file);
+            ContractionHierarchy<Integer, DefaultWeightedEdge> loaded =
+                ContractionHierarchyStorage.readContractionHierarchy(graph, file);
+
+            Graph<ContractionVertex<Integer>, ContractionEdge<DefaultWeightedEdge>> expectedGraph =
+                hierarchy.getContractionGraph();
+            Graph<ContractionVertex<Integer>, ContractionEdge<DefaultWeightedEdge>> actualGraph =
+                loaded.getContractionGraph();
+            assertEquals(expectedGraph.edgeSet().size(), actualGraph.edgeSet().size());
+            for (Integer v : graph.vertexSet()) {
+                ContractionVertex<Integer> expected = hierarchy.getContractionMapping().get(v);
+                ContractionVertex<Integer> actual = loaded.getContractionMapping().get(v);
+                assertEquals(expected.vertexId, actual.vertexId);
+                assertEquals(expected.contractionLevel, actual.contractionLevel);
+            }
+            for (ContractionEdge<DefaultWeightedEdge> e : actualGraph.edgeSet()) {
+                ContractionEdge<DefaultWeightedEdge> expected = expectedGraph.getEdge(
+                    actualGraph.getEdgeSource(e), actualGraph.getEdgeTarget(e));
+                assertNotNull(expected);
+                assertEquals(
+                    expectedGraph.getEdgeWeight(expected), actualGraph.getEdgeWeight(e), 0d);
+                assertEquals(expected.isUpward, e.isUpward);
+                assertEquals(expected.originalEdges, e.originalEdges);
+                assertEquals(expected.edge, e.edge);
+            }
+
+            ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+                new ContractionHierarchyBidirectionalDijkstra<>(loaded);
+            assertSameShortestPaths(graph, ch, rng);
+        }
+    }
+
+    @Test
+    public void testTransitNodeRouting()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> graph = createRandomGraph(directed, 150, 600, rng);
+            TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> routing =
+                new TransitNodeRoutingShortestPath<>(graph, executor);
+
+            ContractionHierarchyStorage.writeTransitNodeRouting(routing, file);
+            TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> loaded =
+                ContractionHierarchyStorage.readTransitNodeRouting(graph, file);
+
+            for (int q = 0; q < 200; q++) {
+                int s = rng.nextInt(150);
+                int t = rng.nextInt(150);
+                assertEquals(routing.getPathWeight(s, t), loaded.getPathWeight(s, t), 1e-9);
+            }
+            assertSameShortestPaths(graph, loaded, rng);
+        }
+    }
+
+    @Test
+    public void testSmallChunks()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = createRandomGraph(true, 100, 400, rng);
+        TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> routing =
+            new TransitNodeRoutingShortestPath<>(graph, executor);
+
+        // values are not aligned in transit node routing files and cross chunk boundaries
+        for (int chunkBits : new int[] { 3, 4, 7 }) {
+            ContractionHierarchyStorage.writeContractionHierarchy(
+                routing.getTransitNodeRouting().getContractionHierarchy(), file);
+            ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+                ContractionHierarchyStorage.readContractionHierarchy(graph, file, chunkBits);
+            assertSameShortestPaths(
+                graph, new ContractionHierarchyBidirectionalDijkstra<>(hierarchy), rng);
+
+            ContractionHierarchyStorage.writeTransitNodeRouting(routing, file);
+            TransitNodeRoutingShortestPath<Integer, DefaultWeightedEdge> loaded =
+                ContractionHierarchyStorage.readTransitNodeRouting(graph, file, chunkBits);
+            for (int q = 0; q < 200; q++) {
+                int s = rng.nextInt(100);
+                int t = rng.nextInt(100);
+                assertEquals(routing.getPathWeight(s, t), loaded.getPathWeight(s, t), 1e-9);
+            }
+            assertSameShortestPaths(graph, loaded, rng);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDifferentGraph()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = createRandomGraph(true, 50, 200, rng);
+        ContractionHierarchyStorage.writeContractionHierarchy(
+            new ContractionHierarchyPrecomputation<>(graph, executor)
+                .computeContractionHierarchy(),
+            file);
+        graph.addVertex(50);
+        ContractionHierarchyStorage.readContractionHierarchy(graph, file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongKind()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = createRandomGraph(true, 50, 200, rng);
+        ContractionHierarchyStorage.writeContractionHierarchy(
+            new ContractionHierarchyPrecomputation<>(graph, executor)
+                .computeContractionHierarchy(),
+            file);
+        ContractionHierarchyStorage.readTransitNodeRouting(graph, file);
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedFile()
+        throws IOException
+    {
+        Random rng = new Random(SEED);
+        Graph<Integer, DefaultWeightedEdge> graph = createRandomGraph(true, 50, 200, rng);
+        ContractionHierarchyStorage.writeContractionHierarchy(
+            new ContractionHierarchyPrecomputation<>(graph, executor)
+                .computeContractionHierarchy(),
+            file);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 7));
+        ContractionHierarchyStorage.readContractionHierarchy(graph, file);
+    }
+
+    private static void assertSameShortestPaths(
+        Graph<Integer, DefaultWeightedEdge> graph,
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> algorithm, Random rng)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(graph);
+        int n = graph.vertexSet().size();
+        for (int q = 0; q < 200; q++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            GraphPath<Integer, DefaultWeightedEdge> expected = dijkstra.getPath(s, t);
+            GraphPath<Integer, DefaultWeightedEdge> actual = algorithm.getPath(s, t);
+            if (expected == null) {
+                assertTrue(actual == null || actual.getWeight() == Double.POSITIVE_INFINITY);
+                continue;
+            }
+            assertEquals(expected.getWeight(), actual.getWeight(), 1e-9);
+            assertEquals(s, actual.getStartVertex().intValue());
+            assertEquals(t, actual.getEndVertex().intValue());
+            double sum = 0d;
+            for (DefaultWeightedEdge e : actual.getEdgeList()) {
+                sum += graph.getEdgeWeight(e);
+            }
+            assertEquals(expected.getWeight(), sum, 1e-9);
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createRandomGraph(
+        boolean directed, int n, int m, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> graph = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> forGraphType(
+                directed ? DefaultGraphType.directedPseudograph() : DefaultGraphType.pseudograph())
+            .weighted(true).vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rng, true, true)
+            .generateGraph(graph);
+        for (DefaultWeightedEdge e : graph.edgeSet()) {
+            graph.setEdgeWeight(e, 1 + rng.nextInt(20));
+        }
+        return graph;
+    }
+
+}
@@ -0,0 +1,202 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.jgrapht.alg.shortestpath.ContractionHierarchyPrecomputation.*;
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the {@link CustomizableContractionHierarchyPrecomputation}.
+ *
+ * @author Dimitrios Michail
+ */
+public class CustomizableContractionHierarchyPrecomputationTest
+{
+    private static final long SEED = 17L;
+
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy =
+            new CustomizableContractionHierarchyPrecomputation<>(graph, executor).customize();
+        assertTrue(hierarchy.getContractionGraph().vertexSet().isEmpty());
+    }
+
+    @Test
+    public void testGivenOrder()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e12 = Graphs.addEdgeWithVertices(graph, 1, 2, 1.0);
+        DefaultWeightedEdge e23 = Graphs.addEdgeWithVertices(graph, 2, 3, 1.0);
+        Graphs.addEdgeWithVertices(graph, 1, 3, 5.0);
+        Graphs.addEdgeWithVertices(graph, 3, 3, 1.0);
+
+        CustomizableContractionHierarchyPrecomputation<Integer, DefaultWeightedEdge> cch =
+            new CustomizableContractionHierarchyPrecomputation<>(
+                graph, Arrays.asList(2, 1, 3), executor);
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy = cch.customize();
+        Graph<ContractionVertex<Integer>, ContractionEdge<DefaultWeightedEdge>> contractionGraph =
+            hierarchy.getContractionGraph();
+        Map<Integer, ContractionVertex<Integer>> mapping = hierarchy.getContractionMapping();
+
+        assertEquals(0, mapping.get(2).contractionLevel);
+        assertEquals(1, mapping.get(1).contractionLevel);
+        assertEquals(2, mapping.get(3).contractionLevel);
+
+        ContractionEdge<DefaultWeightedEdge> e13 =
+            contractionGraph.getEdge(mapping.get(1), mapping.get(3));
+        assertTrue(e13.isUpward);
+        assertNotNull(e13.bypassedEdges);
+        assertEquals(2.0, contractionGraph.getEdgeWeight(e13), 1e-9);
+        assertNull(contractionGraph.getEdge(mapping.get(3), mapping.get(1)));
+
+        GraphPath<Integer, DefaultWeightedEdge> path =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy).getPath(1, 3);
+        assertEquals(Arrays.asList(e12, e23), path.getEdgeList());
+
+        // making the path through 2 expensive restores the direct edge
+        hierarchy = cch.customize(e -> e == e23 ? 10.0 : graph.getEdgeWeight(e));
+        assertEquals(
+            5.0, new ContractionHierarchyBidirectionalDijkstra<>(hierarchy).getPathWeight(1, 3),
+            1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidOrder()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1.0);
+        new CustomizableContractionHierarchyPrecomputation<>(graph, Arrays.asList(1, 1), executor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(graph, 1, 2, 1.0);
+        new CustomizableContractionHierarchyPrecomputation<>(graph, executor).customize(e -> -1d);
+    }
+
+    @Test
+    public void testOnRandomGraphs()
+    {
+        Random rng = new Random(SEED);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int i = 0; i < 5; i++) {
+                Graph<Integer, DefaultWeightedEdge> graph = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedPseudograph()
+                            : DefaultGraphType.pseudograph())
+                    .weighted(true).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    300, 700, rng, true, true).generateGraph(graph);
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    graph.setEdgeWeight(e, 1 + rng.nextInt(20));
+                }
+
+                CustomizableContractionHierarchyPrecomputation<Integer, DefaultWeightedEdge> cch =
+                    new CustomizableContractionHierarchyPrecomputation<>(graph, executor);
+                assertSameShortestPaths(graph, graph, cch.customize(), rng);
+
+                // new metric, including zero weights
+                Map<DefaultWeightedEdge, Double> weights = new HashMap<>();
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    weights.put(e, (double) rng.nextInt(30));
+                }
+                Graph<Integer, DefaultWeightedEdge> reweighted = new AsWeightedGraph<>(graph, weights);
+                assertSameShortestPaths(graph, reweighted, cch.customize(weights::get), rng);
+            }
+        }
+    }
+
+    private static void assertSameShortestPaths(
+        Graph<Integer, DefaultWeightedEdge> graph, Graph<Integer, DefaultWeightedEdge> weighted,
+        ContractionHierarchy<Integer, DefaultWeightedEdge> hierarchy, Random rng)
+    {
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> ch =
+            new ContractionHierarchyBidirectionalDijkstra<>(hierarchy);
+        ShortestPathAlgorithm<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(weighted);
+        int n = graph.vertexSet().size();
+        for (int q = 0; q < 200; q++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            GraphPath<Integer, DefaultWeightedEdge> expected = dijkstra.getPath(s, t);
+            GraphPath<Integer, DefaultWeightedEdge> actual = ch.getPath(s, t);
+            if (expected == null) {
+                assertNull(actual);
+                continue;
+            }
+            assertEquals(expected.getWeight(), actual.getWeight(), 1e-9);
+            assertEquals(s, actual.getStartVertex().intValue());
+            assertEquals(t, actual.getEndVertex().intValue());
+            double sum = 0d;
+            Integer current = s;
+            for (DefaultWeightedEdge e : actual.getEdgeList()) {
+                sum += weighted.getEdgeWeight(e);
+                current = Graphs.getOppositeVertex(graph, e, current);
+            }
+            assertEquals(t, current.intValue());
+            assertEquals(expected.getWeight(), sum, 1e-9);
+        }
+
+        Set<Integer> sources = Set.of(0, 10, 20, 30);
+        Set<Integer> targets = Set.of(5, 15, 25);
+        ManyToManyShortestPathsAlgorithm.ManyToManyShortestPaths<Integer,
+            DefaultWeightedEdge> paths =
+                new CHManyToManyShortestPaths<>(hierarchy).getManyToManyPaths(sources, targets);
+        for (Integer s : sources) {
+            for (Integer t : targets) {
+                assertEquals(dijkstra.getPathWeight(s, t), paths.getWeight(s, t), 1e-9);
+            }
+        }
+    }
+
+}
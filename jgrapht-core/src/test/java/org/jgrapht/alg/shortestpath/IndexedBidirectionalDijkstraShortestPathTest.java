@@ -0,0 +1,188 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedBidirectionalDijkstraShortestPath}.
+ *
+ * @author Dimitrios Michail
+ */
+public class IndexedBidirectionalDijkstraShortestPathTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testDirected()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e", "f"));
+        DefaultWeightedEdge ab = Graphs.addEdge(g, "a", "b", 10.0);
+        DefaultWeightedEdge ac = Graphs.addEdge(g, "a", "c", 20.0);
+        Graphs.addEdge(g, "c", "e", 33.0);
+        DefaultWeightedEdge cd = Graphs.addEdge(g, "c", "d", 20.0);
+        DefaultWeightedEdge be = Graphs.addEdge(g, "b", "e", 10.0);
+        Graphs.addEdge(g, "b", "d", 50.0);
+        Graphs.addEdge(g, "d", "e", 20.0);
+        DefaultWeightedEdge ef = Graphs.addEdge(g, "e", "f", 1.0);
+        Graphs.addEdge(g, "d", "f", 2.0);
+
+        IndexedBidirectionalDijkstraShortestPath<String, DefaultWeightedEdge> algo =
+            new IndexedBidirectionalDijkstraShortestPath<>(g);
+
+        assertEquals(Arrays.asList(ab), algo.getPath("a", "b").getEdgeList());
+        assertEquals(Arrays.asList(ab, be, ef), algo.getPath("a", "f").getEdgeList());
+        assertEquals(21d, algo.getPath("a", "f").getWeight(), 1e-9);
+        assertEquals(Arrays.asList(ac, cd), algo.getPath("a", "d").getEdgeList());
+        assertEquals(Arrays.asList("a", "c", "d"), algo.getPath("a", "d").getVertexList());
+        assertEquals(0d, algo.getPath("a", "a").getWeight(), 1e-9);
+        assertNull(algo.getPath("f", "a"));
+        assertEquals(Double.POSITIVE_INFINITY, algo.getPathWeight("f", "a"), 1e-9);
+        assertEquals(2d, algo.getPathWeight("d", "f"), 1e-9);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(31);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int round = 0; round < 5; round++) {
+                Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(directed, 100, 300, rng);
+
+                IndexedBidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> indexed =
+                    new IndexedBidirectionalDijkstraShortestPath<>(g);
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                    new DijkstraShortestPath<>(g);
+
+                for (int q = 0; q < 300; q++) {
+                    int s = rng.nextInt(100);
+                    int t = rng.nextInt(100);
+                    double expected = dijkstra.getPathWeight(s, t);
+                    assertEquals(expected, indexed.getPathWeight(s, t), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = indexed.getPath(s, t);
+                    if (path == null) {
+                        assertEquals(Double.POSITIVE_INFINITY, expected, 0d);
+                    } else {
+                        assertEquals(expected, path.getWeight(), 1e-9);
+                        List<Integer> vertices = path.getVertexList();
+                        assertEquals(s, vertices.get(0).intValue());
+                        assertEquals(t, vertices.get(vertices.size() - 1).intValue());
+                        double sum = 0d;
+                        for (DefaultWeightedEdge e : path.getEdgeList()) {
+                            sum += g.getEdgeWeight(e);
+                        }
+                        assertEquals(expected, sum, 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentQueries()
+        throws InterruptedException,
+        ExecutionException
+    {
+        Random rng = new Random(5);
+        Graph<Integer, DefaultWeightedEdge> g = createRandomGraph(true, 200, 1000, rng);
+
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+            new DijkstraShortestPath<>(g);
+        int queries = 400;
+        int[] sources = new int[queries];
+        int[] sinks = new int[queries];
+        double[] expected = new double[queries];
+        for (int q = 0; q < queries; q++) {
+            sources[q] = rng.nextInt(200);
+            sinks[q] = rng.nextInt(200);
+            expected[q] = dijkstra.getPathWeight(sources[q], sinks[q]);
+        }
+
+        IndexedBidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> bidirectional =
+            new IndexedBidirectionalDijkstraShortestPath<>(g);
+        IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> unidirectional =
+            new IndexedDijkstraShortestPath<>(g);
+        Map<Integer, Integer> index = unidirectional.getVertexToIntegerMapping().getVertexMap();
+
+        List<Future<Boolean>> futures = new ArrayList<>();
+        for (int task = 0; task < 8; task++) {
+            int offset = task;
+            futures.add(executor.submit(() -> {
+                for (int i = 0; i < queries; i++) {
+                    int q = (i + offset * 37) % queries;
+                    if (Math.abs(
+                        expected[q] - bidirectional.getPathWeight(sources[q], sinks[q])) > 1e-9)
+                    {
+                        return false;
+                    }
+                    double weight = unidirectional
+                        .getPathWeight(index.get(sources[q]), index.get(sinks[q]));
+                    if (Math.abs(expected[q] - weight) > 1e-9) {
+                        return false;
+                    }
+                }
+                return true;
+            }));
+        }
+        for (Future<Boolean> future : futures) {
+            assertTrue(future.get());
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createRandomGraph(
+        boolean directed, int n, int m, Random rng)
+    {
+        Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> forGraphType(
+                directed ? DefaultGraphType.directedPseudograph() : DefaultGraphType.pseudograph())
+            .weighted(true).vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rng, true, true)
+            .generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextInt(20));
+        }
+        return g;
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedDijkstraShortestPath}.
+ *
+ * @author Dimitrios Michail
+ */
+public class IndexedDijkstraShortestPathTest
+{
+    @Test
+    public void testDirected()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d", "e", "f"));
+        DefaultWeightedEdge ab = Graphs.addEdge(g, "a", "b", 10.0);
+        DefaultWeightedEdge ac = Graphs.addEdge(g, "a", "c", 20.0);
+        Graphs.addEdge(g, "c", "e", 33.0);
+        DefaultWeightedEdge cd = Graphs.addEdge(g, "c", "d", 20.0);
+        DefaultWeightedEdge be = Graphs.addEdge(g, "b", "e", 10.0);
+        Graphs.addEdge(g, "b", "d", 50.0);
+        Graphs.addEdge(g, "d", "e", 20.0);
+        DefaultWeightedEdge ef = Graphs.addEdge(g, "e", "f", 1.0);
+        Graphs.addEdge(g, "d", "f", 2.0);
+
+        IndexedDijkstraShortestPath<String, DefaultWeightedEdge> algo =
+            new IndexedDijkstraShortestPath<>(g);
+
+        assertEquals(Arrays.asList(ab), algo.getPath("a", "b").getEdgeList());
+        assertEquals(Arrays.asList(ab, be, ef), algo.getPath("a", "f").getEdgeList());
+        assertEquals(21d, algo.getPath("a", "f").getWeight(), 1e-9);
+        assertEquals(Arrays.asList(ac, cd), algo.getPath("a", "d").getEdgeList());
+        assertEquals(Arrays.asList("a", "c", "d"), algo.getPath("a", "d").getVertexList());
+        assertEquals(0d, algo.getPath("a", "a").getWeight(), 1e-9);
+        assertNull(algo.getPath("f", "a"));
+        assertEquals(Double.POSITIVE_INFINITY, algo.getPathWeight("f", "a"), 1e-9);
+        assertEquals(2d, algo.getPathWeight("d", "f"), 1e-9);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths = algo.getPaths("c");
+        assertEquals(0d, paths.getWeight("c"), 1e-9);
+        assertEquals(20d, paths.getWeight("d"), 1e-9);
+        assertEquals(33d, paths.getWeight("e"), 1e-9);
+        assertEquals(22d, paths.getWeight("f"), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight("a"), 1e-9);
+        assertNull(paths.getPath("b"));
+    }
+
+    @Test
+    public void testIntegerQueries()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new WeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1.0);
+        Graphs.addEdgeWithVertices(g, "b", "c", 2.0);
+        Graphs.addEdgeWithVertices(g, "c", "a", 5.0);
+        g.addVertex("d");
+
+        IndexedDijkstraShortestPath<String, DefaultWeightedEdge> algo =
+            new IndexedDijkstraShortestPath<>(g);
+        Map<String, Integer> index = algo.getVertexToIntegerMapping().getVertexMap();
+
+        assertEquals(3d, algo.getPathWeight(index.get("a"), index.get("c")), 1e-9);
+        assertEquals(3d, algo.getPathWeight(index.get("c"), index.get("a")), 1e-9);
+        assertEquals(
+            Double.POSITIVE_INFINITY, algo.getPathWeight(index.get("c"), index.get("d")), 1e-9);
+        assertEquals(0d, algo.getPathWeight(index.get("d"), index.get("d")), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", -1.0);
+        new IndexedDijkstraShortestPath<>(g);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnknownSource()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addEdgeWithVertices(g, "a", "b", 1.0);
+        new IndexedDijkstraShortestPath<>(g).getPath("x", "b");
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (int round = 0; round < 5; round++) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(
+                        directed ? DefaultGraphType.directedPseudograph()
+                            : DefaultGraphType.pseudograph())
+                    .weighted(true).vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    80, 300, rng, true, true).generateGraph(g);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, rng.nextInt(20));
+                }
+
+                IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> indexed =
+                    new IndexedDijkstraShortestPath<>(g);
+                DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                    new DijkstraShortestPath<>(g);
+
+                // mix of repeated and fresh sources
+                for (int q = 0; q < 500; q++) {
+                    int s = rng.nextInt(q % 3 == 0 ? 80 : 5);
+                    int t = rng.nextInt(80);
+                    double expected = dijkstra.getPathWeight(s, t);
+                    assertEquals(expected, indexed.getPathWeight(s, t), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> path = indexed.getPath(s, t);
+                    if (path == null) {
+                        assertEquals(Double.POSITIVE_INFINITY, expected, 0d);
+                    } else {
+                        assertEquals(expected, path.getWeight(), 1e-9);
+                        assertEquals(s, path.getStartVertex().intValue());
+                        assertEquals(t, path.getEndVertex().intValue());
+                        double sum = 0d;
+                        for (DefaultWeightedEdge e : path.getEdgeList()) {
+                            sum += g.getEdgeWeight(e);
+                        }
+                        assertEquals(expected, sum, 1e-9);
+                    }
+                }
+
+                for (int s = 0; s < 80; s += 7) {
+                    SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+                        dijkstra.getPaths(s);
+                    SingleSourcePaths<Integer, DefaultWeightedEdge> actual = indexed.getPaths(s);
+                    for (int t = 0; t < 80; t++) {
+                        assertEquals(expected.getWeight(t), actual.getWeight(t), 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedBinaryHeap}
+ *
+ * @author Dimitrios Michail
+ */
+public class IndexedBinaryHeapTest
+{
+
+    @Test
+    public void testHeap()
+    {
+        IndexedBinaryHeap heap = new IndexedBinaryHeap(10);
+        assertTrue(heap.isEmpty());
+
+        heap.insert(3, 5.0);
+        heap.insert(7, 2.0);
+        heap.insert(1, 9.0);
+        assertEquals(3, heap.size());
+        assertTrue(heap.contains(1));
+        assertFalse(heap.contains(2));
+        assertEquals(7, heap.findMin());
+
+        heap.decreaseKey(1, 1.0);
+        assertEquals(1.0, heap.getKey(1), 0d);
+        assertEquals(1, heap.deleteMin());
+        assertFalse(heap.contains(1));
+        assertEquals(7, heap.deleteMin());
+        assertEquals(3, heap.deleteMin());
+        assertTrue(heap.isEmpty());
+
+        heap.insert(2, 1.0);
+        heap.insert(4, 0.5);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(2));
+        assertFalse(heap.contains(4));
+    }
+
+    @Test
+    public void testRandom()
+    {
+        Random rng = new Random(7);
+        int n = 1000;
+        IndexedBinaryHeap heap = new IndexedBinaryHeap(n);
+        double[] keys = new double[n];
+        for (int i = 0; i < n; i++) {
+            keys[i] = rng.nextDouble();
+            heap.insert(i, keys[i]);
+        }
+        for (int i = 0; i < n; i += 3) {
+            keys[i] /= 2;
+            heap.decreaseKey(i, keys[i]);
+        }
+        double last = Double.NEGATIVE_INFINITY;
+        while (!heap.isEmpty()) {
+            int v = heap.deleteMin();
+            assertTrue(keys[v] >= last);
+            last = keys[v];
+        }
+    }
+
+    @Test(expected = NoSuchElementException.class)
+    public void testDeleteMinEmpty()
+    {
+        new IndexedBinaryHeap(3).deleteMin();
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link AbstractBaseGraph#bulkLoad(Collection, List, List, List, ThreadPoolExecutor)}.
+ *
+ * @author Dimitrios Michail
+ */
+public class BulkLoadTest
+{
+    private static ThreadPoolExecutor executor;
+
+    @BeforeClass
+    public static void createExecutor()
+    {
+        executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+    }
+
+    @AfterClass
+    public static void shutdownExecutor()
+        throws InterruptedException
+    {
+        ConcurrencyUtil.shutdownExecutionService(executor);
+    }
+
+    @Test
+    public void testSameAsLoop()
+    {
+        Random rng = new Random(17);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (boolean loops : new boolean[] { true, false }) {
+                for (boolean multiple : new boolean[] { true, false }) {
+                    DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+                    GraphType type = (directed ? builder.directed() : builder.undirected())
+                        .allowSelfLoops(loops).allowMultipleEdges(multiple).weighted(false)
+                        .build();
+                    for (boolean fastLookup : new boolean[] { true, false }) {
+                        for (int m : new int[] { 500, 50000 }) {
+                            assertSameAsLoop(
+                                type, fastLookup, 2000, m, rng, m > 1000 ? executor : null);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testParallelSameAsLoop()
+        throws InterruptedException
+    {
+        Random rng = new Random(19);
+        for (int threads : new int[] { 2, 8 }) {
+            ThreadPoolExecutor parallel = ConcurrencyUtil.createThreadPoolExecutor(threads);
+            try {
+                for (GraphType type : Arrays.asList(
+                    DefaultGraphType.directedPseudograph(), DefaultGraphType.pseudograph()))
+                {
+                    for (boolean fastLookup : new boolean[] { true, false }) {
+                        // few vertices, thus a skewed number of edges per container
+                        assertSameAsLoop(type, fastLookup, 30, 100000, rng, parallel);
+                        assertSameAsLoop(type, fastLookup, 5000, 100000, rng, parallel);
+                    }
+                }
+            } finally {
+                ConcurrencyUtil.shutdownExecutionService(parallel);
+            }
+        }
+    }
+
+    @Test
+    public void testCachedThreadPool()
+    {
+        // the maximum pool size of a cached thread pool is Integer.MAX_VALUE
+        ThreadPoolExecutor cached = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+        try {
+            Random rng = new Random(23);
+            for (GraphType type : Arrays.asList(
+                DefaultGraphType.directedPseudograph(), DefaultGraphType.pseudograph()))
+            {
+                assertSameAsLoop(type, false, 5000, 100000, rng, cached);
+            }
+        } finally {
+            cached.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        DefaultEdge existing = Graphs.addEdgeWithVertices(g, 0, 1);
+        try {
+            ((AbstractBaseGraph<Integer, DefaultEdge>) g).bulkLoad(
+                Arrays.asList(2), Arrays.asList(1, 2), Arrays.asList(2, 3),
+                Arrays.asList(new DefaultEdge(), new DefaultEdge()));
+            fail("missing vertex not detected");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(Set.of(0, 1, 2), g.vertexSet());
+        assertEquals(Set.of(existing), g.edgeSet());
+        assertEquals(0, g.degreeOf(2));
+        assertEquals(1, g.degreeOf(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoopsNotAllowed()
+    {
+        SimpleGraph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.bulkLoad(
+            Arrays.asList(0, 1), Arrays.asList(0, 1), Arrays.asList(1, 1),
+            Arrays.asList(new DefaultEdge(), new DefaultEdge()));
+    }
+
+    @Test
+    public void testDirectedAcyclicGraph()
+    {
+        DirectedAcyclicGraph<Integer, DefaultEdge> dag =
+            new DirectedAcyclicGraph<>(DefaultEdge.class);
+        dag.bulkLoad(
+            Arrays.asList(0, 1, 2), Arrays.asList(2, 1), Arrays.asList(1, 0),
+            Arrays.asList(new DefaultEdge(), new DefaultEdge()));
+        List<Integer> order = new ArrayList<>();
+        dag.iterator().forEachRemaining(order::add);
+        assertEquals(Arrays.asList(2, 1, 0), order);
+        try {
+            dag.bulkLoad(
+                Collections.emptyList(), Arrays.asList(0), Arrays.asList(2),
+                Arrays.asList(new DefaultEdge()));
+            fail("cycle not detected");
+        } catch (IllegalArgumentException e) {
+            assertEquals(2, dag.edgeSet().size());
+        }
+    }
+
+    private static void assertSameAsLoop(
+        GraphType type, boolean fastLookup, int n, int m, Random rng,
+        ThreadPoolExecutor executor)
+    {
+        List<Integer> vertices = new ArrayList<>();
+        for (int v = 0; v < n; v++) {
+            vertices.add(v);
+        }
+        List<Integer> sources = new ArrayList<>();
+        List<Integer> targets = new ArrayList<>();
+        List<DefaultEdge> edges = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            if (s == t && !type.isAllowingSelfLoops()) {
+                continue;
+            }
+            sources.add(s);
+            targets.add(t);
+            // duplicate edge objects must be skipped
+            edges.add(i > 0 && i % 97 == 0 ? edges.get(edges.size() - 1) : new DefaultEdge());
+        }
+
+        // part of the graph already exists
+        AbstractBaseGraph<Integer, DefaultEdge> expected = createGraph(type, fastLookup);
+        AbstractBaseGraph<Integer, DefaultEdge> actual = createGraph(type, fastLookup);
+        for (AbstractBaseGraph<Integer, DefaultEdge> g : Arrays.asList(expected, actual)) {
+            for (int i = 0; i < 10; i++) {
+                g.addVertex(vertices.get(i));
+            }
+            for (int i = 0; i < 10; i++) {
+                if (sources.get(i) < 10 && targets.get(i) < 10) {
+                    g.addEdge(sources.get(i), targets.get(i), edges.get(i));
+                }
+            }
+        }
+
+        for (Integer v : vertices) {
+            expected.addVertex(v);
+        }
+        for (int i = 0; i < edges.size(); i++) {
+            expected.addEdge(sources.get(i), targets.get(i), edges.get(i));
+        }
+        actual.bulkLoad(vertices, sources, targets, edges, executor);
+
+        assertEquals(new ArrayList<>(expected.vertexSet()), new ArrayList<>(actual.vertexSet()));
+        assertEquals(new ArrayList<>(expected.edgeSet()), new ArrayList<>(actual.edgeSet()));
+        for (DefaultEdge e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+        }
+        for (Integer v : vertices) {
+            assertEquals(
+                new ArrayList<>(expected.outgoingEdgesOf(v)),
+                new ArrayList<>(actual.outgoingEdgesOf(v)));
+            assertEquals(
+                new ArrayList<>(expected.incomingEdgesOf(v)),
+                new ArrayList<>(actual.incomingEdgesOf(v)));
+            assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+        }
+        for (int i = 0; i < 100; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            assertEquals(expected.getAllEdges(s, t), actual.getAllEdges(s, t));
+        }
+    }
+
+    private static AbstractBaseGraph<Integer, DefaultEdge> createGraph(
+        GraphType type, boolean fastLookup)
+    {
+        if (fastLookup) {
+            return (AbstractBaseGraph<Integer, DefaultEdge>) GraphTypeBuilder
+                .<Integer, DefaultEdge> forGraphType(type).edgeClass(DefaultEdge.class)
+                .buildGraph();
+        }
+        return new AbstractBaseGraph<Integer, DefaultEdge>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, type, new DefaultGraphSpecificsStrategy<>())
+        {
+            private static final long serialVersionUID = 1L;
+        };
+    }
+
+}
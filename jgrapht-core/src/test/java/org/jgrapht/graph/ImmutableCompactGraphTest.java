@@ -0,0 +1,193 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ImmutableCompactGraph}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ImmutableCompactGraphTest
+{
+
+    @Test
+    public void testSmallDirected()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge ab = Graphs.addEdgeWithVertices(g, "a", "b", 2.0);
+        DefaultWeightedEdge bb = Graphs.addEdgeWithVertices(g, "b", "b", 3.0);
+        DefaultWeightedEdge ab2 = Graphs.addEdgeWithVertices(g, "a", "b", 4.0);
+        g.addVertex("c");
+
+        Graph<String, DefaultWeightedEdge> frozen = Graphs.freeze(g);
+        assertSame(frozen, Graphs.freeze(frozen));
+        assertFalse(frozen.getType().isModifiable());
+        assertTrue(frozen.getType().isWeighted());
+        assertEquals(List.of("a", "b", "c"), new ArrayList<>(frozen.vertexSet()));
+        assertEquals(List.of(ab, bb, ab2), new ArrayList<>(frozen.edgeSet()));
+        assertEquals(Set.of(ab, ab2), frozen.getAllEdges("a", "b"));
+        assertEquals(Set.of(), frozen.getAllEdges("b", "a"));
+        assertNull(frozen.getAllEdges("a", "d"));
+        assertEquals(bb, frozen.getEdge("b", "b"));
+        assertNull(frozen.getEdge("b", "a"));
+        assertEquals(List.of(ab, bb, ab2), new ArrayList<>(frozen.edgesOf("b")));
+        assertEquals(3, frozen.edgesOf("b").size());
+        assertEquals(4, frozen.degreeOf("b"));
+        assertTrue(frozen.edgesOf("b").contains(bb));
+        assertFalse(frozen.outgoingEdgesOf("b").contains(ab));
+        assertEquals(0, frozen.degreeOf("c"));
+        assertEquals(4.0, frozen.getEdgeWeight(ab2), 0d);
+        assertEquals("b", frozen.getEdgeTarget(ab2));
+        assertEquals(frozen, new ImmutableCompactGraph<>(g));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+        Graphs.freeze(g).addVertex(3);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(1);
+        Graphs.freeze(g).edgesOf(2);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingEdge()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 1, 2);
+        Graphs.freeze(g).getEdgeSource(new DefaultEdge());
+    }
+
+    @Test
+    public void testRandomGraphs()
+        throws Exception
+    {
+        Random rng = new Random(31);
+        List<GraphType> types = List.of(
+            DefaultGraphType.simple(), DefaultGraphType.pseudograph().asWeighted(),
+            DefaultGraphType.directedSimple(), DefaultGraphType.directedPseudograph().asWeighted());
+        for (GraphType type : types) {
+            for (int i = 0; i < 5; i++) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .<Integer, DefaultWeightedEdge> forGraphType(type)
+                    .vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+                boolean multi = type.isAllowingMultipleEdges();
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    60, 300, rng, multi, multi).generateGraph(g);
+                if (type.isWeighted()) {
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, rng.nextDouble());
+                    }
+                }
+                Graph<Integer, DefaultWeightedEdge> frozen = new ImmutableCompactGraph<>(g);
+                assertSameGraph(g, frozen);
+                assertEquals(frozen, Graphs.freeze(g));
+                assertSameStructure(frozen, serializeAndDeserialize(frozen));
+            }
+        }
+    }
+
+    private static void assertSameGraph(
+        Graph<Integer, DefaultWeightedEdge> expected, Graph<Integer, DefaultWeightedEdge> g)
+    {
+        assertEquals(expected.getType().isDirected(), g.getType().isDirected());
+        assertEquals(new ArrayList<>(expected.vertexSet()), new ArrayList<>(g.vertexSet()));
+        assertEquals(new ArrayList<>(expected.edgeSet()), new ArrayList<>(g.edgeSet()));
+        for (DefaultWeightedEdge e : expected.edgeSet()) {
+            assertTrue(g.containsEdge(e));
+            assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(e), 0d);
+        }
+        for (Integer v : expected.vertexSet()) {
+            assertTrue(g.containsVertex(v));
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v), g.edgesOf(v));
+            assertEquals(expected.edgesOf(v).size(), g.edgesOf(v).size());
+            assertEquals(
+                new ArrayList<>(expected.outgoingEdgesOf(v)),
+                new ArrayList<>(g.outgoingEdgesOf(v)));
+            assertEquals(
+                new ArrayList<>(expected.incomingEdgesOf(v)),
+                new ArrayList<>(g.incomingEdgesOf(v)));
+            for (Integer u : expected.vertexSet()) {
+                assertEquals(expected.getAllEdges(v, u), g.getAllEdges(v, u));
+                assertEquals(expected.containsEdge(v, u), g.containsEdge(v, u));
+            }
+        }
+        assertFalse(g.containsVertex(-1));
+        assertFalse(g.containsEdge(new DefaultWeightedEdge()));
+    }
+
+    private static void assertSameStructure(
+        Graph<Integer, DefaultWeightedEdge> expected, Graph<Integer, DefaultWeightedEdge> g)
+    {
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(expected.edgeSet().size(), g.edgeSet().size());
+        Iterator<DefaultWeightedEdge> it = g.edgeSet().iterator();
+        for (DefaultWeightedEdge e : expected.edgeSet()) {
+            DefaultWeightedEdge copy = it.next();
+            assertTrue(g.containsEdge(copy));
+            assertEquals(expected.getEdgeSource(e), g.getEdgeSource(copy));
+            assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(copy));
+            assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(copy), 0d);
+        }
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            assertEquals(expected.edgesOf(v).size(), g.edgesOf(v).size());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T serializeAndDeserialize(T obj)
+        throws Exception
+    {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(obj);
+        }
+        try (ObjectInputStream in =
+            new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())))
+        {
+            return (T) in.readObject();
+        }
+    }
+
+}
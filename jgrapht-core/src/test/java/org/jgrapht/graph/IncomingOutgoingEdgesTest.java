@@ -292,4 +292,34 @@ public class IncomingOutgoingEdgesTest
                 .edgeSupplier(SupplierUtil.DEFAULT_EDGE_SUPPLIER).buildGraph());
     }
 
+    /**
+     * Test that a self-loop appears once in the edges of its vertex and counts twice in its degree
+     * when the graph does not allow multiple edges.
+     */
+    @Test
+    public void testUndirectedSelfLoopWithoutMultipleEdges()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultUndirectedGraph<>(DefaultEdge.class);
+        g.addVertex(1);
+        g.addVertex(2);
+
+        DefaultEdge e11 = g.addEdge(1, 1);
+        assertEquals(Set.of(e11), g.edgesOf(1));
+        assertEquals(1, g.edgesOf(1).size());
+        assertEquals(2, g.degreeOf(1));
+        assertNull(g.addEdge(1, 1));
+        assertEquals(1, g.edgesOf(1).size());
+        assertEquals(2, g.degreeOf(1));
+
+        DefaultEdge e22 = new DefaultEdge();
+        assertTrue(g.addEdge(2, 2, e22));
+        assertEquals(Set.of(e22), g.edgesOf(2));
+        assertEquals(1, g.edgesOf(2).size());
+        assertEquals(2, g.degreeOf(2));
+
+        assertTrue(g.removeEdge(e11));
+        assertEquals(Collections.emptySet(), g.edgesOf(1));
+        assertEquals(0, g.degreeOf(1));
+    }
+
 }
@@ -18,6 +18,7 @@
 package org.jgrapht.graph;
 
 import org.jgrapht.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
@@ -25,6 +26,7 @@ import java.util.function.*;
 
 import static junit.framework.TestCase.fail;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class WeightedGraphAsWeightedGraphTest
@@ -174,4 +176,178 @@ public class WeightedGraphAsWeightedGraphTest
                 assertEquals(
                     g1.getEdgeWeight(edge) * g1.getEdgeWeight(edge), g2.getEdgeWeight(edge), 0);
     }
+
+    @Test
+    public void testPrimitiveWeightFunction()
+    {
+        Graph<Integer, DefaultWeightedEdge> g1 =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        DefaultWeightedEdge e01 = Graphs.addEdgeWithVertices(g1, 0, 1, 2);
+        Graphs.addEdgeWithVertices(g1, 1, 2, 3);
+        ToDoubleFunction<DefaultWeightedEdge> weightFunction = e -> 2 * g1.getEdgeWeight(e);
+
+        Graph<Integer, DefaultWeightedEdge> g2 = new AsWeightedGraph<>(g1, weightFunction);
+        assertTrue(g2.getType().isWeighted());
+        assertEquals(4d, g2.getEdgeWeight(e01), 0);
+        g1.setEdgeWeight(e01, 5);
+        assertEquals(10d, g2.getEdgeWeight(e01), 0);
+        try {
+            g2.setEdgeWeight(e01, 1);
+            fail("Expected an UnsupportedOperationException");
+        } catch (UnsupportedOperationException e) {
+        }
+
+        Graph<Integer, DefaultWeightedEdge> g3 = new AsWeightedGraph<>(g1, weightFunction, true);
+        assertEquals(10d, g3.getEdgeWeight(e01), 0);
+        g1.setEdgeWeight(e01, 7);
+        assertEquals(10d, g3.getEdgeWeight(e01), 0);
+        g3.setEdgeWeight(e01, 1);
+        assertEquals(1d, g3.getEdgeWeight(e01), 0);
+        assertEquals(7d, g1.getEdgeWeight(e01), 0);
+    }
+
+    @Test
+    public void testPrimitiveWeightFunctionIntegerEdges()
+    {
+        Graph<Integer, Integer> g1 = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createIntegerSupplier(), false);
+        for (int i = 0; i < 10; i++) {
+            g1.addVertex();
+        }
+        for (int i = 0; i < 10; i++) {
+            g1.addEdge(i, (i + 1) % 10);
+        }
+        g1.removeEdge(3);
+
+        AsWeightedGraph<Integer, Integer> g2 = new AsWeightedGraph<>(g1, e -> e * 1.5, true);
+        for (Integer e : g1.edgeSet()) {
+            assertEquals(e * 1.5, g2.getEdgeWeight(e), 0);
+        }
+
+        // edges which did not exist when the view was created
+        Integer e10 = g1.addEdge(0, 5);
+        assertEquals(15d, g2.getEdgeWeight(e10), 0);
+        g1.addEdge(3, 4, 3);
+        assertEquals(4.5, g2.getEdgeWeight(3), 0);
+        Integer e100 = 100;
+        g1.addEdge(0, 0, e100);
+        assertEquals(150d, g2.getEdgeWeight(e100), 0);
+
+        g2.setEdgeWeight(2, -1);
+        g2.setEdgeWeight(3, Double.NaN);
+        g2.setEdgeWeight(e100, 7);
+        assertEquals(-1d, g2.getEdgeWeight(2), 0);
+        assertTrue(Double.isNaN(g2.getEdgeWeight(3)));
+        assertEquals(7d, g2.getEdgeWeight(e100), 0);
+        assertEquals(1d, g1.getEdgeWeight(2), 0);
+    }
+
+    @Test
+    public void testPrimitiveWeightFunctionCachesNaN()
+    {
+        Graph<Integer, Integer> g1 = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createIntegerSupplier(), false);
+        for (int i = 0; i < 4; i++) {
+            g1.addVertex();
+        }
+        for (int i = 0; i < 4; i++) {
+            g1.addEdge(i, (i + 1) % 4);
+        }
+
+        int[] calls = new int[1];
+        AsWeightedGraph<Integer, Integer> g2 = new AsWeightedGraph<>(g1, e -> {
+            calls[0]++;
+            return e == 1 ? Double.NaN : e;
+        }, true);
+        assertEquals(4, calls[0]);
+        assertTrue(Double.isNaN(g2.getEdgeWeight(1)));
+        assertTrue(Double.isNaN(g2.getEdgeWeight(1)));
+        assertEquals(2d, g2.getEdgeWeight(2), 0);
+        assertEquals(4, calls[0]);
+    }
+
+    @Test
+    public void testPrimitiveWeightFunctionReusedEdges()
+    {
+        Graph<Integer, Integer> g1 = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createIntegerSupplier(), false);
+        for (int i = 0; i < 4; i++) {
+            g1.addVertex();
+        }
+        for (int i = 0; i < 4; i++) {
+            g1.addEdge(i, (i + 1) % 4);
+        }
+        Map<Integer, Double> source = new HashMap<>();
+        for (int i = 0; i < 10; i++) {
+            source.put(i, (double) i);
+        }
+
+        AsWeightedGraph<Integer, Integer> g2 =
+            new AsWeightedGraph<>(g1, e -> source.get(e), true);
+        assertEquals(1d, g2.getEdgeWeight(1), 0);
+        assertEquals(3d, g2.getEdgeWeight(3), 0);
+
+        // remove edges through the view and reuse their ids
+        assertTrue(g2.removeEdge(1));
+        assertEquals(Integer.valueOf(3), g2.removeEdge(3, 0));
+        source.put(1, 10d);
+        source.put(3, 30d);
+        g2.addEdge(0, 2, 1);
+        g2.addEdge(2, 0, 3);
+        assertEquals(10d, g2.getEdgeWeight(1), 0);
+        assertEquals(30d, g2.getEdgeWeight(3), 0);
+
+        // edges beyond the array are cached in the map
+        g2.addEdge(2, 3, 9);
+        assertEquals(9d, g2.getEdgeWeight(9), 0);
+        assertTrue(g2.removeVertex(2));
+        source.put(1, 11d);
+        source.put(9, 90d);
+        g2.addEdge(1, 3, 1);
+        g2.addEdge(3, 1, 9);
+        assertEquals(11d, g2.getEdgeWeight(1), 0);
+        assertEquals(90d, g2.getEdgeWeight(9), 0);
+    }
+
+    @Test
+    public void testPrimitiveWeightFunctionEmptyGraph()
+    {
+        Graph<String, DefaultEdge> g1 = new SimpleGraph<>(DefaultEdge.class);
+        AsWeightedGraph<String, DefaultEdge> g2 =
+            new AsWeightedGraph<>(g1, e -> g1.getEdgeSource(e).length(), true);
+
+        DefaultEdge ab = Graphs.addEdgeWithVertices(g2, "a", "bb");
+        assertEquals(1d, g2.getEdgeWeight(ab), 0);
+        g2.setEdgeWeight(ab, 3);
+        assertEquals(3d, g2.getEdgeWeight(ab), 0);
+        assertTrue(g2.removeEdge(ab));
+        assertFalse(g2.containsEdge(ab));
+    }
+
+    @Test
+    public void testWeightFunctionKeepsCacheOnRemoval()
+    {
+        Graph<Integer, Integer> g1 = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.createIntegerSupplier(), false);
+        for (int i = 0; i < 4; i++) {
+            g1.addVertex();
+        }
+        for (int i = 0; i < 4; i++) {
+            g1.addEdge(i, (i + 1) % 4);
+        }
+        Map<Integer, Double> source = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            source.put(i, (double) i);
+        }
+
+        // the cache of a Function is not affected by removals
+        Function<Integer, Double> weightFunction = source::get;
+        AsWeightedGraph<Integer, Integer> g2 =
+            new AsWeightedGraph<>(g1, weightFunction, true, false);
+        assertEquals(1d, g2.getEdgeWeight(1), 0);
+        assertTrue(g2.removeEdge(1));
+        source.put(1, 10d);
+        g2.addEdge(0, 2, 1);
+        assertEquals(1d, g2.getEdgeWeight(1), 0);
+    }
 }
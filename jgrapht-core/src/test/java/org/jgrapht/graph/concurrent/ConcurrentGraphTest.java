@@ -0,0 +1,259 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrentGraph}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ConcurrentGraphTest
+{
+    private static final int THREADS = 8;
+
+    @Test
+    public void testDirectedPseudograph()
+    {
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, DefaultEdge::new, DefaultGraphType.directedPseudograph());
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addVertex(3);
+        assertFalse(g.addVertex(3));
+
+        DefaultEdge e12 = g.addEdge(1, 2);
+        DefaultEdge e12b = g.addEdge(1, 2);
+        DefaultEdge e33 = g.addEdge(3, 3);
+        DefaultEdge e23 = g.addEdge(2, 3);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(Set.of(e12, e12b), g.getAllEdges(1, 2));
+        assertNull(g.getEdge(2, 1));
+        assertEquals(Set.of(e23, e33), g.incomingEdgesOf(3));
+        assertEquals(Set.of(e33), g.outgoingEdgesOf(3));
+        assertEquals(Set.of(e23, e33), g.edgesOf(3));
+        assertEquals(3, g.degreeOf(3));
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(e23));
+        assertEquals(Integer.valueOf(3), g.getEdgeTarget(e23));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(e23), 0d);
+
+        assertTrue(g.removeEdge(e12));
+        assertFalse(g.removeEdge(e12));
+        assertEquals(e12b, g.removeEdge(1, 2));
+        assertNull(g.getEdge(1, 2));
+
+        assertTrue(g.removeVertex(3));
+        assertFalse(g.containsEdge(e23));
+        assertFalse(g.containsEdge(e33));
+        assertEquals(0, g.outDegreeOf(2));
+        assertTrue(g.edgeSet().isEmpty());
+    }
+
+    @Test
+    public void testUndirectedSimpleWeighted()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new ConcurrentGraph<>(
+            SupplierUtil.createIntegerSupplier(), DefaultWeightedEdge::new,
+            DefaultGraphType.simple().asWeighted());
+        Integer a = g.addVertex();
+        Integer b = g.addVertex();
+
+        DefaultWeightedEdge e = g.addEdge(a, b);
+        assertNull(g.addEdge(b, a));
+        assertEquals(e, g.getEdge(b, a));
+        g.setEdgeWeight(e, 3.5);
+        assertEquals(3.5, g.getEdgeWeight(e), 0d);
+        assertEquals(1, g.degreeOf(a));
+        assertEquals(Set.of(e), g.edgesOf(b));
+        assertEquals(g.edgesOf(b), g.incomingEdgesOf(b));
+        assertEquals(e, g.removeEdge(b, a));
+    }
+
+    @Test
+    public void testUndirectedLoops()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new ConcurrentGraph<>(null, DefaultEdge::new, DefaultGraphType.pseudograph());
+        g.addVertex(0);
+        g.addVertex(1);
+        g.addEdge(0, 0);
+        g.addEdge(0, 1);
+        assertEquals(3, g.degreeOf(0));
+        assertEquals(2, g.edgesOf(0).size());
+        assertTrue(g.removeVertex(0));
+        assertEquals(0, g.degreeOf(1));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoopsNotAllowed()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new ConcurrentGraph<>(null, DefaultEdge::new, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.addEdge(0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new ConcurrentGraph<>(null, DefaultEdge::new, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.addEdge(0, 1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweightedSetWeight()
+    {
+        Graph<Integer, DefaultEdge> g =
+            new ConcurrentGraph<>(null, DefaultEdge::new, DefaultGraphType.pseudograph());
+        g.addVertex(0);
+        g.setEdgeWeight(g.addEdge(0, 0), 2d);
+    }
+
+    @Test
+    public void testConcurrentAdditions()
+        throws Exception
+    {
+        for (GraphType type : Arrays.asList(
+            DefaultGraphType.directedSimple(), DefaultGraphType.simple()))
+        {
+            int n = 2000;
+            AtomicInteger vertexIds = new AtomicInteger();
+            Graph<Integer, DefaultEdge> g =
+                new ConcurrentGraph<>(vertexIds::getAndIncrement, DefaultEdge::new, type);
+
+            // every thread adds its own vertices while trying to connect random pairs
+            runConcurrently(t -> {
+                Random rng = new Random(t);
+                for (int i = 0; i < n / THREADS; i++) {
+                    g.addVertex();
+                }
+                for (int i = 0; i < 5000; i++) {
+                    int s = rng.nextInt(n);
+                    int u = rng.nextInt(n);
+                    if (s != u && g.containsVertex(s) && g.containsVertex(u)) {
+                        g.addEdge(s, u);
+                    }
+                }
+            });
+
+            assertEquals(n, g.vertexSet().size());
+            assertConsistent(g);
+        }
+    }
+
+    @Test
+    public void testConcurrentAdditionsAndRemovals()
+        throws Exception
+    {
+        for (GraphType type : Arrays.asList(
+            DefaultGraphType.directedPseudograph(), DefaultGraphType.pseudograph()))
+        {
+            int n = 200;
+            Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(null, DefaultEdge::new, type);
+
+            runConcurrently(t -> {
+                Random rng = new Random(t);
+                for (int i = 0; i < 5000; i++) {
+                    int s = rng.nextInt(n);
+                    int u = rng.nextInt(n);
+                    int op = rng.nextInt(10);
+                    if (op < 6) {
+                        g.addVertex(s);
+                        g.addVertex(u);
+                        try {
+                            g.addEdge(s, u);
+                        } catch (IllegalArgumentException e) {
+                            // endpoint concurrently removed
+                        }
+                    } else if (op < 9) {
+                        g.removeEdge(s, u);
+                    } else {
+                        g.removeVertex(s);
+                    }
+                    // weakly consistent iteration must never fail
+                    for (DefaultEdge e : g.edgeSet()) {
+                        assertNotNull(e);
+                    }
+                }
+            });
+
+            assertConsistent(g);
+        }
+    }
+
+    private static void runConcurrently(IntConsumerTask task)
+        throws Exception
+    {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int id = t;
+                futures.add(executor.submit(() -> task.run(id)));
+            }
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private interface IntConsumerTask
+    {
+        void run(int thread);
+    }
+
+    private static <V, E> void assertConsistent(Graph<V, E> g)
+    {
+        int degreeSum = 0;
+        int edgeEndpoints = 0;
+        for (E e : g.edgeSet()) {
+            assertTrue(g.containsVertex(g.getEdgeSource(e)));
+            assertTrue(g.containsVertex(g.getEdgeTarget(e)));
+            assertTrue(g.outgoingEdgesOf(g.getEdgeSource(e)).contains(e));
+            assertTrue(g.incomingEdgesOf(g.getEdgeTarget(e)).contains(e));
+            if (!g.getType().isAllowingMultipleEdges()) {
+                assertEquals(
+                    1, g.getAllEdges(g.getEdgeSource(e), g.getEdgeTarget(e)).size());
+            }
+            edgeEndpoints += 2;
+        }
+        for (V v : g.vertexSet()) {
+            for (E e : g.outgoingEdgesOf(v)) {
+                assertTrue(g.containsEdge(e));
+            }
+            degreeSum += g.degreeOf(v);
+        }
+        assertEquals(edgeEndpoints, degreeSum);
+    }
+
+}
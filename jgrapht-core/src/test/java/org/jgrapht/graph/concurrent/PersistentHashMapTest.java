@@ -0,0 +1,127 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PersistentHashMap}.
+ *
+ * @author Dimitrios Michail
+ */
+public class PersistentHashMapTest
+{
+
+    @Test
+    public void testRandomOperations()
+    {
+        Random rng = new Random(13);
+        PersistentHashMap<Object, Integer> map = PersistentHashMap.empty();
+        Map<Object, Integer> reference = new HashMap<>();
+        List<PersistentHashMap<Object, Integer>> versions = new ArrayList<>();
+        List<Map<Object, Integer>> references = new ArrayList<>();
+
+        for (int round = 0; round < 50000; round++) {
+            // few distinct hash codes to exercise collisions
+            Object key = rng.nextBoolean() ? Integer.valueOf(rng.nextInt(2000))
+                : new Colliding(rng.nextInt(200));
+            if (rng.nextInt(3) == 0) {
+                map = map.remove(key);
+                reference.remove(key);
+            } else {
+                int value = rng.nextInt(5);
+                map = map.put(key, value);
+                reference.put(key, value);
+            }
+            if (round % 5000 == 0) {
+                versions.add(map);
+                references.add(new HashMap<>(reference));
+            }
+        }
+        versions.add(map);
+        references.add(reference);
+
+        // old versions are unaffected by later modifications
+        for (int i = 0; i < versions.size(); i++) {
+            assertSameMap(references.get(i), versions.get(i));
+        }
+    }
+
+    @Test
+    public void testUnchanged()
+    {
+        PersistentHashMap<String, Integer> map = PersistentHashMap.<String, Integer> empty()
+            .put("a", 1).put("b", 2);
+        Integer one = map.get("a");
+        assertSame(map, map.put("a", one));
+        assertSame(map, map.remove("c"));
+        assertEquals(1, map.remove("a").size());
+        assertTrue(map.remove("a").remove("b").isEmpty());
+        assertEquals(2, map.size());
+    }
+
+    private static void assertSameMap(
+        Map<Object, Integer> expected, PersistentHashMap<Object, Integer> map)
+    {
+        assertEquals(expected.size(), map.size());
+        for (Map.Entry<Object, Integer> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        Set<Object> keys = new HashSet<>();
+        Iterator<Object> it = map.keyIterator();
+        while (it.hasNext()) {
+            assertTrue(keys.add(it.next()));
+        }
+        assertEquals(expected.keySet(), keys);
+        assertEquals(expected.keySet(), map.keySet());
+
+        List<Integer> values = new ArrayList<>();
+        map.valueIterator().forEachRemaining(values::add);
+        List<Integer> expectedValues = new ArrayList<>(expected.values());
+        Collections.sort(values);
+        Collections.sort(expectedValues);
+        assertEquals(expectedValues, values);
+    }
+
+    private static class Colliding
+    {
+        private final int id;
+
+        Colliding(int id)
+        {
+            this.id = id;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return id % 7;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            return o instanceof Colliding && ((Colliding) o).id == id;
+        }
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link VersionedGraph}.
+ *
+ * @author Dimitrios Michail
+ */
+public class VersionedGraphTest
+{
+
+    @Test
+    public void testSnapshotIsolation()
+    {
+        VersionedGraph<Integer, DefaultEdge> g = new VersionedGraph<>(
+            SupplierUtil.createIntegerSupplier(), DefaultEdge::new,
+            DefaultGraphType.directedPseudograph());
+        g.addVertex();
+        g.addVertex();
+        DefaultEdge e01 = g.addEdge(0, 1);
+        long version = g.getVersion();
+
+        Graph<Integer, DefaultEdge> snapshot = g.snapshot();
+        Iterator<Integer> liveIterator = g.vertexSet().iterator();
+
+        g.addVertex();
+        DefaultEdge e12 = g.addEdge(1, 2);
+        g.removeEdge(e01);
+        assertTrue(g.getVersion() > version);
+
+        assertEquals(Set.of(0, 1), snapshot.vertexSet());
+        assertEquals(Set.of(e01), snapshot.edgeSet());
+        assertEquals(Set.of(e01), snapshot.incomingEdgesOf(1));
+        assertEquals(e01, snapshot.getEdge(0, 1));
+        assertFalse(snapshot.containsEdge(e12));
+
+        assertEquals(Set.of(0, 1, 2), g.vertexSet());
+        assertEquals(Set.of(e12), g.edgeSet());
+        assertEquals(Set.of(e12), g.edgesOf(1));
+        assertNull(g.getEdge(0, 1));
+
+        // iterators traverse the version current at their creation
+        Set<Integer> iterated = new HashSet<>();
+        liveIterator.forEachRemaining(iterated::add);
+        assertEquals(Set.of(0, 1), iterated);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotUnmodifiable()
+    {
+        VersionedGraph<Integer, DefaultEdge> g =
+            new VersionedGraph<>(null, DefaultEdge::new, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.snapshot().addVertex(1);
+    }
+
+    @Test
+    public void testUndirectedWeighted()
+    {
+        VersionedGraph<Integer, DefaultWeightedEdge> g = new VersionedGraph<>(
+            null, DefaultWeightedEdge::new, DefaultGraphType.simple().asWeighted());
+        g.addVertex(0);
+        g.addVertex(1);
+        DefaultWeightedEdge e = g.addEdge(0, 1);
+        assertNull(g.addEdge(1, 0));
+        Graph<Integer, DefaultWeightedEdge> before = g.snapshot();
+        g.setEdgeWeight(e, 4d);
+
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, before.getEdgeWeight(e), 0d);
+        assertEquals(4d, g.getEdgeWeight(e), 0d);
+        assertEquals(e, g.removeEdge(1, 0));
+        assertEquals(1, before.degreeOf(1));
+        assertEquals(0, g.degreeOf(1));
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        for (GraphType type : Arrays.asList(
+            DefaultGraphType.directedPseudograph().asWeighted(),
+            DefaultGraphType.pseudograph().asWeighted(), DefaultGraphType.directedSimple(),
+            DefaultGraphType.simple()))
+        {
+            Random rng = new Random(31);
+            VersionedGraph<Integer, DefaultEdge> g =
+                new VersionedGraph<>(null, DefaultEdge::new, type);
+            Graph<Integer, DefaultEdge> reference = GraphTypeBuilder
+                .<Integer, DefaultEdge> forGraphType(type).edgeSupplier(DefaultEdge::new)
+                .buildGraph();
+
+            List<Graph<Integer, DefaultEdge>> snapshots = new ArrayList<>();
+            List<Graph<Integer, DefaultEdge>> copies = new ArrayList<>();
+            for (int round = 0; round < 5000; round++) {
+                int s = rng.nextInt(40);
+                int t = rng.nextInt(40);
+                int op = rng.nextInt(20);
+                if (op < 4) {
+                    assertEquals(reference.addVertex(s), g.addVertex(s));
+                } else if (op < 14) {
+                    if (reference.containsVertex(s) && reference.containsVertex(t)
+                        && (s != t || type.isAllowingSelfLoops()))
+                    {
+                        DefaultEdge e = new DefaultEdge();
+                        assertEquals(reference.addEdge(s, t, e), g.addEdge(s, t, e));
+                    }
+                } else if (op < 17) {
+                    DefaultEdge e = g.removeEdge(s, t);
+                    if (e == null) {
+                        assertNull(reference.getEdge(s, t));
+                    } else {
+                        assertTrue(reference.removeEdge(e));
+                    }
+                } else if (op < 18) {
+                    assertEquals(reference.removeVertex(s), g.removeVertex(s));
+                } else if (type.isWeighted() && !reference.edgeSet().isEmpty()) {
+                    DefaultEdge e = reference.edgeSet().iterator().next();
+                    double w = rng.nextDouble();
+                    reference.setEdgeWeight(e, w);
+                    g.setEdgeWeight(e, w);
+                }
+                if (round % 500 == 0) {
+                    snapshots.add(g.snapshot());
+                    Graph<Integer, DefaultEdge> copy = GraphTypeBuilder
+                        .<Integer, DefaultEdge> forGraphType(type).buildGraph();
+                    Graphs.addAllVertices(copy, reference.vertexSet());
+                    for (DefaultEdge e : reference.edgeSet()) {
+                        copy.addEdge(reference.getEdgeSource(e), reference.getEdgeTarget(e), e);
+                        if (type.isWeighted()) {
+                            copy.setEdgeWeight(e, reference.getEdgeWeight(e));
+                        }
+                    }
+                    copies.add(copy);
+                }
+            }
+            assertSameGraph(reference, g);
+            for (int i = 0; i < snapshots.size(); i++) {
+                assertSameGraph(copies.get(i), snapshots.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testReadersDuringWrites()
+        throws Exception
+    {
+        VersionedGraph<Integer, DefaultEdge> g =
+            new VersionedGraph<>(null, DefaultEdge::new, DefaultGraphType.pseudograph());
+        int n = 2000;
+        AtomicBoolean done = new AtomicBoolean();
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                for (int v = 0; v < n; v++) {
+                    g.addVertex(v);
+                    if (v > 0) {
+                        g.addEdge(v - 1, v);
+                    }
+                }
+                done.set(true);
+            });
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 2; r++) {
+                readers.add(executor.submit(() -> {
+                    while (!done.get()) {
+                        // every snapshot is a path, possibly missing the edge to the last vertex
+                        Graph<Integer, DefaultEdge> snapshot = g.snapshot();
+                        int vertices = snapshot.vertexSet().size();
+                        int edges = snapshot.edgeSet().size();
+                        assertTrue(edges == vertices - 1 || edges == vertices - 2 || edges == 0);
+                        assertTrue(
+                            new ConnectivityInspector<>(snapshot).connectedSets().size() <= 2);
+                    }
+                }));
+            }
+            writer.get();
+            for (Future<?> reader : readers) {
+                reader.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(n, g.vertexSet().size());
+    }
+
+    private static void assertSameGraph(
+        Graph<Integer, DefaultEdge> expected, Graph<Integer, DefaultEdge> g)
+    {
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(expected.edgeSet(), g.edgeSet());
+        for (DefaultEdge e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(e), 0d);
+        }
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v), g.edgesOf(v));
+            assertEquals(expected.edgesOf(v).size(), g.edgesOf(v).size());
+            assertEquals(expected.incomingEdgesOf(v), g.incomingEdgesOf(v));
+            assertEquals(expected.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+        }
+    }
+
+}
@@ -1,6 +1,7 @@
 module org.jgrapht.io
 {
     exports org.jgrapht.nio;
+    exports org.jgrapht.nio.binary;
     exports org.jgrapht.nio.csv;
     exports org.jgrapht.nio.dimacs;
     exports org.jgrapht.nio.dot;
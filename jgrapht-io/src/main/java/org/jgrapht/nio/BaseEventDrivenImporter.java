@@ -299,6 +299,17 @@ public abstract class BaseEventDrivenImporter<V, E>
         vertexWithAttributesConsumers.forEach(c -> c.accept(v, attrs));
     }
 
+    /**
+     * Whether any edge consumer is registered. Importers can use this to avoid creating edges
+     * which nobody is interested in.
+     * 
+     * @return true if at least one edge consumer is registered, false otherwise
+     */
+    protected boolean hasEdgeConsumers()
+    {
+        return !edgeConsumers.isEmpty();
+    }
+
     /**
      * Notify for an edge.
      * 
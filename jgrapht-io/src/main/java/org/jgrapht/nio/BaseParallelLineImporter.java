@@ -0,0 +1,645 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio;
+
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Base implementation for importers of line-oriented formats, such as edge lists, which parse
+ * their input in parallel.
+ * 
+ * <p>
+ * When importing from a {@link File}, the file is split into chunks of about
+ * {@link #getChunkSize() chunk size} bytes whose boundaries are moved to the next line start. The
+ * chunks are memory mapped and parsed concurrently by the worker threads, each into an
+ * {@link EdgeBatch} of primitive arrays. The batches are then notified in file order from the
+ * calling thread, so consumers observe exactly the same sequence of events as with a sequential
+ * importer and need not be thread-safe. Only a bounded number of chunks is parsed ahead of the
+ * consumers, which keeps memory usage independent of the input size. When importing from a
+ * {@link Reader} the same parser is used sequentially.
+ * 
+ * <p>
+ * Consumers can either receive each edge as a triple of source, target and weight, which is
+ * {@code null} for edges without a weight, or whole batches using
+ * {@link #addEdgeBatchConsumer(Consumer)}. The latter avoids creating objects for each edge and
+ * is the fastest way to build compact graph representations.
+ * 
+ * <p>
+ * Subclasses implement {@link #parseLine(ByteBuffer, int, int, EdgeBatch)}, which must not touch
+ * any shared state as it is called concurrently, and optionally a header which is parsed
+ * sequentially before the rest of the input. The input is parsed as UTF-8 encoded bytes, and
+ * characters read from a {@link Reader} are encoded accordingly. The line parser only interprets
+ * ASCII characters, thus other characters may only appear where the format ignores them, such as
+ * in comments.
+ *
+ * @author Dimitrios Michail
+ */
+public abstract class BaseParallelLineImporter
+    extends
+    BaseEventDrivenImporter<Integer, Triple<Integer, Integer, Double>>
+    implements
+    EventDrivenImporter<Integer, Triple<Integer, Integer, Double>>
+{
+    /**
+     * Default chunk size in bytes.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 1 << 24;
+
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final int BYTES_PER_EDGE_ESTIMATE = 16;
+    private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8,
+        1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+    private static final int MAX_EXACT_DIGITS = 15;
+
+    private final int parallelism;
+    private final ThreadPoolExecutor executor;
+    private int chunkSize;
+    private final List<Consumer<EdgeBatch>> edgeBatchConsumers;
+
+    /**
+     * Constructor
+     * 
+     * @param parallelism maximum number of threads used to parse the input
+     */
+    protected BaseParallelLineImporter(int parallelism)
+    {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+        this.executor = null;
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.edgeBatchConsumers = new ArrayList<>();
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param executor executor which is used to parse the input
+     */
+    protected BaseParallelLineImporter(ThreadPoolExecutor executor)
+    {
+        this.executor = Objects.requireNonNull(executor, "Executor cannot be null");
+        this.parallelism = executor.getMaximumPoolSize();
+        this.chunkSize = DEFAULT_CHUNK_SIZE;
+        this.edgeBatchConsumers = new ArrayList<>();
+    }
+
+    /**
+     * Get the approximate size in bytes of the chunks which are parsed in parallel.
+     * 
+     * @return the chunk size
+     */
+    public int getChunkSize()
+    {
+        return chunkSize;
+    }
+
+    /**
+     * Set the approximate size in bytes of the chunks which are parsed in parallel.
+     * 
+     * @param chunkSize the chunk size
+     */
+    public void setChunkSize(int chunkSize)
+    {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Chunk size must be positive");
+        }
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Add an edge batch consumer.
+     * 
+     * @param consumer the consumer
+     */
+    public void addEdgeBatchConsumer(Consumer<EdgeBatch> consumer)
+    {
+        edgeBatchConsumers.add(consumer);
+    }
+
+    /**
+     * Remove an edge batch consumer.
+     * 
+     * @param consumer the consumer
+     */
+    public void removeEdgeBatchConsumer(Consumer<EdgeBatch> consumer)
+    {
+        edgeBatchConsumers.remove(consumer);
+    }
+
+    /**
+     * Import a graph, parsing the file in parallel.
+     * 
+     * @param file the file to read from
+     * @throws ImportException in case any error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importInput(File file)
+    {
+        notifyImportEvent(ImportEvent.START);
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            importChannel(channel);
+        } catch (IOException e) {
+            throw new ImportException("Failed to import graph: " + e.getMessage(), e);
+        }
+        notifyImportEvent(ImportEvent.END);
+    }
+
+    /**
+     * Import a graph, parsing the input sequentially.
+     * 
+     * @param input the input reader
+     * @throws ImportException in case any error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importInput(Reader input)
+    {
+        notifyImportEvent(ImportEvent.START);
+        try {
+            importReader(input);
+        } catch (IOException e) {
+            throw new ImportException("Failed to import graph: " + e.getMessage(), e);
+        }
+        notifyImportEvent(ImportEvent.END);
+    }
+
+    /**
+     * Whether the format starts with a header which must be parsed sequentially using
+     * {@link #parseHeaderLine(ByteBuffer, int, int)}. The default implementation returns false.
+     * 
+     * @return true if the format has a header, false otherwise
+     */
+    protected boolean hasHeader()
+    {
+        return false;
+    }
+
+    /**
+     * Parse a header line. Called sequentially from the calling thread for each line from the
+     * start of the input until it returns true, before any other line is parsed. Header lines
+     * may notify consumers directly.
+     * 
+     * @param input the input
+     * @param start the index of the first character of the line
+     * @param end the index after the last character of the line, excluding the line separator
+     * @return true if this was the last line of the header, false otherwise
+     * @throws ImportException in case of a parse error
+     */
+    protected boolean parseHeaderLine(ByteBuffer input, int start, int end)
+    {
+        return true;
+    }
+
+    /**
+     * Parse a line of the input and add any edges it contains to the batch. This method is
+     * called concurrently from multiple threads.
+     * 
+     * @param input the input
+     * @param start the index of the first character of the line
+     * @param end the index after the last character of the line, excluding the line separator
+     * @param batch the batch to add the edges to
+     * @throws ImportException in case of a parse error
+     */
+    protected abstract void parseLine(ByteBuffer input, int start, int end, EdgeBatch batch);
+
+    /**
+     * Notify about a batch of edges. Batches are notified from the calling thread in the order of
+     * the input. The default implementation notifies the edge batch consumers and then the edge
+     * consumers for each edge of the batch. Subclasses may override this in order to translate
+     * vertices or notify about additional events.
+     * 
+     * @param batch the batch
+     */
+    protected void notifyEdgeBatch(EdgeBatch batch)
+    {
+        notifyEdgeBatchConsumers(batch);
+        if (hasEdgeConsumers()) {
+            for (int i = 0; i < batch.size(); i++) {
+                notifyEdge(toEdge(batch, i));
+            }
+        }
+    }
+
+    /**
+     * Notify the edge batch consumers about a batch of edges.
+     * 
+     * @param batch the batch
+     */
+    protected void notifyEdgeBatchConsumers(EdgeBatch batch)
+    {
+        edgeBatchConsumers.forEach(c -> c.accept(batch));
+    }
+
+    /**
+     * Get an edge of a batch as a triple of source, target and weight, which is {@code null} if
+     * the edge has no weight.
+     * 
+     * @param batch the batch
+     * @param index the index of the edge
+     * @return the edge
+     */
+    protected static Triple<Integer, Integer, Double> toEdge(EdgeBatch batch, int index)
+    {
+        return Triple.of(
+            batch.getSource(index), batch.getTarget(index),
+            batch.hasWeight(index) ? batch.getWeight(index) : null);
+    }
+
+    /**
+     * Test whether a character is a whitespace character.
+     * 
+     * @param c the character
+     * @return true if the character is whitespace, false otherwise
+     */
+    protected static boolean isWhitespace(byte c)
+    {
+        return c == ' ' || c == '\t' || c == '\r' || c == '\n' || c == '\f' || c == 0x0B;
+    }
+
+    /**
+     * Parse a decimal integer, with the same semantics as {@link Integer#parseInt(String)}.
+     * 
+     * @param input the input
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return the integer
+     * @throws NumberFormatException if the characters are not a valid integer
+     */
+    protected static int parseInt(ByteBuffer input, int start, int end)
+    {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (input.get(i) == '-' || input.get(i) == '+')) {
+            negative = input.get(i) == '-';
+            i++;
+        }
+        if (i == end) {
+            throw invalidNumber(input, start, end);
+        }
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = input.get(i) - '0';
+            if (digit < 0 || digit > 9 || value > Integer.MAX_VALUE) {
+                throw invalidNumber(input, start, end);
+            }
+            value = 10 * value + digit;
+        }
+        value = negative ? -value : value;
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw invalidNumber(input, start, end);
+        }
+        return (int) value;
+    }
+
+    /**
+     * Parse a floating point number, with the same semantics as
+     * {@link Double#parseDouble(String)}. Plain decimal numbers with at most 15 digits are
+     * converted directly from the input.
+     * 
+     * @param input the input
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return the number
+     * @throws NumberFormatException if the characters are not a valid number
+     */
+    protected static double parseDouble(ByteBuffer input, int start, int end)
+    {
+        int i = start;
+        boolean negative = false;
+        if (i < end && (input.get(i) == '-' || input.get(i) == '+')) {
+            negative = input.get(i) == '-';
+            i++;
+        }
+        long mantissa = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (; i < end; i++) {
+            byte c = input.get(i);
+            if (c >= '0' && c <= '9') {
+                mantissa = 10 * mantissa + (c - '0');
+                digits++;
+                if (fractionDigits >= 0) {
+                    fractionDigits++;
+                }
+            } else if (c == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else {
+                break;
+            }
+        }
+        if (i == end && digits > 0 && digits <= MAX_EXACT_DIGITS) {
+            double value = fractionDigits > 0
+                ? mantissa / POWERS_OF_TEN[fractionDigits] : (double) mantissa;
+            return negative ? -value : value;
+        }
+        return Double.parseDouble(text(input, start, end));
+    }
+
+    /**
+     * Get the characters of the input as a string.
+     * 
+     * @param input the input
+     * @param start the index of the first character
+     * @param end the index after the last character
+     * @return the string
+     */
+    protected static String text(ByteBuffer input, int start, int end)
+    {
+        byte[] bytes = new byte[end - start];
+        for (int i = start; i < end; i++) {
+            bytes[i - start] = input.get(i);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static NumberFormatException invalidNumber(ByteBuffer input, int start, int end)
+    {
+        return new NumberFormatException("For input string: \"" + text(input, start, end) + "\"");
+    }
+
+    private void importChannel(FileChannel channel)
+        throws IOException
+    {
+        long size = channel.size();
+        long start = hasHeader() ? readHeader(channel, size) : 0;
+        long[] boundaries = computeBoundaries(channel, start, size);
+        int chunks = boundaries.length - 1;
+
+        // the maximum pool size of an unbounded executor is Integer.MAX_VALUE
+        int processors = Runtime.getRuntime().availableProcessors();
+        int threads = Math.max(1, Math.min(Math.min(parallelism, chunks), processors));
+        ThreadPoolExecutor pool =
+            executor != null ? executor : ConcurrencyUtil.createThreadPoolExecutor(threads);
+        Deque<Future<EdgeBatch>> pending = new ArrayDeque<>();
+        try {
+            int window = 2 * threads;
+            int next = 0;
+            while (next < chunks || !pending.isEmpty()) {
+                while (next < chunks && pending.size() < window) {
+                    long from = boundaries[next];
+                    long to = boundaries[next + 1];
+                    pending.add(pool.submit(() -> parseChunk(channel, from, to)));
+                    next++;
+                }
+                notifyEdgeBatch(await(pending.poll()));
+            }
+        } finally {
+            pending.forEach(f -> f.cancel(true));
+            if (executor == null) {
+                pool.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Parse the header from the start of the file.
+     * 
+     * @return the file position after the header
+     */
+    private long readHeader(FileChannel channel, long size)
+        throws IOException
+    {
+        long position = 0;
+        int region = SCAN_BUFFER_SIZE;
+        while (true) {
+            int length = (int) Math.min(region, size - position);
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, length);
+            boolean last = position + length == size;
+            int lineStart = 0;
+            while (true) {
+                int eol = indexOfNewline(buffer, lineStart, length);
+                if (eol < 0 && (!last || lineStart == length)) {
+                    break;
+                }
+                int lineEnd = eol < 0 ? length : eol;
+                boolean done = parseHeader(buffer, lineStart, lineEnd);
+                lineStart = eol < 0 ? length : eol + 1;
+                if (done) {
+                    return position + lineStart;
+                }
+            }
+            if (last) {
+                throw new ImportException("Unexpected end of input while reading header");
+            }
+            if (lineStart == 0) {
+                region *= 2;
+            }
+            position += lineStart;
+        }
+    }
+
+    /**
+     * Compute chunk boundaries, each at the start of a line.
+     */
+    private long[] computeBoundaries(FileChannel channel, long start, long size)
+        throws IOException
+    {
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(start);
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long nominal = start + chunkSize;
+        while (nominal < size) {
+            // the boundary is after the first newline at or after nominal - 1
+            long position = nominal - 1;
+            long boundary = -1;
+            while (boundary < 0 && position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    if (buffer.get(i) == '\n') {
+                        boundary = position + i + 1;
+                        break;
+                    }
+                }
+                position += read;
+            }
+            if (boundary < 0 || boundary >= size) {
+                break;
+            }
+            boundaries.add(boundary);
+            nominal = boundary + chunkSize;
+        }
+        boundaries.add(size);
+
+        long[] result = new long[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+
+    private EdgeBatch parseChunk(FileChannel channel, long from, long to)
+        throws IOException
+    {
+        if (to - from > Integer.MAX_VALUE) {
+            throw new ImportException("Line too long at byte offset " + from);
+        }
+        ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+        return parseLines(buffer, 0, (int) (to - from), from);
+    }
+
+    private void importReader(Reader input)
+        throws IOException
+    {
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        CharBuffer chars = CharBuffer.allocate(READ_BUFFER_SIZE);
+        byte[] data = new byte[Math.max(chunkSize, SCAN_BUFFER_SIZE)];
+        int length = 0;
+        long offset = 0;
+        boolean header = hasHeader();
+        boolean inputEnded = false;
+        boolean eof = false;
+
+        while (!eof) {
+            // fill the buffer, encoding the characters as UTF-8 like the files
+            ByteBuffer out = ByteBuffer.wrap(data, length, data.length - length);
+            while (out.hasRemaining()) {
+                if (!inputEnded && input.read(chars) < 0) {
+                    inputEnded = true;
+                }
+                chars.flip();
+                CoderResult result = encoder.encode(chars, out, inputEnded);
+                chars.compact();
+                if (result.isError()) {
+                    result.throwException();
+                }
+                if (result.isOverflow()) {
+                    break;
+                }
+                if (inputEnded) {
+                    encoder.flush(out);
+                    eof = true;
+                    break;
+                }
+            }
+            length = out.position();
+
+            // process complete lines
+            int cut = eof ? length : lastIndexOfNewline(data, length) + 1;
+            if (cut == 0 && !eof) {
+                data = Arrays.copyOf(data, 2 * data.length);
+                continue;
+            }
+            ByteBuffer buffer = ByteBuffer.wrap(data, 0, cut);
+            int start = 0;
+            while (header && start < cut) {
+                int eol = indexOfNewline(buffer, start, cut);
+                int lineEnd = eol < 0 ? cut : eol;
+                header = !parseHeader(buffer, start, lineEnd);
+                start = eol < 0 ? cut : eol + 1;
+            }
+            if (header && eof) {
+                throw new ImportException("Unexpected end of input while reading header");
+            }
+            if (start < cut) {
+                notifyEdgeBatch(parseLines(buffer, start, cut, offset));
+            }
+
+            System.arraycopy(data, cut, data, 0, length - cut);
+            length -= cut;
+            offset += cut;
+        }
+    }
+
+    private boolean parseHeader(ByteBuffer buffer, int start, int end)
+    {
+        try {
+            return parseHeaderLine(buffer, start, stripCarriageReturn(buffer, start, end));
+        } catch (NumberFormatException e) {
+            throw new ImportException(e.getMessage(), e);
+        }
+    }
+
+    private EdgeBatch parseLines(ByteBuffer buffer, int start, int end, long offset)
+    {
+        EdgeBatch batch = new EdgeBatch((end - start) / BYTES_PER_EDGE_ESTIMATE);
+        int lineStart = start;
+        while (lineStart < end) {
+            int eol = indexOfNewline(buffer, lineStart, end);
+            int lineEnd = eol < 0 ? end : eol;
+            try {
+                int contentEnd = stripCarriageReturn(buffer, lineStart, lineEnd);
+                parseLine(buffer, lineStart, contentEnd, batch);
+            } catch (ImportException | NumberFormatException e) {
+                throw new ImportException(
+                    "Failed to parse line at byte offset " + (offset + lineStart) + ": "
+                        + e.getMessage(),
+                    e);
+            }
+            lineStart = lineEnd + 1;
+        }
+        return batch;
+    }
+
+    private static EdgeBatch await(Future<EdgeBatch> future)
+    {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ImportException("Interrupted while importing graph", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new ImportException("Failed to import graph: " + cause.getMessage(), cause);
+        }
+    }
+
+    private static int indexOfNewline(ByteBuffer buffer, int start, int end)
+    {
+        for (int i = start; i < end; i++) {
+            if (buffer.get(i) == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOfNewline(byte[] data, int length)
+    {
+        for (int i = length - 1; i >= 0; i--) {
+            if (data[i] == '\n') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int stripCarriageReturn(ByteBuffer buffer, int start, int end)
+    {
+        return end > start && buffer.get(end - 1) == '\r' ? end - 1 : end;
+    }
+
+}
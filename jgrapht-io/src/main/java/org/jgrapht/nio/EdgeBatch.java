@@ -0,0 +1,275 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio;
+
+import java.util.*;
+
+/**
+ * A batch of edges between integer vertices, stored in primitive arrays.
+ * 
+ * <p>
+ * Edge batches are produced by importers which parse their input in parallel, see
+ * {@link BaseParallelLineImporter}, and allow consumers to build graph representations without
+ * creating an object for each edge. Each edge has a source, a target and optionally a weight.
+ * Whether an edge has a weight is tracked separately from the weight itself, see
+ * {@link #hasWeight(int)}, thus any double, including {@link Double#NaN}, is a valid weight. A
+ * batch may additionally contain vertices, such as isolated vertices, each one positioned before
+ * the edges which were added after it.
+ *
+ * @author Dimitrios Michail
+ */
+public final class EdgeBatch
+{
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private int size;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+    private BitSet weighted;
+
+    private int vertexCount;
+    private int[] vertices;
+    private int[] vertexPositions;
+
+    /**
+     * Create a new empty batch.
+     */
+    public EdgeBatch()
+    {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Create a new empty batch.
+     * 
+     * @param capacity the initial capacity of the batch
+     */
+    public EdgeBatch(int capacity)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity cannot be negative");
+        }
+        this.sources = new int[capacity];
+        this.targets = new int[capacity];
+        this.vertices = new int[0];
+        this.vertexPositions = new int[0];
+    }
+
+    /**
+     * Add an edge without a weight.
+     * 
+     * @param source the source vertex
+     * @param target the target vertex
+     */
+    public void addEdge(int source, int target)
+    {
+        ensureCapacity();
+        sources[size] = source;
+        targets[size] = target;
+        size++;
+    }
+
+    /**
+     * Add an edge with a weight.
+     * 
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param weight the edge weight
+     */
+    public void addEdge(int source, int target, double weight)
+    {
+        ensureCapacity();
+        if (weights == null) {
+            weights = new double[sources.length];
+            weighted = new BitSet();
+        }
+        sources[size] = source;
+        targets[size] = target;
+        weights[size] = weight;
+        weighted.set(size);
+        size++;
+    }
+
+    /**
+     * Get the number of edges in the batch.
+     * 
+     * @return the number of edges
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the source of an edge.
+     * 
+     * @param index the index of the edge
+     * @return the source vertex
+     */
+    public int getSource(int index)
+    {
+        return sources[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Set the source of an edge.
+     * 
+     * @param index the index of the edge
+     * @param source the source vertex
+     */
+    public void setSource(int index, int source)
+    {
+        sources[Objects.checkIndex(index, size)] = source;
+    }
+
+    /**
+     * Get the target of an edge.
+     * 
+     * @param index the index of the edge
+     * @return the target vertex
+     */
+    public int getTarget(int index)
+    {
+        return targets[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Set the target of an edge.
+     * 
+     * @param index the index of the edge
+     * @param target the target vertex
+     */
+    public void setTarget(int index, int target)
+    {
+        targets[Objects.checkIndex(index, size)] = target;
+    }
+
+    /**
+     * Whether any edge of the batch has a weight.
+     * 
+     * @return true if any edge has a weight, false otherwise
+     */
+    public boolean hasWeights()
+    {
+        return weights != null;
+    }
+
+    /**
+     * Whether an edge has a weight.
+     * 
+     * @param index the index of the edge
+     * @return true if the edge has a weight, false otherwise
+     */
+    public boolean hasWeight(int index)
+    {
+        Objects.checkIndex(index, size);
+        return weighted != null && weighted.get(index);
+    }
+
+    /**
+     * Get the weight of an edge.
+     * 
+     * @param index the index of the edge
+     * @return the edge weight, or {@link Double#NaN} if the edge has no weight
+     */
+    public double getWeight(int index)
+    {
+        return hasWeight(index) ? weights[index] : Double.NaN;
+    }
+
+    /**
+     * Set the weight of an edge.
+     * 
+     * @param index the index of the edge
+     * @param weight the edge weight
+     */
+    public void setWeight(int index, double weight)
+    {
+        Objects.checkIndex(index, size);
+        if (weights == null) {
+            weights = new double[sources.length];
+            weighted = new BitSet();
+        }
+        weights[index] = weight;
+        weighted.set(index);
+    }
+
+    /**
+     * Add a vertex. The vertex is positioned before any edge added after it.
+     * 
+     * @param vertex the vertex
+     */
+    public void addVertex(int vertex)
+    {
+        if (vertexCount == vertices.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, vertices.length + (vertices.length >> 1));
+            vertices = Arrays.copyOf(vertices, capacity);
+            vertexPositions = Arrays.copyOf(vertexPositions, capacity);
+        }
+        vertices[vertexCount] = vertex;
+        vertexPositions[vertexCount] = size;
+        vertexCount++;
+    }
+
+    /**
+     * Get the number of vertices explicitly added to the batch.
+     * 
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return vertexCount;
+    }
+
+    /**
+     * Get a vertex explicitly added to the batch.
+     * 
+     * @param index the index of the vertex
+     * @return the vertex
+     */
+    public int getVertex(int index)
+    {
+        return vertices[Objects.checkIndex(index, vertexCount)];
+    }
+
+    /**
+     * Get the position of a vertex explicitly added to the batch, which is the number of edges
+     * added before it.
+     * 
+     * @param index the index of the vertex
+     * @return the position of the vertex
+     */
+    public int getVertexPosition(int index)
+    {
+        return vertexPositions[Objects.checkIndex(index, vertexCount)];
+    }
+
+    private void ensureCapacity()
+    {
+        if (size == sources.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, sources.length + (sources.length >> 1));
+            sources = Arrays.copyOf(sources, capacity);
+            targets = Arrays.copyOf(targets, capacity);
+            if (weights != null) {
+                weights = Arrays.copyOf(weights, capacity);
+            }
+        }
+    }
+
+}
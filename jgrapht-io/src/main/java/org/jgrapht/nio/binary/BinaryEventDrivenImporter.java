@@ -0,0 +1,324 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.binary;
+
+import org.jgrapht.alg.util.*;
+import org.jgrapht.nio.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+import static org.jgrapht.nio.binary.BinaryFormat.*;
+
+/**
+ * Imports a graph from the compact binary format written by {@link BinaryExporter}.
+ *
+ * <p>
+ * The importer notifies vertices as integers using their identifiers from the file and edges as
+ * triples of source, target and weight, where the weight is {@code null} if the graph was not
+ * exported as weighted. Each vertex and edge is followed by its attributes. Since the format
+ * stores the adjacency as primitive integers, all edges are additionally notified to the edge
+ * batch consumers as a single {@link EdgeBatch}, before the edge consumers, which allows building
+ * compact graph representations without creating an object for each edge.
+ *
+ * <p>
+ * The input is read through NIO channels, thus the importer can only read from an
+ * {@link InputStream} or a {@link File}.
+ *
+ * @author Dimitrios Michail
+ */
+public class BinaryEventDrivenImporter
+    extends
+    BaseEventDrivenImporter<Integer, Triple<Integer, Integer, Double>>
+    implements
+    EventDrivenImporter<Integer, Triple<Integer, Integer, Double>>
+{
+    private final List<Consumer<EdgeBatch>> edgeBatchConsumers;
+
+    private boolean directed;
+    private boolean weighted;
+
+    /**
+     * Construct a new importer
+     */
+    public BinaryEventDrivenImporter()
+    {
+        super();
+        this.edgeBatchConsumers = new ArrayList<>();
+    }
+
+    /**
+     * Add a consumer which is notified with all the edges of the graph.
+     * 
+     * @param consumer the consumer
+     */
+    public void addEdgeBatchConsumer(Consumer<EdgeBatch> consumer)
+    {
+        edgeBatchConsumers.add(consumer);
+    }
+
+    /**
+     * Remove an edge batch consumer.
+     * 
+     * @param consumer the consumer
+     */
+    public void removeEdgeBatchConsumer(Consumer<EdgeBatch> consumer)
+    {
+        edgeBatchConsumers.remove(consumer);
+    }
+
+    /**
+     * Whether the last imported graph was exported as a directed graph.
+     * 
+     * @return true if the last imported graph was directed, false otherwise
+     */
+    public boolean isDirected()
+    {
+        return directed;
+    }
+
+    /**
+     * Whether the last imported graph was exported as a weighted graph.
+     * 
+     * @return true if the last imported graph was weighted, false otherwise
+     */
+    public boolean isWeighted()
+    {
+        return weighted;
+    }
+
+    /**
+     * Not supported, as the format is binary.
+     * 
+     * @throws ImportException always
+     */
+    @Override
+    public void importInput(Reader input)
+    {
+        throw new ImportException("Binary format cannot be read from a reader");
+    }
+
+    @Override
+    public void importInput(InputStream input)
+    {
+        importChannel(Channels.newChannel(input));
+    }
+
+    @Override
+    public void importInput(File file)
+    {
+        try (ReadableByteChannel channel =
+            Files.newByteChannel(file.toPath(), StandardOpenOption.READ))
+        {
+            importChannel(channel);
+        } catch (IOException e) {
+            throw new ImportException("Failed to import binary graph: " + e.getMessage(), e);
+        }
+    }
+
+    private void importChannel(ReadableByteChannel channel)
+    {
+        notifyImportEvent(ImportEvent.START);
+        try {
+            read(new BinaryInput(channel));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new ImportException("Failed to import binary graph: " + e.getMessage(), e);
+        }
+        notifyImportEvent(ImportEvent.END);
+    }
+
+    private void read(BinaryInput in)
+        throws IOException
+    {
+        // header
+        int magic = 0;
+        for (int i = 0; i < 4; i++) {
+            magic = (magic << 8) | in.readByte();
+        }
+        if (magic != MAGIC) {
+            throw new IOException("Not a binary graph file");
+        }
+        int version = in.readByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported version " + version);
+        }
+        int flags = in.readByte();
+        directed = (flags & FLAG_DIRECTED) != 0;
+        weighted = (flags & FLAG_WEIGHTED) != 0;
+        int n = in.readVarInt();
+        int m = in.readVarInt();
+
+        // vertex identifiers
+        int[] ids = new int[n];
+        int mode = in.readByte();
+        if (mode == VERTEX_IDS_CONSECUTIVE) {
+            long first = in.readSignedVarInt();
+            if (first + n - 1 > Integer.MAX_VALUE) {
+                throw new IOException("Vertex identifier out of range");
+            }
+            for (int i = 0; i < n; i++) {
+                ids[i] = (int) (first + i);
+            }
+        } else if (mode == VERTEX_IDS_EXPLICIT) {
+            long previous = 0;
+            for (int i = 0; i < n; i++) {
+                long id = previous + in.readSignedVarLong();
+                if (id < Integer.MIN_VALUE || id > Integer.MAX_VALUE) {
+                    throw new IOException("Vertex identifier out of range");
+                }
+                ids[i] = (int) id;
+                previous = id;
+            }
+        } else {
+            throw new IOException("Unknown vertex identifier encoding " + mode);
+        }
+
+        // graph attributes
+        int graphAttributes = in.readVarInt();
+        for (int i = 0; i < graphAttributes; i++) {
+            String key = in.readString();
+            AttributeType type = AttributeType.create(in.readString());
+            notifyGraphAttribute(key, readValue(in, type));
+        }
+
+        // vertices
+        List<Column> vertexColumns = readColumns(in, n);
+        notifyVertexCount(n);
+        for (int i = 0; i < n; i++) {
+            Integer v = ids[i];
+            notifyVertex(v);
+            for (Column column : vertexColumns) {
+                Attribute value = column.get(i);
+                if (value != null) {
+                    notifyVertexAttribute(v, column.name, value);
+                }
+            }
+        }
+
+        // adjacency
+        EdgeBatch batch = new EdgeBatch(m);
+        for (int v = 0; v < n; v++) {
+            int degree = in.readVarInt();
+            if (degree > m - batch.size()) {
+                throw new IOException("Number of edges exceeds " + m);
+            }
+            long target = 0;
+            for (int k = 0; k < degree; k++) {
+                target += in.readVarInt();
+                if (target >= n) {
+                    throw new IOException("Vertex index " + target + " out of range");
+                }
+                batch.addEdge(ids[v], ids[(int) target]);
+            }
+        }
+        if (batch.size() != m) {
+            throw new IOException("Expected " + m + " edges but found " + batch.size());
+        }
+        if (weighted) {
+            for (int k = 0; k < m; k++) {
+                batch.setWeight(k, in.readDouble());
+            }
+        }
+
+        // edges
+        List<Column> edgeColumns = readColumns(in, m);
+        if (!in.isAtEnd()) {
+            throw new IOException("Unexpected content after the end of the graph");
+        }
+        notifyEdgeCount(m);
+        edgeBatchConsumers.forEach(c -> c.accept(batch));
+        if (hasEdgeConsumers() || !edgeColumns.isEmpty()) {
+            for (int k = 0; k < m; k++) {
+                Triple<Integer, Integer, Double> e = Triple.of(
+                    batch.getSource(k), batch.getTarget(k), weighted ? batch.getWeight(k) : null);
+                notifyEdge(e);
+                for (Column column : edgeColumns) {
+                    Attribute value = column.get(k);
+                    if (value != null) {
+                        notifyEdgeAttribute(e, column.name, value);
+                    }
+                }
+            }
+        }
+    }
+
+    private static List<Column> readColumns(BinaryInput in, int count)
+        throws IOException
+    {
+        int columns = in.readVarInt();
+        List<Column> result = new ArrayList<>(columns);
+        for (int i = 0; i < columns; i++) {
+            String name = in.readString();
+            AttributeType type = AttributeType.create(in.readString());
+            int layout = in.readByte();
+            BitSet present;
+            int size;
+            if (layout == COLUMN_DENSE) {
+                present = null;
+                size = count;
+            } else if (layout == COLUMN_SPARSE) {
+                present = BitSet.valueOf(in.readBytes((count + 7) / 8));
+                if (present.length() > count) {
+                    throw new IOException("Invalid presence bitmap of attribute " + name);
+                }
+                size = present.cardinality();
+            } else {
+                throw new IOException("Unknown layout of attribute " + name);
+            }
+            Attribute[] values = new Attribute[size];
+            for (int k = 0; k < size; k++) {
+                values[k] = readValue(in, type);
+            }
+            result.add(new Column(name, present, values));
+        }
+        return result;
+    }
+
+    /**
+     * The values of an attribute, read in the order of the vertices or edges.
+     */
+    private static class Column
+    {
+        final String name;
+        final BitSet present;
+        final Attribute[] values;
+        int next;
+
+        Column(String name, BitSet present, Attribute[] values)
+        {
+            this.name = name;
+            this.present = present;
+            this.values = values;
+        }
+
+        /**
+         * Get the value of an element. Must be called with increasing indices.
+         */
+        Attribute get(int index)
+        {
+            if (present != null && !present.get(index)) {
+                return null;
+            }
+            return values[next++];
+        }
+    }
+
+}
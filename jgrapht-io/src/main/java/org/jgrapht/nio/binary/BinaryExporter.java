@@ -0,0 +1,366 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.binary;
+
+import org.jgrapht.*;
+import org.jgrapht.nio.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+import static org.jgrapht.nio.binary.BinaryFormat.*;
+
+/**
+ * Exports a graph in a compact binary format.
+ *
+ * <p>
+ * Contrary to the text based formats, the binary format avoids formatting and parsing numbers and
+ * is written and read through NIO channels, which makes it suitable for exchanging large graphs.
+ * Vertex identifiers must be integers, such as the ones generated by the default
+ * {@link IntegerIdProvider}. Edges are stored grouped by their source and sorted by their target,
+ * which means that they are not necessarily imported in the same order as in the exported graph.
+ * Edge identifiers are not exported.
+ *
+ * <p>
+ * All multi-byte values are big-endian. Variable length integers (varints) use 7 bits per byte,
+ * least significant group first, and signed varints are zigzag encoded. Strings are a varint
+ * length followed by UTF-8 bytes. The file contains:
+ * <ul>
+ * <li>a header with the magic number {@code 0x4A475242} ("JGRB"), a version byte, a flags byte
+ * whose bit 0 indicates a directed and bit 1 a weighted graph, and the varint number of vertices
+ * and edges,</li>
+ * <li>the vertex identifiers, either as a byte 0 followed by the signed varint identifier of the
+ * first vertex when the identifiers are consecutive, or as a byte 1 followed by the signed varint
+ * difference of each identifier from the previous one,</li>
+ * <li>the graph attributes, as a varint count followed by the name, type and value of each
+ * attribute,</li>
+ * <li>the vertex attribute columns,</li>
+ * <li>the adjacency, as the varint number of edges of each vertex followed by the varint index of
+ * the first target and the varint difference of each target index from the previous one,</li>
+ * <li>the edge weights as doubles, if the graph is weighted, and</li>
+ * <li>the edge attribute columns.</li>
+ * </ul>
+ * Attribute columns are a varint count followed by columns, each one holding all attributes with
+ * the same name and type. A column stores its name and type as strings, a byte which is 1 if all
+ * vertices or edges have the attribute, or 0 followed by a presence bitmap otherwise, and the
+ * values of the attribute in the order of the vertices or edges. Values are encoded according to
+ * their type: booleans as a byte, integers and longs as signed varints, floats and doubles in
+ * their IEEE 754 representation, nulls as nothing and all other types as strings.
+ *
+ * @see BinaryImporter
+ * @see BinaryEventDrivenImporter
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class BinaryExporter<V, E>
+    extends
+    BaseExporter<V, E>
+    implements
+    GraphExporter<V, E>
+{
+    /**
+     * Constructs a new exporter.
+     */
+    public BinaryExporter()
+    {
+        this(new IntegerIdProvider<>());
+    }
+
+    /**
+     * Constructs a new exporter with a given vertex ID provider.
+     *
+     * @param vertexIdProvider for generating vertex IDs which must be integers. Must not be null.
+     */
+    public BinaryExporter(Function<V, String> vertexIdProvider)
+    {
+        super(vertexIdProvider);
+    }
+
+    /**
+     * Not supported, as the format is binary.
+     * 
+     * @throws ExportException always
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, Writer writer)
+    {
+        throw new ExportException("Binary format cannot be written to a writer");
+    }
+
+    @Override
+    public void exportGraph(Graph<V, E> g, OutputStream out)
+    {
+        try {
+            exportGraph(g, Channels.newChannel(out));
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    @Override
+    public void exportGraph(Graph<V, E> g, File file)
+    {
+        try (WritableByteChannel channel = Files.newByteChannel(
+            file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE))
+        {
+            exportGraph(g, channel);
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    private void exportGraph(Graph<V, E> g, WritableByteChannel channel)
+        throws IOException
+    {
+        BinaryOutput out = new BinaryOutput(channel);
+
+        // index vertices
+        int n = g.vertexSet().size();
+        List<V> vertices = new ArrayList<>(g.vertexSet());
+        Map<V, Integer> vertexIndex = new HashMap<>();
+        int[] ids = new int[n];
+        boolean consecutive = true;
+        for (int i = 0; i < n; i++) {
+            V v = vertices.get(i);
+            vertexIndex.put(v, i);
+            String id = vertexIdProvider.apply(v);
+            try {
+                ids[i] = Integer.parseInt(id);
+            } catch (NumberFormatException e) {
+                throw new ExportException("Vertex identifier " + id + " is not an integer");
+            }
+            consecutive &= i == 0 || ids[i] == ids[i - 1] + 1;
+        }
+
+        // sort edges by source and target
+        List<E> edges = new ArrayList<>(g.edgeSet());
+        int m = edges.size();
+        int[] offsets = new int[n + 1];
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        for (int i = 0; i < m; i++) {
+            E e = edges.get(i);
+            sources[i] = vertexIndex.get(g.getEdgeSource(e));
+            targets[i] = vertexIndex.get(g.getEdgeTarget(e));
+            offsets[sources[i] + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        long[] keys = new long[m];
+        int[] next = Arrays.copyOf(offsets, n);
+        for (int i = 0; i < m; i++) {
+            keys[next[sources[i]]++] = ((long) targets[i] << 32) | i;
+        }
+        int[] order = new int[m];
+        for (int v = 0; v < n; v++) {
+            Arrays.sort(keys, offsets[v], offsets[v + 1]);
+            for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                order[k] = (int) keys[k];
+            }
+        }
+        keys = null;
+
+        // header
+        boolean weighted = g.getType().isWeighted();
+        out.writeByte(MAGIC >>> 24);
+        out.writeByte(MAGIC >>> 16);
+        out.writeByte(MAGIC >>> 8);
+        out.writeByte(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(
+            (g.getType().isDirected() ? FLAG_DIRECTED : 0) | (weighted ? FLAG_WEIGHTED : 0));
+        out.writeVarInt(n);
+        out.writeVarInt(m);
+
+        // vertex identifiers
+        if (consecutive) {
+            out.writeByte(VERTEX_IDS_CONSECUTIVE);
+            out.writeSignedVarInt(n == 0 ? 0 : ids[0]);
+        } else {
+            out.writeByte(VERTEX_IDS_EXPLICIT);
+            int previous = 0;
+            for (int i = 0; i < n; i++) {
+                out.writeSignedVarLong((long) ids[i] - previous);
+                previous = ids[i];
+            }
+        }
+
+        // graph attributes
+        Map<String, Attribute> graphAttributes =
+            graphAttributeProvider.map(Supplier::get).orElse(Collections.emptyMap());
+        out.writeVarInt(graphAttributes.size());
+        for (Map.Entry<String, Attribute> entry : graphAttributes.entrySet()) {
+            out.writeString(entry.getKey());
+            out.writeString(entry.getValue().getType().toString());
+            writeAttribute(out, entry.getKey(), entry.getValue());
+        }
+
+        // vertex attributes
+        writeColumns(out, vertices, vertexAttributeProvider.orElse(null), null);
+
+        // adjacency
+        for (int v = 0; v < n; v++) {
+            out.writeVarInt(offsets[v + 1] - offsets[v]);
+            int previous = 0;
+            for (int k = offsets[v]; k < offsets[v + 1]; k++) {
+                int target = targets[order[k]];
+                out.writeVarInt(target - previous);
+                previous = target;
+            }
+        }
+
+        // weights
+        if (weighted) {
+            for (int k = 0; k < m; k++) {
+                out.writeDouble(g.getEdgeWeight(edges.get(order[k])));
+            }
+        }
+
+        // edge attributes
+        writeColumns(out, edges, edgeAttributeProvider.orElse(null), order);
+
+        out.flush();
+    }
+
+    /**
+     * Write the attributes of some elements as columns.
+     * 
+     * @param out the output
+     * @param elements the elements
+     * @param provider the attribute provider, or null
+     * @param order the order in which to write the elements, or null for the natural order
+     */
+    private <T> void writeColumns(
+        BinaryOutput out, List<T> elements, Function<T, Map<String, Attribute>> provider,
+        int[] order)
+        throws IOException
+    {
+        if (provider == null) {
+            out.writeVarInt(0);
+            return;
+        }
+
+        Map<Pair, Column> columns = new LinkedHashMap<>();
+        int count = elements.size();
+        for (int k = 0; k < count; k++) {
+            Map<String, Attribute> attributes =
+                provider.apply(elements.get(order == null ? k : order[k]));
+            if (attributes == null) {
+                continue;
+            }
+            for (Map.Entry<String, Attribute> entry : attributes.entrySet()) {
+                Attribute attribute = entry.getValue();
+                columns
+                    .computeIfAbsent(
+                        new Pair(entry.getKey(), attribute.getType()),
+                        p -> new Column())
+                    .add(k, attribute);
+            }
+        }
+
+        out.writeVarInt(columns.size());
+        for (Map.Entry<Pair, Column> entry : columns.entrySet()) {
+            Column column = entry.getValue();
+            out.writeString(entry.getKey().name);
+            out.writeString(entry.getKey().type.toString());
+            if (column.values.size() == count) {
+                out.writeByte(COLUMN_DENSE);
+            } else {
+                out.writeByte(COLUMN_SPARSE);
+                byte[] bitmap = new byte[(count + 7) / 8];
+                for (int k = column.present.nextSetBit(0); k >= 0;
+                    k = column.present.nextSetBit(k + 1))
+                {
+                    bitmap[k >>> 3] |= 1 << (k & 7);
+                }
+                out.writeBytes(bitmap);
+            }
+            for (Attribute attribute : column.values) {
+                writeAttribute(out, entry.getKey().name, attribute);
+            }
+        }
+    }
+
+    /**
+     * Write the value of an attribute.
+     * 
+     * @param out the output
+     * @param name the attribute name, used in error messages
+     * @param attribute the attribute
+     * @throws ExportException if the value cannot be parsed as the attribute type
+     */
+    private static void writeAttribute(BinaryOutput out, String name, Attribute attribute)
+        throws IOException
+    {
+        try {
+            writeValue(out, attribute);
+        } catch (NumberFormatException e) {
+            throw new ExportException(
+                "Invalid value " + attribute.getValue() + " of attribute " + name, e);
+        }
+    }
+
+    private static class Pair
+    {
+        final String name;
+        final AttributeType type;
+
+        Pair(String name, AttributeType type)
+        {
+            this.name = name;
+            this.type = type;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return 31 * name.hashCode() + type.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (!(obj instanceof Pair)) {
+                return false;
+            }
+            Pair other = (Pair) obj;
+            return name.equals(other.name) && type == other.type;
+        }
+    }
+
+    private static class Column
+    {
+        final BitSet present = new BitSet();
+        final List<Attribute> values = new ArrayList<>();
+
+        void add(int index, Attribute attribute)
+        {
+            present.set(index);
+            values.add(attribute);
+        }
+    }
+
+}
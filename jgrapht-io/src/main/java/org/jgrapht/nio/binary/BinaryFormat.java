@@ -0,0 +1,99 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.binary;
+
+import org.jgrapht.nio.*;
+
+import java.io.*;
+
+/**
+ * Constants of the binary format and the encoding of attribute values, shared by the exporter and
+ * the importers.
+ *
+ * @author Dimitrios Michail
+ */
+final class BinaryFormat
+{
+    static final int MAGIC = 0x4A475242; // JGRB
+    static final int VERSION = 1;
+
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 1 << 1;
+
+    static final int VERTEX_IDS_CONSECUTIVE = 0;
+    static final int VERTEX_IDS_EXPLICIT = 1;
+
+    static final int COLUMN_SPARSE = 0;
+    static final int COLUMN_DENSE = 1;
+
+    private BinaryFormat()
+    {
+    }
+
+    static void writeValue(BinaryOutput out, Attribute attribute)
+        throws IOException
+    {
+        String value = attribute.getValue();
+        switch (attribute.getType()) {
+        case NULL:
+            break;
+        case BOOLEAN:
+            out.writeByte(Boolean.parseBoolean(value) ? 1 : 0);
+            break;
+        case INT:
+            out.writeSignedVarInt(Integer.parseInt(value));
+            break;
+        case LONG:
+            out.writeSignedVarLong(Long.parseLong(value));
+            break;
+        case FLOAT:
+            out.writeFloat(Float.parseFloat(value));
+            break;
+        case DOUBLE:
+            out.writeDouble(Double.parseDouble(value));
+            break;
+        default:
+            out.writeString(value);
+            break;
+        }
+    }
+
+    static Attribute readValue(BinaryInput in, AttributeType type)
+        throws IOException
+    {
+        switch (type) {
+        case NULL:
+            return DefaultAttribute.NULL;
+        case BOOLEAN:
+            return DefaultAttribute.createAttribute(in.readByte() != 0);
+        case INT:
+            return DefaultAttribute.createAttribute(in.readSignedVarInt());
+        case LONG:
+            return DefaultAttribute.createAttribute(in.readSignedVarLong());
+        case FLOAT:
+            return DefaultAttribute.createAttribute(in.readFloat());
+        case DOUBLE:
+            return DefaultAttribute.createAttribute(in.readDouble());
+        case STRING:
+            return DefaultAttribute.createAttribute(in.readString());
+        default:
+            return new DefaultAttribute<>(in.readString(), type);
+        }
+    }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.binary;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.nio.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Imports a graph from the compact binary format written by {@link BinaryExporter}.
+ *
+ * <p>
+ * The provided graph must be able to support the features of the graph that is read. For example
+ * if the file contains self-loops then the graph provided must also support self-loops. The same
+ * for multiple edges. If the provided graph is weighted and the file contains edge weights, the
+ * importer also sets the edge weights. Vertex, edge and graph attributes are reported to the
+ * attribute consumers. The vertex identifier from the file is additionally reported as the vertex
+ * attribute {@link #DEFAULT_VERTEX_ID_KEY}.
+ *
+ * @see BinaryEventDrivenImporter
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author Dimitrios Michail
+ */
+public class BinaryImporter<V, E>
+    extends
+    BaseEventDrivenImporter<V, E>
+    implements
+    GraphImporter<V, E>
+{
+    /**
+     * Default key used for vertex ID.
+     */
+    public static final String DEFAULT_VERTEX_ID_KEY = "ID";
+
+    private Function<Integer, V> vertexFactory;
+
+    /**
+     * Construct a new importer
+     */
+    public BinaryImporter()
+    {
+        super();
+    }
+
+    /**
+     * Get the user custom vertex factory. This is null by default and the graph supplier is used
+     * instead.
+     * 
+     * @return the user custom vertex factory
+     */
+    public Function<Integer, V> getVertexFactory()
+    {
+        return vertexFactory;
+    }
+
+    /**
+     * Set the user custom vertex factory. The default behavior is being null in which case the
+     * graph vertex supplier is used.
+     * 
+     * If supplied the vertex factory is called every time a new vertex is encountered in the file.
+     * The method is called with parameter the vertex identifier from the file and should return the
+     * actual graph vertex to add to the graph.
+     * 
+     * @param vertexFactory a vertex factory
+     */
+    public void setVertexFactory(Function<Integer, V> vertexFactory)
+    {
+        this.vertexFactory = vertexFactory;
+    }
+
+    /**
+     * Not supported, as the format is binary.
+     * 
+     * @throws ImportException always
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, Reader input)
+    {
+        throw new ImportException("Binary format cannot be read from a reader");
+    }
+
+    @Override
+    public void importGraph(Graph<V, E> graph, InputStream input)
+    {
+        BinaryEventDrivenImporter genericImporter = new BinaryEventDrivenImporter();
+        new Consumers(graph).register(genericImporter);
+        genericImporter.importInput(input);
+    }
+
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+    {
+        BinaryEventDrivenImporter genericImporter = new BinaryEventDrivenImporter();
+        new Consumers(graph).register(genericImporter);
+        genericImporter.importInput(file);
+    }
+
+    private class Consumers
+    {
+        private Graph<V, E> graph;
+        private Map<Integer, V> map;
+        private Triple<Integer, Integer, Double> lastTriple;
+        private E lastEdge;
+
+        public Consumers(Graph<V, E> graph)
+        {
+            this.graph = graph;
+            this.map = new HashMap<>();
+        }
+
+        void register(BinaryEventDrivenImporter genericImporter)
+        {
+            genericImporter.addGraphAttributeConsumer(graphAttributeConsumer);
+            genericImporter.addVertexConsumer(vertexConsumer);
+            genericImporter.addVertexAttributeConsumer(vertexAttributeConsumer);
+            genericImporter.addEdgeConsumer(edgeConsumer);
+            genericImporter.addEdgeAttributeConsumer(edgeAttributeConsumer);
+        }
+
+        public final BiConsumer<String, Attribute> graphAttributeConsumer =
+            (key, value) -> notifyGraphAttribute(key, value);
+
+        public final Consumer<Integer> vertexConsumer = id -> {
+            V v;
+            if (vertexFactory != null) {
+                v = vertexFactory.apply(id);
+                graph.addVertex(v);
+            } else {
+                v = graph.addVertex();
+            }
+            map.put(id, v);
+
+            notifyVertex(v);
+            notifyVertexAttribute(v, DEFAULT_VERTEX_ID_KEY, DefaultAttribute.createAttribute(id));
+        };
+
+        public final BiConsumer<Pair<Integer, String>, Attribute> vertexAttributeConsumer =
+            (p, value) -> notifyVertexAttribute(map.get(p.getFirst()), p.getSecond(), value);
+
+        public final Consumer<Triple<Integer, Integer, Double>> edgeConsumer = t -> {
+            E e = graph.addEdge(map.get(t.getFirst()), map.get(t.getSecond()));
+            if (t.getThird() != null && graph.getType().isWeighted()) {
+                graph.setEdgeWeight(e, t.getThird());
+            }
+            lastTriple = t;
+            lastEdge = e;
+
+            notifyEdge(e);
+        };
+
+        public final BiConsumer<Pair<Triple<Integer, Integer, Double>, String>,
+            Attribute> edgeAttributeConsumer = (p, value) -> {
+                if (p.getFirst() == lastTriple) {
+                    notifyEdgeAttribute(lastEdge, p.getSecond(), value);
+                }
+            };
+
+    }
+
+}
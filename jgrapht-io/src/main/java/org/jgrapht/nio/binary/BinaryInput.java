@@ -0,0 +1,189 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.binary;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * Buffered input of the primitive values of the binary format from a channel.
+ *
+ * @author Dimitrios Michail
+ */
+class BinaryInput
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARLONG_BYTES = 10;
+
+    private final ReadableByteChannel channel;
+    private final ByteBuffer buffer;
+    private boolean eof;
+
+    BinaryInput(ReadableByteChannel channel)
+    {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        this.buffer.flip();
+    }
+
+    int readByte()
+        throws IOException
+    {
+        require(1);
+        return buffer.get() & 0xFF;
+    }
+
+    byte[] readBytes(int length)
+        throws IOException
+    {
+        byte[] bytes = new byte[length];
+        int offset = 0;
+        while (offset < length) {
+            if (!buffer.hasRemaining()) {
+                require(1);
+            }
+            int count = Math.min(length - offset, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            offset += count;
+        }
+        return bytes;
+    }
+
+    /**
+     * Read an unsigned variable length integer which must fit in a non-negative int.
+     */
+    int readVarInt()
+        throws IOException
+    {
+        long value = readVarLong();
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Integer out of range");
+        }
+        return (int) value;
+    }
+
+    long readVarLong()
+        throws IOException
+    {
+        if (buffer.remaining() < MAX_VARLONG_BYTES) {
+            fill(MAX_VARLONG_BYTES);
+        }
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            if (!buffer.hasRemaining()) {
+                throw new EOFException("Unexpected end of input");
+            }
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable length integer");
+    }
+
+    int readSignedVarInt()
+        throws IOException
+    {
+        long value = readVarLong();
+        if ((value & ~0xFFFFFFFFL) != 0) {
+            throw new IOException("Integer out of range");
+        }
+        int v = (int) value;
+        return (v >>> 1) ^ -(v & 1);
+    }
+
+    long readSignedVarLong()
+        throws IOException
+    {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    float readFloat()
+        throws IOException
+    {
+        require(Float.BYTES);
+        return buffer.getFloat();
+    }
+
+    double readDouble()
+        throws IOException
+    {
+        require(Double.BYTES);
+        return buffer.getDouble();
+    }
+
+    String readString()
+        throws IOException
+    {
+        int length = readVarInt();
+        if (length <= buffer.capacity()) {
+            require(length);
+            String value =
+                new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+        return new String(readBytes(length), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Whether the end of the input has been reached.
+     */
+    boolean isAtEnd()
+        throws IOException
+    {
+        if (!buffer.hasRemaining()) {
+            fill(1);
+        }
+        return !buffer.hasRemaining();
+    }
+
+    private void require(int bytes)
+        throws IOException
+    {
+        if (buffer.remaining() < bytes) {
+            fill(bytes);
+            if (buffer.remaining() < bytes) {
+                throw new EOFException("Unexpected end of input");
+            }
+        }
+    }
+
+    /**
+     * Try to have at least the given number of bytes in the buffer.
+     */
+    private void fill(int bytes)
+        throws IOException
+    {
+        buffer.compact();
+        try {
+            while (!eof && buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    eof = true;
+                }
+            }
+        } finally {
+            buffer.flip();
+        }
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.binary;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+
+/**
+ * Buffered output of the primitive values of the binary format to a channel.
+ *
+ * @author Dimitrios Michail
+ */
+class BinaryOutput
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final int MAX_VARLONG_BYTES = 10;
+
+    private final WritableByteChannel channel;
+    private final ByteBuffer buffer;
+
+    BinaryOutput(WritableByteChannel channel)
+    {
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    }
+
+    void writeByte(int value)
+        throws IOException
+    {
+        ensure(1);
+        buffer.put((byte) value);
+    }
+
+    void writeBytes(byte[] bytes)
+        throws IOException
+    {
+        if (bytes.length > buffer.remaining()) {
+            flush();
+            if (bytes.length > buffer.capacity()) {
+                ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+                while (wrapped.hasRemaining()) {
+                    channel.write(wrapped);
+                }
+                return;
+            }
+        }
+        buffer.put(bytes);
+    }
+
+    /**
+     * Write a non-negative value as an unsigned variable length integer.
+     */
+    void writeVarInt(int value)
+        throws IOException
+    {
+        writeVarLong(value & 0xFFFFFFFFL);
+    }
+
+    void writeVarLong(long value)
+        throws IOException
+    {
+        ensure(MAX_VARLONG_BYTES);
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    /**
+     * Write a signed value as a zigzag encoded variable length integer.
+     */
+    void writeSignedVarInt(int value)
+        throws IOException
+    {
+        writeVarInt((value << 1) ^ (value >> 31));
+    }
+
+    void writeSignedVarLong(long value)
+        throws IOException
+    {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    void writeFloat(float value)
+        throws IOException
+    {
+        ensure(Float.BYTES);
+        buffer.putFloat(value);
+    }
+
+    void writeDouble(double value)
+        throws IOException
+    {
+        ensure(Double.BYTES);
+        buffer.putDouble(value);
+    }
+
+    void writeString(String value)
+        throws IOException
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length);
+        writeBytes(bytes);
+    }
+
+    void flush()
+        throws IOException
+    {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    private void ensure(int bytes)
+        throws IOException
+    {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Compact binary graph format importers/exporters
+ */
+package org.jgrapht.nio.binary;
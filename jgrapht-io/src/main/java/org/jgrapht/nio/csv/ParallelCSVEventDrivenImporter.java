@@ -0,0 +1,285 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.csv;
+
+import org.jgrapht.nio.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Imports a graph with integer vertices from an edge list or adjacency list in CSV format, or any
+ * other Delimiter-separated value format, parsing files in parallel.
+ *
+ * <p>
+ * Each line contains a source vertex followed by target vertices, or pairs of target vertices and
+ * edge weights if {@link CSVFormat.Parameter#EDGE_WEIGHTS} is set, exactly as the
+ * {@link CSVFormat#EDGE_LIST} and {@link CSVFormat#ADJACENCY_LIST} formats read by
+ * {@link CSVEventDrivenImporter}. Vertices must be integers and are reported as such. Fields
+ * cannot be quoted and empty lines are ignored. As in {@link CSVEventDrivenImporter}, each vertex
+ * is reported once, the first time it is encountered, and each edge is reported as a triple of
+ * its source, its target and its weight, or {@code null} if edge weights are not enabled.
+ *
+ * <p>
+ * When importing from a file, lines are parsed concurrently as described in
+ * {@link BaseParallelLineImporter}, while events are still reported in file order. Edges can also
+ * be consumed in batches of primitive arrays using
+ * {@link #addEdgeBatchConsumer(java.util.function.Consumer)}.
+ *
+ * @see CSVEventDrivenImporter
+ *
+ * @author Dimitrios Michail
+ */
+public class ParallelCSVEventDrivenImporter
+    extends
+    BaseParallelLineImporter
+{
+    private static final char DEFAULT_DELIMITER = ',';
+    private static final int MIN_DENSE_VERTICES = 1 << 16;
+
+    private char delimiter;
+    private final Set<CSVFormat.Parameter> parameters;
+
+    private BitSet seenVertices;
+    private Set<Integer> sparseSeenVertices;
+    private int seenCount;
+
+    /**
+     * Constructs a new importer which uses all available processors.
+     */
+    public ParallelCSVEventDrivenImporter()
+    {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs a new importer.
+     * 
+     * @param parallelism maximum number of threads used to parse the input
+     */
+    public ParallelCSVEventDrivenImporter(int parallelism)
+    {
+        this(parallelism, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Constructs a new importer.
+     * 
+     * @param parallelism maximum number of threads used to parse the input
+     * @param delimiter delimiter to use (comma, semicolon, pipe, tab, etc.)
+     */
+    public ParallelCSVEventDrivenImporter(int parallelism, char delimiter)
+    {
+        super(parallelism);
+        setDelimiter(delimiter);
+        this.parameters = new HashSet<>();
+    }
+
+    /**
+     * Constructs a new importer.
+     * 
+     * @param executor executor which is used to parse the input
+     * @param delimiter delimiter to use (comma, semicolon, pipe, tab, etc.)
+     */
+    public ParallelCSVEventDrivenImporter(ThreadPoolExecutor executor, char delimiter)
+    {
+        super(executor);
+        setDelimiter(delimiter);
+        this.parameters = new HashSet<>();
+    }
+
+    /**
+     * Get the delimiter (comma, semicolon, pipe, tab, etc).
+     *
+     * @return the delimiter
+     */
+    public char getDelimiter()
+    {
+        return delimiter;
+    }
+
+    /**
+     * Set the delimiter (comma, semicolon, pipe, tab, etc). Since the input is parsed as UTF-8
+     * bytes, the delimiter must be an ASCII character.
+     *
+     * @param delimiter the delimiter to use
+     * @throws IllegalArgumentException if the character cannot be used as a delimiter or is not
+     *         an ASCII character
+     */
+    public void setDelimiter(char delimiter)
+    {
+        if (!DSVUtils.isValidDelimiter(delimiter)) {
+            throw new IllegalArgumentException("Character cannot be used as a delimiter");
+        }
+        if (delimiter > 0x7F) {
+            throw new IllegalArgumentException("Only ASCII characters can be used as a delimiter");
+        }
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Return if a particular parameter of the importer is enabled
+     *
+     * @param p the parameter
+     * @return {@code true} if the parameter is set, {@code false} otherwise
+     */
+    public boolean isParameter(CSVFormat.Parameter p)
+    {
+        return parameters.contains(p);
+    }
+
+    /**
+     * Set the value of a parameter of the importer. Only {@link CSVFormat.Parameter#EDGE_WEIGHTS}
+     * is supported.
+     *
+     * @param p the parameter
+     * @param value the value to set
+     * @throws IllegalArgumentException if an unsupported parameter is enabled
+     */
+    public void setParameter(CSVFormat.Parameter p, boolean value)
+    {
+        if (value && p != CSVFormat.Parameter.EDGE_WEIGHTS) {
+            throw new IllegalArgumentException("Parameter " + p + " is not supported");
+        }
+        if (value) {
+            parameters.add(p);
+        } else {
+            parameters.remove(p);
+        }
+    }
+
+    @Override
+    public void importInput(File file)
+    {
+        reset();
+        super.importInput(file);
+    }
+
+    @Override
+    public void importInput(Reader input)
+    {
+        reset();
+        super.importInput(input);
+    }
+
+    @Override
+    protected void parseLine(ByteBuffer input, int start, int end, EdgeBatch batch)
+    {
+        if (start == end) {
+            return;
+        }
+        boolean assumeEdgeWeights = parameters.contains(CSVFormat.Parameter.EDGE_WEIGHTS);
+
+        int fieldEnd = fieldEnd(input, start, end);
+        if (fieldEnd == start) {
+            throw new ImportException("Source vertex cannot be empty");
+        }
+        int source = parseVertex(input, start, fieldEnd);
+        batch.addVertex(source);
+
+        while (fieldEnd < end) {
+            int fieldStart = fieldEnd + 1;
+            fieldEnd = fieldEnd(input, fieldStart, end);
+            if (fieldEnd == fieldStart) {
+                throw new ImportException("Target vertex cannot be empty");
+            }
+            int target = parseVertex(input, fieldStart, fieldEnd);
+
+            if (assumeEdgeWeights) {
+                if (fieldEnd == end) {
+                    throw new ImportException("Failed to parse edge weight");
+                }
+                int weightStart = fieldEnd + 1;
+                fieldEnd = fieldEnd(input, weightStart, end);
+                double weight;
+                try {
+                    weight = parseDouble(input, weightStart, fieldEnd);
+                } catch (NumberFormatException e) {
+                    throw new ImportException("Failed to parse edge weight");
+                }
+                batch.addEdge(source, target, weight);
+            } else {
+                batch.addEdge(source, target);
+            }
+        }
+    }
+
+    @Override
+    protected void notifyEdgeBatch(EdgeBatch batch)
+    {
+        notifyEdgeBatchConsumers(batch);
+
+        int nextVertex = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            while (nextVertex < batch.vertexCount() && batch.getVertexPosition(nextVertex) == i) {
+                notifyIfNew(batch.getVertex(nextVertex++));
+            }
+            notifyIfNew(batch.getSource(i));
+            notifyIfNew(batch.getTarget(i));
+            if (hasEdgeConsumers()) {
+                notifyEdge(toEdge(batch, i));
+            }
+        }
+        while (nextVertex < batch.vertexCount()) {
+            notifyIfNew(batch.getVertex(nextVertex++));
+        }
+    }
+
+    private void reset()
+    {
+        this.seenVertices = new BitSet();
+        this.sparseSeenVertices = new HashSet<>();
+        this.seenCount = 0;
+    }
+
+    private void notifyIfNew(int v)
+    {
+        if ((v >= 0 && seenVertices.get(v)) || sparseSeenVertices.contains(v)) {
+            return;
+        }
+        // the bitset grows with the number of vertices, larger identifiers are kept in a set
+        seenCount++;
+        if (v >= 0 && v < MIN_DENSE_VERTICES + 2L * seenCount) {
+            seenVertices.set(v);
+        } else {
+            sparseSeenVertices.add(v);
+        }
+        notifyVertex(v);
+    }
+
+    private int parseVertex(ByteBuffer input, int start, int end)
+    {
+        try {
+            return parseInt(input, start, end);
+        } catch (NumberFormatException e) {
+            throw new ImportException("Failed to parse vertex: " + e.getMessage(), e);
+        }
+    }
+
+    private int fieldEnd(ByteBuffer input, int start, int end)
+    {
+        int i = start;
+        while (i < end && input.get(i) != delimiter) {
+            i++;
+        }
+        return i;
+    }
+
+}
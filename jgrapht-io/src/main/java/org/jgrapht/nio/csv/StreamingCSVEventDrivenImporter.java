@@ -0,0 +1,488 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.csv;
+
+import org.jgrapht.alg.util.Triple;
+import org.jgrapht.nio.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * Imports a graph from an edge list or adjacency list in CSV format, or any other
+ * Delimiter-separated value format, while reading the input as a stream.
+ *
+ * <p>
+ * The importer reads the same {@link CSVFormat#EDGE_LIST} and {@link CSVFormat#ADJACENCY_LIST}
+ * formats as {@link CSVEventDrivenImporter} and notifies the same vertex and edge consumers. Each
+ * vertex is reported once, the first time it is encountered, and each edge is reported as a
+ * triple of its source, its target and its weight, or {@code null} if edge weights are not
+ * enabled using {@link CSVFormat.Parameter#EDGE_WEIGHTS}. The {@link CSVFormat#MATRIX} format is
+ * not supported.
+ *
+ * <p>
+ * Contrary to {@link CSVEventDrivenImporter}, which reads the whole input in memory and builds a
+ * parse tree, this importer tokenizes the input directly from a fixed size buffer and notifies
+ * the consumers as soon as each field has been read. Apart from the buffer, the only memory used
+ * is the set of the distinct vertices seen so far, so that inputs much larger than the available
+ * memory can be imported, at a speed which is mostly limited by the speed of reading the input.
+ * Fields which are non-negative integers without leading zeros, the common case of numeric
+ * vertex identifiers, are parsed directly from the buffer and a string is only created the first
+ * time each vertex is encountered. Integer edge weights are also parsed without creating strings.
+ *
+ * <p>
+ * Fields are separated by the delimiter, and records by a line feed optionally preceded by a
+ * carriage return. Fields may be quoted according to
+ * <a href="http://www.ietf.org/rfc/rfc4180.txt">rfc4180</a> and are then unescaped using the
+ * delimiter, as in {@link CSVEventDrivenImporter}. Empty lines are ignored and the last record
+ * does not need to be followed by a line separator.
+ *
+ * @see CSVFormat
+ * @see CSVEventDrivenImporter
+ *
+ * @author Dimitrios Michail
+ */
+public class StreamingCSVEventDrivenImporter
+    extends
+    BaseEventDrivenImporter<String, Triple<String, String, Double>>
+    implements
+    EventDrivenImporter<String, Triple<String, String, Double>>
+{
+    private static final char DEFAULT_DELIMITER = ',';
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private CSVFormat format;
+    private char delimiter;
+    private final Set<CSVFormat.Parameter> parameters;
+
+    /**
+     * Constructs a new importer using the {@link CSVFormat#ADJACENCY_LIST} format as default.
+     */
+    public StreamingCSVEventDrivenImporter()
+    {
+        this(CSVFormat.ADJACENCY_LIST, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Constructs a new importer.
+     *
+     * @param format format to use out of the supported ones
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public StreamingCSVEventDrivenImporter(CSVFormat format)
+    {
+        this(format, DEFAULT_DELIMITER);
+    }
+
+    /**
+     * Constructs a new importer.
+     *
+     * @param format format to use out of the supported ones
+     * @param delimiter delimiter to use (comma, semicolon, pipe, tab, etc.)
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public StreamingCSVEventDrivenImporter(CSVFormat format, char delimiter)
+    {
+        this.format = requireSupported(format);
+        if (!DSVUtils.isValidDelimiter(delimiter)) {
+            throw new IllegalArgumentException("Character cannot be used as a delimiter");
+        }
+        this.delimiter = delimiter;
+        this.parameters = new HashSet<>();
+    }
+
+    /**
+     * Get the format that the importer is using.
+     *
+     * @return the input format
+     */
+    public CSVFormat getFormat()
+    {
+        return format;
+    }
+
+    /**
+     * Set the format of the importer
+     *
+     * @param format the format to use
+     * @throws IllegalArgumentException if the format is not supported
+     */
+    public void setFormat(CSVFormat format)
+    {
+        this.format = requireSupported(format);
+    }
+
+    /**
+     * Get the delimiter (comma, semicolon, pipe, tab, etc).
+     *
+     * @return the delimiter
+     */
+    public char getDelimiter()
+    {
+        return delimiter;
+    }
+
+    /**
+     * Set the delimiter (comma, semicolon, pipe, tab, etc).
+     *
+     * @param delimiter the delimiter to use
+     */
+    public void setDelimiter(char delimiter)
+    {
+        if (!DSVUtils.isValidDelimiter(delimiter)) {
+            throw new IllegalArgumentException("Character cannot be used as a delimiter");
+        }
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * Return if a particular parameter of the importer is enabled
+     *
+     * @param p the parameter
+     * @return {@code true} if the parameter is set, {@code false} otherwise
+     */
+    public boolean isParameter(CSVFormat.Parameter p)
+    {
+        return parameters.contains(p);
+    }
+
+    /**
+     * Set the value of a parameter of the importer
+     *
+     * @param p the parameter
+     * @param value the value to set
+     */
+    public void setParameter(CSVFormat.Parameter p, boolean value)
+    {
+        if (value) {
+            parameters.add(p);
+        } else {
+            parameters.remove(p);
+        }
+    }
+
+    @Override
+    public void importInput(Reader input)
+        throws ImportException
+    {
+        notifyImportEvent(ImportEvent.START);
+        try {
+            new Parser(input).parse();
+        } catch (IOException e) {
+            throw new ImportException("Failed to import CSV graph: " + e.getMessage(), e);
+        }
+        notifyImportEvent(ImportEvent.END);
+    }
+
+    private static CSVFormat requireSupported(CSVFormat format)
+    {
+        if (format != CSVFormat.EDGE_LIST && format != CSVFormat.ADJACENCY_LIST) {
+            throw new IllegalArgumentException("Format " + format + " not supported");
+        }
+        return format;
+    }
+
+    /**
+     * The tokenizer and the state of a single import.
+     */
+    private class Parser
+    {
+        private static final char QUOTE = '"';
+        private static final char LF = '\n';
+        private static final char CR = '\r';
+        private static final int MIN_VERTEX_CACHE = 1 << 16;
+        private static final int MAX_EXACT_WEIGHT_DIGITS = 15;
+
+        private final Reader input;
+        private final boolean assumeEdgeWeights;
+        private char[] buffer;
+        private int pos;
+        private int limit;
+        private boolean eof;
+        private long line;
+
+        /*
+         * The current field, which is always kept contiguous in the buffer.
+         */
+        private int fieldStart;
+        private int fieldEnd;
+        private boolean fieldQuoted;
+
+        /*
+         * Vertices which are integers are found by their value, all other by their name.
+         */
+        private String[] intVertices;
+        private int intVertexCount;
+        private final Map<Integer, String> largeIntVertices;
+        private final Map<String, String> otherVertices;
+
+        Parser(Reader input)
+        {
+            this.input = input;
+            this.assumeEdgeWeights = parameters.contains(CSVFormat.Parameter.EDGE_WEIGHTS);
+            this.buffer = new char[BUFFER_SIZE];
+            this.line = 1;
+            this.intVertices = new String[0];
+            this.largeIntVertices = new HashMap<>();
+            this.otherVertices = new HashMap<>();
+        }
+
+        void parse()
+            throws IOException
+        {
+            while (true) {
+                // skip empty lines
+                fieldStart = pos;
+                if (!available()) {
+                    return;
+                }
+                char c = buffer[pos];
+                if (c == LF || c == CR) {
+                    readSeparator();
+                    continue;
+                }
+
+                readField();
+                String source = vertex("Source vertex cannot be empty");
+                boolean more = readSeparator();
+                while (more) {
+                    readField();
+                    String target = vertex("Target vertex cannot be empty");
+                    more = readSeparator();
+                    Double weight = null;
+                    if (assumeEdgeWeights) {
+                        if (!more) {
+                            throw error("Missing edge weight");
+                        }
+                        readField();
+                        weight = weight();
+                        more = readSeparator();
+                    }
+                    notifyEdge(Triple.of(source, target, weight));
+                }
+            }
+        }
+
+        /**
+         * Make sure that a character is available at the current position. Characters starting
+         * from the current field are kept in the buffer.
+         */
+        private boolean available()
+            throws IOException
+        {
+            if (pos < limit) {
+                return true;
+            }
+            if (eof) {
+                return false;
+            }
+            if (fieldStart > 0) {
+                System.arraycopy(buffer, fieldStart, buffer, 0, limit - fieldStart);
+                limit -= fieldStart;
+                pos -= fieldStart;
+                fieldEnd -= fieldStart;
+                fieldStart = 0;
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+            }
+            int read;
+            do {
+                read = input.read(buffer, limit, buffer.length - limit);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+            return true;
+        }
+
+        private void readField()
+            throws IOException
+        {
+            fieldStart = pos;
+            if (available() && buffer[pos] == QUOTE) {
+                pos++;
+                while (true) {
+                    if (!available()) {
+                        throw error("Unterminated quoted field");
+                    }
+                    if (buffer[pos++] == QUOTE) {
+                        if (available() && buffer[pos] == QUOTE) {
+                            pos++;
+                        } else {
+                            break;
+                        }
+                    }
+                }
+                fieldQuoted = true;
+            } else {
+                while (pos < limit || available()) {
+                    char c = buffer[pos];
+                    if (c == delimiter || c == LF || c == CR || c == QUOTE) {
+                        break;
+                    }
+                    pos++;
+                }
+                fieldQuoted = false;
+            }
+            fieldEnd = pos;
+        }
+
+        /**
+         * Read the separator after a field.
+         *
+         * @return true if another field follows in the same record, false otherwise
+         */
+        private boolean readSeparator()
+            throws IOException
+        {
+            if (!available()) {
+                return false;
+            }
+            char c = buffer[pos++];
+            if (c == delimiter) {
+                return true;
+            }
+            if (c == CR) {
+                if (!available() || buffer[pos] != LF) {
+                    throw error("Carriage return not followed by line feed");
+                }
+                pos++;
+            } else if (c != LF) {
+                throw error("Unexpected character '" + c + "'");
+            }
+            line++;
+            return false;
+        }
+
+        private String vertex(String emptyMessage)
+        {
+            if (fieldStart == fieldEnd) {
+                throw error(emptyMessage);
+            }
+            if (!fieldQuoted) {
+                int id = parseNonNegativeInt();
+                if (id >= 0) {
+                    return intVertex(id);
+                }
+            }
+            String name = fieldAsString();
+            String v = otherVertices.putIfAbsent(name, name);
+            if (v == null) {
+                notifyVertex(name);
+                return name;
+            }
+            return v;
+        }
+
+        private String intVertex(int id)
+        {
+            if (id < intVertices.length && intVertices[id] != null) {
+                return intVertices[id];
+            }
+            String v;
+            if (!largeIntVertices.isEmpty() && (v = largeIntVertices.get(id)) != null) {
+                return v;
+            }
+            v = String.valueOf(id);
+            if (id < intVertices.length || id < 2L * intVertexCount + MIN_VERTEX_CACHE) {
+                if (id >= intVertices.length) {
+                    intVertices = Arrays
+                        .copyOf(intVertices, (int) Math.min(Integer.MAX_VALUE - 8,
+                            Math.max(id + 1L, 2L * intVertices.length)));
+                }
+                intVertices[id] = v;
+                intVertexCount++;
+            } else {
+                largeIntVertices.put(id, v);
+            }
+            notifyVertex(v);
+            return v;
+        }
+
+        /**
+         * Parse the current field as an integer in canonical form.
+         *
+         * @return the integer, or -1 if the field is not a non-negative integer without leading
+         *         zeros which fits in an int
+         */
+        private int parseNonNegativeInt()
+        {
+            int length = fieldEnd - fieldStart;
+            if (length > 10 || (length > 1 && buffer[fieldStart] == '0')) {
+                return -1;
+            }
+            long value = 0;
+            for (int i = fieldStart; i < fieldEnd; i++) {
+                int digit = buffer[i] - '0';
+                if (digit < 0 || digit > 9) {
+                    return -1;
+                }
+                value = 10 * value + digit;
+            }
+            return value <= Integer.MAX_VALUE ? (int) value : -1;
+        }
+
+        private Double weight()
+        {
+            if (!fieldQuoted) {
+                int start = fieldStart;
+                boolean negative = false;
+                if (start < fieldEnd && (buffer[start] == '-' || buffer[start] == '+')) {
+                    negative = buffer[start] == '-';
+                    start++;
+                }
+                int length = fieldEnd - start;
+                if (length > 0 && length <= MAX_EXACT_WEIGHT_DIGITS) {
+                    long value = 0;
+                    int i = start;
+                    for (; i < fieldEnd; i++) {
+                        int digit = buffer[i] - '0';
+                        if (digit < 0 || digit > 9) {
+                            break;
+                        }
+                        value = 10 * value + digit;
+                    }
+                    if (i == fieldEnd) {
+                        return negative ? -(double) value : (double) value;
+                    }
+                }
+            }
+            try {
+                return Double.parseDouble(fieldAsString());
+            } catch (NumberFormatException e) {
+                throw error("Failed to parse edge weight");
+            }
+        }
+
+        private String fieldAsString()
+        {
+            String s = new String(buffer, fieldStart, fieldEnd - fieldStart);
+            return fieldQuoted ? DSVUtils.unescapeDSV(s, delimiter) : s;
+        }
+
+        private ImportException error(String message)
+        {
+            return new ImportException(
+                "Failed to import CSV graph: line " + line + ": " + message);
+        }
+    }
+
+}
@@ -82,6 +82,7 @@ public class DIMACSImporter<V, E>
 
     private Function<Integer, V> vertexFactory;
     private final double defaultWeight;
+    private int parallelism;
 
     /**
      * Construct a new DIMACSImporter
@@ -92,6 +93,7 @@ public class DIMACSImporter<V, E>
     {
         super();
         this.defaultWeight = defaultWeight;
+        this.parallelism = 1;
     }
 
     /**
@@ -128,6 +130,32 @@ public class DIMACSImporter<V, E>
         this.vertexFactory = vertexFactory;
     }
 
+    /**
+     * Get the maximum number of threads used to parse files.
+     * 
+     * @return the maximum number of threads used to parse files
+     */
+    public int getParallelism()
+    {
+        return parallelism;
+    }
+
+    /**
+     * Set the maximum number of threads used to parse files. The default is one, in which case
+     * files are parsed sequentially. Otherwise, when importing from a {@link File}, edges are
+     * parsed in parallel using a {@link ParallelDIMACSEventDrivenImporter} while the graph is still
+     * populated from the calling thread.
+     * 
+     * @param parallelism the maximum number of threads used to parse files
+     */
+    public void setParallelism(int parallelism)
+    {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.parallelism = parallelism;
+    }
+
     /**
      * Import a graph.
      * 
@@ -156,6 +184,30 @@ public class DIMACSImporter<V, E>
         genericImporter.importInput(input);
     }
 
+    /**
+     * Import a graph from a file, parsing it in parallel if the parallelism is larger than one.
+     * 
+     * @param graph the output graph
+     * @param file the file to read from
+     * @throws ImportException in case an error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> graph, File file)
+        throws ImportException
+    {
+        if (parallelism == 1) {
+            GraphImporter.super.importGraph(graph, file);
+            return;
+        }
+        ParallelDIMACSEventDrivenImporter genericImporter =
+            new ParallelDIMACSEventDrivenImporter(parallelism)
+                .renumberVertices(false).zeroBasedNumbering(false);
+        Consumers consumers = new Consumers(graph);
+        genericImporter.addVertexCountConsumer(consumers.nodeCountConsumer);
+        genericImporter.addEdgeConsumer(consumers.edgeConsumer);
+        genericImporter.importInput(file);
+    }
+
     private class Consumers
     {
         private Graph<V, E> graph;
@@ -0,0 +1,289 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.dimacs;
+
+import org.jgrapht.nio.*;
+
+import java.io.*;
+import java.nio.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * A generic importer using consumers for DIMACS format which parses files in parallel.
+ *
+ * <p>
+ * The importer reads the same formats and notifies the same events as
+ * {@link DIMACSEventDrivenImporter}, see {@link DIMACSFormat} for a description. When importing
+ * from a file, the edge lines are parsed concurrently as described in
+ * {@link BaseParallelLineImporter}, so that importing large graphs, such as road networks, scales
+ * with the number of available cores. Vertex renumbering, if enabled, is performed while the
+ * parsed edges are notified in file order and therefore produces the same numbering as the
+ * sequential importer. Edges can also be consumed in batches of primitive arrays using
+ * {@link #addEdgeBatchConsumer(java.util.function.Consumer)}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ParallelDIMACSEventDrivenImporter
+    extends
+    BaseParallelLineImporter
+{
+    private static final int MIN_DENSE_VERTICES = 1 << 16;
+
+    private boolean zeroBasedNumbering;
+    private boolean renumberVertices;
+
+    /*
+     * Renumbering of vertices, using an array as long as the identifiers are dense.
+     */
+    private int[] vertexMap;
+    private Map<Integer, Integer> sparseVertexMap;
+    private int mappedVertices;
+    private int nextId;
+
+    /**
+     * Construct a new importer which uses all available processors.
+     */
+    public ParallelDIMACSEventDrivenImporter()
+    {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Construct a new importer
+     * 
+     * @param parallelism maximum number of threads used to parse the input
+     */
+    public ParallelDIMACSEventDrivenImporter(int parallelism)
+    {
+        super(parallelism);
+        this.zeroBasedNumbering = true;
+        this.renumberVertices = true;
+    }
+
+    /**
+     * Construct a new importer
+     * 
+     * @param executor executor which is used to parse the input
+     */
+    public ParallelDIMACSEventDrivenImporter(ThreadPoolExecutor executor)
+    {
+        super(executor);
+        this.zeroBasedNumbering = true;
+        this.renumberVertices = true;
+    }
+
+    /**
+     * Set whether to use zero-based numbering for vertices.
+     * 
+     * The DIMACS format by default starts vertices numbering from one. If true then we will use
+     * zero-based numbering. Default to true.
+     * 
+     * @param zeroBasedNumbering whether to use zero-based numbering
+     * @return the importer
+     */
+    public ParallelDIMACSEventDrivenImporter zeroBasedNumbering(boolean zeroBasedNumbering)
+    {
+        this.zeroBasedNumbering = zeroBasedNumbering;
+        return this;
+    }
+
+    /**
+     * Set whether to renumber vertices or not.
+     * 
+     * If true then the vertices are assigned new numbers from $0$ to $n-1$ in the order that they
+     * are first encountered in the file. Otherwise, the original numbering (minus one in order to
+     * get a zero-based numbering) of the DIMACS file is kept. Defaults to true.
+     * 
+     * @param renumberVertices whether to renumber vertices or not
+     * @return the importer
+     */
+    public ParallelDIMACSEventDrivenImporter renumberVertices(boolean renumberVertices)
+    {
+        this.renumberVertices = renumberVertices;
+        return this;
+    }
+
+    @Override
+    public void importInput(File file)
+    {
+        reset();
+        super.importInput(file);
+    }
+
+    @Override
+    public void importInput(Reader input)
+    {
+        reset();
+        super.importInput(input);
+    }
+
+    @Override
+    protected boolean hasHeader()
+    {
+        return true;
+    }
+
+    @Override
+    protected boolean parseHeaderLine(ByteBuffer input, int start, int end)
+    {
+        int tokenEnd = tokenEnd(input, start, end);
+        if (start < end && tokenEnd == start && skipWhitespace(input, start, end) == end) {
+            // line with only whitespace, the sequential importer splits it into no columns
+            return false;
+        }
+        if (is(input, start, tokenEnd, 'c') || (tokenEnd > start && input.get(start) == '%')) {
+            return false;
+        }
+        if (!is(input, start, tokenEnd, 'p')) {
+            throw new ImportException("Failed to read number of vertices.");
+        }
+        int descriptorStart = skipWhitespace(input, tokenEnd, end);
+        int descriptorEnd = tokenEnd(input, descriptorStart, end);
+        int nodesStart = skipWhitespace(input, descriptorEnd, end);
+        int nodesEnd = tokenEnd(input, nodesStart, end);
+        if (nodesStart == nodesEnd) {
+            throw new ImportException("Failed to read number of vertices.");
+        }
+        int nodes;
+        try {
+            nodes = parseInt(input, nodesStart, nodesEnd);
+        } catch (NumberFormatException e) {
+            throw new ImportException("Failed to read number of vertices.");
+        }
+        if (nodes < 0) {
+            throw new ImportException("Negative number of vertices.");
+        }
+        notifyVertexCount(nodes);
+        return true;
+    }
+
+    @Override
+    protected void parseLine(ByteBuffer input, int start, int end, EdgeBatch batch)
+    {
+        int tokenEnd = tokenEnd(input, start, end);
+        if (!is(input, start, tokenEnd, 'e') && !is(input, start, tokenEnd, 'a')) {
+            return;
+        }
+        int sourceStart = skipWhitespace(input, tokenEnd, end);
+        int sourceEnd = tokenEnd(input, sourceStart, end);
+        int targetStart = skipWhitespace(input, sourceEnd, end);
+        int targetEnd = tokenEnd(input, targetStart, end);
+        if (targetStart == targetEnd) {
+            throw new ImportException(
+                "Failed to parse edge:" + Arrays.toString(text(input, start, end).split("\\s+")));
+        }
+
+        int source;
+        try {
+            source = parseInt(input, sourceStart, sourceEnd);
+        } catch (NumberFormatException e) {
+            throw new ImportException("Failed to parse edge source node:" + e.getMessage(), e);
+        }
+        int target;
+        try {
+            target = parseInt(input, targetStart, targetEnd);
+        } catch (NumberFormatException e) {
+            throw new ImportException("Failed to parse edge target node:" + e.getMessage(), e);
+        }
+
+        int weightStart = skipWhitespace(input, targetEnd, end);
+        int weightEnd = tokenEnd(input, weightStart, end);
+        if (weightStart < weightEnd) {
+            try {
+                batch.addEdge(source, target, parseDouble(input, weightStart, weightEnd));
+                return;
+            } catch (NumberFormatException e) {
+                // ignore
+            }
+        }
+        batch.addEdge(source, target);
+    }
+
+    @Override
+    protected void notifyEdgeBatch(EdgeBatch batch)
+    {
+        for (int i = 0; i < batch.size(); i++) {
+            batch.setSource(i, mapVertex(batch.getSource(i)));
+            batch.setTarget(i, mapVertex(batch.getTarget(i)));
+        }
+        super.notifyEdgeBatch(batch);
+    }
+
+    private void reset()
+    {
+        this.vertexMap = new int[0];
+        this.sparseVertexMap = new HashMap<>();
+        this.mappedVertices = 0;
+        this.nextId = zeroBasedNumbering ? 0 : 1;
+    }
+
+    private int mapVertex(int id)
+    {
+        if (!renumberVertices) {
+            return zeroBasedNumbering ? id - 1 : id;
+        }
+        if (id >= 0 && id < vertexMap.length && vertexMap[id] >= 0) {
+            return vertexMap[id];
+        }
+        Integer mapped = sparseVertexMap.get(id);
+        if (mapped != null) {
+            return mapped;
+        }
+
+        int newId = nextId++;
+        mappedVertices++;
+        if (id >= 0 && id < MIN_DENSE_VERTICES + 2L * mappedVertices) {
+            if (id >= vertexMap.length) {
+                int oldLength = vertexMap.length;
+                int length = (int) Math.min(
+                    Integer.MAX_VALUE - 8L, Math.max(id + 1L, 2L * oldLength));
+                vertexMap = Arrays.copyOf(vertexMap, length);
+                Arrays.fill(vertexMap, oldLength, length, -1);
+            }
+            vertexMap[id] = newId;
+        } else {
+            sparseVertexMap.put(id, newId);
+        }
+        return newId;
+    }
+
+    private static boolean is(ByteBuffer input, int start, int end, char c)
+    {
+        return end == start + 1 && input.get(start) == c;
+    }
+
+    private static int skipWhitespace(ByteBuffer input, int start, int end)
+    {
+        int i = start;
+        while (i < end && isWhitespace(input.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int tokenEnd(ByteBuffer input, int start, int end)
+    {
+        int i = start;
+        while (i < end && !isWhitespace(input.get(i))) {
+            i++;
+        }
+        return i;
+    }
+
+}
@@ -32,6 +32,7 @@ import org.jgrapht.alg.util.Triple;
 import org.jgrapht.nio.Attribute;
 import org.jgrapht.nio.BaseEventDrivenImporter;
 import org.jgrapht.nio.DefaultAttribute;
+import org.jgrapht.nio.EventDrivenImporter;
 import org.jgrapht.nio.GraphImporter;
 import org.jgrapht.nio.ImportException;
 
@@ -102,6 +103,11 @@ import org.jgrapht.nio.ImportException;
  * new graph edge given all available attributes of the edge at the location of the file where the
  * edge is first defined.
  * 
+ * <p>
+ * By default the whole input is parsed before the graph is populated. Large inputs can instead be
+ * read as a stream, using constant memory, by enabling {@link #setStreaming(boolean)}. See
+ * {@link StreamingJSONEventDrivenImporter} for details.
+ * 
  * @param <V> the vertex type
  * @param <E> the edge type
  * 
@@ -121,6 +127,7 @@ public class JSONImporter<V, E>
     private Function<String, V> vertexFactory;
     private BiFunction<String, Map<String, Attribute>, V> vertexWithAttributesFactory;
     private Function<Map<String, Attribute>, E> edgeWithAttributesFactory;
+    private boolean streaming;
 
     /**
      * Construct a new importer
@@ -151,8 +158,13 @@ public class JSONImporter<V, E>
     {
         final boolean verticesOutOfOrder = vertexWithAttributesFactory == null;
         final boolean edgesOutOfOrder = edgeWithAttributesFactory == null;
-        JSONEventDrivenImporter genericImporter =
-            new JSONEventDrivenImporter(verticesOutOfOrder, edgesOutOfOrder);
+        EventDrivenImporter<String, Triple<String, String, Double>> genericImporter;
+        if (streaming) {
+            genericImporter =
+                new StreamingJSONEventDrivenImporter(verticesOutOfOrder, edgesOutOfOrder);
+        } else {
+            genericImporter = new JSONEventDrivenImporter(verticesOutOfOrder, edgesOutOfOrder);
+        }
 
         Consumers consumers = new Consumers(graph);
 
@@ -173,6 +185,29 @@ public class JSONImporter<V, E>
         genericImporter.importInput(input);
     }
 
+    /**
+     * Whether the importer reads the input as a stream.
+     * 
+     * @return {@code true} if the input is read as a stream, {@code false} otherwise
+     */
+    public boolean isStreaming()
+    {
+        return streaming;
+    }
+
+    /**
+     * Set whether the importer reads the input as a stream. The default behavior is to parse the
+     * whole input before populating the graph. When streaming, the input is read using a
+     * {@link StreamingJSONEventDrivenImporter} and the graph is populated while reading, which
+     * means that a parse error may leave the graph partially populated.
+     * 
+     * @param streaming whether to read the input as a stream
+     */
+    public void setStreaming(boolean streaming)
+    {
+        this.streaming = streaming;
+    }
+
     /**
      * Get the user custom vertex factory. This is null by default and the graph supplier is used
      * instead.
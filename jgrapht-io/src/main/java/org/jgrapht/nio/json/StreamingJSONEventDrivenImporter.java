@@ -0,0 +1,621 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.json;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.UUID;
+
+import org.apache.commons.text.StringEscapeUtils;
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Triple;
+import org.jgrapht.nio.Attribute;
+import org.jgrapht.nio.AttributeType;
+import org.jgrapht.nio.BaseEventDrivenImporter;
+import org.jgrapht.nio.DefaultAttribute;
+import org.jgrapht.nio.EventDrivenImporter;
+import org.jgrapht.nio.ImportEvent;
+import org.jgrapht.nio.ImportException;
+
+/**
+ * Imports a graph from a <a href="https://tools.ietf.org/html/rfc8259">JSON</a> file while reading
+ * the input as a stream.
+ * 
+ * <p>
+ * The importer reads the same format and notifies the same events as
+ * {@link JSONEventDrivenImporter}. Contrary to {@link JSONEventDrivenImporter}, which first reads
+ * the whole input in memory and builds a parse tree, this importer is a pull parser which reads
+ * the input through a fixed size buffer and notifies about each vertex or edge, together with its
+ * attributes, as soon as the corresponding element of the "nodes" or "edges" array has been read.
+ * Memory usage is therefore independent of the size of the input, apart from the attributes of a
+ * single vertex or edge, which allows importing files much larger than the available memory.
+ * 
+ * <p>
+ * Since events are notified while reading, an input which is not valid JSON results in an
+ * {@link ImportException} after the elements before the error have already been notified.
+ * 
+ * @see JSONEventDrivenImporter
+ * 
+ * @author Dimitrios Michail
+ */
+public class StreamingJSONEventDrivenImporter
+    extends
+    BaseEventDrivenImporter<String, Triple<String, String, Double>>
+    implements
+    EventDrivenImporter<String, Triple<String, String, Double>>
+{
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private boolean notifyVertexAttributesOutOfOrder;
+    private boolean notifyEdgeAttributesOutOfOrder;
+
+    /**
+     * Constructs a new importer.
+     */
+    public StreamingJSONEventDrivenImporter()
+    {
+        this(true, true);
+    }
+
+    /**
+     * Constructs a new importer.
+     * 
+     * @param notifyVertexAttributesOutOfOrder whether to notify for vertex attributes out-of-order
+     *        even if they appear together in the input
+     * @param notifyEdgeAttributesOutOfOrder whether to notify for edge attributes out-of-order even
+     *        if they appear together in the input
+     */
+    public StreamingJSONEventDrivenImporter(
+        boolean notifyVertexAttributesOutOfOrder, boolean notifyEdgeAttributesOutOfOrder)
+    {
+        this.notifyVertexAttributesOutOfOrder = notifyVertexAttributesOutOfOrder;
+        this.notifyEdgeAttributesOutOfOrder = notifyEdgeAttributesOutOfOrder;
+    }
+
+    @Override
+    public void importInput(Reader input)
+    {
+        notifyImportEvent(ImportEvent.START);
+        try {
+            new Parser(input).parse();
+        } catch (IOException e) {
+            throw new ImportException("Failed to import json graph: " + e.getMessage(), e);
+        }
+        notifyImportEvent(ImportEvent.END);
+    }
+
+    /**
+     * The tokenizer and the state of a single import.
+     */
+    private class Parser
+    {
+        private static final String NODES = "nodes";
+        private static final String EDGES = "edges";
+        private static final String ID = "id";
+
+        private static final String WEIGHT = "weight";
+        private static final String SOURCE = "source";
+        private static final String TARGET = "target";
+
+        private final Reader input;
+        private char[] buffer;
+        private int pos;
+        private int limit;
+        private boolean eof;
+        private long line;
+
+        /*
+         * Start of the token which is currently read and must be kept in the buffer, or -1.
+         */
+        private int mark;
+        private int tokenStart;
+        private int tokenEnd;
+        private boolean tokenEscaped;
+
+        private int singletons;
+        private final String singletonsUUID;
+
+        Parser(Reader input)
+        {
+            this.input = input;
+            this.buffer = new char[BUFFER_SIZE];
+            this.line = 1;
+            this.mark = -1;
+            this.singletonsUUID = UUID.randomUUID().toString();
+        }
+
+        void parse()
+            throws IOException
+        {
+            if (peek() == '{') {
+                readGraph();
+            } else {
+                skipValue(null);
+            }
+            if (peek() != -1) {
+                throw error("Unexpected content after JSON value");
+            }
+        }
+
+        private void readGraph()
+            throws IOException
+        {
+            pos++;
+            if (peek() == '}') {
+                pos++;
+                return;
+            }
+            do {
+                String name = readName();
+                boolean nodes = NODES.equals(name);
+                if (peek() == '[' && (nodes || EDGES.equals(name))) {
+                    readElements(nodes);
+                } else {
+                    skipValue(null);
+                }
+            } while (readSeparator('}', null));
+        }
+
+        private void readElements(boolean nodes)
+            throws IOException
+        {
+            pos++;
+            if (peek() == ']') {
+                pos++;
+                return;
+            }
+            do {
+                if (peek() != '{') {
+                    skipValue(null);
+                } else if (nodes) {
+                    readVertex();
+                } else {
+                    readEdge();
+                }
+            } while (readSeparator(']', null));
+        }
+
+        private void readVertex()
+            throws IOException
+        {
+            String nodeId = null;
+            Map<String, Attribute> attributes = new HashMap<>();
+
+            pos++;
+            if (peek() == '}') {
+                pos++;
+            } else {
+                do {
+                    String name = readName();
+                    if (ID.equals(name)) {
+                        nodeId = readIdentifier();
+                    } else {
+                        attributes.put(name, readAttribute());
+                    }
+                } while (readSeparator('}', null));
+            }
+
+            if (nodeId == null) {
+                nodeId = "Singleton_" + singletonsUUID + "_" + (singletons++);
+            }
+            if (notifyVertexAttributesOutOfOrder) {
+                notifyVertex(nodeId);
+                for (Entry<String, Attribute> entry : attributes.entrySet()) {
+                    notifyVertexAttribute(nodeId, entry.getKey(), entry.getValue());
+                }
+            } else {
+                notifyVertexWithAttributes(nodeId, attributes);
+            }
+        }
+
+        private void readEdge()
+            throws IOException
+        {
+            String sourceId = null;
+            String targetId = null;
+            Map<String, Attribute> attributes = new HashMap<>();
+
+            pos++;
+            if (peek() == '}') {
+                pos++;
+            } else {
+                do {
+                    String name = readName();
+                    if (SOURCE.equals(name)) {
+                        sourceId = readIdentifier();
+                    } else if (TARGET.equals(name)) {
+                        targetId = readIdentifier();
+                    } else {
+                        attributes.put(name, readAttribute());
+                    }
+                } while (readSeparator('}', null));
+            }
+
+            if (sourceId == null) {
+                throw error("Edge with missing source detected");
+            }
+            if (targetId == null) {
+                throw error("Edge with missing target detected");
+            }
+            Double weight = Graph.DEFAULT_EDGE_WEIGHT;
+            Attribute attributeWeight = attributes.get(WEIGHT);
+            if (attributeWeight != null) {
+                AttributeType type = attributeWeight.getType();
+                if (type.equals(AttributeType.INT) || type.equals(AttributeType.FLOAT)
+                    || type.equals(AttributeType.DOUBLE))
+                {
+                    weight = Double.parseDouble(attributeWeight.getValue());
+                }
+            }
+            Triple<String, String, Double> et = Triple.of(sourceId, targetId, weight);
+            if (notifyEdgeAttributesOutOfOrder) {
+                notifyEdge(et);
+                for (Entry<String, Attribute> entry : attributes.entrySet()) {
+                    notifyEdgeAttribute(et, entry.getKey(), entry.getValue());
+                }
+            } else {
+                notifyEdgeWithAttributes(et, attributes);
+            }
+        }
+
+        /**
+         * Read the name of an object member together with the following colon.
+         */
+        private String readName()
+            throws IOException
+        {
+            if (peek() != '"') {
+                throw error("Expected member name");
+            }
+            String name = readString();
+            if (peek() != ':') {
+                throw error("Expected ':'");
+            }
+            pos++;
+            return name;
+        }
+
+        /**
+         * Read the separator after an array element or an object member.
+         * 
+         * @param close the character closing the array or object
+         * @param text where to append the separator, or null
+         * @return true if another element or member follows, false otherwise
+         */
+        private boolean readSeparator(char close, StringBuilder text)
+            throws IOException
+        {
+            int c = peek();
+            if (c != ',' && c != close) {
+                throw error("Expected ',' or '" + close + "'");
+            }
+            pos++;
+            if (text != null) {
+                text.append((char) c);
+            }
+            return c == ',';
+        }
+
+        private String readIdentifier()
+            throws IOException
+        {
+            int c = peek();
+            if (c == '"') {
+                return readString();
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                String value = readNumber();
+                try {
+                    return Long.valueOf(value, 10).toString();
+                } catch (NumberFormatException e) {
+                    throw error("Failed to read valid identifier");
+                }
+            }
+            skipValue(null);
+            return null;
+        }
+
+        private Attribute readAttribute()
+            throws IOException
+        {
+            int c = peek();
+            if (c == '"') {
+                return DefaultAttribute.createAttribute(readString());
+            }
+            if (c == '-' || (c >= '0' && c <= '9')) {
+                String value = readNumber();
+                try {
+                    return DefaultAttribute.createAttribute(Integer.parseInt(value, 10));
+                } catch (NumberFormatException e) {
+                    // ignore
+                }
+                try {
+                    return DefaultAttribute.createAttribute(Long.parseLong(value, 10));
+                } catch (NumberFormatException e) {
+                    // ignore
+                }
+                return DefaultAttribute.createAttribute(Double.parseDouble(value));
+            }
+            if (c == '{' || c == '[') {
+                StringBuilder text = new StringBuilder();
+                skipValue(text);
+                return new DefaultAttribute<>(text.toString(), AttributeType.UNKNOWN);
+            }
+            String literal = readLiteral();
+            if ("true".equals(literal)) {
+                return DefaultAttribute.createAttribute(Boolean.TRUE);
+            } else if ("false".equals(literal)) {
+                return DefaultAttribute.createAttribute(Boolean.FALSE);
+            }
+            return DefaultAttribute.NULL;
+        }
+
+        /**
+         * Read any value, optionally appending its text without whitespace.
+         * 
+         * @param text where to append the text of the value, or null
+         */
+        private void skipValue(StringBuilder text)
+            throws IOException
+        {
+            int c = peek();
+            if (c == '{') {
+                pos++;
+                append(text, '{');
+                if (peek() == '}') {
+                    pos++;
+                    append(text, '}');
+                    return;
+                }
+                do {
+                    if (peek() != '"') {
+                        throw error("Expected member name");
+                    }
+                    skipValue(text);
+                    if (peek() != ':') {
+                        throw error("Expected ':'");
+                    }
+                    pos++;
+                    append(text, ':');
+                    skipValue(text);
+                } while (readSeparator('}', text));
+            } else if (c == '[') {
+                pos++;
+                append(text, '[');
+                if (peek() == ']') {
+                    pos++;
+                    append(text, ']');
+                    return;
+                }
+                do {
+                    skipValue(text);
+                } while (readSeparator(']', text));
+            } else if (c == '"') {
+                scanString();
+                if (text != null) {
+                    text.append(buffer, tokenStart - 1, tokenEnd - tokenStart + 2);
+                }
+            } else if (c == '-' || (c >= '0' && c <= '9')) {
+                String value = readNumber();
+                if (text != null) {
+                    text.append(value);
+                }
+            } else {
+                String literal = readLiteral();
+                if (text != null) {
+                    text.append(literal);
+                }
+            }
+        }
+
+        private void append(StringBuilder text, char c)
+        {
+            if (text != null) {
+                text.append(c);
+            }
+        }
+
+        private String readString()
+            throws IOException
+        {
+            scanString();
+            String value = new String(buffer, tokenStart, tokenEnd - tokenStart);
+            return tokenEscaped ? StringEscapeUtils.unescapeJson(value) : value;
+        }
+
+        /**
+         * Scan a string starting at the current position. The contents of the string, without the
+         * quotes, are left in the buffer between {@code tokenStart} and {@code tokenEnd}.
+         */
+        private void scanString()
+            throws IOException
+        {
+            mark = pos;
+            pos++;
+            tokenEscaped = false;
+            while (true) {
+                if (!available()) {
+                    throw error("Unterminated string");
+                }
+                char c = buffer[pos];
+                if (c == '"') {
+                    break;
+                } else if (c == '\\') {
+                    tokenEscaped = true;
+                    pos++;
+                    if (!available()) {
+                        throw error("Unterminated string");
+                    }
+                    c = buffer[pos++];
+                    if (c == 'u') {
+                        for (int i = 0; i < 4; i++) {
+                            if (!available() || Character.digit(buffer[pos++], 16) < 0) {
+                                throw error("Invalid unicode escape in string");
+                            }
+                        }
+                    } else if ("\"\\/bfnrt".indexOf(c) < 0) {
+                        throw error("Invalid escape in string");
+                    }
+                } else if (c < 0x20) {
+                    throw error("Control character in string");
+                } else {
+                    pos++;
+                }
+            }
+            tokenStart = mark + 1;
+            tokenEnd = pos;
+            pos++;
+            mark = -1;
+        }
+
+        private String readNumber()
+            throws IOException
+        {
+            mark = pos;
+            if (buffer[pos] == '-') {
+                pos++;
+            }
+            scanInteger();
+            if (available() && buffer[pos] == '.') {
+                pos++;
+                if (scanDigits() == 0) {
+                    throw error("Invalid number");
+                }
+            }
+            if (available() && (buffer[pos] == 'e' || buffer[pos] == 'E')) {
+                pos++;
+                if (available() && (buffer[pos] == '+' || buffer[pos] == '-')) {
+                    pos++;
+                }
+                scanInteger();
+            }
+            String value = new String(buffer, mark, pos - mark);
+            mark = -1;
+            return value;
+        }
+
+        /**
+         * Scan an integer without leading zeros.
+         */
+        private void scanInteger()
+            throws IOException
+        {
+            if (available() && buffer[pos] == '0') {
+                pos++;
+            } else if (scanDigits() == 0) {
+                throw error("Invalid number");
+            }
+        }
+
+        private int scanDigits()
+            throws IOException
+        {
+            int count = 0;
+            while (available() && buffer[pos] >= '0' && buffer[pos] <= '9') {
+                pos++;
+                count++;
+            }
+            return count;
+        }
+
+        private String readLiteral()
+            throws IOException
+        {
+            int c = peek();
+            String literal = c == 't' ? "true" : c == 'f' ? "false" : c == 'n' ? "null" : null;
+            if (literal == null) {
+                throw error(c == -1 ? "Unexpected end of input" : "Unexpected character");
+            }
+            for (int i = 0; i < literal.length(); i++) {
+                if (!available() || buffer[pos] != literal.charAt(i)) {
+                    throw error("Unexpected character");
+                }
+                pos++;
+            }
+            return literal;
+        }
+
+        /**
+         * Skip any whitespace and return the next character without consuming it.
+         * 
+         * @return the next character or -1 at the end of the input
+         */
+        private int peek()
+            throws IOException
+        {
+            while (available()) {
+                char c = buffer[pos];
+                if (c == '\n') {
+                    line++;
+                } else if (c != ' ' && c != '\t' && c != '\r') {
+                    return c;
+                }
+                pos++;
+            }
+            return -1;
+        }
+
+        /**
+         * Make sure that a character is available at the current position. Characters starting
+         * from the mark are kept in the buffer.
+         */
+        private boolean available()
+            throws IOException
+        {
+            if (pos < limit) {
+                return true;
+            }
+            if (eof) {
+                return false;
+            }
+            int keep = mark >= 0 ? mark : pos;
+            if (keep > 0) {
+                System.arraycopy(buffer, keep, buffer, 0, limit - keep);
+                limit -= keep;
+                pos -= keep;
+                if (mark >= 0) {
+                    mark = 0;
+                }
+            }
+            if (limit == buffer.length) {
+                buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+            }
+            int read;
+            do {
+                read = input.read(buffer, limit, buffer.length - limit);
+            } while (read == 0);
+            if (read < 0) {
+                eof = true;
+                return false;
+            }
+            limit += read;
+            return true;
+        }
+
+        private ImportException error(String message)
+        {
+            return new ImportException(
+                "Failed to import json graph: line " + line + ": " + message);
+        }
+    }
+
+}
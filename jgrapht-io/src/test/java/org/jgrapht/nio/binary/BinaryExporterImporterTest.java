@@ -0,0 +1,263 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.binary;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.nio.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BinaryExporter}, {@link BinaryImporter} and {@link BinaryEventDrivenImporter}.
+ * 
+ * @author Dimitrios Michail
+ */
+public class BinaryExporterImporterTest
+{
+    private Path file;
+
+    @Before
+    public void createFile()
+        throws IOException
+    {
+        file = Files.createTempFile("jgrapht", ".bin");
+    }
+
+    @After
+    public void deleteFile()
+        throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(31);
+        for (boolean directed : new boolean[] { true, false }) {
+            for (boolean weighted : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = createGraph(directed, weighted);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    200, 1500, rng, true, true).generateGraph(g);
+                if (weighted) {
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, rng.nextDouble() * 100);
+                    }
+                }
+
+                BinaryExporter<Integer, DefaultWeightedEdge> exporter =
+                    new BinaryExporter<>(v -> String.valueOf(v));
+                exporter.exportGraph(g, file.toFile());
+
+                Graph<Integer, DefaultWeightedEdge> result = createGraph(directed, weighted);
+                BinaryImporter<Integer, DefaultWeightedEdge> importer = new BinaryImporter<>();
+                importer.setVertexFactory(id -> id);
+                importer.importGraph(result, file.toFile());
+                assertSameGraph(g, result);
+            }
+        }
+    }
+
+    @Test
+    public void testAttributesAndStreams()
+    {
+        Graph<String, DefaultEdge> g = new DirectedPseudograph<>(DefaultEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addVertex("c");
+        DefaultEdge ab = g.addEdge("a", "b");
+        DefaultEdge ca = g.addEdge("c", "a");
+        DefaultEdge cc = g.addEdge("c", "c");
+
+        Map<String, Integer> ids = Map.of("a", 10, "b", -3, "c", 1000000);
+        Map<DefaultEdge, Map<String, Attribute>> edgeAttributes = new HashMap<>();
+        edgeAttributes.put(ab, Map.of("label", DefaultAttribute.createAttribute("xé")));
+        edgeAttributes.put(
+            cc, Map.of(
+                "label", DefaultAttribute.createAttribute("loop"), "cost",
+                DefaultAttribute.createAttribute(2.5)));
+
+        BinaryExporter<String, DefaultEdge> exporter =
+            new BinaryExporter<>(v -> String.valueOf(ids.get(v)));
+        exporter.setGraphAttributeProvider(
+            () -> Map.of("name", DefaultAttribute.createAttribute("test")));
+        exporter.setVertexAttributeProvider(
+            v -> v.equals("b") ? Map.of()
+                : Map.of(
+                    "color", DefaultAttribute.createAttribute(v.equals("a")), "rank",
+                    DefaultAttribute.createAttribute(Long.MIN_VALUE + v.length())));
+        exporter.setEdgeAttributeProvider(edgeAttributes::get);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.exportGraph(g, out);
+
+        BinaryEventDrivenImporter importer = new BinaryEventDrivenImporter();
+        Map<String, Attribute> graphAttributes = new HashMap<>();
+        Map<Pair<Integer, String>, Attribute> vertexAttributes = new HashMap<>();
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        Map<Pair<Triple<Integer, Integer, Double>, String>, Attribute> edgeAttributesRead =
+            new HashMap<>();
+        List<Integer> counts = new ArrayList<>();
+        List<EdgeBatch> batches = new ArrayList<>();
+        importer.addGraphAttributeConsumer(graphAttributes::put);
+        importer.addVertexCountConsumer(counts::add);
+        importer.addEdgeCountConsumer(counts::add);
+        importer.addVertexAttributeConsumer(vertexAttributes::put);
+        importer.addEdgeConsumer(edges::add);
+        importer.addEdgeAttributeConsumer(edgeAttributesRead::put);
+        importer.addEdgeBatchConsumer(batches::add);
+        importer.importInput(new ByteArrayInputStream(out.toByteArray()));
+
+        assertTrue(importer.isDirected());
+        assertFalse(importer.isWeighted());
+        assertEquals(List.of(3, 3), counts);
+        assertEquals(Map.of("name", DefaultAttribute.createAttribute("test")), graphAttributes);
+        assertEquals(4, vertexAttributes.size());
+        assertEquals(
+            DefaultAttribute.createAttribute(true), vertexAttributes.get(Pair.of(10, "color")));
+        assertEquals(
+            DefaultAttribute.createAttribute(Long.MIN_VALUE + 1),
+            vertexAttributes.get(Pair.of(1000000, "rank")));
+
+        assertEquals(3, edges.size());
+        assertEquals(Set.of(Triple.of(10, -3, null), Triple.of(1000000, 10, null),
+            Triple.of(1000000, 1000000, null)), new HashSet<>(edges));
+        assertEquals(1, batches.size());
+        assertEquals(3, batches.get(0).size());
+        assertFalse(batches.get(0).hasWeights());
+
+        assertEquals(3, edgeAttributesRead.size());
+        assertEquals(
+            DefaultAttribute.createAttribute("xé"),
+            edgeAttributesRead.get(Pair.of(Triple.of(10, -3, null), "label")));
+        assertEquals(
+            DefaultAttribute.createAttribute(2.5),
+            edgeAttributesRead.get(Pair.of(Triple.of(1000000, 1000000, null), "cost")));
+    }
+
+    @Test(expected = ExportException.class)
+    public void testNonIntegerIdentifiers()
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new BinaryExporter<String, DefaultEdge>(v -> v)
+            .exportGraph(g, new ByteArrayOutputStream());
+    }
+
+    @Test
+    public void testInvalidAttributeValues()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addEdgeWithVertices(g, 0, 1);
+        Attribute invalid = new DefaultAttribute<>("x", AttributeType.INT);
+
+        BinaryExporter<Integer, DefaultEdge> exporter = new BinaryExporter<>();
+        exporter.setGraphAttributeProvider(() -> Map.of("size", invalid));
+        try {
+            exporter.exportGraph(g, new ByteArrayOutputStream());
+            fail("Invalid graph attribute accepted");
+        } catch (ExportException e) {
+            assertTrue(e.getCause() instanceof NumberFormatException);
+        }
+
+        exporter = new BinaryExporter<>();
+        exporter.setVertexAttributeProvider(v -> Map.of("size", invalid));
+        try {
+            exporter.exportGraph(g, new ByteArrayOutputStream());
+            fail("Invalid vertex attribute accepted");
+        } catch (ExportException e) {
+            assertTrue(e.getCause() instanceof NumberFormatException);
+        }
+    }
+
+    @Test
+    public void testInvalidInput()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = createGraph(false, true);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(20, 50, new Random(3), true, true)
+            .generateGraph(g);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryExporter<Integer, DefaultWeightedEdge>().exportGraph(g, out);
+        byte[] content = out.toByteArray();
+
+        // truncated
+        assertFails(Arrays.copyOf(content, content.length - 5));
+        // trailing content
+        assertFails(Arrays.copyOf(content, content.length + 1));
+        // wrong magic
+        byte[] corrupt = content.clone();
+        corrupt[0] = 'X';
+        assertFails(corrupt);
+        // wrong version
+        corrupt = content.clone();
+        corrupt[4] = 99;
+        assertFails(corrupt);
+    }
+
+    private static void assertFails(byte[] content)
+    {
+        try {
+            new BinaryEventDrivenImporter().importInput(new ByteArrayInputStream(content));
+            fail("Invalid input accepted");
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    private static Graph<Integer, DefaultWeightedEdge> createGraph(
+        boolean directed, boolean weighted)
+    {
+        return GraphTypeBuilder
+            .<Integer, DefaultWeightedEdge> forGraphType(
+                directed ? DefaultGraphType.directedPseudograph() : DefaultGraphType.pseudograph())
+            .weighted(weighted).vertexSupplier(SupplierUtil.createIntegerSupplier())
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+    }
+
+    private static void assertSameGraph(
+        Graph<Integer, DefaultWeightedEdge> expected, Graph<Integer, DefaultWeightedEdge> g)
+    {
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(expected.edgeSet().size(), g.edgeSet().size());
+        for (Integer u : expected.vertexSet()) {
+            for (Integer v : expected.vertexSet()) {
+                List<Double> expectedWeights = new ArrayList<>();
+                for (DefaultWeightedEdge e : expected.getAllEdges(u, v)) {
+                    expectedWeights.add(expected.getEdgeWeight(e));
+                }
+                List<Double> weights = new ArrayList<>();
+                for (DefaultWeightedEdge e : g.getAllEdges(u, v)) {
+                    weights.add(g.getEdgeWeight(e));
+                }
+                Collections.sort(expectedWeights);
+                Collections.sort(weights);
+                assertEquals(expectedWeights, weights);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.csv;
+
+import org.jgrapht.alg.util.*;
+import org.jgrapht.nio.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelCSVEventDrivenImporter}.
+ *
+ * @author Dimitrios Michail
+ */
+public class ParallelCSVEventDrivenImporterTest
+{
+    private Path file;
+
+    @Before
+    public void createFile()
+        throws IOException
+    {
+        file = Files.createTempFile("jgrapht", ".csv");
+    }
+
+    @After
+    public void deleteFile()
+        throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testSameAsCSVEventDrivenImporter()
+        throws IOException
+    {
+        Random rng = new Random(17);
+        for (boolean weighted : new boolean[] { false, true }) {
+            for (char delimiter : new char[] { ',', '\t' }) {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < 3000; i++) {
+                    sb.append(rng.nextInt(1000) - 10);
+                    int targets = rng.nextInt(4);
+                    for (int j = 0; j < targets; j++) {
+                        sb.append(delimiter).append(rng.nextInt(2000));
+                        if (weighted) {
+                            sb.append(delimiter).append(rng.nextInt(100)).append(".25");
+                        }
+                    }
+                    sb.append(rng.nextInt(10) == 0 ? "\r\n" : "\n");
+                }
+                assertSameEvents(weighted, delimiter, sb.toString());
+            }
+        }
+        assertSameEvents(false, ',', "1,2\n2,3\n4\n");
+        assertSameEvents(true, ';', "1;2;1e3;3;-4.5\n2;3;7\n");
+        // sparse identifiers
+        assertSameEvents(false, ',', "2000000000,1\n1,2000000000,70000\n-5,70000\n");
+    }
+
+    @Test
+    public void testEdgeBatches()
+        throws IOException
+    {
+        Files.write(file, "1,2,3\n\n4\n5,6\n".getBytes(StandardCharsets.UTF_8));
+
+        ParallelCSVEventDrivenImporter importer = new ParallelCSVEventDrivenImporter(2);
+        List<EdgeBatch> batches = new ArrayList<>();
+        importer.addEdgeBatchConsumer(batches::add);
+        importer.importInput(file.toFile());
+
+        assertEquals(1, batches.size());
+        EdgeBatch batch = batches.get(0);
+        assertEquals(3, batch.size());
+        assertFalse(batch.hasWeights());
+        assertEquals(3, batch.vertexCount());
+        assertEquals(4, batch.getVertex(1));
+        assertEquals(2, batch.getVertexPosition(1));
+        assertEquals(5, batch.getSource(2));
+        assertEquals(6, batch.getTarget(2));
+    }
+
+    @Test
+    public void testCachedThreadPool()
+        throws IOException
+    {
+        String input = "1,2,3\n2,3\n\n4\n3,1,5\n5,6\n";
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        List<Object> expected = readEvents(new ParallelCSVEventDrivenImporter(1), null);
+
+        // the maximum pool size of a cached thread pool is Integer.MAX_VALUE
+        ThreadPoolExecutor executor = (ThreadPoolExecutor) Executors.newCachedThreadPool();
+        try {
+            ParallelCSVEventDrivenImporter importer =
+                new ParallelCSVEventDrivenImporter(executor, ',');
+            importer.setChunkSize(1);
+            assertEquals(expected, readEvents(importer, null));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testErrors()
+        throws IOException
+    {
+        assertError(false, ",2\n");
+        assertError(false, "1,\n");
+        assertError(false, "1,a\n");
+        assertError(false, "1,\"2\"\n");
+        assertError(true, "1,2\n");
+        assertError(true, "1,2,x\n");
+    }
+
+    @Test
+    public void testUnsupportedOptions()
+    {
+        ParallelCSVEventDrivenImporter importer = new ParallelCSVEventDrivenImporter(2);
+        try {
+            importer.setDelimiter('\u00a7');
+            fail("Non-ASCII delimiter accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(',', importer.getDelimiter());
+        try {
+            importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, true);
+            fail("Matrix parameter accepted");
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertFalse(importer.isParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID));
+        importer.setParameter(CSVFormat.Parameter.MATRIX_FORMAT_NODEID, false);
+        importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, true);
+        assertTrue(importer.isParameter(CSVFormat.Parameter.EDGE_WEIGHTS));
+    }
+
+    private void assertSameEvents(boolean weighted, char delimiter, String input)
+        throws IOException
+    {
+        CSVEventDrivenImporter sequential =
+            new CSVEventDrivenImporter(CSVFormat.EDGE_LIST, delimiter);
+        sequential.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, weighted);
+        List<Object> expected = new ArrayList<>();
+        sequential.addVertexConsumer(v -> expected.add(Integer.valueOf(v)));
+        sequential.addEdgeConsumer(
+            e -> expected.add(
+                Triple.of(
+                    Integer.valueOf(e.getFirst()), Integer.valueOf(e.getSecond()),
+                    e.getThird())));
+        sequential.importInput(new StringReader(input));
+
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        for (int chunkSize : new int[] { 1, 1000, 1 << 20 }) {
+            ParallelCSVEventDrivenImporter importer =
+                new ParallelCSVEventDrivenImporter(3, delimiter);
+            importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, weighted);
+            importer.setChunkSize(chunkSize);
+            assertEquals(expected, readEvents(importer, null));
+            assertEquals(expected, readEvents(importer, input));
+        }
+    }
+
+    private void assertError(boolean weighted, String input)
+        throws IOException
+    {
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        ParallelCSVEventDrivenImporter importer = new ParallelCSVEventDrivenImporter(2);
+        importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, weighted);
+        try {
+            readEvents(importer, null);
+            fail("No exception for input " + input);
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    private List<Object> readEvents(ParallelCSVEventDrivenImporter importer, String input)
+    {
+        List<Object> events = new ArrayList<>();
+        importer.addVertexConsumer(events::add);
+        importer.addEdgeConsumer(events::add);
+        if (input == null) {
+            importer.importInput(file.toFile());
+        } else {
+            importer.importInput(new StringReader(input));
+        }
+        return events;
+    }
+
+}
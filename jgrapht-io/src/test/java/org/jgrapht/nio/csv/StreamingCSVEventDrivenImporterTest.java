@@ -0,0 +1,136 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.csv;
+
+import org.jgrapht.alg.util.*;
+import org.jgrapht.nio.*;
+import org.junit.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link StreamingCSVEventDrivenImporter}.
+ *
+ * @author Dimitrios Michail
+ */
+public class StreamingCSVEventDrivenImporterTest
+{
+
+    @Test
+    public void testSameAsCSVEventDrivenImporter()
+    {
+        for (CSVFormat format : List.of(CSVFormat.EDGE_LIST, CSVFormat.ADJACENCY_LIST)) {
+            assertSameEvents(format, ',', false, "1,2\n2,3\n3,1\n");
+            assertSameEvents(format, ',', false, "a,b\r\nb,c\r\nc,a\r\n");
+            assertSameEvents(format, ';', false, "\"a;b\";c\nc;\"d\"\"e\"\n0;00\n");
+            assertSameEvents(format, '\t', false, "x y\tz\n2147483648\t2147483647\n");
+        }
+        assertSameEvents(CSVFormat.ADJACENCY_LIST, ',', false, "1,2,3,4\n2\n3,1\n");
+        assertSameEvents(CSVFormat.EDGE_LIST, ',', true, "1,2,3.5\n2,3,-4\n3,1,1e3\n4,4,-0\n");
+        assertSameEvents(
+            CSVFormat.ADJACENCY_LIST, ',', true, "1,2,3.5,3,7\n2,3,+4\n3,1,0.125\n");
+    }
+
+    @Test
+    public void testLargeInput()
+    {
+        Random rng = new Random(17);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 20000; i++) {
+            sb.append(rng.nextInt(1000)).append(',');
+            if (rng.nextBoolean()) {
+                sb.append(rng.nextInt(5000));
+            } else {
+                sb.append('v').append(rng.nextInt(50));
+            }
+            sb.append(',').append(rng.nextInt(100) - 50).append('.').append(rng.nextInt(10));
+            sb.append(rng.nextBoolean() ? "\n" : "\r\n");
+        }
+        assertSameEvents(CSVFormat.EDGE_LIST, ',', true, sb.toString());
+    }
+
+    @Test
+    public void testLenientInput()
+    {
+        List<Object> events = readEvents(
+            new StreamingCSVEventDrivenImporter(CSVFormat.EDGE_LIST), "\n1,2\n\n2,3");
+        assertEquals(
+            List.of("1", "2", Triple.of("1", "2", null), "3", Triple.of("2", "3", null)), events);
+    }
+
+    @Test
+    public void testErrors()
+    {
+        assertError(CSVFormat.EDGE_LIST, false, ",2\n");
+        assertError(CSVFormat.EDGE_LIST, false, "1,\n");
+        assertError(CSVFormat.EDGE_LIST, false, "1,\"2\n");
+        assertError(CSVFormat.EDGE_LIST, false, "1,2\r3,4\n");
+        assertError(CSVFormat.EDGE_LIST, false, "1,a\"b\n");
+        assertError(CSVFormat.EDGE_LIST, true, "1,2\n");
+        assertError(CSVFormat.EDGE_LIST, true, "1,2,x\n");
+        assertError(CSVFormat.ADJACENCY_LIST, true, "1,2,3,4\n");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMatrixNotSupported()
+    {
+        new StreamingCSVEventDrivenImporter(CSVFormat.MATRIX);
+    }
+
+    private static void assertSameEvents(
+        CSVFormat format, char delimiter, boolean weighted, String input)
+    {
+        CSVEventDrivenImporter expected = new CSVEventDrivenImporter(format, delimiter);
+        expected.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, weighted);
+        StreamingCSVEventDrivenImporter actual =
+            new StreamingCSVEventDrivenImporter(format, delimiter);
+        actual.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, weighted);
+
+        List<Object> expectedEvents = new ArrayList<>();
+        expected.addVertexConsumer(expectedEvents::add);
+        expected.addEdgeConsumer(expectedEvents::add);
+        expected.importInput(new StringReader(input));
+
+        assertEquals(expectedEvents, readEvents(actual, input));
+    }
+
+    private static void assertError(CSVFormat format, boolean weighted, String input)
+    {
+        StreamingCSVEventDrivenImporter importer = new StreamingCSVEventDrivenImporter(format);
+        importer.setParameter(CSVFormat.Parameter.EDGE_WEIGHTS, weighted);
+        try {
+            readEvents(importer, input);
+            fail("No exception for input " + input);
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    private static List<Object> readEvents(StreamingCSVEventDrivenImporter importer, String input)
+    {
+        List<Object> events = new ArrayList<>();
+        importer.addVertexConsumer(events::add);
+        importer.addEdgeConsumer(events::add);
+        importer.importInput(new StringReader(input));
+        return events;
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.dimacs;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.nio.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelDIMACSEventDrivenImporter}.
+ * 
+ * @author Dimitrios Michail
+ */
+public class ParallelDIMACSEventDrivenImporterTest
+{
+    private Path file;
+
+    @Before
+    public void createFile()
+        throws IOException
+    {
+        file = Files.createTempFile("jgrapht", ".dimacs");
+    }
+
+    @After
+    public void deleteFile()
+        throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testSameAsSequential()
+        throws IOException
+    {
+        String input = createInput(new Random(17), 500, 5000);
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+
+        for (boolean renumber : new boolean[] { true, false }) {
+            for (boolean zeroBased : new boolean[] { true, false }) {
+                List<Object> expected = readEvents(
+                    new DIMACSEventDrivenImporter()
+                        .renumberVertices(renumber).zeroBasedNumbering(zeroBased),
+                    input);
+
+                for (int chunkSize : new int[] { 1, 100, 4096, 1 << 20 }) {
+                    ParallelDIMACSEventDrivenImporter importer =
+                        new ParallelDIMACSEventDrivenImporter(3)
+                            .renumberVertices(renumber).zeroBasedNumbering(zeroBased);
+                    importer.setChunkSize(chunkSize);
+                    assertEquals(expected, readEvents(importer, null));
+                    // importers can be reused
+                    assertEquals(expected, readEvents(importer, null));
+                    assertEquals(expected, readEvents(importer, input));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testEdgeBatches()
+        throws IOException
+    {
+        Files.write(
+            file, "c test\np sp 3 3\na 1 2 1.5\na 2 3\r\na 3 1 -2\n".getBytes(
+                StandardCharsets.UTF_8));
+
+        ParallelDIMACSEventDrivenImporter importer =
+            new ParallelDIMACSEventDrivenImporter(2).renumberVertices(false);
+        List<EdgeBatch> batches = new ArrayList<>();
+        importer.addEdgeBatchConsumer(batches::add);
+        importer.importInput(file.toFile());
+
+        assertEquals(1, batches.size());
+        EdgeBatch batch = batches.get(0);
+        assertEquals(3, batch.size());
+        assertTrue(batch.hasWeights());
+        assertEquals(1, batch.getSource(1));
+        assertEquals(2, batch.getTarget(1));
+        assertEquals(1.5, batch.getWeight(0), 0d);
+        assertFalse(batch.hasWeight(1));
+        assertTrue(Double.isNaN(batch.getWeight(1)));
+        assertEquals(-2d, batch.getWeight(2), 0d);
+    }
+
+    @Test
+    public void testSameAsSequentialSpecialCases()
+        throws IOException
+    {
+        // a weight of NaN is a weight, comments may contain any character
+        String input = "c t\u00e9st \u2603 \ud83d\ude00\np sp 3 2\na 1 2 NaN\nc \u00fc\na 2 3\n";
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        List<Object> expected = readEvents(new DIMACSEventDrivenImporter(), input);
+        assertTrue(expected.contains(Triple.of(0, 1, Double.NaN)));
+        assertEquals(expected, readEvents(new ParallelDIMACSEventDrivenImporter(2), null));
+        assertEquals(expected, readEvents(new ParallelDIMACSEventDrivenImporter(2), input));
+    }
+
+    @Test
+    public void testBlankHeaderLine()
+        throws IOException
+    {
+        String input = "c comment\n\np sp 2 1\na 1 2\n";
+        try {
+            readEvents(new DIMACSEventDrivenImporter(), input);
+            fail("Sequential importer accepted a blank header line");
+        } catch (ImportException e) {
+            // expected
+        }
+        assertError(input);
+        try {
+            readEvents(new ParallelDIMACSEventDrivenImporter(2), input);
+            fail("No exception for input " + input);
+        } catch (ImportException e) {
+            // expected
+        }
+        // lines with only whitespace are skipped by both
+        input = "c comment\n \t\np sp 2 1\na 1 2\n";
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        assertEquals(
+            readEvents(new DIMACSEventDrivenImporter(), input),
+            readEvents(new ParallelDIMACSEventDrivenImporter(2), null));
+    }
+
+    @Test
+    public void testDIMACSImporter()
+        throws IOException
+    {
+        String input = createInput(new Random(23), 300, 2000);
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+
+        Graph<Integer, DefaultWeightedEdge> expected =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DIMACSImporter<Integer, DefaultWeightedEdge> sequential = new DIMACSImporter<>();
+        sequential.setVertexFactory(i -> i);
+        sequential.importGraph(expected, file.toFile());
+
+        Graph<Integer, DefaultWeightedEdge> actual =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        DIMACSImporter<Integer, DefaultWeightedEdge> importer = new DIMACSImporter<>();
+        importer.setVertexFactory(i -> i);
+        importer.setParallelism(4);
+        importer.importGraph(actual, file.toFile());
+
+        assertEquals(expected.vertexSet().size(), actual.vertexSet().size());
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        Iterator<DefaultWeightedEdge> it = actual.edgeSet().iterator();
+        for (DefaultWeightedEdge e : expected.edgeSet()) {
+            DefaultWeightedEdge f = it.next();
+            assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(f));
+            assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(f));
+            assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(f), 0d);
+        }
+    }
+
+    @Test
+    public void testErrors()
+        throws IOException
+    {
+        assertError("c only a comment\n");
+        assertError("e 1 2\n");
+        assertError("p edge x 1\n");
+        assertError("p edge -1 1\n");
+        assertError("p edge 2 1\ne 1\n");
+        assertError("p edge 2 1\ne 1 x\n");
+        assertError("p edge 2 1\ne 1 2\ne 99999999999 1\n");
+    }
+
+    private void assertError(String input)
+        throws IOException
+    {
+        Files.write(file, input.getBytes(StandardCharsets.UTF_8));
+        try {
+            readEvents(new ParallelDIMACSEventDrivenImporter(2), null);
+            fail("No exception for input " + input);
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    private List<Object> readEvents(
+        EventDrivenImporter<Integer, Triple<Integer, Integer, Double>> importer, String input)
+    {
+        List<Object> events = new ArrayList<>();
+        importer.addImportEventConsumer(events::add);
+        importer.addVertexCountConsumer(events::add);
+        importer.addEdgeConsumer(events::add);
+        if (input == null) {
+            importer.importInput(file.toFile());
+        } else {
+            importer.importInput(new StringReader(input));
+        }
+        return events;
+    }
+
+    private static String createInput(Random rng, int n, int m)
+    {
+        StringBuilder sb = new StringBuilder();
+        sb.append("c random graph\n% another comment\n");
+        sb.append("p sp ").append(n).append(' ').append(m).append('\n');
+        for (int i = 0; i < m; i++) {
+            int op = rng.nextInt(20);
+            if (op == 0) {
+                sb.append("c comment ").append(i).append('\n');
+            } else if (op == 1) {
+                sb.append("n ").append(i).append('\n');
+            }
+            sb.append(rng.nextBoolean() ? "a " : "e\t");
+            sb.append(1 + rng.nextInt(n)).append("  ").append(1 + rng.nextInt(n));
+            switch (rng.nextInt(4)) {
+            case 0:
+                break;
+            case 1:
+                sb.append(' ').append(rng.nextInt(1000));
+                break;
+            case 2:
+                sb.append(' ').append(rng.nextDouble());
+                break;
+            default:
+                sb.append(" -").append(rng.nextInt(100)).append('.').append(rng.nextInt(100));
+                break;
+            }
+            sb.append(rng.nextInt(10) == 0 ? "\r\n" : "\n");
+        }
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.nio.json;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Pair;
+import org.jgrapht.alg.util.Triple;
+import org.jgrapht.graph.DefaultWeightedEdge;
+import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.nio.EventDrivenImporter;
+import org.jgrapht.nio.ImportException;
+import org.jgrapht.util.SupplierUtil;
+import org.junit.Test;
+
+/**
+ * Tests for {@link StreamingJSONEventDrivenImporter}.
+ * 
+ * @author Dimitrios Michail
+ */
+public class StreamingJSONEventDrivenImporterTest
+{
+
+    @Test
+    public void testSameAsJSONEventDrivenImporter()
+    {
+        // @formatter:off
+        assertSameEvents("{}");
+        assertSameEvents("[ { \"nodes\": [ { \"id\": 1 } ] } ]");
+        assertSameEvents("{ \"nodes\": [], \"edges\": [] }");
+        assertSameEvents("{\n"
+            + "  \"creator\": { \"nodes\": [ { \"id\": \"x\" } ] },\n"
+            + "  \"nodes\": [\n"
+            + "    { \"id\": \"1\", \"label\": \"a \\\"quoted\\\" \\u00e9 label\" },\n"
+            + "    { \"id\": 2, \"size\": 3, \"big\": 30000000000, \"x\": -1.5e-3 },\n"
+            + "    { \"id\": -0, \"flag\": true, \"other\": false, \"none\": null },\n"
+            + "    [ { \"id\": \"ignored\" } ], 5, \"text\",\n"
+            + "    { \"id\": \"3\", \"custom\": { \"pi\" : 3.14, \"s\": \"a\\nb\" } },\n"
+            + "    { \"id\": \"4\", \"array\": [ { \"obj\": 3.14 }, [], {} ] },\n"
+            + "    { \"id\": \"5\", \"id\": \"6\" }\n"
+            + "  ],\n"
+            + "  \"edges\": [\n"
+            + "    { \"source\": \"1\", \"target\": 2, \"weight\": 2.5 },\n"
+            + "    { \"source\": 2, \"target\": 0, \"weight\": 7, \"label\": \"e\" },\n"
+            + "    { \"source\": \"3\", \"target\": \"4\", \"weight\": 30000000000 },\n"
+            + "    { \"source\": \"4\", \"target\": \"6\", \"weight\": \"3\" },\n"
+            + "    { \"source\": \"6\", \"target\": \"6\", \"points\": [ 1, 2, { \"x\": [] } ] }\n"
+            + "  ]\n"
+            + "}");
+        // @formatter:on
+    }
+
+    @Test
+    public void testLargeInput()
+    {
+        Random rng = new Random(17);
+        StringBuilder sb = new StringBuilder("{ \"nodes\": [");
+        for (int i = 0; i < 2000; i++) {
+            sb.append(i == 0 ? "" : ",").append("\n  { \"id\": \"").append(i);
+            sb.append("\", \"label\": \"vertex ").append(rng.nextInt()).append("\" }");
+        }
+        sb.append("],\n\"edges\": [");
+        for (int i = 0; i < 10000; i++) {
+            sb.append(i == 0 ? "" : ",").append("\r\n  { \"source\": ").append(rng.nextInt(2000));
+            sb.append(", \"target\": ").append(rng.nextInt(2000));
+            sb.append(", \"weight\": ").append(rng.nextDouble());
+            sb.append(", \"tags\": [\"t").append(rng.nextInt(10)).append("\"] }");
+        }
+        sb.append("] }");
+        assertSameEvents(sb.toString());
+    }
+
+    @Test
+    public void testSingletons()
+    {
+        List<Object> events = readEvents(
+            new StreamingJSONEventDrivenImporter(), "{ \"nodes\": [ { }, { \"label\": 1 } ] }");
+        assertEquals(3, events.size());
+        assertTrue(((String) events.get(0)).startsWith("Singleton_"));
+        assertTrue(((String) events.get(1)).startsWith("Singleton_"));
+        assertTrue(!events.get(0).equals(events.get(1)));
+    }
+
+    @Test
+    public void testErrors()
+    {
+        assertError("{ \"edges\": [ { \"target\": \"1\" } ] }");
+        assertError("{ \"edges\": [ { \"source\": \"1\" } ] }");
+        assertError("{ \"nodes\": [ { \"id\": 1.5 } ] }");
+        assertError("{ \"nodes\": [ { \"id\": \"1\" } ] ");
+        assertError("{ \"nodes\": [ { \"id\": \"1\", } ] }");
+        assertError("{ \"nodes\": [ { \"id\": \"1\\x\" } ] }");
+        assertError("{ \"nodes\": [ { \"id\": \"1\", \"size\": 01 } ] }");
+        assertError("{ \"nodes\": [ { \"id\": \"1\", \"flag\": tru } ] }");
+        assertError("{ \"nodes\": [ { \"id\": \"1\" } ] } }");
+        assertError("{ nodes: [] }");
+    }
+
+    @Test
+    public void testJSONImporter()
+    {
+        String input = "{ \"nodes\": [ { \"id\": \"1\" }, { \"id\": \"2\" } ],"
+            + " \"edges\": [ { \"source\": \"1\", \"target\": \"2\", \"weight\": 3.5 } ] }";
+
+        Graph<String, DefaultWeightedEdge> g = GraphTypeBuilder
+            .directed().allowingMultipleEdges(true).allowingSelfLoops(true).weighted(true)
+            .vertexSupplier(SupplierUtil.createStringSupplier(1))
+            .edgeSupplier(SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER).buildGraph();
+
+        JSONImporter<String, DefaultWeightedEdge> importer = new JSONImporter<>();
+        importer.setVertexFactory(id -> id);
+        importer.setStreaming(true);
+        assertTrue(importer.isStreaming());
+        importer.importGraph(g, new StringReader(input));
+
+        assertEquals(2, g.vertexSet().size());
+        assertEquals(3.5, g.getEdgeWeight(g.getEdge("1", "2")), 0d);
+    }
+
+    private static void assertSameEvents(String input)
+    {
+        for (boolean outOfOrder : new boolean[] { true, false }) {
+            assertEquals(
+                readEvents(new JSONEventDrivenImporter(outOfOrder, outOfOrder), input),
+                readEvents(new StreamingJSONEventDrivenImporter(outOfOrder, outOfOrder), input));
+        }
+    }
+
+    private static void assertError(String input)
+    {
+        try {
+            readEvents(new StreamingJSONEventDrivenImporter(), input);
+            fail("No exception for input " + input);
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    private static List<Object> readEvents(
+        EventDrivenImporter<String, Triple<String, String, Double>> importer, String input)
+    {
+        List<Object> events = new ArrayList<>();
+        importer.addVertexConsumer(events::add);
+        importer.addVertexAttributeConsumer((p, a) -> events.add(Pair.of(p, a)));
+        importer.addVertexWithAttributesConsumer((v, a) -> events.add(Pair.of(v, a)));
+        importer.addEdgeConsumer(events::add);
+        importer.addEdgeAttributeConsumer((p, a) -> events.add(Pair.of(p, a)));
+        importer.addEdgeWithAttributesConsumer((e, a) -> events.add(Pair.of(e, a)));
+        importer.importInput(new StringReader(input));
+        return events;
+    }
+
+}
@@ -1,6 +1,8 @@
 module org.jgrapht.opt
 {
+    exports org.jgrapht.opt.graph.attributes;
     exports org.jgrapht.opt.graph.fastutil;
+    exports org.jgrapht.opt.graph.mmap;
     exports org.jgrapht.opt.graph.sparse;
 
     requires transitive org.jgrapht.core;
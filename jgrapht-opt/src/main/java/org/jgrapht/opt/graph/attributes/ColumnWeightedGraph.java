@@ -0,0 +1,103 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.attributes;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.GraphDelegator;
+
+/**
+ * A weighted view of a graph with integer edges whose edge weights are read from a
+ * {@link NumericColumn}.
+ *
+ * <p>
+ * The weight of edge $e$ is the value at index $e$ of the column, converted to a double. Weights
+ * are read directly from the primitive array of the column, without any map lookup or boxing, and
+ * later modifications of the column are visible through the view. Any number of views using
+ * different columns can share the same backing graph, which makes it cheap to run the same
+ * algorithm with several metrics. All other methods delegate to the backing graph.
+ *
+ * <p>
+ * Edge weights cannot be changed through the view, the column should be modified instead.
+ *
+ * @author Dimitrios Michail
+ */
+public class ColumnWeightedGraph
+    extends
+    GraphDelegator<Integer, Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -1906476580345251713L;
+
+    private final NumericColumn weights;
+
+    /**
+     * Create a new weighted view.
+     *
+     * @param graph the backing graph
+     * @param weights the column containing the edge weights
+     * @throws NullPointerException if the graph or the column is null
+     */
+    public ColumnWeightedGraph(Graph<Integer, Integer> graph, NumericColumn weights)
+    {
+        super(graph);
+        this.weights = Objects.requireNonNull(weights);
+    }
+
+    /**
+     * Get the column containing the edge weights.
+     *
+     * @return the column containing the edge weights
+     */
+    public NumericColumn getWeights()
+    {
+        return weights;
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        return weights.getAsDouble(e);
+    }
+
+    /**
+     * Unsupported, the weights should be changed in the column.
+     *
+     * @param e the edge
+     * @param weight the weight
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException("edge weights are stored in a column");
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return super.getType().asWeighted();
+    }
+}
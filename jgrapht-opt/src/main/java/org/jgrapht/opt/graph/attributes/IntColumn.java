@@ -0,0 +1,134 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.attributes;
+
+import java.util.Arrays;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * A column of {@code int} attribute values indexed by vertex or edge identifier.
+ *
+ * @author Dimitrios Michail
+ * @see NumericColumn
+ */
+public class IntColumn
+    extends
+    NumericColumn
+{
+    private static final long serialVersionUID = -8732265934076145220L;
+
+    private final int defaultValue;
+    private int[] values;
+
+    /**
+     * Create a new empty column with a zero default value.
+     */
+    public IntColumn()
+    {
+        this(0, 0);
+    }
+
+    /**
+     * Create a new column with a zero default value.
+     *
+     * @param size the initial size
+     */
+    public IntColumn(int size)
+    {
+        this(size, 0);
+    }
+
+    /**
+     * Create a new column.
+     *
+     * @param size the initial size
+     * @param defaultValue the value of all indices which have not been set
+     */
+    public IntColumn(int size, int defaultValue)
+    {
+        this.defaultValue = defaultValue;
+        this.values = new int[size];
+        Arrays.fill(values, defaultValue);
+    }
+
+    /**
+     * Create a new column with a zero default value, and initialize its values.
+     *
+     * @param size the size
+     * @param initializer a function which computes the value of each index
+     */
+    public IntColumn(int size, IntUnaryOperator initializer)
+    {
+        this(size, 0);
+        for (int i = 0; i < size; i++) {
+            values[i] = initializer.applyAsInt(i);
+        }
+    }
+
+    /**
+     * Get a value.
+     *
+     * @param index the index
+     * @return the value at the index, or the default value if the index is not smaller than the
+     *         size of the column
+     * @throws ArrayIndexOutOfBoundsException if the index is negative
+     */
+    public int get(int index)
+    {
+        return index < values.length ? values[index] : defaultValue;
+    }
+
+    /**
+     * Set a value. The column grows if the index is not smaller than its size.
+     *
+     * @param index the index
+     * @param value the value
+     * @throws ArrayIndexOutOfBoundsException if the index is negative
+     */
+    public void set(int index, int value)
+    {
+        if (index >= values.length) {
+            int oldLength = values.length;
+            values = Arrays.copyOf(values, grownLength(oldLength, index));
+            Arrays.fill(values, oldLength, values.length, defaultValue);
+        }
+        values[index] = value;
+    }
+
+    /**
+     * Get the default value.
+     *
+     * @return the default value
+     */
+    public int getDefaultValue()
+    {
+        return defaultValue;
+    }
+
+    @Override
+    public int size()
+    {
+        return values.length;
+    }
+
+    @Override
+    public double getAsDouble(int index)
+    {
+        return get(index);
+    }
+}
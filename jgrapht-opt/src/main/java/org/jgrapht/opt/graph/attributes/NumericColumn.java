@@ -0,0 +1,113 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.attributes;
+
+import java.io.Serializable;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A column of numeric attribute values indexed by vertex or edge identifier.
+ *
+ * <p>
+ * The integer graphs of this library, such as
+ * {@link org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph} or
+ * {@link org.jgrapht.opt.graph.sparse.MutableSparseIntGraph}, use small non-negative integers as
+ * vertices and edges. A column stores one attribute for all vertices or all edges of such a graph
+ * in a primitive array, so that an attribute value costs only its primitive size and reading it
+ * is an array access. Any number of columns can be kept alongside the same graph, for example the
+ * capacity, the cost and the latency of each edge.
+ *
+ * <p>
+ * Every column is also a {@link ToDoubleFunction} and a {@link Function} from identifiers to
+ * values. A column can thus be passed as the weight function of an algorithm or of an
+ * {@link org.jgrapht.graph.AsWeightedGraph}, or wrapped in a {@link ColumnWeightedGraph} which
+ * reads edge weights from the column without boxing. Switching the metric of an algorithm only
+ * requires using another column.
+ *
+ * <p>
+ * A column grows automatically when a value is written beyond its size. Reading a value at an
+ * index which is not smaller than the size returns the default value of the column. Columns are
+ * not thread-safe.
+ *
+ * @author Dimitrios Michail
+ */
+public abstract class NumericColumn
+    implements
+    ToDoubleFunction<Integer>,
+    Function<Integer, Double>,
+    Serializable
+{
+    private static final long serialVersionUID = 3178472516924431840L;
+
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    /**
+     * Constructor
+     */
+    protected NumericColumn()
+    {
+    }
+
+    /**
+     * Get the number of indices for which the column has allocated storage.
+     *
+     * @return the size of the column
+     */
+    public abstract int size();
+
+    /**
+     * Get a value, converted to a double.
+     *
+     * @param index the index
+     * @return the value at the index
+     * @throws ArrayIndexOutOfBoundsException if the index is negative
+     */
+    public abstract double getAsDouble(int index);
+
+    @Override
+    public double applyAsDouble(Integer index)
+    {
+        return getAsDouble(index);
+    }
+
+    @Override
+    public Double apply(Integer index)
+    {
+        return getAsDouble(index);
+    }
+
+    /**
+     * Compute the new length of an array which must grow in order to store an index.
+     *
+     * @param length the current length
+     * @param index the index to store
+     * @return the new length
+     */
+    static int grownLength(int length, int index)
+    {
+        if (index < 0) {
+            throw new ArrayIndexOutOfBoundsException(index);
+        }
+        if (index >= MAX_ARRAY_SIZE) {
+            throw new IllegalArgumentException("Index too large: " + index);
+        }
+        long grown = Math.max((long) index + 1, length + (length >> 1));
+        return (int) Math.min(grown, MAX_ARRAY_SIZE);
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.mmap;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * An external merge sort of (key, value, weight) records by key.
+ * 
+ * <p>
+ * Records are buffered in memory and each full buffer is sorted and written to a temporary file
+ * (a run). Sorting finishes with a $k$-way merge of all runs. The sort is stable, records with equal
+ * keys are reported in the order they were added. If all records fit into a single buffer, no
+ * temporary files are created.
+ * 
+ * @author Dimitrios Michail
+ */
+class ExternalEdgeSorter
+    implements
+    Closeable
+{
+    private static final int IO_BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_CAPACITY = 1024;
+
+    /**
+     * Consumer of sorted records.
+     */
+    interface RecordConsumer
+    {
+        /**
+         * Accept a record.
+         * 
+         * @param key the key
+         * @param value the value
+         * @param weight the weight, zero if the sorter does not store weights
+         * @throws IOException in case of an I/O error
+         */
+        void accept(int key, int value, double weight)
+            throws IOException;
+    }
+
+    private final Path tempDirectory;
+    private final int runSize;
+    private final boolean weighted;
+    private int[] keys;
+    private int[] values;
+    private double[] weights;
+    private long[] order;
+    private int size;
+    private final List<Path> runs;
+
+    /**
+     * Create a new sorter.
+     * 
+     * @param tempDirectory directory for the temporary files, if null the default temporary
+     *        directory is used
+     * @param runSize the maximum number of records kept in memory
+     * @param weighted whether the records carry weights
+     */
+    ExternalEdgeSorter(Path tempDirectory, int runSize, boolean weighted)
+    {
+        this.tempDirectory = tempDirectory;
+        this.runSize = runSize;
+        this.weighted = weighted;
+        int capacity = Math.min(runSize, INITIAL_CAPACITY);
+        this.keys = new int[capacity];
+        this.values = new int[capacity];
+        this.weights = weighted ? new double[capacity] : null;
+        this.runs = new ArrayList<>();
+    }
+
+    /**
+     * Add a record.
+     * 
+     * @param key the key, must be non-negative
+     * @param value the value
+     * @param weight the weight, ignored if the sorter does not store weights
+     * @throws IOException in case of an I/O error while writing a run
+     */
+    void add(int key, int value, double weight)
+        throws IOException
+    {
+        if (size == keys.length) {
+            if (size < runSize) {
+                int capacity = (int) Math.min(runSize, 2L * size);
+                keys = Arrays.copyOf(keys, capacity);
+                values = Arrays.copyOf(values, capacity);
+                if (weighted) {
+                    weights = Arrays.copyOf(weights, capacity);
+                }
+            } else {
+                spill();
+            }
+        }
+        keys[size] = key;
+        values[size] = value;
+        if (weighted) {
+            weights[size] = weight;
+        }
+        size++;
+    }
+
+    /**
+     * Report all records in sorted order.
+     * 
+     * @param consumer the consumer
+     * @throws IOException in case of an I/O error
+     */
+    void sort(RecordConsumer consumer)
+        throws IOException
+    {
+        if (runs.isEmpty()) {
+            sortBuffer();
+            for (int i = 0; i < size; i++) {
+                int j = (int) order[i];
+                consumer.accept(keys[j], values[j], weighted ? weights[j] : 0d);
+            }
+            size = 0;
+            return;
+        }
+        if (size > 0) {
+            spill();
+        }
+
+        PriorityQueue<RunReader> heap = new PriorityQueue<>(
+            Comparator.<RunReader> comparingInt(r -> r.key).thenComparingInt(r -> r.run));
+        List<RunReader> readers = new ArrayList<>(runs.size());
+        try {
+            for (int i = 0; i < runs.size(); i++) {
+                RunReader reader = new RunReader(runs.get(i), i);
+                readers.add(reader);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+            while (!heap.isEmpty()) {
+                RunReader reader = heap.poll();
+                consumer.accept(reader.key, reader.value, reader.weight);
+                if (reader.advance()) {
+                    heap.add(reader);
+                }
+            }
+        } finally {
+            for (RunReader reader : readers) {
+                reader.in.close();
+            }
+        }
+    }
+
+    /**
+     * Delete all temporary files.
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        for (Path run : runs) {
+            Files.deleteIfExists(run);
+        }
+        runs.clear();
+    }
+
+    /**
+     * Sort the buffer, using the position as a tie breaker in order to keep the sort stable.
+     */
+    private void sortBuffer()
+    {
+        if (order == null || order.length < size) {
+            order = new long[keys.length];
+        }
+        for (int i = 0; i < size; i++) {
+            order[i] = ((long) keys[i] << 32) | i;
+        }
+        Arrays.sort(order, 0, size);
+    }
+
+    private void spill()
+        throws IOException
+    {
+        sortBuffer();
+        Path run = tempDirectory == null ? Files.createTempFile("jgrapht-run", ".tmp")
+            : Files.createTempFile(tempDirectory, "jgrapht-run", ".tmp");
+        runs.add(run);
+        try (DataOutputStream out = new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(run), IO_BUFFER_SIZE)))
+        {
+            out.writeInt(size);
+            for (int i = 0; i < size; i++) {
+                int j = (int) order[i];
+                out.writeInt(keys[j]);
+                out.writeInt(values[j]);
+                if (weighted) {
+                    out.writeDouble(weights[j]);
+                }
+            }
+        }
+        size = 0;
+    }
+
+    /**
+     * Sequential reader of a run.
+     */
+    private class RunReader
+    {
+        final DataInputStream in;
+        final int run;
+        int remaining;
+        int key;
+        int value;
+        double weight;
+
+        RunReader(Path file, int run)
+            throws IOException
+        {
+            this.in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file), IO_BUFFER_SIZE));
+            this.run = run;
+            this.remaining = in.readInt();
+        }
+
+        boolean advance()
+            throws IOException
+        {
+            if (remaining == 0) {
+                return false;
+            }
+            remaining--;
+            key = in.readInt();
+            value = in.readInt();
+            if (weighted) {
+                weight = in.readDouble();
+            }
+            return true;
+        }
+    }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.mmap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A read-only memory mapping of a whole file, addressable with long positions.
+ * 
+ * <p>
+ * A single {@link MappedByteBuffer} is limited to $2^{31}-1$ bytes. The file is therefore mapped
+ * as a sequence of chunks of $2^{30}$ bytes. Since the chunk size is a multiple of eight, any int
+ * or double stored at a naturally aligned position lies entirely inside one chunk.
+ * 
+ * <p>
+ * The pages are loaded lazily by the operating system and are shared between all processes which
+ * map the same file. The mapping is released when the instance becomes unreachable.
+ * 
+ * @author Dimitrios Michail
+ */
+final class MappedFile
+{
+    private static final int CHUNK_BITS = 30;
+    private static final long CHUNK_MASK = (1L << CHUNK_BITS) - 1;
+
+    private final ByteBuffer[] chunks;
+    private final long size;
+
+    /**
+     * Map a file.
+     * 
+     * @param file the file
+     * @throws IOException in case of an I/O error
+     */
+    MappedFile(Path file)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.size = channel.size();
+            int count = (int) ((size + CHUNK_MASK) >>> CHUNK_BITS);
+            this.chunks = new ByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long start = (long) i << CHUNK_BITS;
+                long length = Math.min(CHUNK_MASK + 1, size - start);
+                chunks[i] = channel
+                    .map(FileChannel.MapMode.READ_ONLY, start, length)
+                    .order(MappedGraphLayout.BYTE_ORDER);
+            }
+        }
+    }
+
+    /**
+     * Get the size of the mapped file.
+     * 
+     * @return the size in bytes
+     */
+    long size()
+    {
+        return size;
+    }
+
+    /**
+     * Read an int.
+     * 
+     * @param pos the byte position, which must be a multiple of four
+     * @return the int value
+     */
+    int getInt(long pos)
+    {
+        return chunks[(int) (pos >>> CHUNK_BITS)].getInt((int) (pos & CHUNK_MASK));
+    }
+
+    /**
+     * Read a double.
+     * 
+     * @param pos the byte position, which must be a multiple of eight
+     * @return the double value
+     */
+    double getDouble(long pos)
+    {
+        return chunks[(int) (pos >>> CHUNK_BITS)].getDouble((int) (pos & CHUNK_MASK));
+    }
+
+    /**
+     * Get a duplicate of the first bytes of the file.
+     * 
+     * @param length the number of bytes
+     * @return a buffer positioned at the start of the file
+     */
+    ByteBuffer head(int length)
+    {
+        ByteBuffer head = chunks[0].duplicate();
+        head.position(0);
+        head.limit(length);
+        return head.slice();
+    }
+
+}
@@ -0,0 +1,137 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.mmap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * The on-disk layout of a memory-mapped CSR graph.
+ * 
+ * <p>
+ * All values are little-endian. The file starts with a fixed size header (magic, version, flags,
+ * number of vertices and number of edges) followed by the sections below, in this order:
+ * <ul>
+ * <li>outgoing offsets, $n+1$ ints,</li>
+ * <li>edge sources, $m$ ints,</li>
+ * <li>edge targets, $m$ ints,</li>
+ * <li>edge weights, $m$ doubles aligned at 8 bytes, only if the graph is weighted,</li>
+ * <li>incoming offsets, $n+1$ ints,</li>
+ * <li>incoming edge identifiers, $m$ ints.</li>
+ * </ul>
+ * 
+ * @author Dimitrios Michail
+ */
+final class MappedGraphLayout
+{
+    static final int MAGIC = 0x4A474D4D;
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 32;
+    static final int FLAG_WEIGHTED = 1;
+    static final ByteOrder BYTE_ORDER = ByteOrder.LITTLE_ENDIAN;
+
+    final int numVertices;
+    final int numEdges;
+    final boolean weighted;
+
+    final long outOffsets;
+    final long sources;
+    final long targets;
+    final long weights;
+    final long inOffsets;
+    final long inEdges;
+    final long size;
+
+    MappedGraphLayout(int numVertices, int numEdges, boolean weighted)
+    {
+        this.numVertices = numVertices;
+        this.numEdges = numEdges;
+        this.weighted = weighted;
+
+        long pos = HEADER_BYTES;
+        this.outOffsets = pos;
+        pos += Integer.BYTES * (numVertices + 1L);
+        this.sources = pos;
+        pos += Integer.BYTES * (long) numEdges;
+        this.targets = pos;
+        pos += Integer.BYTES * (long) numEdges;
+        pos = (pos + Double.BYTES - 1) & ~(Double.BYTES - 1L);
+        this.weights = pos;
+        if (weighted) {
+            pos += Double.BYTES * (long) numEdges;
+        }
+        this.inOffsets = pos;
+        pos += Integer.BYTES * (numVertices + 1L);
+        this.inEdges = pos;
+        pos += Integer.BYTES * (long) numEdges;
+        this.size = pos;
+    }
+
+    /**
+     * Encode the header.
+     * 
+     * @return a buffer containing the header, ready to be written
+     */
+    ByteBuffer header()
+    {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(BYTE_ORDER);
+        header.putInt(MAGIC);
+        header.putInt(VERSION);
+        header.putInt(weighted ? FLAG_WEIGHTED : 0);
+        header.putInt(numVertices);
+        header.putInt(numEdges);
+        header.clear();
+        return header;
+    }
+
+    /**
+     * Decode and validate a header.
+     * 
+     * @param header the header
+     * @param fileSize the size of the file in bytes
+     * @return the layout
+     * @throws IOException if the header is invalid or does not match the file size
+     */
+    static MappedGraphLayout of(ByteBuffer header, long fileSize)
+        throws IOException
+    {
+        header.order(BYTE_ORDER);
+        if (header.getInt() != MAGIC) {
+            throw new IOException("not a memory-mapped graph file");
+        }
+        int version = header.getInt();
+        if (version != VERSION) {
+            throw new IOException("unsupported file version: " + version);
+        }
+        int flags = header.getInt();
+        int numVertices = header.getInt();
+        int numEdges = header.getInt();
+        if (numVertices < 0 || numEdges < 0) {
+            throw new IOException("corrupt header");
+        }
+        MappedGraphLayout layout =
+            new MappedGraphLayout(numVertices, numEdges, (flags & FLAG_WEIGHTED) != 0);
+        if (layout.size != fileSize) {
+            throw new IOException(
+                "file size " + fileSize + " does not match expected size " + layout.size);
+        }
+        return layout;
+    }
+
+}
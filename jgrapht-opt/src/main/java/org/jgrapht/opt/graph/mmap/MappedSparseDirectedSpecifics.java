@@ -0,0 +1,377 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.mmap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jgrapht.GraphType;
+import org.jgrapht.IntGraphIterables.IntEdgeConsumer;
+import org.jgrapht.graph.DefaultGraphType;
+import org.jgrapht.opt.graph.sparse.specifics.SparseGraphSpecifics;
+import org.jgrapht.util.UnmodifiableUnionSet;
+
+/**
+ * Specifics for a directed graph whose CSR representation lives in a memory-mapped file.
+ * 
+ * <p>
+ * Edges are sorted by source vertex, thus the outgoing edges of a vertex form a contiguous range of
+ * edge identifiers and need no separate index. The incoming edges of a vertex are stored in
+ * increasing order of their identifiers.
+ *
+ * @author Dimitrios Michail
+ */
+class MappedSparseDirectedSpecifics
+    implements
+    SparseGraphSpecifics
+{
+    private final MappedFile file;
+    private final MappedGraphLayout layout;
+
+    /**
+     * Map a graph file.
+     * 
+     * @param path the file
+     * @throws IOException in case of an I/O error or if the file is not a valid graph file
+     */
+    MappedSparseDirectedSpecifics(Path path)
+        throws IOException
+    {
+        this.file = new MappedFile(path);
+        if (file.size() < MappedGraphLayout.HEADER_BYTES) {
+            throw new IOException("not a memory-mapped graph file");
+        }
+        this.layout =
+            MappedGraphLayout.of(file.head(MappedGraphLayout.HEADER_BYTES), file.size());
+    }
+
+    /**
+     * Whether the graph file contains edge weights.
+     * 
+     * @return whether the graph is weighted
+     */
+    boolean isWeighted()
+    {
+        return layout.weighted;
+    }
+
+    @Override
+    public long edgesCount()
+    {
+        return layout.numEdges;
+    }
+
+    @Override
+    public long verticesCount()
+    {
+        return layout.numVertices;
+    }
+
+    @Override
+    public long degreeOf(Integer vertex)
+    {
+        return outDegreeOf(vertex) + inDegreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        return new UnmodifiableUnionSet<>(outgoingEdgesOf(vertex), incomingEdgesOf(vertex));
+    }
+
+    @Override
+    public long inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inOffset(vertex + 1) - inOffset(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new IncomingEdgeSet(inOffset(vertex), inOffset(vertex + 1));
+    }
+
+    @Override
+    public long outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outOffset(vertex + 1) - outOffset(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new EdgeRangeSet(outOffset(vertex), outOffset(vertex + 1));
+    }
+
+    @Override
+    public void forEachOutgoingEdge(int vertex, IntEdgeConsumer action)
+    {
+        assertVertexExist(vertex);
+        int end = outOffset(vertex + 1);
+        for (int e = outOffset(vertex); e < end; e++) {
+            action.accept(e, target(e));
+        }
+    }
+
+    @Override
+    public void forEachIncomingEdge(int vertex, IntEdgeConsumer action)
+    {
+        assertVertexExist(vertex);
+        int end = inOffset(vertex + 1);
+        for (int pos = inOffset(vertex); pos < end; pos++) {
+            int e = inEdge(pos);
+            action.accept(e, source(e));
+        }
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source(e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target(e);
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        if (!layout.weighted) {
+            return SparseGraphSpecifics.super.getEdgeWeight(e);
+        }
+        assertEdgeExist(e);
+        return file.getDouble(layout.weights + Double.BYTES * (long) e);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(layout.weighted).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int end = outOffset(sourceVertex + 1);
+        for (int e = outOffset(sourceVertex); e < end; e++) {
+            if (target(e) == targetVertex) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     * 
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Integer> result = new LinkedHashSet<>();
+        int end = outOffset(sourceVertex + 1);
+        for (int e = outOffset(sourceVertex); e < end; e++) {
+            if (target(e) == targetVertex) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    private int source(int e)
+    {
+        return file.getInt(layout.sources + Integer.BYTES * (long) e);
+    }
+
+    private int target(int e)
+    {
+        return file.getInt(layout.targets + Integer.BYTES * (long) e);
+    }
+
+    private int outOffset(int v)
+    {
+        return file.getInt(layout.outOffsets + Integer.BYTES * (long) v);
+    }
+
+    private int inOffset(int v)
+    {
+        return file.getInt(layout.inOffsets + Integer.BYTES * (long) v);
+    }
+
+    private int inEdge(int pos)
+    {
+        return file.getInt(layout.inEdges + Integer.BYTES * (long) pos);
+    }
+
+    /**
+     * The edges with identifiers in $[from, to)$.
+     */
+    private static class EdgeRangeSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int from;
+        private final int to;
+
+        EdgeRangeSet(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next = from;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < to;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return next++;
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (o instanceof Integer) {
+                int e = (Integer) o;
+                return e >= from && e < to;
+            }
+            return false;
+        }
+
+        @Override
+        public int size()
+        {
+            return to - from;
+        }
+    }
+
+    /**
+     * The edges stored in positions $[from, to)$ of the incoming edges section. Since they are
+     * sorted, membership is tested using binary search.
+     */
+    private class IncomingEdgeSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int from;
+        private final int to;
+
+        IncomingEdgeSet(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int next = from;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return next < to;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (next >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return inEdge(next++);
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int e = (Integer) o;
+            int low = from;
+            int high = to - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                int value = inEdge(mid);
+                if (value < e) {
+                    low = mid + 1;
+                } else if (value > e) {
+                    high = mid - 1;
+                } else {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public int size()
+        {
+            return to - from;
+        }
+    }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.mmap;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.jgrapht.opt.graph.sparse.specifics.AbstractSparseSpecificsGraph;
+import org.jgrapht.opt.graph.sparse.specifics.SparseGraphSpecifics;
+
+/**
+ * A sparse directed graph stored in a memory-mapped file.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices, the vertices are numbered from $0$ to $n-1$. Similarly,
+ * edges are numbered from $0$ to $m-1$ where $m$ is the total number of edges. The graph is
+ * unmodifiable and may be weighted.
+ * 
+ * <p>
+ * The graph uses the same Compressed Sparse Rows (CSR) representation as the
+ * {@link org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph}, but the arrays are never loaded
+ * into the Java heap. Instead the file written by a {@link MappedSparseIntDirectedGraphBuilder} is
+ * mapped into memory and the operating system pages the adjacency structure in and out on demand.
+ * This allows graphs larger than the heap, or even larger than the physical memory, to be
+ * traversed, and several JVMs opening the same file share a single copy of it in the page cache.
+ * 
+ * <p>
+ * Edges are numbered in increasing order of their source vertex. Edges with the same source keep
+ * the order in which they were added to the builder. As a consequence the outgoing edges of a
+ * vertex are a contiguous range of edge identifiers.
+ * 
+ * <p>
+ * The maximum number of edges is $2^{31}-1$ as edges are represented by integers.
+ * 
+ * @author Dimitrios Michail
+ */
+public class MappedSparseIntDirectedGraph
+    extends
+    AbstractSparseSpecificsGraph<SparseGraphSpecifics>
+{
+    /**
+     * Open a graph file.
+     * 
+     * @param file the file written by a {@link MappedSparseIntDirectedGraphBuilder}
+     * @throws IOException in case of an I/O error or if the file is not a valid graph file
+     */
+    public MappedSparseIntDirectedGraph(Path file)
+        throws IOException
+    {
+        this(new MappedSparseDirectedSpecifics(file));
+    }
+
+    private MappedSparseIntDirectedGraph(MappedSparseDirectedSpecifics specifics)
+    {
+        super(() -> specifics);
+    }
+
+}
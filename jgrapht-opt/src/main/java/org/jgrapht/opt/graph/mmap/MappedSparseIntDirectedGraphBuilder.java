@@ -0,0 +1,339 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.mmap;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.jgrapht.Graph;
+
+/**
+ * A builder which writes the file of a {@link MappedSparseIntDirectedGraph}.
+ * 
+ * <p>
+ * Edges are added one at a time, in any order, and are never all kept in memory. The builder
+ * performs two external merge sorts: first by source vertex in order to produce the outgoing
+ * adjacency and then by target vertex in order to produce the incoming adjacency. At most
+ * {@link #runSize(int) run size} records are held in memory at any time, while larger inputs are
+ * spilled to temporary files which are deleted when the build finishes. All sections of the output
+ * file are written sequentially.
+ * 
+ * <p>
+ * Edges are numbered in increasing order of their source vertex, with ties broken by the order in
+ * which the edges were added.
+ * 
+ * @author Dimitrios Michail
+ */
+public class MappedSparseIntDirectedGraphBuilder
+{
+    /**
+     * Default number of edges sorted in memory before spilling to a temporary file.
+     */
+    public static final int DEFAULT_RUN_SIZE = 1 << 22;
+
+    private static final int WRITE_BUFFER_SIZE = 1 << 16;
+
+    private final int numVertices;
+    private final boolean weighted;
+    private Path tempDirectory;
+    private int runSize;
+    private ExternalEdgeSorter outgoing;
+    private long numEdges;
+    private boolean built;
+
+    /**
+     * Create a new builder.
+     * 
+     * @param numVertices the number of vertices
+     * @param weighted whether the graph is weighted
+     */
+    public MappedSparseIntDirectedGraphBuilder(int numVertices, boolean weighted)
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        this.numVertices = numVertices;
+        this.weighted = weighted;
+        this.runSize = DEFAULT_RUN_SIZE;
+    }
+
+    /**
+     * Set the directory used for the temporary files. By default the system temporary directory is
+     * used. Must be called before adding any edges.
+     * 
+     * @param tempDirectory the directory
+     * @return this builder object
+     */
+    public MappedSparseIntDirectedGraphBuilder tempDirectory(Path tempDirectory)
+    {
+        assertNoEdges();
+        this.tempDirectory = tempDirectory;
+        return this;
+    }
+
+    /**
+     * Set the number of edges which are sorted in memory before spilling to a temporary file. Must
+     * be called before adding any edges.
+     * 
+     * @param runSize the run size
+     * @return this builder object
+     */
+    public MappedSparseIntDirectedGraphBuilder runSize(int runSize)
+    {
+        if (runSize < 1) {
+            throw new IllegalArgumentException("Run size must be positive");
+        }
+        assertNoEdges();
+        this.runSize = runSize;
+        return this;
+    }
+
+    /**
+     * Add an edge. If the graph is weighted, the edge gets weight
+     * {@link Graph#DEFAULT_EDGE_WEIGHT}.
+     * 
+     * @param source the source vertex
+     * @param target the target vertex
+     * @return this builder object
+     * @throws IOException in case of an I/O error while writing temporary files
+     */
+    public MappedSparseIntDirectedGraphBuilder addEdge(int source, int target)
+        throws IOException
+    {
+        return add(source, target, Graph.DEFAULT_EDGE_WEIGHT);
+    }
+
+    /**
+     * Add a weighted edge.
+     * 
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param weight the edge weight
+     * @return this builder object
+     * @throws IOException in case of an I/O error while writing temporary files
+     * @throws UnsupportedOperationException if the graph is unweighted
+     */
+    public MappedSparseIntDirectedGraphBuilder addEdge(int source, int target, double weight)
+        throws IOException
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException("graph is unweighted");
+        }
+        return add(source, target, weight);
+    }
+
+    /**
+     * Write the graph file. The builder cannot be used afterwards.
+     * 
+     * @param file the output file, which is overwritten if it exists
+     * @throws IOException in case of an I/O error
+     */
+    public void build(Path file)
+        throws IOException
+    {
+        if (built) {
+            throw new IllegalStateException("Graph already built");
+        }
+        built = true;
+        if (outgoing == null) {
+            outgoing = new ExternalEdgeSorter(tempDirectory, 1, weighted);
+        }
+
+        MappedGraphLayout layout = new MappedGraphLayout(numVertices, (int) numEdges, weighted);
+        try (ExternalEdgeSorter bySource = outgoing;
+            ExternalEdgeSorter byTarget = new ExternalEdgeSorter(
+                tempDirectory, (int) Math.min(runSize, Math.max(1, numEdges)), false);
+            FileChannel channel = FileChannel.open(
+                file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            ByteBuffer header = layout.header();
+            while (header.hasRemaining()) {
+                channel.write(header, header.position());
+            }
+
+            SectionWriter outOffsets = new SectionWriter(channel, layout.outOffsets);
+            SectionWriter sources = new SectionWriter(channel, layout.sources);
+            SectionWriter targets = new SectionWriter(channel, layout.targets);
+            SectionWriter weights = weighted ? new SectionWriter(channel, layout.weights) : null;
+            OffsetsWriter outgoingRows = new OffsetsWriter(outOffsets);
+            bySource.sort((s, t, w) -> {
+                int e = outgoingRows.next(s);
+                sources.putInt(s);
+                targets.putInt(t);
+                if (weighted) {
+                    weights.putDouble(w);
+                }
+                byTarget.add(t, e, 0d);
+            });
+            outgoingRows.finish(numVertices);
+            outOffsets.flush();
+            sources.flush();
+            targets.flush();
+            if (weighted) {
+                weights.flush();
+            }
+
+            SectionWriter inOffsets = new SectionWriter(channel, layout.inOffsets);
+            SectionWriter inEdges = new SectionWriter(channel, layout.inEdges);
+            OffsetsWriter incomingRows = new OffsetsWriter(inOffsets);
+            byTarget.sort((t, e, w) -> {
+                incomingRows.next(t);
+                inEdges.putInt(e);
+            });
+            incomingRows.finish(numVertices);
+            inOffsets.flush();
+            inEdges.flush();
+        }
+    }
+
+    /**
+     * Write the graph file and open it.
+     * 
+     * @param file the output file, which is overwritten if it exists
+     * @return the graph
+     * @throws IOException in case of an I/O error
+     */
+    public MappedSparseIntDirectedGraph buildGraph(Path file)
+        throws IOException
+    {
+        build(file);
+        return new MappedSparseIntDirectedGraph(file);
+    }
+
+    private MappedSparseIntDirectedGraphBuilder add(int source, int target, double weight)
+        throws IOException
+    {
+        if (built) {
+            throw new IllegalStateException("Graph already built");
+        }
+        if (source < 0 || source >= numVertices) {
+            throw new IllegalArgumentException("no such vertex in graph: " + source);
+        }
+        if (target < 0 || target >= numVertices) {
+            throw new IllegalArgumentException("no such vertex in graph: " + target);
+        }
+        if (numEdges == Integer.MAX_VALUE) {
+            throw new IllegalStateException("Maximum number of edges reached");
+        }
+        if (outgoing == null) {
+            outgoing = new ExternalEdgeSorter(tempDirectory, runSize, weighted);
+        }
+        outgoing.add(source, target, weight);
+        numEdges++;
+        return this;
+    }
+
+    private void assertNoEdges()
+    {
+        if (outgoing != null || built) {
+            throw new IllegalStateException("Edges already added");
+        }
+    }
+
+    /**
+     * Buffered sequential writer of a file section.
+     */
+    private static class SectionWriter
+    {
+        private final FileChannel channel;
+        private final ByteBuffer buffer;
+        private long position;
+
+        SectionWriter(FileChannel channel, long position)
+        {
+            this.channel = channel;
+            this.buffer =
+                ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE).order(MappedGraphLayout.BYTE_ORDER);
+            this.position = position;
+        }
+
+        void putInt(int value)
+            throws IOException
+        {
+            if (buffer.remaining() < Integer.BYTES) {
+                flush();
+            }
+            buffer.putInt(value);
+        }
+
+        void putDouble(double value)
+            throws IOException
+        {
+            if (buffer.remaining() < Double.BYTES) {
+                flush();
+            }
+            buffer.putDouble(value);
+        }
+
+        void flush()
+            throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += channel.write(buffer, position);
+            }
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Writes the row offsets of a CSR representation while its entries are visited in row order.
+     */
+    private static class OffsetsWriter
+    {
+        private final SectionWriter out;
+        private int nextRow;
+        private int count;
+
+        OffsetsWriter(SectionWriter out)
+        {
+            this.out = out;
+        }
+
+        /**
+         * Visit the next entry.
+         * 
+         * @param row the row of the entry
+         * @return the position of the entry
+         * @throws IOException in case of an I/O error
+         */
+        int next(int row)
+            throws IOException
+        {
+            while (nextRow <= row) {
+                out.putInt(count);
+                nextRow++;
+            }
+            return count++;
+        }
+
+        void finish(int rows)
+            throws IOException
+        {
+            while (nextRow <= rows) {
+                out.putInt(count);
+                nextRow++;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Read-only graph implementations whose adjacency structure is stored in memory-mapped files.
+ */
+package org.jgrapht.opt.graph.mmap;
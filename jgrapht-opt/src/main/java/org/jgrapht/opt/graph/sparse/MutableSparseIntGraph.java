@@ -0,0 +1,816 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jgrapht.Graph;
+import org.jgrapht.GraphType;
+import org.jgrapht.graph.AbstractGraph;
+import org.jgrapht.graph.DefaultGraphType;
+
+/**
+ * A mutable sparse graph with integer vertices and edges.
+ *
+ * <p>
+ * This graph is a middle ground between the unmodifiable sparse graphs such as
+ * {@link SparseIntDirectedGraph}, which are stored in compressed sparse row form, and the hash
+ * based graphs of the fastutil package. Like the former, the endpoints of the edges are stored in
+ * two integer arrays indexed by edge and every vertex keeps the identifiers of its incident edges
+ * in primitive integer arrays. Instead of one shared array for all vertices, each vertex owns a
+ * growable block which is enlarged by a constant factor when it becomes full. A directed graph
+ * keeps one block of outgoing and one block of incoming edges per vertex, an undirected graph one
+ * block of incident edges per vertex. Apart from the unused capacity of the blocks, an edge thus
+ * costs 16 bytes, plus 8 bytes if the graph is weighted, the same as in the unmodifiable graphs.
+ *
+ * <p>
+ * Adding an edge appends it to the blocks of its endpoints in amortized constant time. Removing an
+ * edge only marks it as removed, again in constant time, and leaves a tombstone in the blocks of
+ * its endpoints. A block is compacted when at least half of its entries are tombstones, or when
+ * it is full and contains tombstones, so that the cost of compaction is amortized over the
+ * removals. The identifier of a removed edge is reused for new edges once no tombstone refers to
+ * it anymore. Method {@link #compact()} removes all tombstones and releases unused memory.
+ *
+ * <p>
+ * Vertices are non-negative integers. Method {@link #addVertex()} returns the smallest integer
+ * which is not a vertex and {@link #addVertex(Integer)} adds any non-negative integer. Vertex
+ * identifiers should be kept small since the memory required is linear in the largest vertex.
+ * Edges are always created by the graph, thus {@link #addEdge(Integer, Integer, Integer)} is not
+ * supported. The graph allows multiple edges and self-loops.
+ *
+ * <p>
+ * The sets returned by the graph are live views which should not be used after a modification of
+ * the graph. Lookups of edges between two vertices cost time linear in the degree of the source
+ * vertex. This class is not thread-safe.
+ *
+ * @author Dimitrios Michail
+ */
+public class MutableSparseIntGraph
+    extends
+    AbstractGraph<Integer, Integer>
+{
+    private static final String EDGES_ARE_CREATED_BY_THE_GRAPH = "edges are created by the graph";
+    private static final int FREE = -1;
+    private static final int NONE = -1;
+    private static final int MIN_BLOCK_CAPACITY = 4;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+    private final boolean directed;
+    private final boolean weighted;
+
+    /*
+     * Vertices
+     */
+    private final BitSet vertices;
+    private int vertexCount;
+    private int firstFreeVertex;
+    private int[] selfLoops;
+
+    /*
+     * Blocks of incident edges. In a directed graph block 2v holds the outgoing and block 2v+1 the
+     * incoming edges of vertex v. In an undirected graph block v holds the edges of vertex v, with
+     * self-loops stored once.
+     */
+    private int[][] block;
+    private int[] blockSize;
+    private int[] blockDead;
+
+    /*
+     * Edges. The source of a removed edge is -1 - r where r is the number of blocks which still
+     * contain a tombstone for the edge. When r becomes zero the edge is free and its target links
+     * the list of free edges.
+     */
+    private int[] source;
+    private int[] target;
+    private double[] weight;
+    private int edgeLimit;
+    private int edgeCount;
+    private int freeEdges;
+
+    /**
+     * Create a new empty graph.
+     *
+     * @param directed whether the graph is directed
+     * @param weighted whether the graph is weighted
+     */
+    public MutableSparseIntGraph(boolean directed, boolean weighted)
+    {
+        this(directed, weighted, 0, 0);
+    }
+
+    /**
+     * Create a new empty graph with some initial capacity.
+     *
+     * @param directed whether the graph is directed
+     * @param weighted whether the graph is weighted
+     * @param expectedVertices the expected number of vertices
+     * @param expectedEdges the expected number of edges
+     */
+    public MutableSparseIntGraph(
+        boolean directed, boolean weighted, int expectedVertices, int expectedEdges)
+    {
+        if (expectedVertices < 0 || expectedEdges < 0) {
+            throw new IllegalArgumentException("Expected sizes must be non-negative");
+        }
+        this.directed = directed;
+        this.weighted = weighted;
+
+        this.vertices = new BitSet(expectedVertices);
+        this.selfLoops = new int[expectedVertices];
+        int blocks = directed ? 2 * expectedVertices : expectedVertices;
+        this.block = new int[blocks][];
+        this.blockSize = new int[blocks];
+        this.blockDead = new int[blocks];
+
+        this.source = new int[expectedEdges];
+        this.target = new int[expectedEdges];
+        this.weight = weighted ? new double[expectedEdges] : null;
+        this.freeEdges = NONE;
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        DefaultGraphType.Builder builder = new DefaultGraphType.Builder();
+        if (directed) {
+            builder = builder.directed();
+        } else {
+            builder = builder.undirected();
+        }
+        return builder
+            .weighted(weighted).modifiable(true).allowMultipleEdges(true).allowSelfLoops(true)
+            .build();
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        int v = vertices.nextClearBit(firstFreeVertex);
+        addVertex(Integer.valueOf(v));
+        return v;
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        if (v < 0) {
+            throw new IllegalArgumentException("Vertices must be non-negative");
+        }
+        if (v >= maxVertices()) {
+            throw new IllegalArgumentException("Vertex too large: " + v);
+        }
+        if (vertices.get(v)) {
+            return false;
+        }
+        ensureVertexCapacity(v + 1);
+        vertices.set(v);
+        vertexCount++;
+        if (v == firstFreeVertex) {
+            firstFreeVertex++;
+        }
+        return true;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && vertices.get(v);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        if (!containsVertex(v)) {
+            return false;
+        }
+        int out = outBlock(v);
+        int in = inBlock(v);
+        for (int b : directed ? new int[] { out, in } : new int[] { out }) {
+            // blocks may be compacted while removing, thus always restart from the end
+            for (int p = blockSize[b] - 1; p >= 0; p = Math.min(p - 1, blockSize[b] - 1)) {
+                int e = block[b][p];
+                if (source[e] >= 0) {
+                    removeEdge(e);
+                }
+            }
+        }
+        for (int b : directed ? new int[] { out, in } : new int[] { out }) {
+            compactBlock(b);
+            block[b] = null;
+        }
+        vertices.clear(v);
+        vertexCount--;
+        firstFreeVertex = Math.min(firstFreeVertex, v);
+        return true;
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new AbstractSet<Integer>()
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                return new Iterator<Integer>()
+                {
+                    private int next = vertices.nextSetBit(0);
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return next >= 0;
+                    }
+
+                    @Override
+                    public Integer next()
+                    {
+                        if (next < 0) {
+                            throw new NoSuchElementException();
+                        }
+                        int v = next;
+                        next = vertices.nextSetBit(v + 1);
+                        return v;
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return o instanceof Integer && containsVertex((Integer) o);
+            }
+
+            @Override
+            public int size()
+            {
+                return vertexCount;
+            }
+        };
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+        int s = sourceVertex;
+        int t = targetVertex;
+
+        int e;
+        if (freeEdges != NONE) {
+            e = freeEdges;
+            freeEdges = target[e];
+        } else {
+            ensureEdgeCapacity(edgeLimit + 1);
+            e = edgeLimit++;
+        }
+        source[e] = s;
+        target[e] = t;
+        if (weighted) {
+            weight[e] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        edgeCount++;
+
+        append(outBlock(s), e);
+        if (directed || s != t) {
+            append(inBlock(t), e);
+        }
+        if (s == t) {
+            selfLoops[s]++;
+        }
+        return e;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UnsupportedOperationException always, since edges are created by the graph
+     */
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(EDGES_ARE_CREATED_BY_THE_GRAPH);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < edgeLimit && source[e] >= 0;
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        if (!containsEdge(e)) {
+            return false;
+        }
+        int s = source[e];
+        int t = target[e];
+        int outBlock = outBlock(s);
+        int inBlock = inBlock(t);
+        boolean twoBlocks = outBlock != inBlock;
+
+        source[e] = -1 - (twoBlocks ? 2 : 1);
+        edgeCount--;
+        if (s == t) {
+            selfLoops[s]--;
+        }
+
+        blockDead[outBlock]++;
+        maybeCompactBlock(outBlock);
+        if (twoBlocks) {
+            blockDead[inBlock]++;
+            maybeCompactBlock(inBlock);
+        }
+        return true;
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        Integer e = getEdge(sourceVertex, targetVertex);
+        if (e != null) {
+            removeEdge(e);
+        }
+        return e;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new AbstractSet<Integer>()
+        {
+            @Override
+            public Iterator<Integer> iterator()
+            {
+                return new Iterator<Integer>()
+                {
+                    private int next = advance(0);
+
+                    private int advance(int e)
+                    {
+                        while (e < edgeLimit && source[e] < 0) {
+                            e++;
+                        }
+                        return e;
+                    }
+
+                    @Override
+                    public boolean hasNext()
+                    {
+                        return next < edgeLimit;
+                    }
+
+                    @Override
+                    public Integer next()
+                    {
+                        if (next >= edgeLimit) {
+                            throw new NoSuchElementException();
+                        }
+                        int e = next;
+                        next = advance(e + 1);
+                        return e;
+                    }
+                };
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return o instanceof Integer && containsEdge((Integer) o);
+            }
+
+            @Override
+            public int size()
+            {
+                return edgeCount;
+            }
+        };
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source[e];
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target[e];
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return weighted ? weight[e] : Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        if (!weighted) {
+            throw new UnsupportedOperationException("this graph is unweighted");
+        }
+        assertEdgeExist(e);
+        this.weight[e] = weight;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int b = outBlock(sourceVertex);
+        int[] edges = block[b];
+        for (int p = 0; p < blockSize[b]; p++) {
+            int e = edges[p];
+            if (source[e] >= 0 && isEdgeBetween(e, sourceVertex, targetVertex)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * This operation costs $O(d)$ where $d$ is the out-degree of the source vertex.
+     */
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Integer> result = new LinkedHashSet<>();
+        int b = outBlock(sourceVertex);
+        int[] edges = block[b];
+        for (int p = 0; p < blockSize[b]; p++) {
+            int e = edges[p];
+            if (source[e] >= 0 && isEdgeBetween(e, sourceVertex, targetVertex)) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (directed) {
+            return liveSize(outBlock(vertex)) + liveSize(inBlock(vertex));
+        }
+        return liveSize(outBlock(vertex)) + selfLoops[vertex];
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (directed) {
+            // self-loops are reported once, as outgoing edges
+            return new BlockSet(
+                outBlock(vertex), inBlock(vertex), vertex,
+                liveSize(outBlock(vertex)) + liveSize(inBlock(vertex)) - selfLoops[vertex]);
+        }
+        return new BlockSet(outBlock(vertex), NONE, vertex, liveSize(outBlock(vertex)));
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (directed) {
+            return liveSize(inBlock(vertex));
+        }
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (directed) {
+            return new BlockSet(inBlock(vertex), NONE, vertex, liveSize(inBlock(vertex)));
+        }
+        return edgesOf(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (directed) {
+            return liveSize(outBlock(vertex));
+        }
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        if (directed) {
+            return new BlockSet(outBlock(vertex), NONE, vertex, liveSize(outBlock(vertex)));
+        }
+        return edgesOf(vertex);
+    }
+
+    /**
+     * Removes all tombstones and releases the unused capacity of all blocks. Afterwards the
+     * identifiers of all removed edges are free and the edge arrays are shrunk to the largest edge
+     * identifier in use.
+     */
+    public void compact()
+    {
+        for (int b = 0; b < block.length; b++) {
+            if (block[b] == null) {
+                continue;
+            }
+            compactBlock(b);
+            if (blockSize[b] == 0) {
+                block[b] = null;
+            } else if (blockSize[b] < block[b].length) {
+                block[b] = Arrays.copyOf(block[b], blockSize[b]);
+            }
+        }
+
+        // rebuild the free list in ascending order and drop free identifiers at the end
+        int limit = edgeLimit;
+        while (limit > 0 && source[limit - 1] < 0) {
+            limit--;
+        }
+        edgeLimit = limit;
+        freeEdges = NONE;
+        for (int e = edgeLimit - 1; e >= 0; e--) {
+            if (source[e] < 0) {
+                target[e] = freeEdges;
+                freeEdges = e;
+            }
+        }
+        source = Arrays.copyOf(source, edgeLimit);
+        target = Arrays.copyOf(target, edgeLimit);
+        if (weighted) {
+            weight = Arrays.copyOf(weight, edgeLimit);
+        }
+    }
+
+    private int outBlock(int v)
+    {
+        return directed ? 2 * v : v;
+    }
+
+    private int inBlock(int v)
+    {
+        return directed ? 2 * v + 1 : v;
+    }
+
+    private int liveSize(int b)
+    {
+        return blockSize[b] - blockDead[b];
+    }
+
+    private boolean isEdgeBetween(int e, int s, int t)
+    {
+        if (source[e] == s && target[e] == t) {
+            return true;
+        }
+        return !directed && source[e] == t && target[e] == s;
+    }
+
+    private void assertEdgeExist(Integer e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!containsEdge(e)) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    private void append(int b, int e)
+    {
+        int[] edges = block[b];
+        if (edges == null) {
+            edges = block[b] = new int[MIN_BLOCK_CAPACITY];
+        } else if (blockSize[b] == edges.length) {
+            if (blockDead[b] > 0) {
+                compactBlock(b);
+            }
+            if (blockSize[b] == edges.length) {
+                edges = block[b] = Arrays.copyOf(
+                    edges, Math.max(MIN_BLOCK_CAPACITY, edges.length + (edges.length >> 1)));
+            }
+        }
+        edges[blockSize[b]++] = e;
+    }
+
+    private void maybeCompactBlock(int b)
+    {
+        if (2 * blockDead[b] >= blockSize[b]) {
+            compactBlock(b);
+        }
+    }
+
+    /**
+     * Removes the tombstones of a block, freeing edges which are no longer referenced.
+     */
+    private void compactBlock(int b)
+    {
+        if (blockDead[b] == 0) {
+            return;
+        }
+        int[] edges = block[b];
+        int size = 0;
+        for (int p = 0; p < blockSize[b]; p++) {
+            int e = edges[p];
+            if (source[e] >= 0) {
+                edges[size++] = e;
+            } else if (++source[e] == FREE) {
+                target[e] = freeEdges;
+                freeEdges = e;
+            }
+        }
+        blockSize[b] = size;
+        blockDead[b] = 0;
+    }
+
+    /**
+     * Returns the bound on the vertices, which is limited by the length of the block arrays.
+     */
+    private int maxVertices()
+    {
+        return directed ? MAX_ARRAY_SIZE / 2 : MAX_ARRAY_SIZE;
+    }
+
+    private void ensureVertexCapacity(int capacity)
+    {
+        if (capacity <= selfLoops.length) {
+            return;
+        }
+        int newCapacity = (int) Math
+            .min(Math.max(capacity, selfLoops.length + (selfLoops.length >> 1)), maxVertices());
+        selfLoops = Arrays.copyOf(selfLoops, newCapacity);
+        int blocks = directed ? 2 * newCapacity : newCapacity;
+        block = Arrays.copyOf(block, blocks);
+        blockSize = Arrays.copyOf(blockSize, blocks);
+        blockDead = Arrays.copyOf(blockDead, blocks);
+    }
+
+    private void ensureEdgeCapacity(int capacity)
+    {
+        if (capacity <= source.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, source.length + (source.length >> 1));
+        source = Arrays.copyOf(source, newCapacity);
+        target = Arrays.copyOf(target, newCapacity);
+        if (weighted) {
+            weight = Arrays.copyOf(weight, newCapacity);
+        }
+    }
+
+    /**
+     * View of the live edges of one or two blocks. Entries of the second block which are
+     * self-loops of the vertex are skipped, since they are also contained in the first block.
+     */
+    private class BlockSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int first;
+        private final int second;
+        private final int vertex;
+        private final int size;
+
+        BlockSet(int first, int second, int vertex, int size)
+        {
+            this.first = first;
+            this.second = second;
+            this.vertex = vertex;
+            this.size = size;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int current = first;
+                private int position = -1;
+
+                {
+                    advance();
+                }
+
+                private void advance()
+                {
+                    while (current != NONE) {
+                        int[] edges = block[current];
+                        while (++position < blockSize[current]) {
+                            int e = edges[position];
+                            if (source[e] >= 0 && (current != second || source[e] != vertex
+                                || target[e] != vertex))
+                            {
+                                return;
+                            }
+                        }
+                        current = current == first ? second : NONE;
+                        position = -1;
+                    }
+                }
+
+                @Override
+                public boolean hasNext()
+                {
+                    return current != NONE;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (current == NONE) {
+                        throw new NoSuchElementException();
+                    }
+                    int e = block[current][position];
+                    advance();
+                    return e;
+                }
+            };
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int e = (Integer) o;
+            if (!containsEdge(e)) {
+                return false;
+            }
+            if (directed) {
+                return (first == outBlock(vertex) && source[e] == vertex)
+                    || (first == inBlock(vertex) && target[e] == vertex)
+                    || (second != NONE && target[e] == vertex);
+            }
+            return source[e] == vertex || target[e] == vertex;
+        }
+
+        @Override
+        public int size()
+        {
+            return size;
+        }
+    }
+
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.opt.graph.sparse;
 
 import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -116,4 +117,40 @@ public class SparseIntDirectedGraph
         });
     }
 
+    /**
+     * Create a new graph from primitive edge arrays. Edge $i$ starts at {@code sources[i]} and ends
+     * at {@code targets[i]}.
+     * 
+     * <p>
+     * This avoids creating an object per edge. The arrays are not copied and become the edge
+     * storage of the graph, thus they must not be modified afterwards. If an executor is given, the
+     * compressed rows of the outgoing and, if requested eagerly, of the incoming edges are built by a
+     * parallel counting sort.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     * @param executor executor used to build the graph in parallel, or null for a sequential build
+     */
+    public SparseIntDirectedGraph(
+        int numVertices, int[] sources, int[] targets, IncomingEdgesSupport incomingEdgesSupport,
+        ThreadPoolExecutor executor)
+    {
+        super(() -> {
+            switch (incomingEdgesSupport) {
+            case FULL_INCOMING_EDGES:
+                return new IncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, sources, targets, false, executor);
+            case LAZY_INCOMING_EDGES:
+                return new IncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, sources, targets, true, executor);
+            case NO_INCOMING_EDGES:
+            default:
+                return new NoIncomingNoReindexSparseDirectedSpecifics(
+                    numVertices, sources, targets, executor);
+            }
+        });
+    }
+
 }
@@ -19,6 +19,7 @@ package org.jgrapht.opt.graph.sparse;
 
 import java.io.Serializable;
 import java.util.List;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -129,6 +130,29 @@ public class SparseIntDirectedWeightedGraph
         });
     }
 
+    /**
+     * Create a new graph from primitive edge arrays. Edge $i$ starts at {@code sources[i]}, ends at
+     * {@code targets[i]} and has weight {@code weights[i]}. The arrays are not copied and become
+     * the edge storage of the graph.
+     * 
+     * @param numVertices the number of vertices
+     * @param sources the source vertex of each edge
+     * @param targets the target vertex of each edge
+     * @param weights the weight of each edge
+     * @param incomingEdgeSupport the kind of incoming edges support needed
+     * @param executor executor used to build the graph in parallel, or null for a sequential build
+     */
+    public SparseIntDirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights,
+        IncomingEdgesSupport incomingEdgeSupport, ThreadPoolExecutor executor)
+    {
+        super(numVertices, sources, targets, incomingEdgeSupport, executor);
+        if (weights.length != sources.length) {
+            throw new IllegalArgumentException("Weights array must have one entry per edge");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
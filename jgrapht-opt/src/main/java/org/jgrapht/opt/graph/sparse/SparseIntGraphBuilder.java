@@ -0,0 +1,353 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
+
+import org.jgrapht.Graph;
+import org.jgrapht.alg.util.Triple;
+
+/**
+ * A builder which collects edges into primitive arrays and creates a sparse graph from them.
+ *
+ * <p>
+ * The builder is meant to be used as the target of an event driven importer, such as the ones in
+ * the {@code org.jgrapht.nio} packages, in place of an intermediate graph and edge list:
+ * 
+ * <pre>
+ * {@code
+ * SparseIntGraphBuilder builder = new SparseIntGraphBuilder();
+ * importer.addVertexCountConsumer(builder.vertexCountConsumer());
+ * importer.addEdgeCountConsumer(builder.edgeCountConsumer());
+ * importer.addVertexConsumer(builder.vertexConsumer());
+ * importer.addEdgeConsumer(builder.edgeConsumer());
+ * importer.importInput(file);
+ * SparseIntDirectedWeightedGraph graph = builder.buildDirectedWeighted();
+ * }
+ * </pre>
+ * 
+ * Vertices must be integers from $0$ to $n-1$. The number of vertices of the graph is the largest
+ * of the reported vertex count and one plus the largest vertex seen in a vertex or an edge. Edges
+ * are numbered in the order in which they are added. Edges without a weight receive the default
+ * edge weight.
+ *
+ * <p>
+ * The edges are stored in growable arrays of sources, targets and, once the first weight is seen,
+ * weights. These arrays are handed over to the graph without copying if their capacity matches the
+ * number of edges, which is the case when the edge count is reported before the edges. Thus loading
+ * needs only the memory of the final graph. The builder is reset after building a graph and can be
+ * reused. Sparse graphs need at least one vertex and one edge. If a graph cannot be built, the
+ * builder keeps everything collected so far.
+ *
+ * @author Dimitrios Michail
+ */
+public class SparseIntGraphBuilder
+{
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+    private int vertexCount;
+    private int edgeCount;
+    private int[] sources;
+    private int[] targets;
+    private double[] weights;
+
+    /**
+     * Create a new builder.
+     */
+    public SparseIntGraphBuilder()
+    {
+        reset();
+    }
+
+    /**
+     * Get a consumer which sets the number of vertices.
+     * 
+     * @return a vertex count consumer
+     */
+    public Consumer<Integer> vertexCountConsumer()
+    {
+        return n -> {
+            if (n < 0) {
+                throw new IllegalArgumentException("Vertex count cannot be negative");
+            }
+            vertexCount = Math.max(vertexCount, n);
+        };
+    }
+
+    /**
+     * Get a consumer which reserves space for a number of edges.
+     * 
+     * @return an edge count consumer
+     */
+    public Consumer<Integer> edgeCountConsumer()
+    {
+        return m -> {
+            if (m < 0) {
+                throw new IllegalArgumentException("Edge count cannot be negative");
+            }
+            ensureCapacity(edgeCount + m, true);
+        };
+    }
+
+    /**
+     * Get a consumer which adds vertices.
+     * 
+     * @return a vertex consumer
+     */
+    public Consumer<Integer> vertexConsumer()
+    {
+        return this::addVertex;
+    }
+
+    /**
+     * Get a consumer which adds edges given as triples of source, target and weight. The weight may
+     * be {@code null} if the edge has no weight.
+     * 
+     * @return an edge consumer
+     */
+    public Consumer<Triple<Integer, Integer, Double>> edgeConsumer()
+    {
+        return e -> {
+            if (e.getThird() == null) {
+                addEdge(e.getFirst(), e.getSecond());
+            } else {
+                addEdge(e.getFirst(), e.getSecond(), e.getThird());
+            }
+        };
+    }
+
+    /**
+     * Add a vertex.
+     * 
+     * @param vertex the vertex
+     */
+    public void addVertex(int vertex)
+    {
+        if (vertex < 0) {
+            throw new IllegalArgumentException("Vertex " + vertex + " is negative");
+        }
+        vertexCount = Math.max(vertexCount, vertex + 1);
+    }
+
+    /**
+     * Add an edge without a weight.
+     * 
+     * @param source the source vertex
+     * @param target the target vertex
+     */
+    public void addEdge(int source, int target)
+    {
+        addVertex(source);
+        addVertex(target);
+        ensureCapacity(edgeCount + 1, false);
+        sources[edgeCount] = source;
+        targets[edgeCount] = target;
+        if (weights != null) {
+            weights[edgeCount] = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        edgeCount++;
+    }
+
+    /**
+     * Add an edge with a weight.
+     * 
+     * @param source the source vertex
+     * @param target the target vertex
+     * @param weight the edge weight
+     */
+    public void addEdge(int source, int target, double weight)
+    {
+        if (weights == null) {
+            weights = new double[sources.length];
+            Arrays.fill(weights, 0, edgeCount, Graph.DEFAULT_EDGE_WEIGHT);
+        }
+        addEdge(source, target);
+        weights[edgeCount - 1] = weight;
+    }
+
+    /**
+     * Get the number of vertices collected so far.
+     * 
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return vertexCount;
+    }
+
+    /**
+     * Get the number of edges collected so far.
+     * 
+     * @return the number of edges
+     */
+    public int edgeCount()
+    {
+        return edgeCount;
+    }
+
+    /**
+     * Build a directed graph with full incoming edges support.
+     * 
+     * @return the graph
+     * @throws IllegalStateException if there are no vertices or no edges
+     */
+    public SparseIntDirectedGraph buildDirected()
+    {
+        return buildDirected(IncomingEdgesSupport.FULL_INCOMING_EDGES, null);
+    }
+
+    /**
+     * Build a directed graph.
+     * 
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     * @param executor executor used to build the graph in parallel, or null for a sequential build
+     * @return the graph
+     * @throws IllegalStateException if there are no vertices or no edges
+     */
+    public SparseIntDirectedGraph buildDirected(
+        IncomingEdgesSupport incomingEdgesSupport, ThreadPoolExecutor executor)
+    {
+        checkNotEmpty();
+        SparseIntDirectedGraph g = new SparseIntDirectedGraph(
+            vertexCount, trim(sources), trim(targets), incomingEdgesSupport, executor);
+        reset();
+        return g;
+    }
+
+    /**
+     * Build a directed weighted graph with full incoming edges support.
+     * 
+     * @return the graph
+     * @throws IllegalStateException if there are no vertices or no edges
+     */
+    public SparseIntDirectedWeightedGraph buildDirectedWeighted()
+    {
+        return buildDirectedWeighted(IncomingEdgesSupport.FULL_INCOMING_EDGES, null);
+    }
+
+    /**
+     * Build a directed weighted graph.
+     * 
+     * @param incomingEdgesSupport whether to support incoming edges or not
+     * @param executor executor used to build the graph in parallel, or null for a sequential build
+     * @return the graph
+     * @throws IllegalStateException if there are no vertices or no edges
+     */
+    public SparseIntDirectedWeightedGraph buildDirectedWeighted(
+        IncomingEdgesSupport incomingEdgesSupport, ThreadPoolExecutor executor)
+    {
+        checkNotEmpty();
+        SparseIntDirectedWeightedGraph g = new SparseIntDirectedWeightedGraph(
+            vertexCount, trim(sources), trim(targets), trimWeights(), incomingEdgesSupport,
+            executor);
+        reset();
+        return g;
+    }
+
+    /**
+     * Build an undirected graph.
+     * 
+     * @return the graph
+     * @throws IllegalStateException if there are no vertices or no edges
+     */
+    public SparseIntUndirectedGraph buildUndirected()
+    {
+        checkNotEmpty();
+        SparseIntUndirectedGraph g =
+            new SparseIntUndirectedGraph(vertexCount, trim(sources), trim(targets));
+        reset();
+        return g;
+    }
+
+    /**
+     * Build an undirected weighted graph.
+     * 
+     * @return the graph
+     * @throws IllegalStateException if there are no vertices or no edges
+     */
+    public SparseIntUndirectedWeightedGraph buildUndirectedWeighted()
+    {
+        checkNotEmpty();
+        SparseIntUndirectedWeightedGraph g = new SparseIntUndirectedWeightedGraph(
+            vertexCount, trim(sources), trim(targets), trimWeights());
+        reset();
+        return g;
+    }
+
+    /**
+     * Sparse graphs need at least one vertex and one edge. Check this before building, so that
+     * the collected vertices and edges are kept if the graph cannot be built.
+     */
+    private void checkNotEmpty()
+    {
+        if (vertexCount == 0) {
+            throw new IllegalStateException("Cannot build a sparse graph without vertices");
+        }
+        if (edgeCount == 0) {
+            throw new IllegalStateException("Cannot build a sparse graph without edges");
+        }
+    }
+
+    private void ensureCapacity(int capacity, boolean exact)
+    {
+        if (capacity < 0) {
+            throw new IllegalStateException("Too many edges");
+        }
+        if (capacity <= sources.length) {
+            return;
+        }
+        int newCapacity = capacity;
+        if (!exact) {
+            long grown = Math.max(DEFAULT_CAPACITY, 2L * sources.length);
+            newCapacity = Math.max(capacity, (int) Math.min(MAX_CAPACITY, grown));
+        }
+        sources = Arrays.copyOf(sources, newCapacity);
+        targets = Arrays.copyOf(targets, newCapacity);
+        if (weights != null) {
+            weights = Arrays.copyOf(weights, newCapacity);
+        }
+    }
+
+    private int[] trim(int[] array)
+    {
+        return array.length == edgeCount ? array : Arrays.copyOf(array, edgeCount);
+    }
+
+    private double[] trimWeights()
+    {
+        if (weights == null) {
+            double[] result = new double[edgeCount];
+            Arrays.fill(result, Graph.DEFAULT_EDGE_WEIGHT);
+            return result;
+        }
+        return weights.length == edgeCount ? weights : Arrays.copyOf(weights, edgeCount);
+    }
+
+    private void reset()
+    {
+        vertexCount = 0;
+        edgeCount = 0;
+        sources = new int[0];
+        targets = new int[0];
+        weights = null;
+    }
+
+}
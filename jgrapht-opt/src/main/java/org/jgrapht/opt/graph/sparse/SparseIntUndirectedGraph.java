@@ -84,4 +84,21 @@ public class SparseIntUndirectedGraph
     {
         super(() -> new IncidenceMatrixSparseUndirectedSpecifics(numVertices, numEdges, edges));
     }
+
+    /**
+     * Create a new graph from primitive edge arrays. Edge $i$ connects {@code sources[i]} and
+     * {@code targets[i]}.
+     * 
+     * <p>
+     * This avoids creating an object per edge. The arrays are not copied and become the edge
+     * storage of the graph, thus they must not be modified afterwards.
+     * 
+     * @param numVertices number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     */
+    public SparseIntUndirectedGraph(int numVertices, int[] sources, int[] targets)
+    {
+        super(() -> new IncidenceMatrixSparseUndirectedSpecifics(numVertices, sources, targets));
+    }
 }
@@ -109,6 +109,26 @@ public class SparseIntUndirectedWeightedGraph
         });
     }
 
+    /**
+     * Create a new graph from primitive edge arrays. Edge $i$ connects {@code sources[i]} and
+     * {@code targets[i]} and has weight {@code weights[i]}. The arrays are not copied and become
+     * the edge storage of the graph.
+     * 
+     * @param numVertices number of vertices
+     * @param sources the first endpoint of each edge
+     * @param targets the second endpoint of each edge
+     * @param weights the weight of each edge
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, int[] sources, int[] targets, double[] weights)
+    {
+        super(numVertices, sources, targets);
+        if (weights.length != sources.length) {
+            throw new IllegalArgumentException("Weights array must have one entry per edge");
+        }
+        this.weights = weights;
+    }
+
     @Override
     public GraphType getType()
     {
@@ -21,7 +21,9 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.function.Supplier;
 
+import org.jgrapht.Graph;
 import org.jgrapht.GraphType;
+import org.jgrapht.IntGraphIterables;
 import org.jgrapht.graph.AbstractGraph;
 
 /**
@@ -204,4 +206,53 @@ public class AbstractSparseSpecificsGraph<S extends SparseGraphSpecifics>
         return specifics.getAllEdges(sourceVertex, targetVertex);
     }
 
+    /**
+     * {@inheritDoc}
+     * 
+     * The returned object implements {@link IntGraphIterables}.
+     */
+    @Override
+    public IntGraphIterables iterables()
+    {
+        return new SparseIntGraphIterables();
+    }
+
+    /**
+     * Primitive access to the graph which delegates to the specifics.
+     */
+    private class SparseIntGraphIterables
+        implements
+        IntGraphIterables
+    {
+        @Override
+        public Graph<Integer, Integer> getGraph()
+        {
+            return AbstractSparseSpecificsGraph.this;
+        }
+
+        @Override
+        public long vertexCount()
+        {
+            return specifics.verticesCount();
+        }
+
+        @Override
+        public long edgeCount()
+        {
+            return specifics.edgesCount();
+        }
+
+        @Override
+        public void forEachOutgoingEdge(int vertex, IntEdgeConsumer action)
+        {
+            specifics.forEachOutgoingEdge(vertex, action);
+        }
+
+        @Override
+        public void forEachIncomingEdge(int vertex, IntEdgeConsumer action)
+        {
+            specifics.forEachIncomingEdge(vertex, action);
+        }
+    }
+
 }
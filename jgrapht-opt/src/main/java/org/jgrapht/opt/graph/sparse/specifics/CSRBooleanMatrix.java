@@ -21,6 +21,9 @@ import org.jgrapht.alg.util.*;
 
 import java.io.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
 
 /**
  * A sparse boolean matrix in Compressed Sparse Row (CSR) format.
@@ -36,6 +39,16 @@ class CSRBooleanMatrix
 {
     private static final long serialVersionUID = -8639339411487665967L;
 
+    /**
+     * Below this size parallel loops are executed by the calling thread.
+     */
+    private static final int MIN_PARALLEL_SIZE = 1 << 16;
+    private static final int BLOCKS_PER_THREAD = 4;
+    /**
+     * Minimum number of columns counted by each block of a parallel build.
+     */
+    private static final int MIN_BLOCK_SIZE = 1 << 14;
+
     private static final Comparator<Pair<Integer, Integer>> INTEGER_PAIR_LEX_COMPARATOR =
         (o1, o2) -> {
             if (o1.getFirst() < o2.getFirst()) {
@@ -97,7 +110,150 @@ class CSRBooleanMatrix
         }
 
         // prefix sum
-        Arrays.parallelPrefix(rowOffsets, (x, y) -> x + y);
+        for (int row = 0; row < rows; row++) {
+            rowOffsets[row + 1] += rowOffsets[row];
+        }
+    }
+
+    /**
+     * Create a new CSR boolean matrix which has exactly one entry per column. This is the layout of
+     * an incidence matrix where the columns are the edges.
+     * 
+     * <p>
+     * The rows are filled using a counting sort. If an executor is given, counting and scattering
+     * are split into consecutive blocks of columns which are processed in parallel. Each block
+     * counts into its own histogram, thus the threads do not contend, and the histograms are
+     * merged into the offsets of each block inside each row. Scattering therefore keeps the columns
+     * of each row in increasing order and the result is the same as the one of a sequential build.
+     * The number of blocks is bounded by the available processors, by the number of columns and
+     * such that the histograms together are at most twice as large as the matrix. Thus even
+     * matrices with fewer entries than rows are built in parallel, using at least two blocks if
+     * there are enough columns. All work runs either in the calling thread or in the given
+     * executor.
+     * 
+     * @param rows the number of rows
+     * @param rowOfColumn for each column the row of its single entry
+     * @param executor executor for parallel construction, or null for sequential construction
+     */
+    public CSRBooleanMatrix(int rows, int[] rowOfColumn, ThreadPoolExecutor executor)
+    {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Rows must be positive");
+        }
+        if (rowOfColumn == null) {
+            throw new IllegalArgumentException("Entries cannot be null");
+        }
+        if (rowOfColumn.length < 1) {
+            throw new IllegalArgumentException("Columns must be positive");
+        }
+
+        final int columns = rowOfColumn.length;
+        final int[] rowOffsets = new int[rows + 1];
+        final int[] columnIndices = new int[columns];
+        this.columns = columns;
+        this.rowOffsets = rowOffsets;
+        this.columnIndices = columnIndices;
+
+        // each block counts into its own histogram, all of them at most twice the matrix size
+        final int numBlocks = executor == null || columns < MIN_PARALLEL_SIZE ? 1
+            : (int) Math.min(
+                Math.min(parallelism(executor), columns / MIN_BLOCK_SIZE),
+                2 + 2L * columns / rows);
+
+        if (numBlocks < 2) {
+            for (int column = 0; column < columns; column++) {
+                rowOffsets[checkRow(rowOfColumn[column], rows) + 1]++;
+            }
+            for (int row = 0; row < rows; row++) {
+                rowOffsets[row + 1] += rowOffsets[row];
+            }
+            int[] next = Arrays.copyOf(rowOffsets, rows);
+            for (int column = 0; column < columns; column++) {
+                columnIndices[next[rowOfColumn[column]]++] = column;
+            }
+            return;
+        }
+
+        int[][] histograms = new int[numBlocks][];
+        forEachBlockIndex(executor, numBlocks, block -> {
+            int[] histogram = new int[rows];
+            int to = blockStart(columns, numBlocks, block + 1);
+            for (int column = blockStart(columns, numBlocks, block); column < to; column++) {
+                histogram[checkRow(rowOfColumn[column], rows)]++;
+            }
+            histograms[block] = histogram;
+        });
+
+        // turn the histograms into offsets of each block inside each row
+        forEachBlock(executor, rows, (from, to) -> {
+            for (int row = from; row < to; row++) {
+                int total = 0;
+                for (int[] histogram : histograms) {
+                    int count = histogram[row];
+                    histogram[row] = total;
+                    total += count;
+                }
+                rowOffsets[row + 1] = total;
+            }
+        });
+
+        // prefix sum
+        for (int row = 0; row < rows; row++) {
+            rowOffsets[row + 1] += rowOffsets[row];
+        }
+
+        // scatter, blocks and columns inside blocks are in increasing order thus rows are sorted
+        forEachBlockIndex(executor, numBlocks, block -> {
+            int[] next = histograms[block];
+            int to = blockStart(columns, numBlocks, block + 1);
+            for (int column = blockStart(columns, numBlocks, block); column < to; column++) {
+                int row = rowOfColumn[column];
+                columnIndices[rowOffsets[row] + next[row]++] = column;
+            }
+        });
+    }
+
+    /**
+     * Create a new CSR boolean matrix which has exactly two entries per column, possibly in the
+     * same row. This is the layout of the incidence matrix of an undirected graph where the columns
+     * are the edges. The rows are filled in column order using a counting sort.
+     * 
+     * @param rows the number of rows
+     * @param firstRowOfColumn for each column the row of its first entry
+     * @param secondRowOfColumn for each column the row of its second entry
+     */
+    public CSRBooleanMatrix(int rows, int[] firstRowOfColumn, int[] secondRowOfColumn)
+    {
+        if (rows < 1) {
+            throw new IllegalArgumentException("Rows must be positive");
+        }
+        if (firstRowOfColumn == null || secondRowOfColumn == null) {
+            throw new IllegalArgumentException("Entries cannot be null");
+        }
+        if (firstRowOfColumn.length != secondRowOfColumn.length) {
+            throw new IllegalArgumentException("Entries must have equal length");
+        }
+        if (firstRowOfColumn.length < 1) {
+            throw new IllegalArgumentException("Columns must be positive");
+        }
+
+        final int columns = firstRowOfColumn.length;
+        this.columns = columns;
+        this.rowOffsets = new int[rows + 1];
+        this.columnIndices = new int[2 * columns];
+
+        for (int column = 0; column < columns; column++) {
+            rowOffsets[checkRow(firstRowOfColumn[column], rows) + 1]++;
+            rowOffsets[checkRow(secondRowOfColumn[column], rows) + 1]++;
+        }
+        for (int row = 0; row < rows; row++) {
+            rowOffsets[row + 1] += rowOffsets[row];
+        }
+        int[] next = Arrays.copyOf(rowOffsets, rows);
+        for (int column = 0; column < columns; column++) {
+            columnIndices[next[firstRowOfColumn[column]]++] = column;
+            columnIndices[next[secondRowOfColumn[column]]++] = column;
+        }
     }
 
     /**
@@ -133,6 +289,39 @@ class CSRBooleanMatrix
         return rowOffsets[row + 1] - rowOffsets[row];
     }
 
+    /**
+     * Get the position of the first non-zero entry of a row in the column indices.
+     * 
+     * @param row the row
+     * @return the position of the first non-zero entry of the row
+     */
+    int rowStart(int row)
+    {
+        return rowOffsets[row];
+    }
+
+    /**
+     * Get the position after the last non-zero entry of a row in the column indices.
+     * 
+     * @param row the row
+     * @return the position after the last non-zero entry of the row
+     */
+    int rowEnd(int row)
+    {
+        return rowOffsets[row + 1];
+    }
+
+    /**
+     * Get the column of the non-zero entry at a position.
+     * 
+     * @param pos the position
+     * @return the column
+     */
+    int column(int pos)
+    {
+        return columnIndices[pos];
+    }
+
     /**
      * Get an iterator over the non-zero entries of a row.
      * 
@@ -161,6 +350,119 @@ class CSRBooleanMatrix
         return nonZeros;
     }
 
+    private static int checkRow(int row, int rows)
+    {
+        if (row < 0 || row >= rows) {
+            throw new IllegalArgumentException("Entry at invalid row: " + row);
+        }
+        return row;
+    }
+
+    /**
+     * An action on a range $[from, to)$ of indices.
+     */
+    interface BlockAction
+    {
+        /**
+         * Process a range.
+         * 
+         * @param from the first index, inclusive
+         * @param to the last index, exclusive
+         */
+        void accept(int from, int to);
+    }
+
+    /**
+     * Splits the range $[0, size)$ into blocks and processes them in parallel. Each task repeatedly
+     * takes the next unprocessed block. Small ranges are processed by the calling thread.
+     * 
+     * @param executor the executor
+     * @param size the size of the range
+     * @param action the action
+     */
+    static void forEachBlock(ThreadPoolExecutor executor, int size, BlockAction action)
+    {
+        if (size <= 0) {
+            return;
+        }
+        int parallelism = executor == null ? 1 : parallelism(executor);
+        if (size < MIN_PARALLEL_SIZE || parallelism == 1) {
+            action.accept(0, size);
+            return;
+        }
+        int numBlocks = Math.min(parallelism * BLOCKS_PER_THREAD, size);
+        AtomicInteger nextBlock = new AtomicInteger();
+        runTasks(executor, Math.min(parallelism, numBlocks), () -> {
+            int block;
+            while ((block = nextBlock.getAndIncrement()) < numBlocks) {
+                action.accept(
+                    blockStart(size, numBlocks, block), blockStart(size, numBlocks, block + 1));
+            }
+        });
+    }
+
+    /**
+     * Processes the blocks $0$ to $numBlocks - 1$ in parallel, each one exactly once.
+     * 
+     * @param executor the executor
+     * @param numBlocks the number of blocks
+     * @param action the action, called with the index of a block
+     */
+    private static void forEachBlockIndex(
+        ThreadPoolExecutor executor, int numBlocks, IntConsumer action)
+    {
+        if (numBlocks == 1) {
+            action.accept(0);
+            return;
+        }
+        AtomicInteger nextBlock = new AtomicInteger();
+        runTasks(executor, Math.min(parallelism(executor), numBlocks), () -> {
+            int block;
+            while ((block = nextBlock.getAndIncrement()) < numBlocks) {
+                action.accept(block);
+            }
+        });
+    }
+
+    /**
+     * Get the number of threads to use, which is bounded by the number of available processors
+     * since the maximum pool size of an unbounded executor is {@link Integer#MAX_VALUE}.
+     * 
+     * @param executor the executor
+     * @return the number of threads to use
+     */
+    private static int parallelism(ThreadPoolExecutor executor)
+    {
+        int processors = Runtime.getRuntime().availableProcessors();
+        return Math.max(1, Math.min(executor.getMaximumPoolSize(), processors));
+    }
+
+    private static int blockStart(int size, int numBlocks, int block)
+    {
+        return (int) ((long) size * block / numBlocks);
+    }
+
+    private static void runTasks(ThreadPoolExecutor executor, int numTasks, Runnable task)
+    {
+        ExecutorCompletionService<Void> completionService =
+            new ExecutorCompletionService<>(executor);
+        for (int t = 0; t < numTasks; t++) {
+            completionService.submit(task, null);
+        }
+        for (int t = 0; t < numTasks; t++) {
+            try {
+                completionService.take().get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException(e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                    : new RuntimeException(cause);
+            }
+        }
+    }
+
     private class NonZerosIterator
         implements
         Iterator<Integer>
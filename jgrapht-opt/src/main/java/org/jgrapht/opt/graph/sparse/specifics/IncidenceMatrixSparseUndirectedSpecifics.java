@@ -26,6 +26,7 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.jgrapht.GraphType;
+import org.jgrapht.IntGraphIterables.IntEdgeConsumer;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.graph.DefaultGraphType;
 
@@ -71,6 +72,22 @@ public class IncidenceMatrixSparseUndirectedSpecifics
         incidenceMatrix = new CSRBooleanMatrix(numVertices, m, nonZeros);
     }
 
+    /**
+     * Create a new graph from primitive edge arrays. Edge $i$ connects {@code source[i]} and
+     * {@code target[i]}. The arrays are not copied and become part of the graph, thus they must not
+     * be modified afterwards.
+     * 
+     * @param numVertices number of vertices
+     * @param source the first endpoint of each edge
+     * @param target the second endpoint of each edge
+     */
+    public IncidenceMatrixSparseUndirectedSpecifics(int numVertices, int[] source, int[] target)
+    {
+        this.incidenceMatrix = new CSRBooleanMatrix(numVertices, source, target);
+        this.source = source;
+        this.target = target;
+    }
+
     @Override
     public long edgesCount()
     {
@@ -125,6 +142,28 @@ public class IncidenceMatrixSparseUndirectedSpecifics
         return incidenceMatrix.nonZerosSet(vertex);
     }
 
+    @Override
+    public void forEachOutgoingEdge(int vertex, IntEdgeConsumer action)
+    {
+        assertVertexExist(vertex);
+        int end = incidenceMatrix.rowEnd(vertex);
+        int previous = -1;
+        for (int pos = incidenceMatrix.rowStart(vertex); pos < end; pos++) {
+            int e = incidenceMatrix.column(pos);
+            // a self-loop has two adjacent entries in the row of its vertex
+            if (e != previous) {
+                action.accept(e, source[e] == vertex ? target[e] : source[e]);
+                previous = e;
+            }
+        }
+    }
+
+    @Override
+    public void forEachIncomingEdge(int vertex, IntEdgeConsumer action)
+    {
+        forEachOutgoingEdge(vertex, action);
+    }
+
     @Override
     public GraphType getType()
     {
@@ -17,12 +17,12 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
+import org.jgrapht.IntGraphIterables.IntEdgeConsumer;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.util.UnmodifiableUnionSet;
 
@@ -63,6 +63,30 @@ public class IncomingNoReindexSparseDirectedSpecifics
         }
     }
 
+    /**
+     * Create a new graph from primitive edge arrays. Edge $i$ starts at {@code source[i]} and ends
+     * at {@code target[i]}. The arrays are not copied and become part of the graph, thus they must
+     * not be modified afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source vertex of each edge
+     * @param target the target vertex of each edge
+     * @param lazyIncomingEdges whether to lazily support incoming edge traversals, only if actually
+     *        needed by the user. A lazily built index is always built sequentially.
+     * @param executor executor used to build the indices in parallel, or null for a sequential
+     *        build
+     */
+    public IncomingNoReindexSparseDirectedSpecifics(
+        int numVertices, int[] source, int[] target, boolean lazyIncomingEdges,
+        ThreadPoolExecutor executor)
+    {
+        super(numVertices, source, target, executor);
+
+        if (!lazyIncomingEdges) {
+            inIncidenceMatrix = new CSRBooleanMatrix(numVertices, target, executor);
+        }
+    }
+
     @Override
     public long degreeOf(Integer vertex)
     {
@@ -104,18 +128,27 @@ public class IncomingNoReindexSparseDirectedSpecifics
         return inIncidenceMatrix.nonZerosSet(vertex);
     }
 
+    @Override
+    public void forEachIncomingEdge(int vertex, IntEdgeConsumer action)
+    {
+        assertVertexExist(vertex);
+        if (inIncidenceMatrix == null) {
+            indexIncomingEdges();
+        }
+        int end = inIncidenceMatrix.rowEnd(vertex);
+        for (int pos = inIncidenceMatrix.rowStart(vertex); pos < end; pos++) {
+            int e = inIncidenceMatrix.column(pos);
+            action.accept(e, source[e]);
+        }
+    }
+
     /**
      * Build the index for the incoming edges.
      */
     protected void indexIncomingEdges()
     {
-        int n = outIncidenceMatrix.rows();
-        int m = source.length;
-        List<Pair<Integer, Integer>> incoming = new ArrayList<>(m);
-        for (int i = 0; i < m; i++) {
-            incoming.add(Pair.of(target[i], i));
-        }
-        inIncidenceMatrix = new CSRBooleanMatrix(n, m, incoming);
+        inIncidenceMatrix =
+            new CSRBooleanMatrix(outIncidenceMatrix.rows(), target, (ThreadPoolExecutor) null);
     }
 
 }
@@ -17,15 +17,15 @@
  */
 package org.jgrapht.opt.graph.sparse.specifics;
 
-import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.jgrapht.GraphType;
+import org.jgrapht.IntGraphIterables.IntEdgeConsumer;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.graph.DefaultGraphType;
 
@@ -73,16 +73,43 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
         source = new int[m];
         target = new int[m];
 
-        List<Pair<Integer, Integer>> outgoing = new ArrayList<>(m);
         int[] eIndex = new int[1];
         edges.get().forEach(e -> {
             source[eIndex[0]] = e.getFirst();
             target[eIndex[0]] = e.getSecond();
-            outgoing.add(Pair.of(e.getFirst(), eIndex[0]));
             eIndex[0]++;
         });
 
-        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, m, outgoing);
+        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, source, (ThreadPoolExecutor) null);
+    }
+
+    /**
+     * Create a new graph from primitive edge arrays. Edge $i$ starts at {@code source[i]} and ends
+     * at {@code target[i]}. The arrays are not copied and become part of the graph, thus they must
+     * not be modified afterwards.
+     * 
+     * @param numVertices the number of vertices
+     * @param source the source vertex of each edge
+     * @param target the target vertex of each edge
+     * @param executor executor used to build the index in parallel, or null for a sequential build
+     */
+    public NoIncomingNoReindexSparseDirectedSpecifics(
+        int numVertices, int[] source, int[] target, ThreadPoolExecutor executor)
+    {
+        if (source.length != target.length) {
+            throw new IllegalArgumentException("Source and target arrays must have equal length");
+        }
+        this.source = source;
+        this.target = target;
+
+        CSRBooleanMatrix.forEachBlock(executor, target.length, (from, to) -> {
+            for (int e = from; e < to; e++) {
+                if (target[e] < 0 || target[e] >= numVertices) {
+                    throw new IllegalArgumentException("no such vertex in graph: " + target[e]);
+                }
+            }
+        });
+        outIncidenceMatrix = new CSRBooleanMatrix(numVertices, source, executor);
     }
 
     @Override
@@ -109,6 +136,23 @@ public class NoIncomingNoReindexSparseDirectedSpecifics
         throw new UnsupportedOperationException(NO_INCOMING);
     }
 
+    @Override
+    public void forEachOutgoingEdge(int vertex, IntEdgeConsumer action)
+    {
+        assertVertexExist(vertex);
+        int end = outIncidenceMatrix.rowEnd(vertex);
+        for (int pos = outIncidenceMatrix.rowStart(vertex); pos < end; pos++) {
+            int e = outIncidenceMatrix.column(pos);
+            action.accept(e, target[e]);
+        }
+    }
+
+    @Override
+    public void forEachIncomingEdge(int vertex, IntEdgeConsumer action)
+    {
+        throw new UnsupportedOperationException(NO_INCOMING);
+    }
+
     @Override
     public Set<Integer> incomingEdgesOf(Integer vertex)
     {
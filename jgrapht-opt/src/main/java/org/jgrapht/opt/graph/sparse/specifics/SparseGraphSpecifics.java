@@ -21,6 +21,8 @@ import java.util.Set;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphType;
+import org.jgrapht.IntGraphIterables;
+import org.jgrapht.IntGraphIterables.IntEdgeConsumer;
 
 /**
  * Specifics which provide a sparse graph implementation.
@@ -293,6 +295,36 @@ public interface SparseGraphSpecifics
      */
     Integer getEdge(Integer sourceVertex, Integer targetVertex);
 
+    /**
+     * Perform an action on each outgoing edge of a vertex, passing the edge and its opposite
+     * endpoint. See {@link IntGraphIterables#forEachOutgoingEdge(int, IntEdgeConsumer)}.
+     * 
+     * @param vertex the vertex
+     * @param action the action
+     */
+    default void forEachOutgoingEdge(int vertex, IntEdgeConsumer action)
+    {
+        for (Integer e : outgoingEdgesOf(vertex)) {
+            int source = getEdgeSource(e);
+            action.accept(e, source == vertex ? getEdgeTarget(e) : source);
+        }
+    }
+
+    /**
+     * Perform an action on each incoming edge of a vertex, passing the edge and its opposite
+     * endpoint. See {@link IntGraphIterables#forEachIncomingEdge(int, IntEdgeConsumer)}.
+     * 
+     * @param vertex the vertex
+     * @param action the action
+     */
+    default void forEachIncomingEdge(int vertex, IntEdgeConsumer action)
+    {
+        for (Integer e : incomingEdgesOf(vertex)) {
+            int target = getEdgeTarget(e);
+            action.accept(e, target == vertex ? getEdgeSource(e) : target);
+        }
+    }
+
     /**
      * Returns a set of all edges connecting source vertex to target vertex if such vertices exist
      * in this graph. If any of the vertices does not exist or is <code>null</code>, returns
@@ -0,0 +1,111 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.attributes;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.graph.sparse.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ColumnWeightedGraph} and the numeric columns.
+ *
+ * @author Dimitrios Michail
+ */
+public class ColumnWeightedGraphTest
+{
+
+    @Test
+    public void testColumns()
+    {
+        DoubleColumn doubles = new DoubleColumn(2, -1d);
+        assertEquals(2, doubles.size());
+        assertEquals(-1d, doubles.get(1), 0d);
+        assertEquals(-1d, doubles.get(100), 0d);
+        doubles.set(10, 2.5);
+        assertTrue(doubles.size() > 10);
+        assertEquals(2.5, doubles.get(10), 0d);
+        assertEquals(-1d, doubles.get(9), 0d);
+        assertEquals(2.5, doubles.applyAsDouble(10), 0d);
+        assertEquals(Double.valueOf(2.5), doubles.apply(10));
+
+        IntColumn ints = new IntColumn(3, i -> i * 10);
+        assertEquals(20, ints.get(2));
+        assertEquals(0, ints.get(3));
+        assertEquals(20d, ints.getAsDouble(2), 0d);
+
+        LongColumn longs = new LongColumn();
+        longs.set(0, 1L << 40);
+        assertEquals(1L << 40, longs.get(0));
+        assertEquals(0L, longs.getDefaultValue());
+
+        FloatColumn floats = new FloatColumn(1, 0.5f);
+        floats.set(4, 1.5f);
+        assertEquals(0.5f, floats.get(3), 0f);
+        assertEquals(1.5, floats.getAsDouble(4), 0d);
+    }
+
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testNegativeIndex()
+    {
+        new IntColumn().set(-1, 1);
+    }
+
+    @Test
+    public void testSwitchMetrics()
+    {
+        List<Pair<Integer, Integer>> edges =
+            List.of(Pair.of(0, 1), Pair.of(1, 3), Pair.of(0, 2), Pair.of(2, 3));
+        Graph<Integer, Integer> graph = new SparseIntDirectedGraph(4, edges);
+
+        DoubleColumn cost = new DoubleColumn(4, e -> e < 2 ? 1d : 5d);
+        IntColumn latency = new IntColumn(4, e -> e < 2 ? 10 : 1);
+
+        Graph<Integer, Integer> byCost = new ColumnWeightedGraph(graph, cost);
+        assertTrue(byCost.getType().isWeighted());
+        assertEquals(
+            List.of(0, 1), new DijkstraShortestPath<>(byCost).getPath(0, 3).getEdgeList());
+        assertEquals(
+            List.of(2, 3),
+            new DijkstraShortestPath<>(new ColumnWeightedGraph(graph, latency))
+                .getPath(0, 3).getEdgeList());
+
+        // columns are also weight functions
+        Graph<Integer, Integer> byLatency = new AsWeightedGraph<>(graph, latency, false, false);
+        assertEquals(2d, new DijkstraShortestPath<>(byLatency).getPathWeight(0, 3), 0d);
+
+        // modifications of the column are visible through the view
+        cost.set(1, 20d);
+        assertEquals(20d, byCost.getEdgeWeight(1), 0d);
+        assertEquals(10d, new DijkstraShortestPath<>(byCost).getPathWeight(0, 3), 0d);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSetEdgeWeight()
+    {
+        Graph<Integer, Integer> graph = new SparseIntDirectedGraph(2, List.of(Pair.of(0, 1)));
+        new ColumnWeightedGraph(graph, new DoubleColumn(1)).setEdgeWeight(0, 1d);
+    }
+
+}
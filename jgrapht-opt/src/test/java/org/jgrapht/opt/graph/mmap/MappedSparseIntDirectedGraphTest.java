@@ -0,0 +1,206 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.mmap;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MappedSparseIntDirectedGraph}.
+ *
+ * @author Dimitrios Michail
+ */
+public class MappedSparseIntDirectedGraphTest
+{
+    private Path file;
+
+    @Before
+    public void createFile()
+        throws IOException
+    {
+        file = Files.createTempFile("jgrapht", ".graph");
+    }
+
+    @After
+    public void deleteFile()
+        throws IOException
+    {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testSmall()
+        throws IOException
+    {
+        Graph<Integer, Integer> g = new MappedSparseIntDirectedGraphBuilder(5, false)
+            .addEdge(3, 1).addEdge(0, 1).addEdge(3, 3).addEdge(0, 2).addEdge(0, 1)
+            .buildGraph(file);
+
+        assertTrue(g.getType().isDirected());
+        assertFalse(g.getType().isWeighted());
+        assertFalse(g.getType().isModifiable());
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(5, g.edgeSet().size());
+
+        // edges renumbered by source, in insertion order
+        assertEquals(Arrays.asList(0, 1, 2), new ArrayList<>(g.outgoingEdgesOf(0)));
+        assertEquals(1, g.getEdgeTarget(0).intValue());
+        assertEquals(2, g.getEdgeTarget(1).intValue());
+        assertEquals(1, g.getEdgeTarget(2).intValue());
+        assertEquals(Arrays.asList(3, 4), new ArrayList<>(g.outgoingEdgesOf(3)));
+        assertEquals(3, g.getEdgeSource(3).intValue());
+        assertEquals(1, g.getEdgeTarget(3).intValue());
+
+        assertEquals(Set.of(0, 2, 3), g.incomingEdgesOf(1));
+        assertTrue(g.incomingEdgesOf(1).contains(2));
+        assertFalse(g.incomingEdgesOf(1).contains(1));
+        assertEquals(Set.of(3, 4), g.edgesOf(3));
+        assertEquals(3, g.degreeOf(3));
+        assertEquals(0, g.degreeOf(4));
+        assertEquals(Integer.valueOf(0), g.getEdge(0, 1));
+        assertEquals(Set.of(0, 2), g.getAllEdges(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertNull(g.getAllEdges(0, 5));
+        assertEquals(1.0, g.getEdgeWeight(2), 0d);
+    }
+
+    @Test
+    public void testEmpty()
+        throws IOException
+    {
+        Graph<Integer, Integer> g =
+            new MappedSparseIntDirectedGraphBuilder(3, true).buildGraph(file);
+        assertEquals(3, g.vertexSet().size());
+        assertTrue(g.edgeSet().isEmpty());
+        assertTrue(g.edgesOf(2).isEmpty());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+        throws IOException
+    {
+        Graph<Integer, Integer> g =
+            new MappedSparseIntDirectedGraphBuilder(3, true).addEdge(0, 1).buildGraph(file);
+        g.setEdgeWeight(0, 2d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidVertex()
+        throws IOException
+    {
+        new MappedSparseIntDirectedGraphBuilder(3, false).addEdge(0, 3);
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedFile()
+        throws IOException
+    {
+        new MappedSparseIntDirectedGraphBuilder(10, true).addEdge(0, 1).addEdge(2, 3).build(file);
+        byte[] content = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(content, content.length - 4));
+        new MappedSparseIntDirectedGraph(file);
+    }
+
+    @Test
+    public void testRandomWithExternalSort()
+        throws IOException
+    {
+        Random rng = new Random(31);
+        int n = 200;
+        int m = 5000;
+        Graph<Integer, Integer> expected = new DirectedWeightedPseudograph<>(null, null);
+        for (int v = 0; v < n; v++) {
+            expected.addVertex(v);
+        }
+        // small runs force several temporary files and a multi-way merge
+        MappedSparseIntDirectedGraphBuilder builder =
+            new MappedSparseIntDirectedGraphBuilder(n, true).runSize(317);
+        List<int[]> edges = new ArrayList<>();
+        for (int i = 0; i < m; i++) {
+            int s = rng.nextInt(n);
+            int t = rng.nextInt(n);
+            double w = rng.nextDouble();
+            builder.addEdge(s, t, w);
+            edges.add(new int[] { s, t, i });
+            expected.addEdge(s, t, i);
+            expected.setEdgeWeight(i, w);
+        }
+        Graph<Integer, Integer> g = builder.buildGraph(file);
+
+        // expected numbering: stable sort by source
+        edges.sort(Comparator.comparingInt(e -> e[0]));
+        int[] original = new int[m];
+        for (int e = 0; e < m; e++) {
+            original[e] = edges.get(e)[2];
+        }
+
+        assertEquals(m, g.edgeSet().size());
+        for (int e = 0; e < m; e++) {
+            assertEquals(expected.getEdgeSource(original[e]), g.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(original[e]), g.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(original[e]), g.getEdgeWeight(e), 0d);
+        }
+        for (int v = 0; v < n; v++) {
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            Set<Integer> incoming = new HashSet<>();
+            int previous = -1;
+            for (Integer e : g.incomingEdgesOf(v)) {
+                assertTrue(e > previous);
+                previous = e;
+                assertTrue(g.incomingEdgesOf(v).contains(e));
+                incoming.add(original[e]);
+            }
+            assertEquals(expected.incomingEdgesOf(v), incoming);
+            Set<Integer> outgoing = new HashSet<>();
+            for (Integer e : g.outgoingEdgesOf(v)) {
+                outgoing.add(original[e]);
+            }
+            assertEquals(expected.outgoingEdgesOf(v), outgoing);
+        }
+
+        IntGraphIterables ints = (IntGraphIterables) g.iterables();
+        for (int v = 0; v < n; v++) {
+            List<Integer> outgoing = new ArrayList<>();
+            ints.forEachOutgoingEdge(v, (e, u) -> {
+                outgoing.add(e);
+                assertEquals(g.getEdgeTarget(e).intValue(), u);
+            });
+            assertEquals(new ArrayList<>(g.outgoingEdgesOf(v)), outgoing);
+            List<Integer> incoming = new ArrayList<>();
+            ints.forEachIncomingEdge(v, (e, u) -> {
+                incoming.add(e);
+                assertEquals(g.getEdgeSource(e).intValue(), u);
+            });
+            assertEquals(new ArrayList<>(g.incomingEdgesOf(v)), incoming);
+        }
+
+        // a second open shares the same file
+        Graph<Integer, Integer> other = new MappedSparseIntDirectedGraph(file);
+        assertEquals(g.getEdgeTarget(m - 1), other.getEdgeTarget(m - 1));
+    }
+
+}
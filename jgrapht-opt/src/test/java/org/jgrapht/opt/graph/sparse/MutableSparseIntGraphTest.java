@@ -0,0 +1,199 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link MutableSparseIntGraph}.
+ *
+ * @author Dimitrios Michail
+ */
+public class MutableSparseIntGraphTest
+{
+
+    @Test
+    public void testDirected()
+    {
+        Graph<Integer, Integer> g = new MutableSparseIntGraph(true, false);
+        assertTrue(g.getType().isDirected());
+        assertTrue(g.getType().isAllowingMultipleEdges());
+        assertTrue(g.getType().isAllowingSelfLoops());
+        assertFalse(g.getType().isWeighted());
+
+        for (int i = 0; i < 4; i++) {
+            assertEquals(i, g.addVertex().intValue());
+        }
+        Integer e01 = g.addEdge(0, 1);
+        Integer e12 = g.addEdge(1, 2);
+        Integer e22 = g.addEdge(2, 2);
+        Integer e01b = g.addEdge(0, 1);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(Set.of(e01, e01b), g.outgoingEdgesOf(0));
+        assertEquals(Set.of(e01, e01b), g.getAllEdges(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(Set.of(e22), g.outgoingEdgesOf(2));
+        assertEquals(Set.of(e12, e22), g.incomingEdgesOf(2));
+        assertEquals(Set.of(e12, e22), g.edgesOf(2));
+        assertEquals(3, g.degreeOf(2));
+        assertEquals(1.0, g.getEdgeWeight(e12), 0d);
+
+        assertTrue(g.removeEdge(e01));
+        assertFalse(g.containsEdge(e01));
+        assertEquals(Set.of(e01b), g.outgoingEdgesOf(0));
+        assertTrue(g.removeVertex(2));
+        assertEquals(Set.of(e01b), g.edgeSet());
+        assertEquals(2, g.addVertex().intValue());
+    }
+
+    @Test
+    public void testUndirectedWeighted()
+    {
+        Graph<Integer, Integer> g = new MutableSparseIntGraph(false, true);
+        g.addVertex(5);
+        g.addVertex(7);
+        assertEquals(Set.of(5, 7), g.vertexSet());
+        assertEquals(0, g.addVertex().intValue());
+
+        Integer e = g.addEdge(5, 7);
+        Integer loop = g.addEdge(7, 7);
+        g.setEdgeWeight(e, 3.5);
+        assertEquals(3.5, g.getEdgeWeight(e), 0d);
+        assertEquals(e, g.getEdge(7, 5));
+        assertEquals(Set.of(e, loop), g.edgesOf(7));
+        assertEquals(3, g.degreeOf(7));
+        assertEquals(3, g.inDegreeOf(7));
+        assertEquals(1, g.degreeOf(5));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweightedSetWeight()
+    {
+        Graph<Integer, Integer> g = new MutableSparseIntGraph(false, false);
+        g.addVertex(0);
+        g.setEdgeWeight(g.addEdge(0, 0), 2d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, Integer> g = new MutableSparseIntGraph(true, false);
+        g.addVertex(0);
+        g.addEdge(0, 1);
+    }
+
+    @Test
+    public void testTooLargeVertex()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, Integer> g = new MutableSparseIntGraph(directed, false);
+            for (int v : new int[] { Integer.MAX_VALUE, Integer.MAX_VALUE - 8 }) {
+                try {
+                    g.addVertex(v);
+                    fail("Vertex " + v + " accepted");
+                } catch (IllegalArgumentException e) {
+                    // expected
+                }
+            }
+            assertTrue(g.vertexSet().isEmpty());
+        }
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Random rng = new Random(7);
+            MutableSparseIntGraph g = new MutableSparseIntGraph(directed, true);
+            Graph<Integer, Integer> reference = directed
+                ? new DirectedWeightedPseudograph<>(null, null)
+                : new WeightedPseudograph<>(null, null);
+
+            int n = 50;
+            for (int v = 0; v < n; v++) {
+                g.addVertex(v);
+                reference.addVertex(v);
+            }
+            for (int round = 0; round < 20000; round++) {
+                int op = rng.nextInt(100);
+                List<Integer> vertices = new ArrayList<>(reference.vertexSet());
+                if (op < 55 && !vertices.isEmpty()) {
+                    int s = vertices.get(rng.nextInt(vertices.size()));
+                    int t = vertices.get(rng.nextInt(vertices.size()));
+                    Integer e = g.addEdge(s, t);
+                    assertFalse(reference.containsEdge(e));
+                    double w = rng.nextDouble();
+                    g.setEdgeWeight(e, w);
+                    reference.addEdge(s, t, e);
+                    reference.setEdgeWeight(e, w);
+                } else if (op < 95 && !reference.edgeSet().isEmpty()) {
+                    List<Integer> edges = new ArrayList<>(reference.edgeSet());
+                    Integer e = edges.get(rng.nextInt(edges.size()));
+                    assertTrue(g.removeEdge(e));
+                    reference.removeEdge(e);
+                } else if (op < 98 && !vertices.isEmpty()) {
+                    Integer v = vertices.get(rng.nextInt(vertices.size()));
+                    assertTrue(g.removeVertex(v));
+                    reference.removeVertex(v);
+                } else if (op < 99) {
+                    Integer v = g.addVertex();
+                    assertTrue(reference.addVertex(v));
+                } else {
+                    g.compact();
+                }
+                if (round % 500 == 0) {
+                    assertSameGraph(reference, g);
+                }
+            }
+            assertSameGraph(reference, g);
+            g.compact();
+            assertSameGraph(reference, g);
+        }
+    }
+
+    private static void assertSameGraph(Graph<Integer, Integer> expected, Graph<Integer, Integer> g)
+    {
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(expected.edgeSet(), new HashSet<>(g.edgeSet()));
+        assertEquals(expected.edgeSet().size(), g.edgeSet().size());
+        for (Integer e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(e), 0d);
+        }
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.degreeOf(v), g.degreeOf(v));
+            assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.edgesOf(v), new HashSet<>(g.edgesOf(v)));
+            assertEquals(expected.edgesOf(v).size(), g.edgesOf(v).size());
+            assertEquals(expected.incomingEdgesOf(v), new HashSet<>(g.incomingEdgesOf(v)));
+            assertEquals(expected.outgoingEdgesOf(v), new HashSet<>(g.outgoingEdgesOf(v)));
+            assertEquals(
+                expected.outgoingEdgesOf(v).size(), g.outgoingEdgesOf(v).size());
+        }
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntGraphBuilder}.
+ *
+ * @author Dimitrios Michail
+ */
+public class SparseIntGraphBuilderTest
+{
+
+    @Test
+    public void testSameAsEdgeList()
+    {
+        Random rng = new Random(11);
+        int n = 100;
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            edges.add(Triple.of(rng.nextInt(n), rng.nextInt(n), rng.nextDouble()));
+        }
+        List<Pair<Integer, Integer>> unweighted = new ArrayList<>();
+        for (Triple<Integer, Integer, Double> e : edges) {
+            unweighted.add(Pair.of(e.getFirst(), e.getSecond()));
+        }
+
+        for (boolean reportCounts : new boolean[] { true, false }) {
+            SparseIntGraphBuilder builder = new SparseIntGraphBuilder();
+            load(builder, n, edges, reportCounts);
+            assertSameGraph(
+                new SparseIntDirectedWeightedGraph(n, edges), builder.buildDirectedWeighted());
+
+            load(builder, n, edges, reportCounts);
+            assertSameGraph(
+                new SparseIntDirectedGraph(
+                    n, unweighted, IncomingEdgesSupport.NO_INCOMING_EDGES),
+                builder.buildDirected(IncomingEdgesSupport.NO_INCOMING_EDGES, null));
+
+            load(builder, n, edges, reportCounts);
+            assertSameGraph(
+                new SparseIntUndirectedWeightedGraph(n, edges), builder.buildUndirectedWeighted());
+
+            load(builder, n, edges, reportCounts);
+            assertSameGraph(new SparseIntUndirectedGraph(n, unweighted), builder.buildUndirected());
+        }
+    }
+
+    @Test
+    public void testVerticesAndWeights()
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder();
+        builder.addEdge(0, 1);
+        builder.addEdge(1, 2, 3.0);
+        builder.addVertex(5);
+        builder.edgeConsumer().accept(Triple.of(2, 2, null));
+        assertEquals(6, builder.vertexCount());
+        assertEquals(3, builder.edgeCount());
+
+        Graph<Integer, Integer> g = builder.buildUndirectedWeighted();
+        assertEquals(6, g.vertexSet().size());
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(0), 0d);
+        assertEquals(3.0, g.getEdgeWeight(1), 0d);
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(2), 0d);
+        assertEquals(3, g.degreeOf(2));
+        assertEquals(0, g.degreeOf(5));
+
+        // the builder is reset after building
+        assertEquals(0, builder.vertexCount());
+        assertEquals(0, builder.edgeCount());
+    }
+
+    @Test
+    public void testWithoutEdges()
+    {
+        SparseIntGraphBuilder builder = new SparseIntGraphBuilder();
+        try {
+            builder.buildDirected();
+            fail("Graph without vertices built");
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        builder.addVertex(3);
+        for (Runnable build : Arrays.<Runnable> asList(
+            builder::buildDirected, builder::buildDirectedWeighted, builder::buildUndirected,
+            builder::buildUndirectedWeighted))
+        {
+            try {
+                build.run();
+                fail("Graph without edges built");
+            } catch (IllegalStateException e) {
+                // expected
+            }
+            // the collected vertices are kept
+            assertEquals(4, builder.vertexCount());
+        }
+
+        builder.addEdge(0, 1);
+        Graph<Integer, Integer> g = builder.buildDirected();
+        assertEquals(4, g.vertexSet().size());
+        assertEquals(1, g.edgeSet().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeVertex()
+    {
+        new SparseIntGraphBuilder().addEdge(0, -1);
+    }
+
+    private static void load(
+        SparseIntGraphBuilder builder, int n, List<Triple<Integer, Integer, Double>> edges,
+        boolean reportCounts)
+    {
+        if (reportCounts) {
+            builder.vertexCountConsumer().accept(n);
+            builder.edgeCountConsumer().accept(edges.size());
+        } else {
+            builder.vertexConsumer().accept(n - 1);
+        }
+        Consumer<Triple<Integer, Integer, Double>> consumer = builder.edgeConsumer();
+        edges.forEach(consumer);
+    }
+
+    private static void assertSameGraph(Graph<Integer, Integer> expected, Graph<Integer, Integer> g)
+    {
+        assertEquals(expected.getType().isDirected(), g.getType().isDirected());
+        assertEquals(expected.getType().isWeighted(), g.getType().isWeighted());
+        assertEquals(expected.vertexSet(), g.vertexSet());
+        assertEquals(expected.edgeSet(), g.edgeSet());
+        for (Integer e : expected.edgeSet()) {
+            assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+            assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+            assertEquals(expected.getEdgeWeight(e), g.getEdgeWeight(e), 0d);
+        }
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+            if (!expected.getType().isDirected()) {
+                assertEquals(expected.edgesOf(v), g.edgesOf(v));
+            }
+        }
+    }
+
+}
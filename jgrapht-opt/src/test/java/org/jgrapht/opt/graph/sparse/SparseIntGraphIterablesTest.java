@@ -0,0 +1,169 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for the primitive access of the sparse graphs and for the algorithms which use it.
+ *
+ * @author Dimitrios Michail
+ */
+public class SparseIntGraphIterablesTest
+{
+    private static final int N = 300;
+    private static final int M = 900;
+
+    @Test
+    public void testDirected()
+    {
+        List<Triple<Integer, Integer, Double>> edges = createRandomEdges(new Random(7));
+        Graph<Integer, Integer> g = new SparseIntDirectedWeightedGraph(N, edges);
+        assertTrue(g.iterables() instanceof IntGraphIterables);
+        assertSamePrimitiveAccess(g);
+        assertSameResults(copy(g, new DirectedWeightedPseudograph<>(null, null)), g);
+    }
+
+    @Test
+    public void testUndirected()
+    {
+        List<Triple<Integer, Integer, Double>> edges = createRandomEdges(new Random(11));
+        Graph<Integer, Integer> g = new SparseIntUndirectedWeightedGraph(N, edges);
+        assertTrue(g.iterables() instanceof IntGraphIterables);
+        assertSamePrimitiveAccess(g);
+        assertSameResults(copy(g, new WeightedPseudograph<>(null, null)), g);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testNoIncomingEdges()
+    {
+        List<Pair<Integer, Integer>> edges = Arrays.asList(Pair.of(0, 1), Pair.of(1, 2));
+        IntGraphIterables ints = (IntGraphIterables) new SparseIntDirectedGraph(
+            3, edges, IncomingEdgesSupport.NO_INCOMING_EDGES).iterables();
+        assertArrayEquals(new int[] { 2 }, ints.successors(1));
+        ints.forEachPredecessor(1, u -> {
+        });
+    }
+
+    private static void assertSamePrimitiveAccess(Graph<Integer, Integer> g)
+    {
+        IntGraphIterables ints = (IntGraphIterables) g.iterables();
+        assertEquals(N, ints.vertexCount());
+        for (int v = 0; v < N; v++) {
+            int x = v;
+            List<Integer> outgoing = new ArrayList<>();
+            ints.forEachOutgoingEdge(x, (e, u) -> {
+                outgoing.add(e);
+                assertEquals(u, Graphs.getOppositeVertex(g, e, x).intValue());
+            });
+            assertEquals(new ArrayList<>(g.outgoingEdgesOf(x)), outgoing);
+            List<Integer> incoming = new ArrayList<>();
+            ints.forEachIncomingEdge(x, (e, u) -> {
+                incoming.add(e);
+                assertEquals(u, Graphs.getOppositeVertex(g, e, x).intValue());
+            });
+            assertEquals(new ArrayList<>(g.incomingEdgesOf(x)), incoming);
+
+            int[] successors = ints.successors(x);
+            assertEquals(outgoing.size(), successors.length);
+            PrimitiveIterator.OfInt it = ints.successorIterator(x);
+            for (int u : successors) {
+                assertEquals(u, it.nextInt());
+            }
+            assertFalse(it.hasNext());
+            assertEquals(incoming.size(), ints.predecessors(x).length);
+        }
+    }
+
+    private static void assertSameResults(
+        Graph<Integer, Integer> expected, Graph<Integer, Integer> g)
+    {
+        for (int s = 0; s < N; s += 37) {
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, Integer> bfsExpected =
+                new BFSShortestPath<>(expected).getPaths(s);
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, Integer> bfs =
+                new BFSShortestPath<>(g).getPaths(s);
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, Integer> dijkstraExpected =
+                new IntVertexDijkstraShortestPath<>(expected).getPaths(s);
+            ShortestPathAlgorithm.SingleSourcePaths<Integer, Integer> dijkstra =
+                new IntVertexDijkstraShortestPath<>(g).getPaths(s);
+            for (int t = 0; t < N; t++) {
+                assertEquals(bfsExpected.getWeight(t), bfs.getWeight(t), 0d);
+                GraphPath<Integer, Integer> path = bfs.getPath(t);
+                if (path != null) {
+                    assertEquals(path.getLength(), (int) bfs.getWeight(t));
+                    assertEquals(t, path.getEndVertex().intValue());
+                }
+                assertEquals(dijkstraExpected.getWeight(t), dijkstra.getWeight(t), 1e-9);
+                path = dijkstra.getPath(t);
+                if (path != null) {
+                    assertEquals(
+                        dijkstra.getWeight(t),
+                        path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum(), 1e-9);
+                }
+            }
+        }
+
+        assertEquals(
+            new HashSet<>(new ConnectivityInspector<>(expected).connectedSets()),
+            new HashSet<>(new ConnectivityInspector<>(g).connectedSets()));
+
+        Map<Integer, Double> expectedScores = new PageRank<>(expected).getScores();
+        Map<Integer, Double> scores = new PageRank<>(g).getScores();
+        for (int v = 0; v < N; v++) {
+            assertEquals(expectedScores.get(v), scores.get(v), 1e-9);
+        }
+    }
+
+    private static List<Triple<Integer, Integer, Double>> createRandomEdges(Random rng)
+    {
+        List<Triple<Integer, Integer, Double>> edges = new ArrayList<>();
+        for (int i = 0; i < M; i++) {
+            // few edges touch the last vertices, leaving some components isolated
+            int s = rng.nextInt(N - 20);
+            int t = rng.nextInt(10) == 0 ? s : rng.nextInt(N - 20);
+            edges.add(Triple.of(s, t, 1d + rng.nextInt(10)));
+        }
+        return edges;
+    }
+
+    private static Graph<Integer, Integer> copy(
+        Graph<Integer, Integer> g, Graph<Integer, Integer> target)
+    {
+        for (Integer v : g.vertexSet()) {
+            target.addVertex(v);
+        }
+        for (Integer e : g.edgeSet()) {
+            target.addEdge(g.getEdgeSource(e), g.getEdgeTarget(e), e);
+            target.setEdgeWeight(e, g.getEdgeWeight(e));
+        }
+        return target;
+    }
+
+}
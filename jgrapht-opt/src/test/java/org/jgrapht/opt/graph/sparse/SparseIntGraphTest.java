@@ -19,9 +19,11 @@ package org.jgrapht.opt.graph.sparse;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 import java.util.stream.*;
 
@@ -83,6 +85,80 @@ public class SparseIntGraphTest
         testDirectedWeighted((vc, edges) -> new SparseIntDirectedWeightedGraph(vc, edges));
     }
 
+    @Test
+    public void testDirectedFromArrays()
+    {
+        testDirected(
+            (vc, edges) -> new SparseIntDirectedGraph(
+                vc, edges.stream().mapToInt(Pair::getFirst).toArray(),
+                edges.stream().mapToInt(Pair::getSecond).toArray(),
+                IncomingEdgesSupport.FULL_INCOMING_EDGES, null));
+        testDirectedNoIncoming(
+            (vc, edges) -> new SparseIntDirectedGraph(
+                vc, edges.stream().mapToInt(Pair::getFirst).toArray(),
+                edges.stream().mapToInt(Pair::getSecond).toArray(),
+                IncomingEdgesSupport.NO_INCOMING_EDGES, null));
+    }
+
+    @Test
+    public void testDirectedParallelConstruction()
+        throws InterruptedException
+    {
+        // large enough to be split into parallel blocks
+        int n = 1000;
+        int m = 300000;
+        Random rng = new Random(17);
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        double[] weights = new double[m];
+        List<Pair<Integer, Integer>> edges = new ArrayList<>(m);
+        for (int i = 0; i < m; i++) {
+            // skewed degrees put edges of many blocks into a few heavy rows, which tests
+            // the merge of the per-block offsets inside a row
+            sources[i] = rng.nextBoolean() ? rng.nextInt(10) : rng.nextInt(n);
+            targets[i] = rng.nextInt(n);
+            weights[i] = i;
+            edges.add(Pair.of(sources[i], targets[i]));
+        }
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            Graph<Integer, Integer> expected = new SparseIntDirectedGraph(n, edges);
+            Graph<Integer, Integer> g = new SparseIntDirectedWeightedGraph(
+                n, sources, targets, weights, IncomingEdgesSupport.FULL_INCOMING_EDGES, executor);
+
+            assertEquals(m, g.edgeSet().size());
+            for (int v = 0; v < n; v++) {
+                assertEquals(
+                    new ArrayList<>(expected.outgoingEdgesOf(v)),
+                    new ArrayList<>(g.outgoingEdgesOf(v)));
+                assertEquals(
+                    new ArrayList<>(expected.incomingEdgesOf(v)),
+                    new ArrayList<>(g.incomingEdgesOf(v)));
+            }
+            assertEquals(17d, g.getEdgeWeight(17), 0d);
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirectedParallelConstructionInvalidVertex()
+        throws InterruptedException
+    {
+        int m = 100000;
+        int[] sources = new int[m];
+        int[] targets = new int[m];
+        targets[m - 1] = 5;
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            new SparseIntDirectedGraph(
+                5, sources, targets, IncomingEdgesSupport.NO_INCOMING_EDGES, executor);
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
     public static void testUndirected(
         BiFunction<Integer, List<Pair<Integer, Integer>>, Graph<Integer, Integer>> graphSupplier)
     {
@@ -0,0 +1,77 @@
+/*
+ * (C) Copyright 2026-2026, by Dimitrios Michail and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * See the CONTRIBUTORS.md file distributed with this work for additional
+ * information regarding copyright ownership.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0, or the
+ * GNU Lesser General Public License v2.1 or later
+ * which is available at
+ * http://www.gnu.org/licenses/old-licenses/lgpl-2.1-standalone.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR LGPL-2.1-or-later
+ */
+package org.jgrapht.opt.graph.sparse.specifics;
+
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CSRBooleanMatrix}.
+ *
+ * @author Dimitrios Michail
+ */
+public class CSRBooleanMatrixTest
+{
+
+    @Test
+    public void testParallelIncidenceMatrix()
+        throws InterruptedException
+    {
+        // on average four, one and less than one entries per row
+        assertSameAsSequential(50000, 200000);
+        assertSameAsSequential(200000, 200000);
+        assertSameAsSequential(400000, 150000);
+    }
+
+    private static void assertSameAsSequential(int rows, int columns)
+        throws InterruptedException
+    {
+        Random rng = new Random(rows + columns);
+        int[] rowOfColumn = new int[columns];
+        for (int i = 0; i < columns; i++) {
+            rowOfColumn[i] = rng.nextInt(rows);
+        }
+        CSRBooleanMatrix expected = new CSRBooleanMatrix(rows, rowOfColumn, (ThreadPoolExecutor) null);
+
+        ThreadPoolExecutor executor = ConcurrencyUtil.createThreadPoolExecutor(4);
+        try {
+            CSRBooleanMatrix m = new CSRBooleanMatrix(rows, rowOfColumn, executor);
+            if (Runtime.getRuntime().availableProcessors() > 1) {
+                // sparse matrices are also built in parallel
+                assertTrue(executor.getTaskCount() > 0);
+            }
+            assertEquals(rows, m.rows());
+            assertEquals(columns, m.columns());
+            for (int row = 0; row < rows; row++) {
+                assertEquals(expected.rowStart(row), m.rowStart(row));
+                assertEquals(expected.rowEnd(row), m.rowEnd(row));
+            }
+            for (int pos = 0; pos < columns; pos++) {
+                assertEquals(expected.column(pos), m.column(pos));
+            }
+        } finally {
+            ConcurrencyUtil.shutdownExecutionService(executor);
+        }
+    }
+
+}
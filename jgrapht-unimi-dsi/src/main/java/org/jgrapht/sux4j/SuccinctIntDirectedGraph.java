@@ -27,6 +27,7 @@ import java.util.stream.Stream;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphIterables;
+import org.jgrapht.IntGraphIterables;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.opt.graph.sparse.IncomingEdgesSupport;
 import org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph;
@@ -353,7 +354,7 @@ public class SuccinctIntDirectedGraph
 
     private final static class SuccinctGraphIterables
         implements
-        GraphIterables<Integer, Integer>,
+        IntGraphIterables,
         Serializable
     {
         private static final long serialVersionUID = 0L;
@@ -444,6 +445,41 @@ public class SuccinctIntDirectedGraph
         {
             return incomingEdgesOf(vertex, false);
         }
+
+        @Override
+        public void forEachOutgoingEdge(final int source, final IntEdgeConsumer action)
+        {
+            final SuccinctIntDirectedGraph graph = this.graph;
+            graph.assertVertexExist(source);
+            final long[] result = new long[2];
+            graph.cumulativeOutdegrees.get(source, result);
+            final LongBigListIterator iterator = graph.successors.listIterator(result[0]);
+            final long targetMask = graph.targetMask;
+            for (long e = result[0]; e < result[1]; e++)
+                action.accept((int) e, (int) (iterator.nextLong() & targetMask));
+        }
+
+        @Override
+        public void forEachIncomingEdge(final int target, final IntEdgeConsumer action)
+        {
+            final SuccinctIntDirectedGraph graph = this.graph;
+            graph.assertVertexExist(target);
+            if (graph.cumulativeIndegrees == null)
+                throw new UnsupportedOperationException();
+            final long[] result = new long[2];
+            graph.cumulativeIndegrees.get(target, result);
+            final int d = (int) (result[1] - result[0]);
+            final LongBigListIterator iterator = graph.predecessors.listIterator(result[0]);
+            final EliasFanoIndexedMonotoneLongBigList successors = graph.successors;
+            final int sourceShift = graph.sourceShift;
+            long base = (long) graph.n * target - result[0];
+
+            for (int i = d; i-- != 0;) {
+                final long source = iterator.nextLong() - base--;
+                final int e = (int) successors.successorIndexUnsafe((source << sourceShift) + target);
+                action.accept(e, (int) source);
+            }
+        }
     }
 
     private final GraphIterables<Integer, Integer> ITERABLES = new SuccinctGraphIterables(this);
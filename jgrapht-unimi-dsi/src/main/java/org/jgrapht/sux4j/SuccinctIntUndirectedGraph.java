@@ -25,6 +25,7 @@ import java.util.Set;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphIterables;
+import org.jgrapht.IntGraphIterables;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.opt.graph.sparse.SparseIntDirectedGraph;
 import org.jgrapht.opt.graph.sparse.SparseIntUndirectedGraph;
@@ -237,7 +238,7 @@ public class SuccinctIntUndirectedGraph
 
     private final static class SuccinctGraphIterables
         implements
-        GraphIterables<Integer, Integer>,
+        IntGraphIterables,
         Serializable
     {
         private static final long serialVersionUID = 0L;
@@ -338,6 +339,43 @@ public class SuccinctIntUndirectedGraph
         {
             return edgesOf(vertex);
         }
+
+        @Override
+        public void forEachOutgoingEdge(final int vertex, final IntEdgeConsumer action)
+        {
+            final SuccinctIntUndirectedGraph graph = this.graph;
+            graph.assertVertexExist(vertex);
+            final long[] result = new long[2];
+
+            // edges having the vertex as source, including loops
+            graph.cumulativeOutdegrees.get(vertex, result);
+            final LongBigListIterator successorsIterator =
+                graph.successors.listIterator(result[0]);
+            final long targetMask = graph.targetMask;
+            for (long e = result[0]; e < result[1]; e++)
+                action.accept((int) e, (int) (successorsIterator.nextLong() & targetMask));
+
+            // edges having the vertex as target, excluding loops
+            graph.cumulativeIndegrees.get(vertex, result);
+            final int d = (int) (result[1] - result[0]);
+            final LongBigListIterator iterator = graph.predecessors.listIterator(result[0]);
+            final EliasFanoIndexedMonotoneLongBigList successors = graph.successors;
+            final int sourceShift = graph.sourceShift;
+            long base = (long) graph.n * vertex - result[0];
+            for (int i = d; i-- != 0;) {
+                final long source = iterator.nextLong() - base--;
+                if (source == vertex)
+                    continue;
+                final int e = (int) successors.successorIndexUnsafe((source << sourceShift) + vertex);
+                action.accept(e, (int) source);
+            }
+        }
+
+        @Override
+        public void forEachIncomingEdge(final int vertex, final IntEdgeConsumer action)
+        {
+            forEachOutgoingEdge(vertex, action);
+        }
     }
 
     private final SuccinctGraphIterables ITERABLES = new SuccinctGraphIterables(this);
@@ -25,6 +25,8 @@ import static org.junit.Assert.assertTrue;
 import java.util.Iterator;
 import java.util.function.Supplier;
 
+import org.jgrapht.Graphs;
+import org.jgrapht.IntGraphIterables;
 import org.jgrapht.generate.GnpRandomGraphGenerator;
 import org.jgrapht.graph.DefaultEdge;
 import org.jgrapht.graph.DefaultUndirectedGraph;
@@ -270,4 +272,40 @@ public class SuccinctIntUndirectedGraphTest
             assertEquals(s.containsEdge(x, y), t.containsEdge(x, y));
         }
     }
+
+    @Test
+    public void testPrimitiveTraversal()
+    {
+        final GnpRandomGraphGenerator<Integer, DefaultEdge> r =
+            new GnpRandomGraphGenerator<>(200, .05, 0, true);
+        final DefaultUndirectedGraph<Integer, DefaultEdge> s =
+            new DefaultUndirectedGraph<>(new Supplier<Integer>()
+            {
+                private int id = 0;
+
+                @Override
+                public Integer get()
+                {
+                    return id++;
+                }
+            }, SupplierUtil.createDefaultEdgeSupplier(), false);
+        r.generateGraph(s);
+        final SuccinctIntUndirectedGraph t = new SuccinctIntUndirectedGraph(s);
+        final IntGraphIterables iterables = (IntGraphIterables) t.iterables();
+        for (int v = 0; v < 200; v++) {
+            final int x = v;
+            final IntOpenHashSet outgoing = new IntOpenHashSet();
+            iterables.forEachOutgoingEdge(x, (e, u) -> {
+                assertTrue(outgoing.add(e));
+                assertEquals(u, Graphs.getOppositeVertex(t, e, x).intValue());
+            });
+            assertEquals(t.outgoingEdgesOf(x), outgoing);
+            final IntOpenHashSet incoming = new IntOpenHashSet();
+            iterables.forEachIncomingEdge(x, (e, u) -> {
+                assertTrue(incoming.add(e));
+                assertEquals(u, Graphs.getOppositeVertex(t, e, x).intValue());
+            });
+            assertEquals(t.incomingEdgesOf(x), incoming);
+        }
+    }
 }